@@ -0,0 +1,167 @@
+/*
+ * File:		AssetStartupBenchmark.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Benchmarks reading every asset of a game at startup from loose
+ * 				files against from a packed asset archive
+ */
+
+package com.limenfanestudio.sillplateframework.benchmarks;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.limenfanestudio.sillplateframework.assets.AssetArchive;
+import com.limenfanestudio.sillplateframework.assets.AssetArchivePacker;
+
+// Times loading 5,000 assets of 256 bytes to 16 KiB spread over 50
+// directories, as a game does at startup: reading each loose file, and
+// opening an archive of the same files, stored or deflated, and copying out
+// each entry. Every benchmark copies each asset's bytes into an array so the
+// work matches. The files are in the operating system's cache after the
+// first iteration, so this measures the warm-cache cost of opening and
+// reading many files, not disk seeks
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class AssetStartupBenchmark {
+	
+	// The number of assets
+	private static final int AssetCount = 5000;
+	// The number of directories the assets are spread over
+	private static final int DirectoryCount = 50;
+	
+	// The temporary directory holding the assets and archives
+	private Path directory = null;
+	// The loose asset files
+	private Path[] files = null;
+	// The names of the assets within the archives
+	private String[] names = null;
+	// The file name / path of the archive of stored entries
+	private String storedArchive = null;
+	// The file name / path of the archive of deflated entries
+	private String deflatedArchive = null;
+	
+	/*
+	 * Initialize the logging system, write the loose assets and pack them
+	 * into a stored and a deflated archive
+	 */
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		if (!Benchmarks.InitializeQuietLog()) {
+			throw new IllegalStateException("Failed to initialize logging");
+		}
+		directory = Files.createTempDirectory("sillplate-benchmark");
+		Path assets = directory.resolve("assets");
+		Random random = new Random(16L);
+		files = new Path[AssetCount];
+		names = new String[AssetCount];
+		for (int i = 0; i < AssetCount; i++) {
+			names[i] = "group" + (i % DirectoryCount) + "/asset" + i + ".dat";
+			files[i] = assets.resolve(names[i]);
+			Files.createDirectories(files[i].getParent());
+			// Runs of repeated bytes make the data compressible, as images
+			// and audio stored uncompressed often are
+			byte[] data = new byte[256 + random.nextInt(16129)];
+			for (int j = 0; j < data.length; j += 8) {
+				Arrays.fill(data, j, Math.min(data.length, j + 8),
+						(byte)random.nextInt(16));
+			}
+			Files.write(files[i], data);
+		}
+		storedArchive = directory.resolve("stored.archive").toString();
+		deflatedArchive = directory.resolve("deflated.archive").toString();
+		if (!AssetArchivePacker.pack(assets.toString(), storedArchive, false,
+				null) || !AssetArchivePacker.pack(assets.toString(),
+				deflatedArchive, true, null)) {
+			throw new IllegalStateException("Failed to pack the assets");
+		}
+	}
+	/*
+	 * Read every asset from its loose file
+	 * Returns: long - The total number of bytes read
+	 */
+	@Benchmark
+	public long looseFiles() throws IOException {
+		long total = 0L;
+		for (int i = 0; i < AssetCount; i++) {
+			total += Files.readAllBytes(files[i]).length;
+		}
+		return total;
+	}
+	/*
+	 * Open the archive of stored entries and copy out every asset
+	 * Returns: long - The total number of bytes read
+	 */
+	@Benchmark
+	public long storedArchive() {
+		return readArchive(storedArchive);
+	}
+	/*
+	 * Open the archive of deflated entries and inflate every asset
+	 * Returns: long - The total number of bytes read
+	 */
+	@Benchmark
+	public long deflatedArchive() {
+		return readArchive(deflatedArchive);
+	}
+	/*
+	 * Delete the assets and archives and destroy the logging system
+	 */
+	@TearDown(Level.Trial)
+	public void teardown() throws IOException {
+		try (Stream<Path> walk = Files.walk(directory)) {
+			Object[] paths = walk.toArray();
+			for (int i = paths.length - 1; i >= 0; i--) {
+				Files.deleteIfExists((Path)paths[i]);
+			}
+		}
+		Benchmarks.DestroyQuietLog();
+	}
+	/*
+	 * Open an archive, copy every asset out of it and close it
+	 * Parameter: String fileName - The file name / path of the archive
+	 * Returns: long - The total number of bytes read
+	 */
+	private long readArchive(String fileName) {
+		AssetArchive archive = new AssetArchive();
+		if (!archive.open(fileName)) {
+			throw new IllegalStateException("Failed to open " + fileName);
+		}
+		long total = 0L;
+		try {
+			for (int i = 0; i < AssetCount; i++) {
+				ByteBuffer entry = archive.getEntry(names[i]);
+				byte[] data = new byte[entry.remaining()];
+				entry.get(data);
+				total += data.length;
+			}
+		} finally {
+			archive.close();
+		}
+		return total;
+	}
+	
+}
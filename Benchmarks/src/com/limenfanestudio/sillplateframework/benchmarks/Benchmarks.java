@@ -0,0 +1,44 @@
+/*
+ * File:		Benchmarks.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Defines shared setup for the Sillplate Framework's JMH
+ * 				benchmarks
+ */
+
+package com.limenfanestudio.sillplateframework.benchmarks;
+
+import java.util.Arrays;
+
+import com.limenfanestudio.sillplateframework.application.Application;
+import com.limenfanestudio.sillplateframework.application
+		.ApplicationConfiguration;
+import com.limenfanestudio.sillplateframework.logging.LogManager;
+
+// Setup shared by the benchmarks - the benchmarks are JMH classes packaged
+// into Benchmarks/target/benchmarks.jar and run with, for example,
+// java -jar benchmarks.jar -rf json -rff results.json -prof gc
+class Benchmarks {
+	
+	/*
+	 * Initialize a logging system writing nowhere, for benchmarks of systems
+	 * which log while they work
+	 * Returns: boolean - Whether the logging system was initialized
+	 */
+	static boolean InitializeQuietLog() {
+		ApplicationConfiguration configuration = new ApplicationConfiguration(
+				null);
+		configuration.log.consoleEnabled = false;
+		configuration.log.rollingFileNames = Arrays.asList();
+		Application.Log = new LogManager();
+		return Application.Log.initialize(configuration.log);
+	}
+	/*
+	 * Destroy the logging system initialized by InitializeQuietLog()
+	 */
+	static void DestroyQuietLog() {
+		Application.Log.destroy();
+		Application.Log = null;
+	}
+	
+}
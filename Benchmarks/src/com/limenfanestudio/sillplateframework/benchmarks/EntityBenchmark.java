@@ -0,0 +1,195 @@
+/*
+ * File:		EntityBenchmark.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Benchmarks updating every entity of a large world through
+ * 				queries against per-entity access and plain objects
+ */
+
+package com.limenfanestudio.sillplateframework.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.limenfanestudio.sillplateframework.entity.Archetype;
+import com.limenfanestudio.sillplateframework.entity.ChunkVisitor;
+import com.limenfanestudio.sillplateframework.entity.ComponentType;
+import com.limenfanestudio.sillplateframework.entity.Query;
+import com.limenfanestudio.sillplateframework.entity.SystemScheduler;
+import com.limenfanestudio.sillplateframework.entity.World;
+
+// Times one movement tick - each position advanced by its velocity - over
+// worlds of 100,000 and 1,000,000 entities, half of which carry a third
+// component so the query spans two archetypes. The tick runs through a
+// query on one thread, through the scheduler's parallel chunks, through
+// World.get()/set() per entity handle and over shuffled plain objects
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx2g")
+public class EntityBenchmark {
+	
+	// The position of an entity
+	private static final ComponentType Position = new ComponentType(
+			"Position", "x", "y");
+	// The velocity of an entity
+	private static final ComponentType Velocity = new ComponentType(
+			"Velocity", "x", "y");
+	// The health of an entity, splitting the world into two archetypes
+	private static final ComponentType Health = new ComponentType("Health",
+			"value");
+	// The timestep the positions are advanced by
+	private static final double TimeStep = 1.0d / 60.0d;
+	// The maximum number of rows in each parallel chunk
+	private static final int ChunkSize = 16384;
+	
+	// An entity as a plain object, for comparison
+	private static class Mover {
+		
+		// The x-coordinate of the position
+		double x = 0.0d;
+		// The y-coordinate of the position
+		double y = 0.0d;
+		// The x-component of the velocity
+		double velocityX = 0.0d;
+		// The y-component of the velocity
+		double velocityY = 0.0d;
+		
+	}
+	
+	// The number of entities
+	@Param({"100000", "1000000"})
+	public int entityCount = 0;
+	// The world holding the entities
+	private World world = null;
+	// Query over the entities with a position and velocity
+	private Query query = null;
+	// Scheduler whose workers run the parallel ticks
+	private SystemScheduler scheduler = null;
+	// The handles of the entities, in creation order
+	private long[] entities = null;
+	// The same entities as plain objects, shuffled
+	private Mover[] movers = null;
+	// Visitor advancing the positions of a range of rows
+	private final ChunkVisitor move = new ChunkVisitor() {
+		public void visit(Archetype archetype, int from, int to) {
+			double[] x = archetype.getColumn(Position, 0);
+			double[] y = archetype.getColumn(Position, 1);
+			double[] velocityX = archetype.getColumn(Velocity, 0);
+			double[] velocityY = archetype.getColumn(Velocity, 1);
+			for (int i = from; i < to; i++) {
+				x[i] += velocityX[i] * TimeStep;
+				y[i] += velocityY[i] * TimeStep;
+			}
+		}
+	};
+	
+	/*
+	 * Create the world's entities and the matching plain objects
+	 */
+	@Setup(Level.Trial)
+	public void setup() {
+		Random random = new Random(11L);
+		world = new World();
+		entities = new long[entityCount];
+		movers = new Mover[entityCount];
+		for (int i = 0; i < entityCount; i++) {
+			long entity = world.createEntity();
+			world.addComponent(entity, Position);
+			world.addComponent(entity, Velocity);
+			if ((i & 1) == 1) {
+				world.addComponent(entity, Health);
+			}
+			Mover mover = new Mover();
+			mover.x = random.nextDouble() * 1000.0d;
+			mover.y = random.nextDouble() * 1000.0d;
+			mover.velocityX = random.nextDouble() - 0.5d;
+			mover.velocityY = random.nextDouble() - 0.5d;
+			world.set(entity, Position, 0, mover.x);
+			world.set(entity, Position, 1, mover.y);
+			world.set(entity, Velocity, 0, mover.velocityX);
+			world.set(entity, Velocity, 1, mover.velocityY);
+			entities[i] = entity;
+			movers[i] = mover;
+		}
+		for (int i = entityCount - 1; i > 0; i--) {
+			int j = random.nextInt(i + 1);
+			Mover mover = movers[i];
+			movers[i] = movers[j];
+			movers[j] = mover;
+		}
+		query = world.createQuery(Position, Velocity);
+		scheduler = new SystemScheduler();
+	}
+	/*
+	 * Advance every position through the query on the calling thread
+	 * Returns: World - The world
+	 */
+	@Benchmark
+	public World query() {
+		query.forEach(move);
+		return world;
+	}
+	/*
+	 * Advance every position through the query in parallel chunks
+	 * Returns: World - The world
+	 */
+	@Benchmark
+	public World queryParallel() {
+		scheduler.parallelFor(query, move, ChunkSize);
+		return world;
+	}
+	/*
+	 * Advance every position by reading and writing each entity's fields
+	 * through its handle
+	 * Returns: World - The world
+	 */
+	@Benchmark
+	public World perEntity() {
+		for (int i = 0; i < entityCount; i++) {
+			long entity = entities[i];
+			world.set(entity, Position, 0, world.get(entity, Position, 0)
+					+ world.get(entity, Velocity, 0) * TimeStep);
+			world.set(entity, Position, 1, world.get(entity, Position, 1)
+					+ world.get(entity, Velocity, 1) * TimeStep);
+		}
+		return world;
+	}
+	/*
+	 * Advance every position of the plain objects
+	 * Returns: Object - The objects
+	 */
+	@Benchmark
+	public Object objects() {
+		for (int i = 0; i < entityCount; i++) {
+			Mover mover = movers[i];
+			mover.x += mover.velocityX * TimeStep;
+			mover.y += mover.velocityY * TimeStep;
+		}
+		return movers;
+	}
+	/*
+	 * Stop the scheduler's workers
+	 */
+	@TearDown(Level.Trial)
+	public void teardown() {
+		scheduler.destroy();
+	}
+	
+}
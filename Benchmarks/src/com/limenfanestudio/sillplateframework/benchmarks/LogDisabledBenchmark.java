@@ -0,0 +1,131 @@
+/*
+ * File:		LogDisabledBenchmark.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Benchmarks log calls below the minimum level
+ */
+
+package com.limenfanestudio.sillplateframework.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.limenfanestudio.sillplateframework.application.Application;
+import com.limenfanestudio.sillplateframework.application
+		.ApplicationConfiguration;
+import com.limenfanestudio.sillplateframework.logging.LogLevel;
+import com.limenfanestudio.sillplateframework.logging.LogManager;
+import com.limenfanestudio.sillplateframework.logging.LogSource;
+
+// Times debug logs while a file output accepts warnings and above, through
+// each kind of LogManager call - run with -prof gc to see they allocate
+// nothing. The baseline does no work, for comparing against the cost of an
+// empty benchmark call
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LogDisabledBenchmark {
+	
+	// The source the benchmark's logs are written from
+	private static final LogSource Source = new LogSource("Benchmark");
+	
+	// The temporary file the logging system writes to
+	private Path file = null;
+	// An argument which is not a constant, so it cannot be folded away
+	private Object value = null;
+	// Supplier which would build the message if the log were enabled
+	private Supplier<String> message = null;
+	
+	/*
+	 * Initialize a logging system writing warnings and above to a file
+	 * Throws: IOException - If the temporary file could not be created
+	 */
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		file = Files.createTempFile("sillplate-benchmark", ".log");
+		ApplicationConfiguration configuration = new ApplicationConfiguration(
+				null);
+		configuration.log.consoleEnabled = false;
+		configuration.log.fileNames = Arrays.asList(file.toString());
+		configuration.log.rollingFileNames = Arrays.asList();
+		configuration.log.minimumLevel = LogLevel.Warning;
+		Application.Log = new LogManager();
+		if (!Application.Log.initialize(configuration.log)) {
+			throw new IllegalStateException("Failed to initialize log");
+		}
+		value = Integer.valueOf(100000);
+		message = new Supplier<String>() {
+			public String get() {
+				return "Benchmark log number " + value;
+			}
+		};
+	}
+	/*
+	 * Do nothing, measuring the cost of the benchmark call itself
+	 */
+	@Benchmark
+	public void baseline() {
+	}
+	/*
+	 * Write a disabled log through a fixed-arity overload
+	 */
+	@Benchmark
+	public void fixedArity() {
+		Application.Log.write(Source, LogLevel.Debug, "Benchmark ",
+				"log number ", value);
+	}
+	/*
+	 * Write a disabled log through the varargs overload
+	 */
+	@Benchmark
+	public void varargs() {
+		Application.Log.write(Source, LogLevel.Debug, "Benchmark ", "log ",
+				"number ", value, " of ", value);
+	}
+	/*
+	 * Write a disabled log through the supplier overload
+	 */
+	@Benchmark
+	public void supplier() {
+		Application.Log.write(Source, LogLevel.Debug, message);
+	}
+	/*
+	 * Write a disabled structured log
+	 */
+	@Benchmark
+	public void entry() {
+		Application.Log.entry(Source, LogLevel.Debug).field("number", 100000)
+				.field("name", "Benchmark").write("Benchmark log");
+	}
+	/*
+	 * Destroy the logging system and delete its file
+	 * Throws: IOException - If the file could not be deleted
+	 */
+	@TearDown(Level.Trial)
+	public void teardown() throws IOException {
+		Application.Log.destroy();
+		Application.Log = null;
+		Files.deleteIfExists(file);
+	}
+	
+}
@@ -0,0 +1,109 @@
+/*
+ * File:		LogWriteBenchmark.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Benchmarks writing logs through the logging system
+ */
+
+package com.limenfanestudio.sillplateframework.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.limenfanestudio.sillplateframework.application.Application;
+import com.limenfanestudio.sillplateframework.application
+		.ApplicationConfiguration;
+import com.limenfanestudio.sillplateframework.logging.LogLevel;
+import com.limenfanestudio.sillplateframework.logging.LogManager;
+import com.limenfanestudio.sillplateframework.logging.LogSource;
+
+// Times LogManager.write() formatting and writing a log with console output
+// off, to one or many plain log files in a temporary directory, written
+// synchronously or through the asynchronous writer
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LogWriteBenchmark {
+	
+	// The source the benchmark's logs are written from
+	private static final LogSource Source = new LogSource("Benchmark");
+	
+	// The number of files logs are written to
+	@Param({"1", "8"})
+	public int fileCount = 0;
+	// Whether logs are written by the background writer thread
+	@Param({"false", "true"})
+	public boolean async = false;
+	// The temporary directory holding the log files
+	private Path directory = null;
+	// The number of the next log
+	private long number = 0L;
+	
+	/*
+	 * Create the log files and initialize the logging system
+	 * Throws: IOException - If the temporary directory could not be created
+	 */
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		directory = Files.createTempDirectory("sillplate-benchmark");
+		List<String> fileNames = new ArrayList<String>();
+		for (int i = 0; i < fileCount; i++) {
+			fileNames.add(directory.resolve("benchmark" + i + ".log")
+					.toString());
+		}
+		ApplicationConfiguration configuration = new ApplicationConfiguration(
+				null);
+		configuration.log.consoleEnabled = false;
+		configuration.log.fileNames = fileNames;
+		configuration.log.rollingFileNames = Arrays.asList();
+		configuration.log.asyncEnabled = async;
+		Application.Log = new LogManager();
+		if (!Application.Log.initialize(configuration.log)) {
+			throw new IllegalStateException("Failed to initialize log");
+		}
+	}
+	/*
+	 * Write a log with a few arguments
+	 */
+	@Benchmark
+	public void write() {
+		Application.Log.write(Source, LogLevel.Information, "Benchmark ",
+				"log number ", number++);
+	}
+	/*
+	 * Destroy the logging system and delete the log files
+	 * Throws: IOException - If a file could not be deleted
+	 */
+	@TearDown(Level.Trial)
+	public void teardown() throws IOException {
+		Application.Log.destroy();
+		Application.Log = null;
+		for (int i = 0; i < fileCount; i++) {
+			Files.deleteIfExists(directory.resolve("benchmark" + i + ".log"));
+		}
+		Files.deleteIfExists(directory);
+	}
+	
+}
@@ -0,0 +1,108 @@
+/*
+ * File:		LoopBenchmark.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Benchmarks the overhead of the application's main loop
+ */
+
+package com.limenfanestudio.sillplateframework.benchmarks;
+
+import java.awt.Graphics2D;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.limenfanestudio.sillplateframework.application.Application;
+import com.limenfanestudio.sillplateframework.application
+		.ApplicationConfiguration;
+import com.limenfanestudio.sillplateframework.application.Scene;
+
+// Times Application.Run() per update with a scene doing no work, running
+// headless on simulated time with rendering off, so only the loop's own
+// overhead is measured
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LoopBenchmark {
+	
+	// The number of updates run by each call of Application.Run()
+	private static final int Ticks = 1000;
+	
+	// Scene doing no work, stopping the loop after a number of updates
+	private static class EmptyScene extends Scene {
+		
+		// The number of updates left before the loop stops
+		private long remaining = 0L;
+		
+		@Override
+		public void enter(Scene lastScene) {
+		}
+		@Override
+		public boolean processInput() {
+			return remaining-- > 0L;
+		}
+		@Override
+		public void update(double deltaTime) {
+		}
+		@Override
+		public void render(Graphics2D graphics, double alpha) {
+		}
+		@Override
+		public void leave(Scene nextScene) {
+		}
+		
+	}
+	
+	// The scene run by the loop
+	private final EmptyScene scene = new EmptyScene();
+	
+	/*
+	 * Initialize a headless application on simulated time
+	 */
+	@Setup(Level.Trial)
+	public void setup() {
+		ApplicationConfiguration configuration = new ApplicationConfiguration(
+				scene);
+		configuration.log.consoleEnabled = false;
+		configuration.log.rollingFileNames = Arrays.asList();
+		configuration.headless = true;
+		configuration.loop.simulated = true;
+		configuration.render.enabled = false;
+		if (!Application.Initialize(configuration)) {
+			throw new IllegalStateException("Failed to initialize application");
+		}
+	}
+	/*
+	 * Run the loop for a fixed number of updates
+	 */
+	@Benchmark
+	@OperationsPerInvocation(Ticks)
+	public void tick() {
+		scene.remaining = Ticks;
+		Application.Run();
+	}
+	/*
+	 * Destroy the application
+	 */
+	@TearDown(Level.Trial)
+	public void teardown() {
+		Application.Destroy();
+	}
+	
+}
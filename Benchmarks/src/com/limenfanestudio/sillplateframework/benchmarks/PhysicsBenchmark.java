@@ -0,0 +1,106 @@
+/*
+ * File:		PhysicsBenchmark.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Benchmarks stepping a physics world of five thousand resting
+ * 				and colliding bodies at 60 Hz
+ */
+
+package com.limenfanestudio.sillplateframework.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.limenfanestudio.sillplateframework.physics.PhysicsWorld;
+
+// Times one 60 Hz step of a world of five thousand boxes and circles,
+// dropped as a hundred stacks on a static floor and left to settle into
+// piles first, solving islands on one thread and on four - a step has to
+// stay well inside the 16.7 ms of a fixed update
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PhysicsBenchmark {
+	
+	// The number of dynamic bodies
+	private static final int BodyCount = 5000;
+	// The number of stacks the bodies are placed in
+	private static final int StackCount = 100;
+	// The half width and height of a box, and the radius of a circle
+	private static final double BodySize = 0.25d;
+	// The horizontal distance between the centers of neighbouring stacks
+	private static final double StackSpacing = 1.0d;
+	// The timestep of a 60 Hz fixed update in seconds
+	private static final double StepTime = 1.0d / 60.0d;
+	// The number of steps run before timing so the bodies are resting
+	private static final int SettleSteps = 120;
+	
+	// The number of threads solving islands
+	@Param({"1", "4"})
+	public int parallelism = 1;
+	// The world being stepped
+	private PhysicsWorld world = null;
+	
+	/*
+	 * Initialize the logging system, build the floor and the stacks and let
+	 * them settle
+	 */
+	@Setup(Level.Trial)
+	public void setup() {
+		if (!Benchmarks.InitializeQuietLog()) {
+			throw new IllegalStateException("Failed to initialize logging");
+		}
+		world = new PhysicsWorld(parallelism);
+		double width = StackCount * StackSpacing;
+		if (world.createBox(width * 0.5d, 0.5d, width * 0.5d + 1.0d, 0.5d,
+				0.0d, 0.0d) < 0) {
+			throw new IllegalStateException("Failed to create the floor");
+		}
+		for (int i = 0; i < BodyCount; i++) {
+			double x = (i % StackCount + 0.5d) * StackSpacing;
+			double y = -(i / StackCount) * BodySize * 2.0d - BodySize;
+			int id = (i & 1) == 0 ? world.createBox(x, y, BodySize, BodySize,
+					0.0d, 1.0d) : world.createCircle(x, y, BodySize, 1.0d);
+			if (id < 0) {
+				throw new IllegalStateException("Failed to create body " + i);
+			}
+		}
+		for (int i = 0; i < SettleSteps; i++) {
+			world.step(StepTime);
+		}
+	}
+	/*
+	 * Step the world once
+	 * Returns: int - The number of contacts solved
+	 */
+	@Benchmark
+	public int step() {
+		world.step(StepTime);
+		return world.getContactCount();
+	}
+	/*
+	 * Stop the world's solver threads and destroy the logging system
+	 */
+	@TearDown(Level.Trial)
+	public void teardown() {
+		world.destroy();
+		Benchmarks.DestroyQuietLog();
+	}
+	
+}
@@ -0,0 +1,116 @@
+/*
+ * File:		RenderBenchmark.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Benchmarks rendering frames to an offscreen image
+ */
+
+package com.limenfanestudio.sillplateframework.benchmarks;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.limenfanestudio.sillplateframework.application.Application;
+import com.limenfanestudio.sillplateframework.application
+		.ApplicationConfiguration;
+import com.limenfanestudio.sillplateframework.application.Scene;
+import com.limenfanestudio.sillplateframework.profiling.ProfileManager;
+import com.limenfanestudio.sillplateframework.rendering.RenderManager;
+
+// Times RenderManager.render() drawing a frame of a few hundred filled
+// shapes offscreen, which needs no display
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Djava.awt.headless=true")
+public class RenderBenchmark {
+	
+	// Scene drawing a fixed grid of rectangles and circles
+	private static class ShapeScene extends Scene {
+		
+		@Override
+		public void enter(Scene lastScene) {
+		}
+		@Override
+		public boolean processInput() {
+			return true;
+		}
+		@Override
+		public void update(double deltaTime) {
+		}
+		@Override
+		public void render(Graphics2D graphics, double alpha) {
+			for (int i = 0; i < 256; i++) {
+				int x = (i % 16) * 40 + (int)(alpha * 8.0d);
+				int y = (i / 16) * 30;
+				graphics.setColor(i % 2 == 0 ? Color.ORANGE : Color.CYAN);
+				if (i % 3 == 0) {
+					graphics.fillOval(x, y, 24, 24);
+				} else {
+					graphics.fillRect(x, y, 32, 20);
+				}
+			}
+		}
+		@Override
+		public void leave(Scene nextScene) {
+		}
+		
+	}
+	
+	// The rendering system drawing offscreen
+	private RenderManager render = null;
+	// The scene drawn each frame
+	private final ShapeScene scene = new ShapeScene();
+	// The number of the next frame
+	private long frame = 0L;
+	
+	/*
+	 * Initialize the logging, profiling and offscreen rendering systems
+	 */
+	@Setup(Level.Trial)
+	public void setup() {
+		ApplicationConfiguration configuration = new ApplicationConfiguration(
+				null);
+		Application.Profiler = new ProfileManager();
+		render = new RenderManager();
+		if (!Benchmarks.InitializeQuietLog()
+				|| !Application.Profiler.initialize(configuration.profiler)
+				|| !render.initialize(configuration.render, null)) {
+			throw new IllegalStateException("Failed to initialize rendering");
+		}
+	}
+	/*
+	 * Draw and present a frame
+	 */
+	@Benchmark
+	public void frame() {
+		render.render(scene, (double)(frame++ & 7L) / 8.0d);
+	}
+	/*
+	 * Destroy the rendering, profiling and logging systems
+	 */
+	@TearDown(Level.Trial)
+	public void teardown() {
+		render.destroy();
+		Application.Profiler.destroy();
+		Application.Profiler = null;
+		Benchmarks.DestroyQuietLog();
+	}
+	
+}
@@ -0,0 +1,210 @@
+/*
+ * File:		SpatialIndexBenchmark.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Benchmarks querying, moving and inserting objects in the
+ * 				spatial indexes
+ */
+
+package com.limenfanestudio.sillplateframework.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.limenfanestudio.sillplateframework.data.spatial.LooseQuadtree;
+import com.limenfanestudio.sillplateframework.data.spatial.SpatialHashGrid;
+import com.limenfanestudio.sillplateframework.data.spatial.SpatialIndex;
+import com.limenfanestudio.sillplateframework.data.spatial.SpatialVisitor;
+
+// Times SpatialHashGrid and LooseQuadtree holding 10,000 to 500,000 objects
+// of 1 to 8 units, spread so that the density is the same at every count:
+// screen-sized box queries, one tick moving every object, and building the
+// index from empty. The box queries are also run by testing every object,
+// for comparison
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SpatialIndexBenchmark {
+	
+	// The number of box queries run by each call of the query benchmarks
+	private static final int QueryCount = 256;
+	// The width and height of each box query
+	private static final double QuerySize = 64.0d;
+	// The largest width or height of an object
+	private static final double ObjectSize = 8.0d;
+	// The width and height of a hash grid cell
+	private static final double CellSize = 8.0d;
+	// The deepest level of a quadtree
+	private static final int Depth = 10;
+	
+	// The number of objects
+	@Param({"10000", "100000", "500000"})
+	public int objectCount = 0;
+	// The kind of index, "grid" or "quadtree"
+	@Param({"grid", "quadtree"})
+	public String index = "grid";
+	// The width and height of the square the objects are spread over
+	private double worldSize = 0.0d;
+	// The index holding the objects
+	private SpatialIndex spatial = null;
+	// The id of each object
+	private int[] ids = null;
+	// The left edge of each object's box
+	private double[] minXs = null;
+	// The top edge of each object's box
+	private double[] minYs = null;
+	// The width of each object's box
+	private double[] widths = null;
+	// The height of each object's box
+	private double[] heights = null;
+	// The horizontal velocity of each object
+	private double[] velocityXs = null;
+	// The vertical velocity of each object
+	private double[] velocityYs = null;
+	// The left edge of each box query
+	private double[] queryXs = null;
+	// The top edge of each box query
+	private double[] queryYs = null;
+	// The number of objects found by the running queries
+	private int found = 0;
+	// Visitor counting the objects found
+	private final SpatialVisitor counter = new SpatialVisitor() {
+		public boolean visit(int id) {
+			found++;
+			return true;
+		}
+	};
+	
+	/*
+	 * Place the objects and queries and build the index
+	 */
+	@Setup(Level.Trial)
+	public void setup() {
+		Random random = new Random(13L);
+		worldSize = Math.sqrt(objectCount) * 16.0d;
+		minXs = new double[objectCount];
+		minYs = new double[objectCount];
+		widths = new double[objectCount];
+		heights = new double[objectCount];
+		velocityXs = new double[objectCount];
+		velocityYs = new double[objectCount];
+		for (int i = 0; i < objectCount; i++) {
+			minXs[i] = random.nextDouble() * worldSize;
+			minYs[i] = random.nextDouble() * worldSize;
+			widths[i] = 1.0d + random.nextDouble() * (ObjectSize - 1.0d);
+			heights[i] = 1.0d + random.nextDouble() * (ObjectSize - 1.0d);
+			velocityXs[i] = random.nextDouble() - 0.5d;
+			velocityYs[i] = random.nextDouble() - 0.5d;
+		}
+		queryXs = new double[QueryCount];
+		queryYs = new double[QueryCount];
+		for (int i = 0; i < QueryCount; i++) {
+			queryXs[i] = random.nextDouble() * (worldSize - QuerySize);
+			queryYs[i] = random.nextDouble() * (worldSize - QuerySize);
+		}
+		ids = new int[objectCount];
+		spatial = build();
+	}
+	/*
+	 * Run the box queries through the index
+	 * Returns: int - The number of objects found
+	 */
+	@Benchmark
+	@OperationsPerInvocation(QueryCount)
+	public int query() {
+		found = 0;
+		for (int i = 0; i < QueryCount; i++) {
+			spatial.queryBox(queryXs[i], queryYs[i], queryXs[i] + QuerySize,
+					queryYs[i] + QuerySize, counter);
+		}
+		return found;
+	}
+	/*
+	 * Run the box queries by testing every object
+	 * Returns: int - The number of objects found
+	 */
+	@Benchmark
+	@OperationsPerInvocation(QueryCount)
+	public int queryBruteForce() {
+		int found = 0;
+		for (int i = 0; i < QueryCount; i++) {
+			double minX = queryXs[i];
+			double minY = queryYs[i];
+			double maxX = minX + QuerySize;
+			double maxY = minY + QuerySize;
+			for (int j = 0; j < objectCount; j++) {
+				if (minXs[j] <= maxX && minXs[j] + widths[j] >= minX
+						&& minYs[j] <= maxY && minYs[j] + heights[j] >= minY) {
+					found++;
+				}
+			}
+		}
+		return found;
+	}
+	/*
+	 * Move every object by its velocity, turning back at the edges, and
+	 * update its box in the index
+	 * Returns: SpatialIndex - The index
+	 */
+	@Benchmark
+	public SpatialIndex move() {
+		for (int i = 0; i < objectCount; i++) {
+			double x = minXs[i] + velocityXs[i];
+			double y = minYs[i] + velocityYs[i];
+			if (x < 0.0d || x > worldSize) {
+				velocityXs[i] = -velocityXs[i];
+			}
+			if (y < 0.0d || y > worldSize) {
+				velocityYs[i] = -velocityYs[i];
+			}
+			minXs[i] = x;
+			minYs[i] = y;
+			spatial.update(ids[i], x, y, x + widths[i], y + heights[i]);
+		}
+		return spatial;
+	}
+	/*
+	 * Build a new index holding every object
+	 * Returns: SpatialIndex - The index
+	 */
+	@Benchmark
+	public SpatialIndex insert() {
+		return build();
+	}
+	/*
+	 * Create an index of the benchmarked kind and insert every object
+	 * Returns: SpatialIndex - The index
+	 */
+	private SpatialIndex build() {
+		SpatialIndex built;
+		if (index.equals("quadtree")) {
+			built = new LooseQuadtree(0.0d, 0.0d, worldSize, Depth,
+					objectCount);
+		} else {
+			built = new SpatialHashGrid(CellSize, objectCount);
+		}
+		for (int i = 0; i < objectCount; i++) {
+			ids[i] = built.insert(minXs[i], minYs[i], minXs[i] + widths[i],
+					minYs[i] + heights[i]);
+		}
+		return built;
+	}
+	
+}
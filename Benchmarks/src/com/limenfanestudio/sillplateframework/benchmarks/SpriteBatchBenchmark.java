@@ -0,0 +1,147 @@
+/*
+ * File:		SpriteBatchBenchmark.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Benchmarks drawing frames of ten thousand sprites from a
+ * 				texture atlas against drawing each from its own image
+ */
+
+package com.limenfanestudio.sillplateframework.benchmarks;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.limenfanestudio.sillplateframework.rendering.Sprite;
+import com.limenfanestudio.sillplateframework.rendering.SpriteBatch;
+import com.limenfanestudio.sillplateframework.rendering.TextureAtlas;
+import com.limenfanestudio.sillplateframework.rendering.TextureAtlasPacker;
+
+// Times a headless frame of ten thousand sprites on four layers drawn to a
+// 960x540 image, queued through a SpriteBatch from a packed atlas and drawn
+// directly from two hundred separate images in submission order
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Djava.awt.headless=true")
+public class SpriteBatchBenchmark {
+	
+	// The number of sprites drawn each frame
+	private static final int SpriteCount = 10000;
+	// The number of distinct images the sprites are drawn from
+	private static final int ImageCount = 200;
+	// The width of the frame in pixels
+	private static final int FrameWidth = 960;
+	// The height of the frame in pixels
+	private static final int FrameHeight = 540;
+	
+	// The separate images drawn by the direct benchmark
+	private BufferedImage[] images = null;
+	// The atlas sprites of the same images, drawn by the batched benchmark
+	private Sprite[] sprites = null;
+	// The index of the image each draw uses
+	private int[] indices = null;
+	// The x-coordinate of each draw
+	private int[] xs = null;
+	// The y-coordinate of each draw
+	private int[] ys = null;
+	// The frame drawn to
+	private BufferedImage frame = null;
+	// The graphics context of the frame
+	private Graphics2D graphics = null;
+	// The sprite batch queuing the batched benchmark's draws
+	private SpriteBatch batch = null;
+	
+	/*
+	 * Initialize the logging system, create the images, pack them into an
+	 * atlas and place the draws
+	 */
+	@Setup(Level.Trial)
+	public void setup() {
+		if (!Benchmarks.InitializeQuietLog()) {
+			throw new IllegalStateException("Failed to initialize logging");
+		}
+		Random random = new Random(1L);
+		images = new BufferedImage[ImageCount];
+		TextureAtlasPacker packer = new TextureAtlasPacker(1024, 1);
+		for (int i = 0; i < ImageCount; i++) {
+			images[i] = new BufferedImage(8 + random.nextInt(24),
+					8 + random.nextInt(17), BufferedImage.TYPE_INT_ARGB_PRE);
+			Graphics2D imageGraphics = images[i].createGraphics();
+			imageGraphics.setColor(new Color(random.nextInt(0xFFFFFF)));
+			imageGraphics.fillOval(0, 0, images[i].getWidth(),
+					images[i].getHeight());
+			imageGraphics.dispose();
+			packer.add(Integer.toString(i), images[i]);
+		}
+		TextureAtlas atlas = packer.pack(null);
+		sprites = new Sprite[ImageCount];
+		for (int i = 0; i < ImageCount; i++) {
+			sprites[i] = atlas.getSprite(Integer.toString(i));
+		}
+		indices = new int[SpriteCount];
+		xs = new int[SpriteCount];
+		ys = new int[SpriteCount];
+		for (int i = 0; i < SpriteCount; i++) {
+			indices[i] = random.nextInt(ImageCount);
+			xs[i] = random.nextInt(FrameWidth);
+			ys[i] = random.nextInt(FrameHeight);
+		}
+		frame = new BufferedImage(FrameWidth, FrameHeight,
+				BufferedImage.TYPE_INT_RGB);
+		graphics = frame.createGraphics();
+		batch = new SpriteBatch(SpriteCount);
+	}
+	/*
+	 * Queue every sprite through the sprite batch, which sorts the draws by
+	 * layer and source image, and draw them
+	 * Returns: int - The number of runs of draws sharing an atlas page
+	 */
+	@Benchmark
+	public int batched() {
+		batch.begin(graphics);
+		for (int i = 0; i < SpriteCount; i++) {
+			batch.draw(sprites[indices[i]], xs[i], ys[i], i & 3);
+		}
+		batch.end();
+		return batch.getBatchCount();
+	}
+	/*
+	 * Draw every sprite from its own image in submission order, one image
+	 * switch per draw
+	 * Returns: BufferedImage - The frame drawn to
+	 */
+	@Benchmark
+	public BufferedImage direct() {
+		for (int i = 0; i < SpriteCount; i++) {
+			graphics.drawImage(images[indices[i]], xs[i], ys[i], null);
+		}
+		return frame;
+	}
+	/*
+	 * Dispose of the frame's graphics context and destroy the logging system
+	 */
+	@TearDown(Level.Trial)
+	public void teardown() {
+		graphics.dispose();
+		Benchmarks.DestroyQuietLog();
+	}
+	
+}
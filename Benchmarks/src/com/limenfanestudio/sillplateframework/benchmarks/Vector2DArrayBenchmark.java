@@ -0,0 +1,188 @@
+/*
+ * File:		Vector2DArrayBenchmark.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Benchmarks bulk transforms of structure-of-arrays vectors
+ * 				against arrays of vector objects
+ */
+
+package com.limenfanestudio.sillplateframework.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.limenfanestudio.sillplateframework.data.Vector2D;
+import com.limenfanestudio.sillplateframework.data.Vector2DArray;
+
+// Times integrating, normalizing, transforming and taking dot products of
+// every vector, once over Vector2DArray's parallel arrays and once over
+// arrays of Vector2D objects. The objects are shuffled after allocation so
+// their order in memory differs from their order in the array, as with
+// entities created and destroyed over time
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class Vector2DArrayBenchmark {
+	
+	// The timestep the positions are integrated by
+	private static final double TimeStep = 1.0d / 60.0d;
+	// The angle in radians of the transform's rotation
+	private static final double Angle = 0.01d;
+	
+	// The number of vectors
+	@Param({"1000", "100000"})
+	public int size = 0;
+	// Positions stored as parallel arrays
+	private Vector2DArray positionArray = null;
+	// Velocities stored as parallel arrays
+	private Vector2DArray velocityArray = null;
+	// Positions stored as objects
+	private Vector2D[] positions = null;
+	// Velocities stored as objects
+	private Vector2D[] velocities = null;
+	// The dot products of each position and velocity
+	private double[] dots = null;
+	// Temporary vector for the object operations
+	private final Vector2D scratch = new Vector2D();
+	
+	/*
+	 * Fill both layouts with the same random vectors
+	 */
+	@Setup
+	public void setup() {
+		Random random = new Random(19L);
+		positionArray = new Vector2DArray(size);
+		velocityArray = new Vector2DArray(size);
+		positions = new Vector2D[size];
+		velocities = new Vector2D[size];
+		dots = new double[size];
+		for (int i = 0; i < size; i++) {
+			positions[i] = new Vector2D(random.nextDouble() * 1000.0d,
+					random.nextDouble() * 1000.0d);
+			velocities[i] = new Vector2D(random.nextDouble() - 0.5d,
+					random.nextDouble() - 0.5d);
+			positionArray.add(positions[i]);
+			velocityArray.add(velocities[i]);
+		}
+		for (int i = size - 1; i > 0; i--) {
+			int j = random.nextInt(i + 1);
+			swap(positions, i, j);
+			swap(velocities, i, j);
+		}
+	}
+	/*
+	 * Integrate the positions by their velocities in parallel arrays
+	 * Returns: Vector2DArray - The positions
+	 */
+	@Benchmark
+	public Vector2DArray integrateArray() {
+		positionArray.addScaled(velocityArray, TimeStep, 0, size);
+		return positionArray;
+	}
+	/*
+	 * Integrate the positions by their velocities as objects
+	 * Returns: Vector2D[] - The positions
+	 */
+	@Benchmark
+	public Vector2D[] integrateObjects() {
+		for (int i = 0; i < size; i++) {
+			positions[i].addLocal(scratch.set(velocities[i])
+					.scaleLocal(TimeStep));
+		}
+		return positions;
+	}
+	/*
+	 * Normalize the velocities in parallel arrays
+	 * Returns: Vector2DArray - The velocities
+	 */
+	@Benchmark
+	public Vector2DArray normalizeArray() {
+		velocityArray.normalize(0, size);
+		return velocityArray;
+	}
+	/*
+	 * Normalize the velocities as objects
+	 * Returns: Vector2D[] - The velocities
+	 */
+	@Benchmark
+	public Vector2D[] normalizeObjects() {
+		for (int i = 0; i < size; i++) {
+			velocities[i].normalizeLocal();
+		}
+		return velocities;
+	}
+	/*
+	 * Rotate and translate the positions in parallel arrays
+	 * Returns: Vector2DArray - The positions
+	 */
+	@Benchmark
+	public Vector2DArray transformArray() {
+		double cos = Math.cos(Angle);
+		double sin = Math.sin(Angle);
+		positionArray.transform(0, size, cos, -sin, sin, cos, 1.0d, -1.0d);
+		return positionArray;
+	}
+	/*
+	 * Rotate and translate the positions as objects
+	 * Returns: Vector2D[] - The positions
+	 */
+	@Benchmark
+	public Vector2D[] transformObjects() {
+		double cos = Math.cos(Angle);
+		double sin = Math.sin(Angle);
+		for (int i = 0; i < size; i++) {
+			Vector2D position = positions[i];
+			position.set((cos * position.x) - (sin * position.y) + 1.0d,
+					(sin * position.x) + (cos * position.y) - 1.0d);
+		}
+		return positions;
+	}
+	/*
+	 * Compute the dot product of each position and velocity in parallel
+	 * arrays
+	 * Returns: double[] - The dot products
+	 */
+	@Benchmark
+	public double[] dotArray() {
+		positionArray.dot(velocityArray, 0, size, dots);
+		return dots;
+	}
+	/*
+	 * Compute the dot product of each position and velocity as objects
+	 * Returns: double[] - The dot products
+	 */
+	@Benchmark
+	public double[] dotObjects() {
+		for (int i = 0; i < size; i++) {
+			dots[i] = positions[i].dot(velocities[i]);
+		}
+		return dots;
+	}
+	/*
+	 * Swap two vectors in an array
+	 * Parameter: Vector2D[] vectors - The array
+	 * Parameter: int i - The index of the first vector
+	 * Parameter: int j - The index of the second vector
+	 */
+	private static void swap(Vector2D[] vectors, int i, int j) {
+		Vector2D vector = vectors[i];
+		vectors[i] = vectors[j];
+		vectors[j] = vector;
+	}
+	
+}
@@ -1,5 +1,7 @@
 package com.limenfanestudio.sillplateframework.sandbox;
 
+import java.awt.Graphics2D;
+
 import com.limenfanestudio.sillplateframework.application.Application;
 import com.limenfanestudio.sillplateframework.application.Scene;
 import com.limenfanestudio.sillplateframework.data.Vector2D;
@@ -89,6 +91,12 @@ public class TestScene extends Scene {
 		return true;
 	}
 	@Override
+	public void update(double deltaTime) {
+	}
+	@Override
+	public void render(Graphics2D graphics, double alpha) {
+	}
+	@Override
 	public void leave(Scene nextScene) {
 		Application.Log.write(logSource, LogLevel.Information, "Leaving test ",
 				"scene");
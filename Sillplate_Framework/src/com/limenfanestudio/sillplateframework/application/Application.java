@@ -8,9 +8,21 @@
 
 package com.limenfanestudio.sillplateframework.application;
 
+import java.awt.Canvas;
+import java.util.ArrayList;
+import java.util.function.DoubleSupplier;
+
+import com.limenfanestudio.sillplateframework.assets.AssetManager;
+import com.limenfanestudio.sillplateframework.entity.World;
+import com.limenfanestudio.sillplateframework.input.InputManager;
 import com.limenfanestudio.sillplateframework.logging.LogLevel;
 import com.limenfanestudio.sillplateframework.logging.LogManager;
 import com.limenfanestudio.sillplateframework.logging.LogSource;
+import com.limenfanestudio.sillplateframework.looping.LoopManager;
+import com.limenfanestudio.sillplateframework.metrics.MetricsManager;
+import com.limenfanestudio.sillplateframework.profiling.ProfileManager;
+import com.limenfanestudio.sillplateframework.rendering.RenderManager;
+import com.limenfanestudio.sillplateframework.replay.ReplayManager;
 import com.limenfanestudio.sillplateframework.windowing.WindowManager;
 
 // The main class of the Sillplate Framework - a general application giving
@@ -21,8 +33,26 @@ public class Application {
 	public static LogManager Log = null;
 	// The Sillplate Framework's windowing system
 	public static WindowManager Window = null;
+	// The Sillplate Framework's loop system
+	public static LoopManager Loop = null;
+	// The Sillplate Framework's rendering system
+	public static RenderManager Render = null;
+	// The Sillplate Framework's input system
+	public static InputManager Input = null;
+	// The Sillplate Framework's asset system
+	public static AssetManager Assets = null;
+	// The Sillplate Framework's profiling system
+	public static ProfileManager Profiler = null;
+	// The Sillplate Framework's replay system
+	public static ReplayManager Replay = null;
+	// The Sillplate Framework's metrics system
+	public static MetricsManager Metrics = null;
 	// The current scene displayed by the Sillplate Framework application
 	private static Scene CurrentScene = null;
+	// The transitions started and not yet swapped in or discarded, the most
+	// recent last
+	private static ArrayList<SceneTransition> Transitions =
+			new ArrayList<SceneTransition>();
 	
 	/*
 	 * Initialize the Sillplate Framework application
@@ -37,20 +67,90 @@ public class Application {
 		}
 		Log.write(LogSource.Application, LogLevel.Information, "Initialized ",
 				"log manager");
-		Window = new WindowManager();
-		if (!Window.initialize(configuration.window)) {
+		Metrics = new MetricsManager();
+		if (!Metrics.initialize(configuration.metrics)) {
+			Log.write(LogSource.Application, LogLevel.Error, "Failed to ",
+					"initialize metrics manager");
+			return false;
+		}
+		Log.attachMetrics(Metrics);
+		Log.write(LogSource.Application, LogLevel.Information, "Initialized ",
+				"metrics manager");
+		Profiler = new ProfileManager();
+		if (!Profiler.initialize(configuration.profiler)) {
+			Log.write(LogSource.Application, LogLevel.Error, "Failed to ",
+					"initialize profile manager");
+			return false;
+		}
+		Log.write(LogSource.Application, LogLevel.Information, "Initialized ",
+				"profile manager");
+		if (configuration.headless) {
+			Window = null;
+			Log.write(LogSource.Application, LogLevel.Information, "Running ",
+					"headless, no window created");
+		} else {
+			Window = new WindowManager();
+			if (!Window.initialize(configuration.window)) {
+				Log.write(LogSource.Application, LogLevel.Error, "Failed to ",
+						"initialize window manager");
+				return false;
+			}
+			Window.attachMetrics(Metrics);
+			Log.write(LogSource.Application, LogLevel.Information,
+					"Initialized window manager");
+		}
+		Canvas canvas = Window == null ? null : Window.getCanvas();
+		Assets = new AssetManager();
+		if (!Assets.initialize(configuration.assets)) {
+			Log.write(LogSource.Application, LogLevel.Error, "Failed to ",
+					"initialize asset manager");
+			return false;
+		}
+		Log.write(LogSource.Application, LogLevel.Information, "Initialized ",
+				"asset manager");
+		Input = new InputManager();
+		if (!Input.initialize(configuration.input, canvas)) {
+			Log.write(LogSource.Application, LogLevel.Error, "Failed to ",
+					"initialize input manager");
+			return false;
+		}
+		Log.write(LogSource.Application, LogLevel.Information, "Initialized ",
+				"input manager");
+		Loop = new LoopManager();
+		if (!Loop.initialize(configuration.loop)) {
+			Log.write(LogSource.Application, LogLevel.Error, "Failed to ",
+					"initialize loop manager");
+			return false;
+		}
+		Log.write(LogSource.Application, LogLevel.Information, "Initialized ",
+				"loop manager");
+		Render = new RenderManager();
+		if (!Render.initialize(configuration.render, canvas)) {
+			Log.write(LogSource.Application, LogLevel.Error, "Failed to ",
+					"initialize render manager");
+			return false;
+		}
+		Log.write(LogSource.Application, LogLevel.Information, "Initialized ",
+				"render manager");
+		Replay = new ReplayManager();
+		if (!Replay.initialize(configuration.replay)) {
 			Log.write(LogSource.Application, LogLevel.Error, "Failed to ",
-					"initialize window manager");
+					"initialize replay manager");
 			return false;
 		}
 		Log.write(LogSource.Application, LogLevel.Information, "Initialized ",
-				"window manager");
+				"replay manager");
+		AttachMetrics();
 		if (configuration.initialScene == null) {
 			Log.write(LogSource.Application, LogLevel.Information, "No ",
 					"initial scene provided");
 			return false;
 		}
-		SetCurrentScene(configuration.initialScene);
+		if (!SetCurrentScene(configuration.initialScene)) {
+			Log.write(LogSource.Application, LogLevel.Error, "Failed to ",
+					"prepare initial scene");
+			return false;
+		}
 		Log.write(LogSource.Application, LogLevel.Information, "Set initial ",
 				"scene");
 		Log.write(LogSource.Application, LogLevel.Information, "Initialized ",
@@ -61,13 +161,126 @@ public class Application {
 	 * Run the main loop of the Sillplate Framework application
 	 */
 	public static void Run() {
-		long startTime = System.currentTimeMillis();
-		while (System.currentTimeMillis() - startTime < 25000L
-				&& !Window.isClosing()) {
-			if (!CurrentScene.processInput()) {
-				return;
+		Loop.run();
+	}
+	/*
+	 * Run a number of updates of the current scene immediately, without
+	 * rendering or waiting for real time, for simulations and tests
+	 * Parameter: long ticks - The number of updates to run
+	 * Returns: long - The number of updates run, fewer if the scene requested
+	 * to stop
+	 */
+	public static long Step(long ticks) {
+		return Loop.step(ticks);
+	}
+	/*
+	 * Start a transition to a scene - its prepare() runs on a background
+	 * thread, and it becomes the current scene at the start of the first
+	 * tick after that, cancelling any transition already in progress. Call
+	 * from the loop thread
+	 * Parameter: Scene scene - The next scene to display
+	 * Returns: SceneTransition - The handle to the transition or null if the
+	 * scene is null
+	 */
+	public static SceneTransition TransitionToScene(Scene scene) {
+		if (scene == null) {
+			return null;
+		}
+		CancelTransitions();
+		SceneTransition transition = new SceneTransition(scene);
+		Transitions.add(transition);
+		transition.start();
+		Log.write(LogSource.Application, LogLevel.Information, "Preparing ",
+				"scene ", scene.getClass().getSimpleName());
+		return transition;
+	}
+	/*
+	 * Swap in the scene of a prepared transition and discard the scenes of
+	 * cancelled or failed ones - called by the loop at the start of each
+	 * tick. While replaying, scenes are swapped in on the tick they were in
+	 * the recording, waiting for their preparation if needed
+	 */
+	public static void UpdateTransitions() {
+		boolean replaying = Replay != null && Replay.isReplaying();
+		boolean due = replaying && Replay.isTransitionDue();
+		if (due) {
+			for (SceneTransition transition : Transitions) {
+				transition.join();
 			}
 		}
+		for (int i = 0; i < Transitions.size();) {
+			SceneTransition transition = Transitions.get(i);
+			if (!transition.isFinished() || (replaying && !due
+					&& transition.isPrepared())) {
+				i++;
+				continue;
+			}
+			Transitions.remove(i);
+			if (transition.complete()) {
+				Metrics.getHistogram("scene.transition.nanos").record(
+						transition.getDuration());
+				Metrics.getCounter("scene.transitions.completed").increment();
+				SwapCurrentScene(transition.getScene());
+				if (Replay != null) {
+					Replay.recordTransition();
+				}
+				Log.write(LogSource.Application, LogLevel.Information,
+						"Transitioned to scene ", transition.getScene()
+						.getClass().getSimpleName());
+			} else {
+				Metrics.getCounter("scene.transitions.discarded").increment();
+				transition.getScene().discard();
+			}
+		}
+	}
+	/*
+	 * Cancel every transition in progress
+	 */
+	private static void CancelTransitions() {
+		for (SceneTransition transition : Transitions) {
+			transition.cancel();
+		}
+	}
+	/*
+	 * Register the application's own gauges with the metrics system - the
+	 * number of entities alive in the current scene and the number and size
+	 * of cached assets
+	 */
+	private static void AttachMetrics() {
+		Metrics.getGauge("entities.alive", new DoubleSupplier() {
+			public double getAsDouble() {
+				Scene scene = CurrentScene;
+				World world = scene == null ? null : scene.getWorld();
+				return world == null ? 0.0d : world.getEntityCount();
+			}
+		});
+		Metrics.getGauge("assets.cached", new DoubleSupplier() {
+			public double getAsDouble() {
+				return Assets.getAssetCount();
+			}
+		});
+		Metrics.getGauge("assets.cached.bytes", new DoubleSupplier() {
+			public double getAsDouble() {
+				return Assets.getTotalSize();
+			}
+		});
+	}
+	/*
+	 * Leave the current scene and enter another, then evict cached assets
+	 * neither scene kept referenced
+	 * Parameter: Scene scene - The new scene to display
+	 */
+	private static void SwapCurrentScene(Scene scene) {
+		if (CurrentScene != null) {
+			CurrentScene.leave(scene);
+		}
+		if (scene != null) {
+			scene.enter(CurrentScene);
+		}
+		CurrentScene = scene;
+		if (Assets != null) {
+			Assets.trim();
+		}
 	}
 	/*
 	 * Free the Sillplate Framework application's memory
@@ -77,12 +290,54 @@ public class Application {
 		Log.write(LogSource.Application, LogLevel.Information, "Destroying ",
 				"Sillplate Framework application");
 		boolean success = true;
+		CancelTransitions();
+		for (SceneTransition transition : Transitions) {
+			transition.join();
+		}
+		UpdateTransitions();
 		Log.write(LogSource.Application, LogLevel.Information, "Leaving final ",
 				"scene");
 		SetCurrentScene(null);
-		Log.write(LogSource.Application, LogLevel.Information, "Destroying ",
-				"window manager");
-		Window.destroy();
+		if (Replay != null) {
+			Log.write(LogSource.Application, LogLevel.Information,
+					"Destroying replay manager");
+			Replay.destroy();
+		}
+		if (Render != null) {
+			Log.write(LogSource.Application, LogLevel.Information,
+					"Destroying render manager");
+			Render.destroy();
+		}
+		if (Loop != null) {
+			Log.write(LogSource.Application, LogLevel.Information,
+					"Destroying loop manager");
+			Loop.destroy();
+		}
+		if (Input != null) {
+			Log.write(LogSource.Application, LogLevel.Information,
+					"Destroying input manager");
+			Input.destroy();
+		}
+		if (Assets != null) {
+			Log.write(LogSource.Application, LogLevel.Information,
+					"Destroying asset manager");
+			Assets.destroy();
+		}
+		if (Window != null) {
+			Log.write(LogSource.Application, LogLevel.Information,
+					"Destroying window manager");
+			Window.destroy();
+		}
+		if (Profiler != null) {
+			Log.write(LogSource.Application, LogLevel.Information,
+					"Destroying profile manager");
+			Profiler.destroy();
+		}
+		if (Metrics != null) {
+			Log.write(LogSource.Application, LogLevel.Information,
+					"Destroying metrics manager");
+			Metrics.destroy();
+		}
 		Log.write(LogSource.Application, LogLevel.Information, "Destroying ",
 				"log manager");
 		if (!Log.destroy()) {
@@ -100,17 +355,19 @@ public class Application {
 	}
 	/*
 	 * Set the current scene to be displayed by the Sillplate Framework
-	 * application
+	 * application immediately, preparing it on the calling thread and
+	 * cancelling any transition in progress
 	 * Parameter: Scene scene - The new scene to display
+	 * Returns: boolean - Whether the scene was prepared and set
 	 */
-	public static void SetCurrentScene(Scene scene) {
-		if (CurrentScene != null) {
-			CurrentScene.leave(scene);
-		}
-		if (scene != null) {
-			scene.enter(CurrentScene);
+	public static boolean SetCurrentScene(Scene scene) {
+		CancelTransitions();
+		if (scene != null && !new SceneTransition(scene).prepare()) {
+			scene.discard();
+			return false;
 		}
-		CurrentScene = scene;
+		SwapCurrentScene(scene);
+		return true;
 	}
 
 }
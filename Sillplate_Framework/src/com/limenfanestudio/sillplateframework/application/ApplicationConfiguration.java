@@ -8,10 +8,13 @@
 
 package com.limenfanestudio.sillplateframework.application;
 
+import java.awt.Color;
 import java.util.Arrays;
 import java.util.List;
 
 import com.limenfanestudio.sillplateframework.data.Vector2D;
+import com.limenfanestudio.sillplateframework.logging.LogLevel;
+import com.limenfanestudio.sillplateframework.logging.LogOverflowPolicy;
 
 // Configuration structure with pre-set defaults for a Sillplate Framework
 // application's components
@@ -27,6 +30,42 @@ public class ApplicationConfiguration {
 		public String timestampFormat = "";
 		// The file names / paths of the files to output logs to
 		public List<String> fileNames = null;
+		// The file names / paths of the files to output logs to, rolled over
+		// by size and age instead of growing without limit
+		public List<String> rollingFileNames = null;
+		// The maximum size in bytes of a rolling log file or 0 for no limit
+		public long maxFileSize = 0L;
+		// The maximum age in milliseconds of a rolling log file or 0 for no
+		// limit
+		public long maxFileAge = 0L;
+		// The number of closed rolling log files to keep for each file name
+		public int retainedFileCount = 0;
+		// The file names / paths binary log files are named after
+		public List<String> binaryFileNames = null;
+		// The size in bytes binary log files are pre-allocated to
+		public int binarySegmentSize = 0;
+		// The file names / paths of the files to output logs to as JSON Lines
+		public List<String> jsonFileNames = null;
+		// The minimum level of logs written from sources without their own
+		// minimum level or null for all levels
+		public LogLevel minimumLevel = null;
+		// The minimum level of logs written to the console or null for all
+		// levels
+		public LogLevel consoleMinimumLevel = null;
+		// Whether logs should be written by a background thread instead of
+		// the thread writing them
+		public boolean asyncEnabled = false;
+		// The number of logs the asynchronous buffer can hold, rounded up to a
+		// power of two
+		public int asyncBufferSize = 0;
+		// What to do with new logs when the asynchronous buffer is full
+		public LogOverflowPolicy asyncOverflowPolicy = null;
+		// The maximum time in milliseconds buffered logs wait before being
+		// flushed to files
+		public long asyncFlushInterval = 0L;
+		// The number of buffered logs at which the background thread is woken
+		// to write and flush them early
+		public int asyncFlushWatermark = 0;
 		
 		/*
 		 * Construct a logging system configuration structure with defaults
@@ -34,7 +73,21 @@ public class ApplicationConfiguration {
 		public LogConfiguration() {
 			consoleEnabled = true;
 			timestampFormat = "yyyy.MM.dd@HH:mm:ss.SSS";
-			fileNames = Arrays.asList("Sillplate_Framework.log");
+			fileNames = Arrays.asList();
+			rollingFileNames = Arrays.asList("Sillplate_Framework.log");
+			maxFileSize = 10485760L;
+			maxFileAge = 86400000L;
+			retainedFileCount = 5;
+			binaryFileNames = Arrays.asList();
+			binarySegmentSize = 16777216;
+			jsonFileNames = Arrays.asList();
+			minimumLevel = LogLevel.Information;
+			consoleMinimumLevel = null;
+			asyncEnabled = false;
+			asyncBufferSize = 8192;
+			asyncOverflowPolicy = LogOverflowPolicy.Block;
+			asyncFlushInterval = 100L;
+			asyncFlushWatermark = 256;
 		}
 		
 	}
@@ -52,6 +105,17 @@ public class ApplicationConfiguration {
 		// The index of the monitor for the window to appear on when in
 		// fullscreen mode
 		public int monitorIndex = 0;
+		// Whether fullscreen mode takes exclusive control of the monitor where
+		// supported instead of covering it with a borderless window
+		public boolean exclusiveFullscreen = false;
+		// The resolution to switch the monitor to in exclusive fullscreen mode
+		// or null to keep the monitor's current resolution
+		public Vector2D fullscreenDimensions = null;
+		// Whether the user can resize the window when in windowed mode
+		public boolean resizable = false;
+		// The time in milliseconds a user's resize must be still for before
+		// the window is rendered to again at its new size
+		public long resizeSettleTime = 0L;
 		
 		/*
 		 * Construct a windowing system configuration structure with defaults
@@ -61,14 +125,219 @@ public class ApplicationConfiguration {
 			dimensions = new Vector2D(960.0d, 540.0d);
 			fullscreen = false;
 			monitorIndex = 0;
+			exclusiveFullscreen = true;
+			fullscreenDimensions = null;
+			resizable = false;
+			resizeSettleTime = 200L;
 		}
 		
 	}
 	
+	// Configuration structure with pre-set defaults for the Sillplate
+	// Framework's loop system
+	public class LoopConfiguration {
+		
+		// The number of fixed-step updates to run per second
+		public double tickRate = 0.0d;
+		// The maximum number of frames to render per second or 0 for uncapped
+		public double frameCap = 0.0d;
+		// The maximum number of updates to run in a single frame before the
+		// loop drops time to catch up
+		public int maxTicksPerFrame = 0;
+		// Whether the loop runs one update per iteration back to back on
+		// simulated time instead of following the clock, for batch
+		// simulations
+		public boolean simulated = false;
+		
+		/*
+		 * Construct a loop system configuration structure with defaults
+		 */
+		public LoopConfiguration() {
+			tickRate = 60.0d;
+			frameCap = 60.0d;
+			maxTicksPerFrame = 5;
+			simulated = false;
+		}
+		
+	}
+	
+	// Configuration structure with pre-set defaults for the Sillplate
+	// Framework's rendering system
+	public class RenderConfiguration {
+		
+		// The number of buffers to draw frames with, 2 or 3
+		public int bufferCount = 0;
+		// Whether frames should be shown by page flipping paced to the
+		// display's refresh where supported
+		public boolean vsync = false;
+		// The colour each frame is cleared to before the scene is drawn
+		public Color backgroundColor = null;
+		// The dimensions in pixels of the offscreen image drawn to when there
+		// is no window
+		public Vector2D offscreenDimensions = null;
+		// Whether frames are drawn at all, which headless servers and
+		// simulations can turn off
+		public boolean enabled = false;
+		
+		/*
+		 * Construct a rendering system configuration structure with defaults
+		 */
+		public RenderConfiguration() {
+			enabled = true;
+			bufferCount = 2;
+			vsync = true;
+			backgroundColor = Color.BLACK;
+			offscreenDimensions = new Vector2D(960.0d, 540.0d);
+		}
+		
+	}
+	
+	// Configuration structure with pre-set defaults for the Sillplate
+	// Framework's input system
+	public class InputConfiguration {
+		
+		// The number of input events which can wait for the next update
+		// before new events are dropped
+		public int queueSize = 0;
+		
+		/*
+		 * Construct an input system configuration structure with defaults
+		 */
+		public InputConfiguration() {
+			queueSize = 4096;
+		}
+		
+	}
+	
+	// Configuration structure with pre-set defaults for the Sillplate
+	// Framework's asset system
+	public class AssetConfiguration {
+		
+		// The number of background threads loading assets
+		public int threadCount = 0;
+		// The maximum total size in bytes of loaded assets before assets no
+		// longer referenced are evicted
+		public long cacheSize = 0L;
+		// The directory asset paths are resolved against
+		public String rootDirectory = null;
+		
+		/*
+		 * Construct an asset system configuration structure with defaults
+		 */
+		public AssetConfiguration() {
+			threadCount = 2;
+			cacheSize = 268435456L;
+			rootDirectory = "";
+		}
+		
+	}
+	
+	// Configuration structure with pre-set defaults for the Sillplate
+	// Framework's profiling system
+	public class ProfilerConfiguration {
+		
+		// Whether scopes are timed from startup
+		public boolean enabled = false;
+		// Whether the timing statistics are drawn over each frame
+		public boolean overlayEnabled = false;
+		// The number of frames the timing statistics cover
+		public int historySize = 0;
+		// The number of timed scopes each thread can buffer before the next
+		// frame collects them, beyond which scopes are dropped
+		public int bufferSize = 0;
+		// The maximum number of timed scopes a trace records
+		public int traceCapacity = 0;
+		
+		/*
+		 * Construct a profiling system configuration structure with defaults
+		 */
+		public ProfilerConfiguration() {
+			enabled = false;
+			overlayEnabled = false;
+			historySize = 300;
+			bufferSize = 8192;
+			traceCapacity = 1048576;
+		}
+		
+	}
+	
+	// Configuration structure with pre-set defaults for the Sillplate
+	// Framework's replay system
+	public class ReplayConfiguration {
+		
+		// The file name / path to record ticks to from startup or null
+		public String recordFileName = null;
+		// The file name / path of a recording to replay from startup or null
+		public String replayFileName = null;
+		// The number of ticks between scene snapshots in recordings or 0 for
+		// none
+		public int snapshotInterval = 0;
+		// The size in bytes of the chunks recordings are written in
+		public int chunkSize = 0;
+		// The seed of the per-tick random seeds or 0 to seed from the clock
+		public long seed = 0L;
+		
+		/*
+		 * Construct a replay system configuration structure with defaults
+		 */
+		public ReplayConfiguration() {
+			recordFileName = null;
+			replayFileName = null;
+			snapshotInterval = 60;
+			chunkSize = 65536;
+			seed = 0L;
+		}
+		
+	}
+	
+	// Configuration structure with pre-set defaults for the Sillplate
+	// Framework's metrics system
+	public class MetricsConfiguration {
+		
+		// The time in milliseconds between exported snapshots of the metrics
+		// or 0 for none
+		public long exportInterval = 0L;
+		// The file name / path to append snapshots to as JSON lines or null
+		public String exportFileName = null;
+		// Whether snapshots are written to the log
+		public boolean exportToLog = false;
+		// The local port to serve snapshots over HTTP on or 0 for none
+		public int httpPort = 0;
+		
+		/*
+		 * Construct a metrics system configuration structure with defaults
+		 */
+		public MetricsConfiguration() {
+			exportInterval = 10000L;
+			exportFileName = null;
+			exportToLog = false;
+			httpPort = 0;
+		}
+		
+	}
+	
+	// Whether the application runs without a window, for servers,
+	// simulations and tests - input then comes only from code and frames are
+	// drawn offscreen
+	public boolean headless = false;
 	// Logging system configuration structure
 	public LogConfiguration log = null;
 	// Windowing system configuration structure
 	public WindowConfiguration window = null;
+	// Loop system configuration structure
+	public LoopConfiguration loop = null;
+	// Rendering system configuration structure
+	public RenderConfiguration render = null;
+	// Input system configuration structure
+	public InputConfiguration input = null;
+	// Asset system configuration structure
+	public AssetConfiguration assets = null;
+	// Profiling system configuration structure
+	public ProfilerConfiguration profiler = null;
+	// Replay system configuration structure
+	public ReplayConfiguration replay = null;
+	// Metrics system configuration structure
+	public MetricsConfiguration metrics = null;
 	// The initial scene for the application
 	public Scene initialScene = null;
 	
@@ -78,6 +347,14 @@ public class ApplicationConfiguration {
 	public ApplicationConfiguration(Scene initialScene) {
 		log = new LogConfiguration();
 		window = new WindowConfiguration();
+		loop = new LoopConfiguration();
+		render = new RenderConfiguration();
+		input = new InputConfiguration();
+		assets = new AssetConfiguration();
+		profiler = new ProfilerConfiguration();
+		replay = new ReplayConfiguration();
+		metrics = new MetricsConfiguration();
+		headless = false;
 		this.initialScene = initialScene;
 	}
 
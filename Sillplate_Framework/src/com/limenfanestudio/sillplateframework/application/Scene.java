@@ -8,9 +8,31 @@
 
 package com.limenfanestudio.sillplateframework.application;
 
+import java.awt.Graphics2D;
+
+import com.limenfanestudio.sillplateframework.entity.SystemScheduler;
+import com.limenfanestudio.sillplateframework.entity.World;
+import com.limenfanestudio.sillplateframework.physics.PhysicsWorld;
+
 // An abstract scene of the Sillplate Framework application
 public abstract class Scene {
 	
+	/*
+	 * Prepare this scene's resources before it is entered, such as loading
+	 * and waiting on assets - called on a background thread for transitions,
+	 * so it must not touch the current scene or the loop thread's state
+	 * Parameter: SceneTransition transition - The transition to this scene,
+	 * for reporting progress and checking for cancellation
+	 */
+	public void prepare(SceneTransition transition) {
+	}
+	/*
+	 * Release the resources loaded by prepare() when the transition to this
+	 * scene is cancelled or fails - called on the loop thread once prepare()
+	 * has returned
+	 */
+	public void discard() {
+	}
 	/*
 	 * Enter this scene from another
 	 * Parameter: Scene lastScene - The last scene displayed by the application
@@ -18,15 +40,62 @@ public abstract class Scene {
 	 */
 	public abstract void enter(Scene lastScene);
 	/*
-	 * Process user input to this scene
+	 * Process user input to this scene, called once before each update
 	 * Returns: boolean - Whether the application should continue running
 	 */
 	public abstract boolean processInput();
+	/*
+	 * Advance this scene's state by one fixed timestep
+	 * Parameter: double deltaTime - The fixed duration of an update in seconds
+	 */
+	public abstract void update(double deltaTime);
+	/*
+	 * Render this scene's current state
+	 * Parameter: Graphics2D graphics - The graphics context of the frame,
+	 * cleared to the background colour
+	 * Parameter: double alpha - The fraction of an update elapsed since the
+	 * last update, from 0 to 1, for interpolating between the previous and
+	 * current states
+	 */
+	public abstract void render(Graphics2D graphics, double alpha);
 	/*
 	 * Leave this scene for another
 	 * Parameter: Scene nextScene - The next scene to be displayed by the
 	 * application or null if this is the final scene
 	 */
 	public abstract void leave(Scene nextScene);
+	/*
+	 * Capture this scene's state for a replay, which compares the snapshots
+	 * taken while replaying to those recorded to detect desynchronization
+	 * Returns: byte[] - The encoded state or null to take no snapshot
+	 */
+	public byte[] getSnapshot() {
+		return null;
+	}
+	/*
+	 * Get the entity world owned by this scene, whose recorded structural
+	 * changes are applied after each update
+	 * Returns: World - The scene's world or null if it has none
+	 */
+	public World getWorld() {
+		return null;
+	}
+	/*
+	 * Get the scheduler running this scene's update systems on its world
+	 * after each update, before the world's recorded changes are applied
+	 * Returns: SystemScheduler - The scene's scheduler or null if it has none
+	 */
+	public SystemScheduler getScheduler() {
+		return null;
+	}
+	/*
+	 * Get the physics world owned by this scene, stepped by the fixed
+	 * timestep after each update
+	 * Returns: PhysicsWorld - The scene's physics world or null if it has
+	 * none
+	 */
+	public PhysicsWorld getPhysicsWorld() {
+		return null;
+	}
 
 }
@@ -0,0 +1,201 @@
+/*
+ * File:		SceneTransition.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Tracks the preparation of a scene in the background and its
+ * 				swap in as the current scene
+ */
+
+package com.limenfanestudio.sillplateframework.application;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.limenfanestudio.sillplateframework.logging.LogLevel;
+import com.limenfanestudio.sillplateframework.logging.LogSource;
+
+// Handle to a transition started by Application.TransitionToScene() - the
+// next scene's prepare() runs on a background thread while the current
+// scene keeps updating and rendering, then the loop swaps the scenes at the
+// start of the first tick after preparation finishes
+public class SceneTransition {
+	
+	// Counter numbering the preparation threads
+	private static final AtomicInteger NextThread = new AtomicInteger(0);
+	// State of a transition whose scene is preparing
+	private static final int Preparing = 0;
+	// State of a transition whose scene is prepared and waiting to be swapped
+	private static final int Prepared = 1;
+	// State of a transition whose scene became the current scene
+	private static final int Completed = 2;
+	// State of a transition cancelled before its scene was swapped in
+	private static final int Cancelled = 3;
+	// State of a transition whose scene failed to prepare
+	private static final int Failed = 4;
+	
+	// The scene being transitioned to
+	private final Scene scene;
+	// The state of the transition
+	private final AtomicInteger state = new AtomicInteger(Preparing);
+	// The preparation progress reported by the scene, as the bits of a
+	// double from 0 to 1
+	private final AtomicLong progress = new AtomicLong(0L);
+	// The thread preparing the scene or null if preparing on the caller
+	private Thread worker = null;
+	// Whether prepare() has returned
+	private volatile boolean finished = false;
+	// The time the transition started in nanoseconds
+	private long startTime = 0L;
+	
+	/*
+	 * Construct a transition to a scene
+	 * Parameter: Scene scene - The scene to transition to
+	 */
+	SceneTransition(Scene scene) {
+		this.scene = scene;
+	}
+	/*
+	 * Start preparing the scene on a background thread
+	 */
+	void start() {
+		startTime = System.nanoTime();
+		worker = new Thread(new Runnable() {
+			public void run() {
+				prepare();
+			}
+		}, "Sillplate Scene Preparer " + NextThread.getAndIncrement());
+		worker.setDaemon(true);
+		worker.start();
+	}
+	/*
+	 * Prepare the scene on the calling thread
+	 * Returns: boolean - Whether the scene was prepared and not cancelled
+	 */
+	boolean prepare() {
+		try {
+			scene.prepare(this);
+			if (state.compareAndSet(Preparing, Prepared)) {
+				setProgress(1.0d);
+			}
+		} catch (RuntimeException e) {
+			if (state.compareAndSet(Preparing, Failed)) {
+				Application.Log.write(LogSource.Application, LogLevel.Error,
+						"Failed to prepare scene ", scene.getClass()
+						.getSimpleName(), ": ", e);
+			}
+		} finally {
+			finished = true;
+		}
+		return state.get() == Prepared;
+	}
+	/*
+	 * Mark the prepared scene as swapped in - called on the loop thread
+	 * Returns: boolean - Whether the transition was prepared and not
+	 * cancelled
+	 */
+	boolean complete() {
+		return state.compareAndSet(Prepared, Completed);
+	}
+	/*
+	 * Wait for the preparation thread to finish
+	 */
+	void join() {
+		boolean interrupted = false;
+		while (worker != null && worker.isAlive()) {
+			try {
+				worker.join();
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+	/*
+	 * Cancel the transition if its scene has not been swapped in yet - the
+	 * scene's discard() is called on the loop thread once its prepare()
+	 * returns
+	 * Returns: boolean - Whether the transition was cancelled
+	 */
+	public boolean cancel() {
+		while (true) {
+			int current = state.get();
+			if (current != Preparing && current != Prepared) {
+				return false;
+			}
+			if (state.compareAndSet(current, Cancelled)) {
+				return true;
+			}
+		}
+	}
+	
+	/*
+	 * Get the scene being transitioned to
+	 * Returns: Scene - The next scene
+	 */
+	public Scene getScene() {
+		return scene;
+	}
+	/*
+	 * Get the time since the transition started
+	 * Returns: long - The time in nanoseconds
+	 */
+	public long getDuration() {
+		return System.nanoTime() - startTime;
+	}
+	/*
+	 * Get the preparation progress reported by the scene
+	 * Returns: double - The progress from 0 to 1
+	 */
+	public double getProgress() {
+		return Double.longBitsToDouble(progress.get());
+	}
+	/*
+	 * Report preparation progress - called by the scene's prepare()
+	 * Parameter: double progress - The progress from 0 to 1, clamped
+	 */
+	public void setProgress(double progress) {
+		if (!(progress >= 0.0d)) {
+			progress = 0.0d;
+		}
+		this.progress.set(Double.doubleToLongBits(Math.min(progress, 1.0d)));
+	}
+	/*
+	 * Test whether the scene's prepare() has returned
+	 * Returns: boolean - Whether preparation finished
+	 */
+	public boolean isFinished() {
+		return finished;
+	}
+	/*
+	 * Test whether the scene is prepared and waiting to be swapped in
+	 * Returns: boolean - Whether the scene is prepared
+	 */
+	public boolean isPrepared() {
+		return state.get() == Prepared;
+	}
+	/*
+	 * Test whether the scene became the current scene
+	 * Returns: boolean - Whether the transition completed
+	 */
+	public boolean isCompleted() {
+		return state.get() == Completed;
+	}
+	/*
+	 * Test whether the transition was cancelled - a long prepare() should
+	 * check this and return early
+	 * Returns: boolean - Whether the transition was cancelled
+	 */
+	public boolean isCancelled() {
+		return state.get() == Cancelled;
+	}
+	/*
+	 * Test whether the scene's prepare() threw an exception
+	 * Returns: boolean - Whether the transition failed
+	 */
+	public boolean isFailed() {
+		return state.get() == Failed;
+	}
+	
+}
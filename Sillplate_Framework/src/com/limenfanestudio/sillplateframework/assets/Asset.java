@@ -0,0 +1,124 @@
+/*
+ * File:		Asset.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Defines a handle to an asset loaded in the background
+ */
+
+package com.limenfanestudio.sillplateframework.assets;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CancellationException;
+
+// Handle to an asset shared by everything that loaded the same path - the
+// asset loads on the asset system's background threads and can be polled
+// with get() each update or waited on with await(). Each load() of the path
+// must be matched by a release() once the asset is no longer needed
+public class Asset<T> {
+	
+	// The asset system owning this asset
+	private final AssetManager manager;
+	// The resolved path of the asset's file
+	private final String path;
+	// The loader reading the asset
+	final AssetLoader<T> loader;
+	// The future completed with the loaded asset
+	final CompletableFuture<T> future = new CompletableFuture<T>();
+	// The number of unreleased loads of this asset, guarded by the manager
+	int referenceCount = 0;
+	// The memory used by the loaded asset in bytes
+	volatile long size = 0L;
+	// Whether the asset's size counts towards the cache, guarded by the
+	// manager
+	boolean counted = false;
+	// Whether the asset was evicted
+	volatile boolean evicted = false;
+	
+	/*
+	 * Construct a handle to an asset not yet loaded
+	 * Parameter: AssetManager manager - The asset system owning the asset
+	 * Parameter: String path - The resolved path of the asset's file
+	 * Parameter: AssetLoader<T> loader - The loader reading the asset
+	 */
+	Asset(AssetManager manager, String path, AssetLoader<T> loader) {
+		this.manager = manager;
+		this.path = path;
+		this.loader = loader;
+	}
+	/*
+	 * Get the asset without waiting
+	 * Returns: T - The asset or null if it is still loading, failed to load
+	 * or was evicted
+	 */
+	public T get() {
+		return evicted ? null : future.getNow(null);
+	}
+	/*
+	 * Wait for the asset to finish loading
+	 * Returns: T - The asset or null if it failed to load or was evicted
+	 */
+	public T await() {
+		try {
+			T value = future.join();
+			return evicted ? null : value;
+		} catch (CompletionException e) {
+			return null;
+		} catch (CancellationException e) {
+			return null;
+		}
+	}
+	/*
+	 * Release one load of this asset, letting it be evicted once nothing
+	 * references it
+	 * Returns: boolean - Whether the asset was referenced
+	 */
+	public boolean release() {
+		return manager.release(this);
+	}
+	
+	/*
+	 * Test whether the asset finished loading, successfully or not
+	 * Returns: boolean - Whether loading finished
+	 */
+	public boolean isDone() {
+		return future.isDone();
+	}
+	/*
+	 * Test whether the asset loaded successfully
+	 * Returns: boolean - Whether the asset is available
+	 */
+	public boolean isLoaded() {
+		return future.isDone() && !future.isCompletedExceptionally()
+				&& !evicted;
+	}
+	/*
+	 * Test whether the asset failed to load or was evicted
+	 * Returns: boolean - Whether the asset is unavailable
+	 */
+	public boolean isFailed() {
+		return future.isCompletedExceptionally() || evicted;
+	}
+	/*
+	 * Get the future completed with the loaded asset, for chaining work
+	 * Returns: CompletableFuture<T> - The future
+	 */
+	public CompletableFuture<T> getFuture() {
+		return future;
+	}
+	/*
+	 * Get the resolved path of the asset's file
+	 * Returns: String - The path
+	 */
+	public String getPath() {
+		return path;
+	}
+	/*
+	 * Get the memory used by the loaded asset
+	 * Returns: long - The size in bytes or 0 if not loaded
+	 */
+	public long getSize() {
+		return size;
+	}
+	
+}
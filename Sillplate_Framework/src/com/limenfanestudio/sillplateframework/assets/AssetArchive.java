@@ -0,0 +1,303 @@
+/*
+ * File:		AssetArchive.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Reads asset files packed into a single memory-mapped archive
+ */
+
+package com.limenfanestudio.sillplateframework.assets;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import com.limenfanestudio.sillplateframework.application.Application;
+import com.limenfanestudio.sillplateframework.logging.LogLevel;
+import com.limenfanestudio.sillplateframework.logging.LogSource;
+
+// Archive of asset files written by AssetArchivePacker - the whole archive
+// is memory-mapped when opened, so stored entries are handed out as slices
+// of the mapping without copying and the operating system pages them in on
+// first use. Deflated entries are inflated into a new buffer on each read.
+// Reading entries is thread-safe.
+//
+// Format, big-endian: a header of the magic number (int), format version
+// (short), reserved (short) and entry count (int), then for each entry the
+// name's length (short) and UTF-8 bytes, compression method (byte), data
+// offset (long), stored size (int), original size (int) and CRC-32 of the
+// original data (int). Entry data follows the index, each entry starting
+// at a multiple of Alignment bytes
+public class AssetArchive {
+	
+	// Identifies the start of an asset archive
+	static final int Magic = 0x53504146;
+	// Version of the asset archive format
+	static final short Version = 1;
+	// Size in bytes of the header at the start of an archive
+	static final int HeaderSize = 12;
+	// Size in bytes of an index entry excluding its name
+	static final int EntrySize = 23;
+	// Alignment in bytes of the start of each entry's data
+	static final int Alignment = 16;
+	// Compression method of entries stored as they are
+	static final byte Stored = 0;
+	// Compression method of entries compressed with raw Deflate
+	static final byte Deflated = 1;
+	// Largest ratio of original to stored size Deflate can produce, bounding
+	// the buffer a corrupt original size could make a read allocate
+	static final long MaxDeflateRatio = 1032L;
+	
+	// The file name / path of the open archive or null if none is open
+	private String fileName = null;
+	// Read-only mapping of the whole archive
+	private MappedByteBuffer mapping = null;
+	// The index of each entry by name
+	private HashMap<String, Integer> indices = null;
+	// The name of each entry in archive order
+	private String[] names = null;
+	// The compression method of each entry
+	private byte[] methods = null;
+	// The offset of each entry's data in the archive
+	private int[] offsets = null;
+	// The stored size of each entry's data
+	private int[] storedSizes = null;
+	// The original size of each entry's data
+	private int[] sizes = null;
+	// The CRC-32 of each entry's original data
+	private int[] checksums = null;
+	
+	/*
+	 * Open and map an archive, reading its index
+	 * Parameter: String fileName - The file name / path of the archive
+	 * Returns: boolean - Whether the archive is valid and was opened
+	 */
+	public synchronized boolean open(String fileName) {
+		close();
+		try (FileChannel channel = FileChannel.open(Paths.get(fileName),
+				StandardOpenOption.READ)) {
+			if (channel.size() > Integer.MAX_VALUE) {
+				Application.Log.write(LogSource.Assets, LogLevel.Warning,
+						"Asset archive \"", fileName, "\" too large to map");
+				return false;
+			}
+			MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY,
+					0L, channel.size());
+			map.order(ByteOrder.BIG_ENDIAN);
+			if (!readIndex(map)) {
+				Application.Log.write(LogSource.Assets, LogLevel.Warning,
+						"Invalid asset archive \"", fileName, "\"");
+				close();
+				return false;
+			}
+			mapping = map;
+		} catch (IOException e) {
+			Application.Log.write(LogSource.Assets, LogLevel.Warning,
+					"Failed to open asset archive \"", fileName, "\"");
+			close();
+			return false;
+		}
+		this.fileName = fileName;
+		Application.Log.write(LogSource.Assets, LogLevel.Information, "Opened ",
+				"asset archive \"", fileName, "\" with ", names.length,
+				" entries");
+		return true;
+	}
+	/*
+	 * Get an entry's data - stored entries are read-only slices of the
+	 * mapping, valid until the archive is closed, and deflated entries are
+	 * inflated into a new buffer and verified against their CRC-32
+	 * Parameter: String name - The name of the entry, with '/' separators
+	 * Returns: ByteBuffer - The entry's data positioned at its start or null
+	 * if there is no such entry or it is corrupt
+	 */
+	public ByteBuffer getEntry(String name) {
+		ByteBuffer data;
+		int size;
+		int checksum;
+		synchronized (this) {
+			Integer index = indices == null ? null : indices.get(name);
+			if (index == null) {
+				return null;
+			}
+			int i = index.intValue();
+			data = mapping.duplicate();
+			data.limit(offsets[i] + storedSizes[i]).position(offsets[i]);
+			data = data.slice();
+			if (methods[i] == Stored) {
+				return data;
+			}
+			size = sizes[i];
+			checksum = checksums[i];
+		}
+		ByteBuffer inflated = ByteBuffer.allocate(size);
+		Inflater inflater = new Inflater(true);
+		try {
+			inflater.setInput(data);
+			while (inflated.hasRemaining() && !inflater.finished()) {
+				if (inflater.inflate(inflated) == 0 && (inflater.needsInput()
+						|| inflater.needsDictionary())) {
+					break;
+				}
+			}
+		} catch (DataFormatException e) {
+			inflated = null;
+		} finally {
+			inflater.end();
+		}
+		if (inflated != null && !inflated.hasRemaining()) {
+			CRC32 crc = new CRC32();
+			crc.update(inflated.array(), 0, size);
+			if ((int)crc.getValue() != checksum) {
+				inflated = null;
+			}
+		}
+		if (inflated == null || inflated.hasRemaining()) {
+			Application.Log.write(LogSource.Assets, LogLevel.Warning,
+					"Corrupt entry \"", name, "\" in asset archive \"",
+					fileName, "\"");
+			return null;
+		}
+		inflated.flip();
+		return inflated;
+	}
+	/*
+	 * Close the archive, invalidating the slices of stored entries once
+	 * they are no longer referenced
+	 */
+	public synchronized void close() {
+		fileName = null;
+		mapping = null;
+		indices = null;
+		names = null;
+	}
+	/*
+	 * Read the header and index of a mapped archive
+	 * Parameter: ByteBuffer map - The mapped archive
+	 * Returns: boolean - Whether the header and index are valid
+	 */
+	private boolean readIndex(ByteBuffer map) {
+		if (map.remaining() < HeaderSize || map.getInt() != Magic
+				|| map.getShort() != Version) {
+			return false;
+		}
+		map.getShort();
+		int count = map.getInt();
+		if (count < 0 || count > (map.remaining() / EntrySize)) {
+			return false;
+		}
+		indices = new HashMap<String, Integer>(count * 2);
+		names = new String[count];
+		methods = new byte[count];
+		offsets = new int[count];
+		storedSizes = new int[count];
+		sizes = new int[count];
+		checksums = new int[count];
+		for (int i = 0; i < count; i++) {
+			if (map.remaining() < 2) {
+				return false;
+			}
+			int nameLength = map.getShort() & 0xFFFF;
+			if (map.remaining() < nameLength + EntrySize - 2) {
+				return false;
+			}
+			byte[] name = new byte[nameLength];
+			map.get(name);
+			names[i] = new String(name, StandardCharsets.UTF_8);
+			methods[i] = map.get();
+			long offset = map.getLong();
+			storedSizes[i] = map.getInt();
+			sizes[i] = map.getInt();
+			checksums[i] = map.getInt();
+			if ((methods[i] != Stored && methods[i] != Deflated)
+					|| offset < 0L || storedSizes[i] < 0 || sizes[i] < 0
+					|| offset + storedSizes[i] > map.capacity()
+					|| (methods[i] == Stored && storedSizes[i] != sizes[i])
+					|| sizes[i] > storedSizes[i] * MaxDeflateRatio + 64L) {
+				return false;
+			}
+			offsets[i] = (int)offset;
+			indices.put(names[i], Integer.valueOf(i));
+		}
+		return true;
+	}
+	
+	/*
+	 * Test whether the archive has an entry
+	 * Parameter: String name - The name of the entry, with '/' separators
+	 * Returns: boolean - Whether the entry exists
+	 */
+	public synchronized boolean contains(String name) {
+		return indices != null && indices.containsKey(name);
+	}
+	/*
+	 * Test whether an archive is open
+	 * Returns: boolean - Whether an archive is open
+	 */
+	public synchronized boolean isOpen() {
+		return mapping != null;
+	}
+	/*
+	 * Get the file name of the open archive
+	 * Returns: String - The file name / path or null if none is open
+	 */
+	public synchronized String getFileName() {
+		return fileName;
+	}
+	/*
+	 * Get the number of entries in the archive
+	 * Returns: int - The number of entries
+	 */
+	public synchronized int getEntryCount() {
+		return names == null ? 0 : names.length;
+	}
+	/*
+	 * Get the names of the entries in the archive
+	 * Returns: List<String> - The names in archive order
+	 */
+	public synchronized List<String> getNames() {
+		List<String> list = new ArrayList<String>();
+		for (int i = 0; names != null && i < names.length; i++) {
+			list.add(names[i]);
+		}
+		return list;
+	}
+	/*
+	 * Get the original size of an entry's data
+	 * Parameter: String name - The name of the entry, with '/' separators
+	 * Returns: int - The size in bytes or -1 if there is no such entry
+	 */
+	public synchronized int getSize(String name) {
+		Integer index = indices == null ? null : indices.get(name);
+		return index == null ? -1 : sizes[index.intValue()];
+	}
+	/*
+	 * Test whether an entry is compressed
+	 * Parameter: String name - The name of the entry, with '/' separators
+	 * Returns: boolean - Whether the entry exists and is compressed
+	 */
+	public synchronized boolean isCompressed(String name) {
+		Integer index = indices == null ? null : indices.get(name);
+		return index != null && methods[index.intValue()] != Stored;
+	}
+	/*
+	 * Get the CRC-32 of an entry's original data, for verifying it
+	 * Parameter: String name - The name of the entry, with '/' separators
+	 * Returns: int - The checksum or 0 if there is no such entry
+	 */
+	public synchronized int getChecksum(String name) {
+		Integer index = indices == null ? null : indices.get(name);
+		return index == null ? 0 : checksums[index.intValue()];
+	}
+	
+}
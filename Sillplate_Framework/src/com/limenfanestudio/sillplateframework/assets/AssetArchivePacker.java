@@ -0,0 +1,192 @@
+/*
+ * File:		AssetArchivePacker.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Command-line tool packing a directory of asset files into an
+ * 				asset archive
+ */
+
+package com.limenfanestudio.sillplateframework.assets;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+// Packs every file under a directory into an archive read by AssetArchive,
+// naming each entry by its path relative to the directory. With Deflate
+// enabled each entry is compressed only when that saves at least a
+// sixteenth of its size, so already compressed formats such as PNG stay
+// stored and can be read without copying
+public class AssetArchivePacker {
+	
+	/*
+	 * Pack a directory into an asset archive
+	 * Usage: AssetArchivePacker [-deflate] directory archive
+	 * Parameter: String[] args - The command-line arguments
+	 */
+	public static void main(String[] args) {
+		boolean deflate = false;
+		List<String> fileNames = new ArrayList<String>();
+		for (int i = 0; i < args.length; i++) {
+			if (args[i].equals("-deflate")) {
+				deflate = true;
+			} else {
+				fileNames.add(args[i]);
+			}
+		}
+		if (fileNames.size() != 2) {
+			System.err.println("Usage: AssetArchivePacker [-deflate] "
+					+ "directory archive");
+			System.exit(1);
+		}
+		if (!pack(fileNames.get(0), fileNames.get(1), deflate, System.out)) {
+			System.err.println("Failed to pack \"" + fileNames.get(0) + "\"");
+			System.exit(1);
+		}
+		System.exit(0);
+	}
+	/*
+	 * Pack every file under a directory into an asset archive
+	 * Parameter: String directory - The path of the directory to pack
+	 * Parameter: String fileName - The file name / path of the archive
+	 * Parameter: boolean deflate - Whether to compress entries with Deflate
+	 * where it saves space
+	 * Parameter: PrintStream out - The stream to report progress to or null
+	 * Returns: boolean - Whether the archive was written completely
+	 */
+	public static boolean pack(String directory, String fileName,
+			boolean deflate, PrintStream out) {
+		Path root = Paths.get(directory).toAbsolutePath().normalize();
+		List<Path> files = new ArrayList<Path>();
+		try (Stream<Path> walk = Files.walk(root)) {
+			Object[] paths = walk.toArray();
+			for (Object path : paths) {
+				if (Files.isRegularFile((Path)path)) {
+					files.add((Path)path);
+				}
+			}
+		} catch (IOException e) {
+			return false;
+		}
+		Collections.sort(files);
+		int count = files.size();
+		byte[][] names = new byte[count][];
+		long indexSize = AssetArchive.HeaderSize;
+		for (int i = 0; i < count; i++) {
+			names[i] = root.relativize(files.get(i)).toString()
+					.replace(File.separatorChar, '/')
+					.getBytes(StandardCharsets.UTF_8);
+			if (names[i].length > 0xFFFF) {
+				return false;
+			}
+			indexSize += AssetArchive.EntrySize + names[i].length;
+		}
+		ByteBuffer index = ByteBuffer.allocate((int)Math.min(indexSize,
+				Integer.MAX_VALUE)).order(ByteOrder.BIG_ENDIAN);
+		index.putInt(AssetArchive.Magic);
+		index.putShort(AssetArchive.Version);
+		index.putShort((short)0);
+		index.putInt(count);
+		long storedTotal = 0L;
+		long originalTotal = 0L;
+		Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+		try (FileChannel channel = FileChannel.open(Paths.get(fileName),
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			long offset = align(indexSize);
+			for (int i = 0; i < count; i++) {
+				byte[] data = Files.readAllBytes(files.get(i));
+				CRC32 crc = new CRC32();
+				crc.update(data);
+				byte method = AssetArchive.Stored;
+				ByteBuffer stored = ByteBuffer.wrap(data);
+				if (deflate && data.length > 0) {
+					ByteBuffer compressed = compress(deflater, data);
+					if (compressed.remaining() <= data.length
+							- data.length / 16) {
+						method = AssetArchive.Deflated;
+						stored = compressed;
+					}
+				}
+				int size = stored.remaining();
+				if (offset + size > Integer.MAX_VALUE) {
+					return false;
+				}
+				index.putShort((short)names[i].length);
+				index.put(names[i]);
+				index.put(method);
+				index.putLong(offset);
+				index.putInt(size);
+				index.putInt(data.length);
+				index.putInt((int)crc.getValue());
+				long position = offset;
+				while (stored.hasRemaining()) {
+					position += channel.write(stored, position);
+				}
+				offset = align(position);
+				storedTotal += size;
+				originalTotal += data.length;
+			}
+			index.flip();
+			long position = 0L;
+			while (index.hasRemaining()) {
+				position += channel.write(index, position);
+			}
+		} catch (IOException e) {
+			return false;
+		} finally {
+			deflater.end();
+		}
+		if (out != null) {
+			out.println("Packed " + count + " files, " + originalTotal
+					+ " bytes stored as " + storedTotal + " bytes");
+		}
+		return true;
+	}
+	/*
+	 * Compress data with raw Deflate
+	 * Parameter: Deflater deflater - The deflater, reset before use
+	 * Parameter: byte[] data - The data to compress
+	 * Returns: ByteBuffer - The compressed data
+	 */
+	private static ByteBuffer compress(Deflater deflater, byte[] data) {
+		deflater.reset();
+		deflater.setInput(data);
+		deflater.finish();
+		byte[] buffer = new byte[data.length + data.length / 1000 + 64];
+		int length = 0;
+		while (!deflater.finished()) {
+			if (length == buffer.length) {
+				byte[] grown = new byte[buffer.length * 2];
+				System.arraycopy(buffer, 0, grown, 0, length);
+				buffer = grown;
+			}
+			length += deflater.deflate(buffer, length, buffer.length - length);
+		}
+		return ByteBuffer.wrap(buffer, 0, length);
+	}
+	/*
+	 * Round an archive offset up to the entry alignment
+	 * Parameter: long offset - The offset in bytes
+	 * Returns: long - The aligned offset
+	 */
+	private static long align(long offset) {
+		return (offset + AssetArchive.Alignment - 1)
+				& -(long)AssetArchive.Alignment;
+	}
+	
+}
@@ -0,0 +1,42 @@
+/*
+ * File:		AssetLoader.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Defines a loader reading one kind of asset from a file
+ */
+
+package com.limenfanestudio.sillplateframework.assets;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+// Loader reading one kind of asset from a file or from an entry of a mounted
+// asset archive - loaders run on the asset system's background threads, so
+// they must not touch scene state
+public interface AssetLoader<T> {
+	
+	/*
+	 * Read an asset from a file
+	 * Parameter: Path path - The path of the file
+	 * Returns: T - The loaded asset
+	 * Throws: IOException - If the file cannot be read or decoded
+	 */
+	public T load(Path path) throws IOException;
+	/*
+	 * Read an asset from an archive entry's data, which may be a slice of
+	 * the archive's mapping and must not be kept after loading
+	 * Parameter: ByteBuffer data - The entry's data, read from its position
+	 * to its limit
+	 * Returns: T - The loaded asset
+	 * Throws: IOException - If the data cannot be decoded
+	 */
+	public T load(ByteBuffer data) throws IOException;
+	/*
+	 * Estimate the memory used by a loaded asset, for bounding the cache
+	 * Parameter: T asset - The loaded asset
+	 * Returns: long - The size of the asset in bytes
+	 */
+	public long getSize(T asset);
+	
+}
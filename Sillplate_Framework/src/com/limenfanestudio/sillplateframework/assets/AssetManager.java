@@ -0,0 +1,451 @@
+/*
+ * File:		AssetManager.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Manages the loading, sharing and caching of a Sillplate
+ * 				Framework application's assets
+ */
+
+package com.limenfanestudio.sillplateframework.assets;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.limenfanestudio.sillplateframework.application.Application;
+import com.limenfanestudio.sillplateframework.application
+		.ApplicationConfiguration;
+import com.limenfanestudio.sillplateframework.logging.LogLevel;
+import com.limenfanestudio.sillplateframework.logging.LogSource;
+
+// The main class of the Sillplate Framework's asset system - assets load on
+// a pool of background threads, and loading a path already loaded or
+// loading returns the same handle with its reference count raised. Released
+// assets stay cached, and when the total size of loaded assets passes the
+// cache size the least recently released ones are evicted. Eviction runs on
+// trim(), which the application calls after each scene change. Paths found
+// in a mounted asset archive load from the archive instead of loose files
+public class AssetManager {
+	
+	// Counter numbering the loader threads
+	private static final AtomicInteger NextThread = new AtomicInteger(0);
+	
+	// The pool of threads loading assets
+	private ExecutorService loaders = null;
+	// The directory asset paths are resolved against
+	private Path rootDirectory = null;
+	// The maximum total size of loaded assets before unreferenced assets are
+	// evicted, in bytes
+	private long cacheSize = 0L;
+	// The total size of loaded assets in bytes
+	private long totalSize = 0L;
+	// Every asset loaded or loading, keyed by resolved path
+	private HashMap<String, Asset<?>> assets = null;
+	// The unreferenced assets, least recently released first
+	private LinkedHashMap<String, Asset<?>> unreferenced = null;
+	// The mounted archives, searched from the most recently mounted
+	private ArrayList<AssetArchive> archives = null;
+	// The loader for image assets
+	private final ImageLoader imageLoader = new ImageLoader();
+	// The loader for audio assets
+	private final AudioLoader audioLoader = new AudioLoader();
+	// The loader for binary assets
+	private final BinaryLoader binaryLoader = new BinaryLoader();
+	
+	/*
+	 * Initialize the Sillplate Framework's asset system
+	 * Parameter: ApplicationConfiguration.AssetConfiguration configuration -
+	 * The configuration settings for the asset system
+	 * Returns: boolean - Whether the asset system was initialized
+	 * successfully
+	 */
+	public boolean initialize(
+			ApplicationConfiguration.AssetConfiguration configuration) {
+		if (configuration.threadCount < 1) {
+			Application.Log.write(LogSource.Assets, LogLevel.Warning,
+					"Invalid asset loader thread count ",
+					configuration.threadCount);
+			return false;
+		}
+		if (configuration.cacheSize < 0L) {
+			Application.Log.write(LogSource.Assets, LogLevel.Warning,
+					"Invalid asset cache size ", configuration.cacheSize);
+			return false;
+		}
+		try {
+			rootDirectory = Paths.get(configuration.rootDirectory)
+					.toAbsolutePath().normalize();
+		} catch (InvalidPathException e) {
+			Application.Log.write(LogSource.Assets, LogLevel.Warning,
+					"Invalid asset root directory \"",
+					configuration.rootDirectory, "\"");
+			return false;
+		}
+		cacheSize = configuration.cacheSize;
+		assets = new HashMap<String, Asset<?>>();
+		unreferenced = new LinkedHashMap<String, Asset<?>>();
+		archives = new ArrayList<AssetArchive>();
+		loaders = Executors.newFixedThreadPool(configuration.threadCount,
+				new ThreadFactory() {
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, "Sillplate Asset Loader "
+						+ NextThread.getAndIncrement());
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		Application.Log.write(LogSource.Assets, LogLevel.Information,
+				"Initialized asset system");
+		return true;
+	}
+	/*
+	 * Mount an open archive, so paths relative to the root directory which
+	 * name its entries load from it - the archive must stay open until it
+	 * is unmounted and nothing is loading from it
+	 * Parameter: AssetArchive archive - The open archive
+	 * Returns: boolean - Whether the archive was mounted
+	 */
+	public synchronized boolean mount(AssetArchive archive) {
+		if (archives == null || archive == null || !archive.isOpen()
+				|| archives.contains(archive)) {
+			Application.Log.write(LogSource.Assets, LogLevel.Warning,
+					"Failed to mount asset archive");
+			return false;
+		}
+		archives.add(archive);
+		Application.Log.write(LogSource.Assets, LogLevel.Information,
+				"Mounted asset archive \"", archive.getFileName(), "\"");
+		return true;
+	}
+	/*
+	 * Unmount an archive - assets already loaded from it stay loaded
+	 * Parameter: AssetArchive archive - The mounted archive
+	 * Returns: boolean - Whether the archive was mounted
+	 */
+	public synchronized boolean unmount(AssetArchive archive) {
+		return archives != null && archives.remove(archive);
+	}
+	/*
+	 * Load an image, or share it if already loaded
+	 * Parameter: String path - The path of the image file, relative to the
+	 * root directory
+	 * Returns: Asset<BufferedImage> - The handle to the image or null if the
+	 * path is invalid or already loaded as another kind of asset
+	 */
+	public Asset<BufferedImage> loadImage(String path) {
+		return load(path, imageLoader);
+	}
+	/*
+	 * Load an audio file, or share it if already loaded
+	 * Parameter: String path - The path of the audio file, relative to the
+	 * root directory
+	 * Returns: Asset<AudioData> - The handle to the audio or null if the
+	 * path is invalid or already loaded as another kind of asset
+	 */
+	public Asset<AudioData> loadAudio(String path) {
+		return load(path, audioLoader);
+	}
+	/*
+	 * Load a file's bytes, or share them if already loaded
+	 * Parameter: String path - The path of the file, relative to the root
+	 * directory
+	 * Returns: Asset<byte[]> - The handle to the bytes or null if the path is
+	 * invalid or already loaded as another kind of asset
+	 */
+	public Asset<byte[]> loadBinary(String path) {
+		return load(path, binaryLoader);
+	}
+	/*
+	 * Load an asset with a loader in the background, or share it if the
+	 * path is already loaded - the returned handle must be released once
+	 * no longer needed
+	 * Parameter: String path - The path of the file, relative to the root
+	 * directory
+	 * Parameter: AssetLoader<T> loader - The loader reading the asset
+	 * Returns: Asset<T> - The handle to the asset or null if the path is
+	 * invalid, outside the root directory or already loaded with a
+	 * different kind of loader
+	 */
+	@SuppressWarnings("unchecked")
+	public synchronized <T> Asset<T> load(String path,
+			final AssetLoader<T> loader) {
+		if (loaders == null) {
+			Application.Log.write(LogSource.Assets, LogLevel.Warning,
+					"Asset system not initialized");
+			return null;
+		}
+		final Path resolved;
+		try {
+			resolved = rootDirectory.resolve(path).normalize();
+		} catch (InvalidPathException e) {
+			Application.Log.write(LogSource.Assets, LogLevel.Warning,
+					"Invalid asset path \"", path, "\"");
+			return null;
+		}
+		// Absolute paths and paths climbing out with ".." resolve outside
+		// the root directory
+		if (!resolved.startsWith(rootDirectory)) {
+			Application.Log.write(LogSource.Assets, LogLevel.Warning,
+					"Asset path \"", path, "\" is outside the root directory");
+			return null;
+		}
+		String key = resolved.toString();
+		Asset<?> existing = assets.get(key);
+		if (existing != null) {
+			if (existing.loader.getClass() != loader.getClass()) {
+				Application.Log.write(LogSource.Assets, LogLevel.Warning,
+						"Asset \"", key, "\" already loaded by ",
+						existing.loader.getClass().getSimpleName());
+				return null;
+			}
+			if (existing.referenceCount++ == 0) {
+				unreferenced.remove(key);
+			}
+			return (Asset<T>)existing;
+		}
+		final AssetArchive archive = findArchive(resolved);
+		final String entry = archive == null ? null : getEntryName(resolved);
+		final Asset<T> asset = new Asset<T>(this, key, loader);
+		asset.referenceCount = 1;
+		assets.put(key, asset);
+		loaders.execute(new Runnable() {
+			public void run() {
+				if (asset.future.isDone()) {
+					return;
+				}
+				try {
+					T value;
+					if (archive == null) {
+						value = loader.load(resolved);
+					} else {
+						ByteBuffer data = archive.getEntry(entry);
+						if (data == null) {
+							throw new IOException("Unreadable archive entry "
+									+ entry);
+						}
+						value = loader.load(data);
+					}
+					asset.size = loader.getSize(value);
+					if (asset.future.complete(value)) {
+						added(asset);
+					}
+				} catch (IOException e) {
+					asset.future.completeExceptionally(e);
+					failed(asset, e);
+				} catch (RuntimeException e) {
+					asset.future.completeExceptionally(e);
+					failed(asset, e);
+				}
+			}
+		});
+		return asset;
+	}
+	/*
+	 * Release one load of an asset, letting it be evicted once nothing
+	 * references it
+	 * Parameter: Asset<?> asset - The handle to the asset
+	 * Returns: boolean - Whether the asset was referenced
+	 */
+	public synchronized boolean release(Asset<?> asset) {
+		if (asset == null || asset.referenceCount == 0
+				|| assets == null || assets.get(asset.getPath()) != asset) {
+			return false;
+		}
+		if (--asset.referenceCount == 0) {
+			if (asset.isFailed()) {
+				assets.remove(asset.getPath());
+			} else {
+				unreferenced.put(asset.getPath(), asset);
+			}
+		}
+		return true;
+	}
+	/*
+	 * Evict the least recently released unreferenced assets until the total
+	 * size of loaded assets fits the cache size, skipping assets still
+	 * loading - called after each scene change, once the new scene has
+	 * loaded its assets
+	 * Returns: int - The number of assets evicted
+	 */
+	public synchronized int trim() {
+		if (assets == null) {
+			return 0;
+		}
+		int evicted = 0;
+		Iterator<Asset<?>> iterator = unreferenced.values().iterator();
+		while (totalSize > cacheSize && iterator.hasNext()) {
+			Asset<?> asset = iterator.next();
+			// Assets still loading count nothing yet, so they are kept until
+			// they finish and a later trim() can evict them
+			if (!asset.future.isDone()) {
+				continue;
+			}
+			iterator.remove();
+			assets.remove(asset.getPath());
+			evict(asset);
+			evicted++;
+		}
+		if (evicted > 0) {
+			Application.Log.write(LogSource.Assets, LogLevel.Debug, "Evicted ",
+					evicted, " assets, ", totalSize, " bytes remain loaded");
+		}
+		return evicted;
+	}
+	/*
+	 * Stop the loader threads and drop every asset
+	 */
+	public void destroy() {
+		ExecutorService pool;
+		synchronized (this) {
+			pool = loaders;
+			loaders = null;
+		}
+		if (pool != null) {
+			pool.shutdownNow();
+			try {
+				pool.awaitTermination(10L, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		synchronized (this) {
+			if (assets != null) {
+				for (Asset<?> asset : assets.values()) {
+					evict(asset);
+				}
+				assets.clear();
+				unreferenced.clear();
+				archives.clear();
+			}
+		}
+	}
+	/*
+	 * Find the most recently mounted archive holding a path
+	 * Parameter: Path resolved - The resolved path of the asset
+	 * Returns: AssetArchive - The archive or null if none holds the path
+	 */
+	private AssetArchive findArchive(Path resolved) {
+		if (archives.isEmpty()) {
+			return null;
+		}
+		String entry = getEntryName(resolved);
+		for (int i = archives.size() - 1; entry != null && i >= 0; i--) {
+			if (archives.get(i).contains(entry)) {
+				return archives.get(i);
+			}
+		}
+		return null;
+	}
+	/*
+	 * Get the archive entry name of a path
+	 * Parameter: Path resolved - The resolved path of the asset
+	 * Returns: String - The path relative to the root directory with '/'
+	 * separators or null if the path is outside the root directory
+	 */
+	private String getEntryName(Path resolved) {
+		if (!resolved.startsWith(rootDirectory)) {
+			return null;
+		}
+		return rootDirectory.relativize(resolved).toString()
+				.replace(File.separatorChar, '/');
+	}
+	/*
+	 * Count a loaded asset's size towards the cache - called on a loader
+	 * thread
+	 * Parameter: Asset<?> asset - The loaded asset
+	 */
+	private synchronized void added(Asset<?> asset) {
+		if (asset.evicted) {
+			return;
+		}
+		totalSize += asset.size;
+		asset.counted = true;
+		Application.Log.write(LogSource.Assets, LogLevel.Debug, "Loaded ",
+				"asset \"", asset.getPath(), "\"");
+	}
+	/*
+	 * Forget an asset which failed to load once it is unreferenced - called
+	 * on a loader thread
+	 * Parameter: Asset<?> asset - The asset which failed to load
+	 * Parameter: Exception exception - The reason the asset failed
+	 */
+	private synchronized void failed(Asset<?> asset, Exception exception) {
+		Application.Log.write(LogSource.Assets, LogLevel.Warning, "Failed to ",
+				"load asset \"", asset.getPath(), "\": ", exception);
+		if (asset.referenceCount == 0 && assets != null
+				&& assets.get(asset.getPath()) == asset) {
+			assets.remove(asset.getPath());
+			unreferenced.remove(asset.getPath());
+		}
+	}
+	/*
+	 * Drop an asset's contents, failing its future if still loading
+	 * Parameter: Asset<?> asset - The asset to drop
+	 */
+	private void evict(Asset<?> asset) {
+		Object value = asset.get();
+		asset.evicted = true;
+		if (value instanceof BufferedImage) {
+			((BufferedImage)value).flush();
+		}
+		asset.future.completeExceptionally(new CancellationException(
+				"Asset evicted"));
+		if (asset.counted) {
+			totalSize -= asset.size;
+			asset.counted = false;
+		}
+	}
+	
+	/*
+	 * Get the number of assets loaded or loading
+	 * Returns: int - The number of assets
+	 */
+	public synchronized int getAssetCount() {
+		return assets == null ? 0 : assets.size();
+	}
+	/*
+	 * Get the total size of the loaded assets
+	 * Returns: long - The size in bytes
+	 */
+	public synchronized long getTotalSize() {
+		return totalSize;
+	}
+	/*
+	 * Get the maximum total size of loaded assets before unreferenced assets
+	 * are evicted
+	 * Returns: long - The cache size in bytes
+	 */
+	public long getCacheSize() {
+		return cacheSize;
+	}
+	/*
+	 * Set the maximum total size of loaded assets before unreferenced assets
+	 * are evicted on the next trim()
+	 * Parameter: long cacheSize - The cache size in bytes
+	 * Returns: boolean - Whether the cache size is valid
+	 */
+	public boolean setCacheSize(long cacheSize) {
+		if (cacheSize < 0L) {
+			Application.Log.write(LogSource.Assets, LogLevel.Warning,
+					"Invalid asset cache size ", cacheSize);
+			return false;
+		}
+		this.cacheSize = cacheSize;
+		return true;
+	}
+	
+}
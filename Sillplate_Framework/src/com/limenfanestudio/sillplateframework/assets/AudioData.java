@@ -0,0 +1,54 @@
+/*
+ * File:		AudioData.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Defines decoded audio samples with their format
+ */
+
+package com.limenfanestudio.sillplateframework.assets;
+
+import javax.sound.sampled.AudioFormat;
+
+// Decoded audio samples held in memory with their format, ready to be
+// opened on a Clip or written to a SourceDataLine
+public class AudioData {
+	
+	// The format of the samples
+	private final AudioFormat format;
+	// The samples
+	private final byte[] data;
+	
+	/*
+	 * Construct audio data
+	 * Parameter: AudioFormat format - The format of the samples
+	 * Parameter: byte[] data - The samples
+	 */
+	public AudioData(AudioFormat format, byte[] data) {
+		this.format = format;
+		this.data = data;
+	}
+	
+	/*
+	 * Get the format of the samples
+	 * Returns: AudioFormat - The audio format
+	 */
+	public AudioFormat getFormat() {
+		return format;
+	}
+	/*
+	 * Get the samples
+	 * Returns: byte[] - The samples, which must not be modified
+	 */
+	public byte[] getData() {
+		return data;
+	}
+	/*
+	 * Get the length of the audio
+	 * Returns: double - The duration in seconds
+	 */
+	public double getDuration() {
+		return data.length / (double)format.getFrameSize()
+				/ format.getFrameRate();
+	}
+	
+}
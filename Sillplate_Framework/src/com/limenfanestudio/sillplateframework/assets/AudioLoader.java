@@ -0,0 +1,70 @@
+/*
+ * File:		AudioLoader.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Loads audio files as decoded samples
+ */
+
+package com.limenfanestudio.sillplateframework.assets;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+
+// Loader decoding audio files supported by the Java Sound API, such as WAV
+// and AIFF, into samples held in memory
+public class AudioLoader implements AssetLoader<AudioData> {
+	
+	/*
+	 * Read and decode an audio file
+	 * Parameter: Path path - The path of the file
+	 * Returns: AudioData - The decoded samples
+	 * Throws: IOException - If the file cannot be read or decoded
+	 */
+	public AudioData load(Path path) throws IOException {
+		AudioInputStream stream = null;
+		try {
+			stream = AudioSystem.getAudioInputStream(path.toFile());
+			return new AudioData(stream.getFormat(), stream.readAllBytes());
+		} catch (UnsupportedAudioFileException e) {
+			throw new IOException("Unsupported audio file " + path, e);
+		} finally {
+			if (stream != null) {
+				stream.close();
+			}
+		}
+	}
+	/*
+	 * Read and decode audio from an archive entry
+	 * Parameter: ByteBuffer data - The entry's data
+	 * Returns: AudioData - The decoded samples
+	 * Throws: IOException - If the data cannot be decoded
+	 */
+	public AudioData load(ByteBuffer data) throws IOException {
+		AudioInputStream stream = null;
+		try {
+			stream = AudioSystem.getAudioInputStream(
+					new ByteBufferInputStream(data));
+			return new AudioData(stream.getFormat(), stream.readAllBytes());
+		} catch (UnsupportedAudioFileException e) {
+			throw new IOException("Unsupported audio archive entry", e);
+		} finally {
+			if (stream != null) {
+				stream.close();
+			}
+		}
+	}
+	/*
+	 * Get the size of decoded audio
+	 * Parameter: AudioData asset - The decoded samples
+	 * Returns: long - The length of the samples in bytes
+	 */
+	public long getSize(AudioData asset) {
+		return asset.getData().length;
+	}
+	
+}
@@ -0,0 +1,48 @@
+/*
+ * File:		BinaryLoader.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Loads files as raw byte arrays
+ */
+
+package com.limenfanestudio.sillplateframework.assets;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Loader reading a whole file into a byte array - archive entries are
+// copied out of the mapping, so use AssetArchive.getEntry() directly for
+// zero-copy access
+public class BinaryLoader implements AssetLoader<byte[]> {
+	
+	/*
+	 * Read a file's bytes
+	 * Parameter: Path path - The path of the file
+	 * Returns: byte[] - The contents of the file
+	 * Throws: IOException - If the file cannot be read
+	 */
+	public byte[] load(Path path) throws IOException {
+		return Files.readAllBytes(path);
+	}
+	/*
+	 * Copy an archive entry's bytes
+	 * Parameter: ByteBuffer data - The entry's data
+	 * Returns: byte[] - The contents of the entry
+	 */
+	public byte[] load(ByteBuffer data) {
+		byte[] bytes = new byte[data.remaining()];
+		data.get(bytes);
+		return bytes;
+	}
+	/*
+	 * Get the size of a loaded file
+	 * Parameter: byte[] asset - The contents of the file
+	 * Returns: long - The length of the contents in bytes
+	 */
+	public long getSize(byte[] asset) {
+		return asset.length;
+	}
+	
+}
@@ -0,0 +1,70 @@
+/*
+ * File:		ByteBufferInputStream.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Defines an input stream reading from a byte buffer
+ */
+
+package com.limenfanestudio.sillplateframework.assets;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+// Input stream reading the remaining bytes of a byte buffer, for decoders
+// which only accept streams - supports mark and reset
+class ByteBufferInputStream extends InputStream {
+	
+	// The buffer read from
+	private final ByteBuffer buffer;
+	// The position of the buffer when mark() was last called
+	private int mark = 0;
+	
+	/*
+	 * Construct a stream over a byte buffer's remaining bytes
+	 * Parameter: ByteBuffer buffer - The buffer, which the stream advances
+	 */
+	ByteBufferInputStream(ByteBuffer buffer) {
+		this.buffer = buffer;
+		mark = buffer.position();
+	}
+	
+	@Override
+	public int read() {
+		return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+	}
+	@Override
+	public int read(byte[] bytes, int offset, int length) {
+		if (length == 0) {
+			return 0;
+		}
+		if (!buffer.hasRemaining()) {
+			return -1;
+		}
+		length = Math.min(length, buffer.remaining());
+		buffer.get(bytes, offset, length);
+		return length;
+	}
+	@Override
+	public long skip(long count) {
+		int skipped = (int)Math.max(0L, Math.min(count, buffer.remaining()));
+		buffer.position(buffer.position() + skipped);
+		return skipped;
+	}
+	@Override
+	public int available() {
+		return buffer.remaining();
+	}
+	@Override
+	public boolean markSupported() {
+		return true;
+	}
+	@Override
+	public synchronized void mark(int limit) {
+		mark = buffer.position();
+	}
+	@Override
+	public synchronized void reset() {
+		buffer.position(mark);
+	}
+	
+}
@@ -0,0 +1,88 @@
+/*
+ * File:		ImageLoader.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Loads image files as display-compatible images
+ */
+
+package com.limenfanestudio.sillplateframework.assets;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+import javax.imageio.ImageIO;
+
+// Loader decoding image files with ImageIO and copying them into images
+// compatible with the default screen, so they can be cached in video memory
+// and drawn without conversion - plain translucent images are used when
+// there is no display
+public class ImageLoader implements AssetLoader<BufferedImage> {
+	
+	/*
+	 * Read and convert an image file
+	 * Parameter: Path path - The path of the file
+	 * Returns: BufferedImage - The compatible image
+	 * Throws: IOException - If the file cannot be read or has no decoder
+	 */
+	public BufferedImage load(Path path) throws IOException {
+		BufferedImage image = ImageIO.read(path.toFile());
+		if (image == null) {
+			throw new IOException("No image decoder for " + path);
+		}
+		return convert(image);
+	}
+	/*
+	 * Read and convert an image from an archive entry
+	 * Parameter: ByteBuffer data - The entry's data
+	 * Returns: BufferedImage - The compatible image
+	 * Throws: IOException - If the data has no decoder
+	 */
+	public BufferedImage load(ByteBuffer data) throws IOException {
+		BufferedImage image = ImageIO.read(new ByteBufferInputStream(data));
+		if (image == null) {
+			throw new IOException("No image decoder for archive entry");
+		}
+		return convert(image);
+	}
+	/*
+	 * Copy a decoded image into an image compatible with the default screen
+	 * Parameter: BufferedImage image - The decoded image
+	 * Returns: BufferedImage - The compatible image
+	 */
+	private BufferedImage convert(BufferedImage image) {
+		BufferedImage compatible;
+		if (GraphicsEnvironment.isHeadless()) {
+			compatible = new BufferedImage(image.getWidth(), image.getHeight(),
+					BufferedImage.TYPE_INT_ARGB_PRE);
+		} else {
+			GraphicsConfiguration configuration = GraphicsEnvironment
+					.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+					.getDefaultConfiguration();
+			compatible = configuration.createCompatibleImage(image.getWidth(),
+					image.getHeight(), image.getColorModel().hasAlpha()
+					? Transparency.TRANSLUCENT : Transparency.OPAQUE);
+		}
+		Graphics2D graphics = compatible.createGraphics();
+		graphics.setComposite(AlphaComposite.Src);
+		graphics.drawImage(image, 0, 0, null);
+		graphics.dispose();
+		return compatible;
+	}
+	/*
+	 * Estimate the memory used by an image
+	 * Parameter: BufferedImage asset - The image
+	 * Returns: long - The size of the image's pixels in bytes
+	 */
+	public long getSize(BufferedImage asset) {
+		return (long)asset.getWidth() * asset.getHeight()
+				* Math.max(1, asset.getColorModel().getPixelSize() / 8);
+	}
+	
+}
@@ -32,6 +32,27 @@ public class Vector2D {
 		this.x = x;
 		this.y = y;
 	}
+	/*
+	 * Set the components of this vector
+	 * Parameter: double x - The new horizontal component
+	 * Parameter: double y - The new vertical component
+	 * Returns: Vector2D - This vector
+	 */
+	public Vector2D set(double x, double y) {
+		this.x = x;
+		this.y = y;
+		return this;
+	}
+	/*
+	 * Set the components of this vector to those of another
+	 * Parameter: Vector2D v - The vector to copy
+	 * Returns: Vector2D - This vector
+	 */
+	public Vector2D set(Vector2D v) {
+		x = v.x;
+		y = v.y;
+		return this;
+	}
 	/*
 	 * Compute the sum of this vector with another
 	 * Parameter: Vector2D v - The vector to add to this one
@@ -40,6 +61,26 @@ public class Vector2D {
 	public Vector2D add(Vector2D v) {
 		return new Vector2D(x + v.x, y + v.y);
 	}
+	/*
+	 * Compute the sum of this vector with another into a destination vector
+	 * Parameter: Vector2D v - The vector to add to this one
+	 * Parameter: Vector2D destination - The vector to store the sum in, which
+	 * may be this vector or v
+	 * Returns: Vector2D - The destination vector
+	 */
+	public Vector2D add(Vector2D v, Vector2D destination) {
+		return destination.set(x + v.x, y + v.y);
+	}
+	/*
+	 * Add another vector to this one
+	 * Parameter: Vector2D v - The vector to add to this one
+	 * Returns: Vector2D - This vector
+	 */
+	public Vector2D addLocal(Vector2D v) {
+		x += v.x;
+		y += v.y;
+		return this;
+	}
 	/*
 	 * Compute the difference of this vector and another
 	 * Parameter: Vector2D v - The vector to subtract from this one
@@ -48,6 +89,27 @@ public class Vector2D {
 	public Vector2D subtract(Vector2D v) {
 		return new Vector2D(x - v.x, y - v.y);
 	}
+	/*
+	 * Compute the difference of this vector and another into a destination
+	 * vector
+	 * Parameter: Vector2D v - The vector to subtract from this one
+	 * Parameter: Vector2D destination - The vector to store the difference in,
+	 * which may be this vector or v
+	 * Returns: Vector2D - The destination vector
+	 */
+	public Vector2D subtract(Vector2D v, Vector2D destination) {
+		return destination.set(x - v.x, y - v.y);
+	}
+	/*
+	 * Subtract another vector from this one
+	 * Parameter: Vector2D v - The vector to subtract from this one
+	 * Returns: Vector2D - This vector
+	 */
+	public Vector2D subtractLocal(Vector2D v) {
+		x -= v.x;
+		y -= v.y;
+		return this;
+	}
 	/*
 	 * Compute the scalar product of this vector and a value
 	 * Parameter: double a - The value to scale this vector by
@@ -56,6 +118,27 @@ public class Vector2D {
 	public Vector2D scale(double a) {
 		return new Vector2D(x * a, y * a);
 	}
+	/*
+	 * Compute the scalar product of this vector and a value into a
+	 * destination vector
+	 * Parameter: double a - The value to scale this vector by
+	 * Parameter: Vector2D destination - The vector to store the product in,
+	 * which may be this vector
+	 * Returns: Vector2D - The destination vector
+	 */
+	public Vector2D scale(double a, Vector2D destination) {
+		return destination.set(x * a, y * a);
+	}
+	/*
+	 * Scale this vector by a value
+	 * Parameter: double a - The value to scale this vector by
+	 * Returns: Vector2D - This vector
+	 */
+	public Vector2D scaleLocal(double a) {
+		x *= a;
+		y *= a;
+		return this;
+	}
 	/*
 	 * Multiply the elements of this vector and another
 	 * Parameter: Vector2D v - The vector to multiply with this vector's
@@ -65,6 +148,29 @@ public class Vector2D {
 	public Vector2D multiply(Vector2D v) {
 		return new Vector2D(x * v.x, y * v.y);
 	}
+	/*
+	 * Multiply the elements of this vector and another into a destination
+	 * vector
+	 * Parameter: Vector2D v - The vector to multiply with this vector's
+	 * elements
+	 * Parameter: Vector2D destination - The vector to store the product in,
+	 * which may be this vector or v
+	 * Returns: Vector2D - The destination vector
+	 */
+	public Vector2D multiply(Vector2D v, Vector2D destination) {
+		return destination.set(x * v.x, y * v.y);
+	}
+	/*
+	 * Multiply the elements of this vector by those of another
+	 * Parameter: Vector2D v - The vector to multiply with this vector's
+	 * elements
+	 * Returns: Vector2D - This vector
+	 */
+	public Vector2D multiplyLocal(Vector2D v) {
+		x *= v.x;
+		y *= v.y;
+		return this;
+	}
 	/*
 	 * Compute the sum of this vector's components
 	 * Returns: double - The sum of this vector's components
@@ -79,13 +185,39 @@ public class Vector2D {
 	public double magnitude() {
 		return Math.sqrt((x * x) + (y * y));
 	}
+	/*
+	 * Compute the squared magnitude of this vector, avoiding a square root
+	 * Returns: double - The squared magnitude of this vector
+	 */
+	public double magnitudeSquared() {
+		return (x * x) + (y * y);
+	}
 	/*
 	 * Compute the dot product of this vector and another
 	 * Parameter: Vector2D v - The vector to multiply with this one
 	 * Returns: double - The dot product of this vector and v
 	 */
 	public double dot(Vector2D v) {
-		return multiply(v).sum();
+		return (x * v.x) + (y * v.y);
+	}
+	/*
+	 * Compute the distance between this vector and another as points
+	 * Parameter: Vector2D v - The other vector
+	 * Returns: double - The distance between this vector and v
+	 */
+	public double distance(Vector2D v) {
+		return Math.sqrt(distanceSquared(v));
+	}
+	/*
+	 * Compute the squared distance between this vector and another as points,
+	 * avoiding a square root
+	 * Parameter: Vector2D v - The other vector
+	 * Returns: double - The squared distance between this vector and v
+	 */
+	public double distanceSquared(Vector2D v) {
+		double dx = x - v.x;
+		double dy = y - v.y;
+		return (dx * dx) + (dy * dy);
 	}
 	/*
 	 * Compute a vector with length 1 and the same direction as this one
@@ -94,6 +226,85 @@ public class Vector2D {
 	public Vector2D normalize() {
 		return scale(1.0d / magnitude());
 	}
+	/*
+	 * Compute a vector with length 1 and the same direction as this one into a
+	 * destination vector
+	 * Parameter: Vector2D destination - The vector to store the normalized
+	 * vector in, which may be this vector
+	 * Returns: Vector2D - The destination vector
+	 */
+	public Vector2D normalize(Vector2D destination) {
+		return scale(1.0d / magnitude(), destination);
+	}
+	/*
+	 * Scale this vector to length 1, keeping its direction
+	 * Returns: Vector2D - This vector
+	 */
+	public Vector2D normalizeLocal() {
+		return scaleLocal(1.0d / magnitude());
+	}
+	/*
+	 * Compute the linear interpolation between this vector and another
+	 * Parameter: Vector2D v - The vector to interpolate towards
+	 * Parameter: double t - The interpolation factor, where 0 gives this
+	 * vector and 1 gives v
+	 * Returns: Vector2D - The interpolated vector
+	 */
+	public Vector2D lerp(Vector2D v, double t) {
+		return lerp(v, t, new Vector2D());
+	}
+	/*
+	 * Compute the linear interpolation between this vector and another into a
+	 * destination vector
+	 * Parameter: Vector2D v - The vector to interpolate towards
+	 * Parameter: double t - The interpolation factor, where 0 gives this
+	 * vector and 1 gives v
+	 * Parameter: Vector2D destination - The vector to store the interpolated
+	 * vector in, which may be this vector or v
+	 * Returns: Vector2D - The destination vector
+	 */
+	public Vector2D lerp(Vector2D v, double t, Vector2D destination) {
+		return destination.set(x + ((v.x - x) * t), y + ((v.y - y) * t));
+	}
+	/*
+	 * Move this vector towards another by linear interpolation
+	 * Parameter: Vector2D v - The vector to interpolate towards
+	 * Parameter: double t - The interpolation factor, where 0 keeps this
+	 * vector and 1 gives v
+	 * Returns: Vector2D - This vector
+	 */
+	public Vector2D lerpLocal(Vector2D v, double t) {
+		return lerp(v, t, this);
+	}
+	/*
+	 * Compute this vector rotated about the origin
+	 * Parameter: double angle - The angle to rotate by in radians,
+	 * anticlockwise from the positive horizontal towards the positive vertical
+	 * Returns: Vector2D - The rotated vector
+	 */
+	public Vector2D rotate(double angle) {
+		return rotate(angle, new Vector2D());
+	}
+	/*
+	 * Compute this vector rotated about the origin into a destination vector
+	 * Parameter: double angle - The angle to rotate by in radians
+	 * Parameter: Vector2D destination - The vector to store the rotated vector
+	 * in, which may be this vector
+	 * Returns: Vector2D - The destination vector
+	 */
+	public Vector2D rotate(double angle, Vector2D destination) {
+		double cos = Math.cos(angle);
+		double sin = Math.sin(angle);
+		return destination.set((x * cos) - (y * sin), (x * sin) + (y * cos));
+	}
+	/*
+	 * Rotate this vector about the origin
+	 * Parameter: double angle - The angle to rotate by in radians
+	 * Returns: Vector2D - This vector
+	 */
+	public Vector2D rotateLocal(double angle) {
+		return rotate(angle, this);
+	}
 	/*
 	 * Compute the angle/direction of this vector
 	 * Returns: double - The angle of this vector off the horizontal in radians
@@ -0,0 +1,314 @@
+/*
+ * File:		Vector2DArray.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Defines a growable array of 2D floating-point vectors stored as
+ * 				parallel component arrays, with bulk mathematical operations
+ */
+
+package com.limenfanestudio.sillplateframework.data;
+
+import java.util.Arrays;
+
+// Array of 2D floating-point vectors stored as a structure of arrays - one
+// array of horizontal and one of vertical components - so bulk operations
+// run as simple loops over contiguous memory which the JIT compiler can
+// vectorize
+public class Vector2DArray {
+	
+	// The horizontal components of the vectors
+	private double[] x = null;
+	// The vertical components of the vectors
+	private double[] y = null;
+	// The number of vectors in use
+	private int size = 0;
+	
+	/*
+	 * Construct an empty vector array
+	 * Parameter: int capacity - The number of vectors to allocate space for
+	 */
+	public Vector2DArray(int capacity) {
+		x = new double[Math.max(1, capacity)];
+		y = new double[x.length];
+	}
+	
+	/*
+	 * Append a vector to the end of the array, growing it if needed
+	 * Parameter: double vx - The horizontal component of the vector
+	 * Parameter: double vy - The vertical component of the vector
+	 * Returns: int - The index of the new vector
+	 */
+	public int add(double vx, double vy) {
+		if (size == x.length) {
+			ensureCapacity(size * 2);
+		}
+		x[size] = vx;
+		y[size] = vy;
+		return size++;
+	}
+	/*
+	 * Append a vector to the end of the array, growing it if needed
+	 * Parameter: Vector2D v - The vector to copy into the array
+	 * Returns: int - The index of the new vector
+	 */
+	public int add(Vector2D v) {
+		return add(v.x, v.y);
+	}
+	/*
+	 * Remove a vector by moving the last vector into its place
+	 * Parameter: int index - The index of the vector to remove
+	 * Returns: boolean - Whether the index is valid
+	 */
+	public boolean removeSwap(int index) {
+		if (index < 0 || index >= size) {
+			return false;
+		}
+		size--;
+		x[index] = x[size];
+		y[index] = y[size];
+		return true;
+	}
+	/*
+	 * Remove every vector from the array, keeping its capacity
+	 */
+	public void clear() {
+		size = 0;
+	}
+	/*
+	 * Grow the array's capacity to hold at least a number of vectors
+	 * Parameter: int capacity - The number of vectors to hold
+	 */
+	public void ensureCapacity(int capacity) {
+		if (capacity > x.length) {
+			x = Arrays.copyOf(x, capacity);
+			y = Arrays.copyOf(y, capacity);
+		}
+	}
+	/*
+	 * Copy a vector out of the array
+	 * Parameter: int index - The index of the vector
+	 * Parameter: Vector2D destination - The vector to copy into
+	 * Returns: Vector2D - The destination vector
+	 */
+	public Vector2D get(int index, Vector2D destination) {
+		return destination.set(x[index], y[index]);
+	}
+	/*
+	 * Set a vector in the array
+	 * Parameter: int index - The index of the vector
+	 * Parameter: double vx - The new horizontal component
+	 * Parameter: double vy - The new vertical component
+	 */
+	public void set(int index, double vx, double vy) {
+		x[index] = vx;
+		y[index] = vy;
+	}
+	/*
+	 * Add a constant vector to every vector in a range
+	 * Parameter: int from - The index of the first vector
+	 * Parameter: int to - The index after the last vector
+	 * Parameter: double dx - The horizontal component to add
+	 * Parameter: double dy - The vertical component to add
+	 * Returns: boolean - Whether the range is valid
+	 */
+	public boolean translate(int from, int to, double dx, double dy) {
+		if (!isRange(from, to)) {
+			return false;
+		}
+		double[] x = this.x;
+		double[] y = this.y;
+		for (int i = from; i < to; i++) {
+			x[i] += dx;
+			y[i] += dy;
+		}
+		return true;
+	}
+	/*
+	 * Add the vectors of another array to the vectors in a range, element by
+	 * element
+	 * Parameter: Vector2DArray v - The array of vectors to add, indexed the
+	 * same as this array
+	 * Parameter: int from - The index of the first vector
+	 * Parameter: int to - The index after the last vector
+	 * Returns: boolean - Whether the range is valid for both arrays
+	 */
+	public boolean add(Vector2DArray v, int from, int to) {
+		return addScaled(v, 1.0d, from, to);
+	}
+	/*
+	 * Add the scaled vectors of another array to the vectors in a range,
+	 * element by element - for example positions plus velocities times a
+	 * timestep
+	 * Parameter: Vector2DArray v - The array of vectors to add, indexed the
+	 * same as this array
+	 * Parameter: double a - The value to scale the added vectors by
+	 * Parameter: int from - The index of the first vector
+	 * Parameter: int to - The index after the last vector
+	 * Returns: boolean - Whether the range is valid for both arrays
+	 */
+	public boolean addScaled(Vector2DArray v, double a, int from, int to) {
+		if (!isRange(from, to) || !v.isRange(from, to)) {
+			return false;
+		}
+		double[] x = this.x;
+		double[] y = this.y;
+		double[] vx = v.x;
+		double[] vy = v.y;
+		for (int i = from; i < to; i++) {
+			x[i] += vx[i] * a;
+			y[i] += vy[i] * a;
+		}
+		return true;
+	}
+	/*
+	 * Scale every vector in a range by a value
+	 * Parameter: int from - The index of the first vector
+	 * Parameter: int to - The index after the last vector
+	 * Parameter: double a - The value to scale the vectors by
+	 * Returns: boolean - Whether the range is valid
+	 */
+	public boolean scale(int from, int to, double a) {
+		if (!isRange(from, to)) {
+			return false;
+		}
+		double[] x = this.x;
+		double[] y = this.y;
+		for (int i = from; i < to; i++) {
+			x[i] *= a;
+			y[i] *= a;
+		}
+		return true;
+	}
+	/*
+	 * Scale every vector in a range to length 1, keeping its direction
+	 * Parameter: int from - The index of the first vector
+	 * Parameter: int to - The index after the last vector
+	 * Returns: boolean - Whether the range is valid
+	 */
+	public boolean normalize(int from, int to) {
+		if (!isRange(from, to)) {
+			return false;
+		}
+		double[] x = this.x;
+		double[] y = this.y;
+		for (int i = from; i < to; i++) {
+			double scale = 1.0d / Math.sqrt((x[i] * x[i]) + (y[i] * y[i]));
+			x[i] *= scale;
+			y[i] *= scale;
+		}
+		return true;
+	}
+	/*
+	 * Compute the dot products of the vectors in a range with those of
+	 * another array, element by element
+	 * Parameter: Vector2DArray v - The array of vectors to multiply with,
+	 * indexed the same as this array
+	 * Parameter: int from - The index of the first vector
+	 * Parameter: int to - The index after the last vector
+	 * Parameter: double[] destination - The array to store the dot products
+	 * in, at the same indices as the vectors
+	 * Returns: boolean - Whether the range is valid for every array
+	 */
+	public boolean dot(Vector2DArray v, int from, int to,
+			double[] destination) {
+		if (!isRange(from, to) || !v.isRange(from, to)
+				|| to > destination.length) {
+			return false;
+		}
+		double[] x = this.x;
+		double[] y = this.y;
+		double[] vx = v.x;
+		double[] vy = v.y;
+		for (int i = from; i < to; i++) {
+			destination[i] = (x[i] * vx[i]) + (y[i] * vy[i]);
+		}
+		return true;
+	}
+	/*
+	 * Apply an affine transform to every vector in a range, computing
+	 * (m00 * x + m01 * y + tx, m10 * x + m11 * y + ty)
+	 * Parameter: int from - The index of the first vector
+	 * Parameter: int to - The index after the last vector
+	 * Parameter: double m00 - The horizontal scale / rotation element
+	 * Parameter: double m01 - The horizontal shear / rotation element
+	 * Parameter: double m10 - The vertical shear / rotation element
+	 * Parameter: double m11 - The vertical scale / rotation element
+	 * Parameter: double tx - The horizontal translation
+	 * Parameter: double ty - The vertical translation
+	 * Returns: boolean - Whether the range is valid
+	 */
+	public boolean transform(int from, int to, double m00, double m01,
+			double m10, double m11, double tx, double ty) {
+		if (!isRange(from, to)) {
+			return false;
+		}
+		double[] x = this.x;
+		double[] y = this.y;
+		for (int i = from; i < to; i++) {
+			double vx = x[i];
+			double vy = y[i];
+			x[i] = (m00 * vx) + (m01 * vy) + tx;
+			y[i] = (m10 * vx) + (m11 * vy) + ty;
+		}
+		return true;
+	}
+	/*
+	 * Test whether a range of indices lies within the vectors in use
+	 * Parameter: int from - The index of the first vector
+	 * Parameter: int to - The index after the last vector
+	 * Returns: boolean - Whether the range is valid
+	 */
+	private boolean isRange(int from, int to) {
+		return from >= 0 && from <= to && to <= size;
+	}
+	
+	/*
+	 * Get the number of vectors in the array
+	 * Returns: int - The number of vectors
+	 */
+	public int getSize() {
+		return size;
+	}
+	/*
+	 * Get the number of vectors the array can hold before growing
+	 * Returns: int - The capacity of the array
+	 */
+	public int getCapacity() {
+		return x.length;
+	}
+	/*
+	 * Get the horizontal component of a vector
+	 * Parameter: int index - The index of the vector
+	 * Returns: double - The horizontal component
+	 */
+	public double getX(int index) {
+		return x[index];
+	}
+	/*
+	 * Get the vertical component of a vector
+	 * Parameter: int index - The index of the vector
+	 * Returns: double - The vertical component
+	 */
+	public double getY(int index) {
+		return y[index];
+	}
+	/*
+	 * Get the backing array of horizontal components for custom loops - only
+	 * valid until the array next grows
+	 * Returns: double[] - The horizontal components, of which the first
+	 * getSize() are in use
+	 */
+	public double[] getXArray() {
+		return x;
+	}
+	/*
+	 * Get the backing array of vertical components for custom loops - only
+	 * valid until the array next grows
+	 * Returns: double[] - The vertical components, of which the first
+	 * getSize() are in use
+	 */
+	public double[] getYArray() {
+		return y;
+	}
+	
+}
@@ -0,0 +1,99 @@
+/*
+ * File:		Vector2DPool.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Defines a stack of reusable 2D vectors for temporary values in
+ * 				hot code paths
+ */
+
+package com.limenfanestudio.sillplateframework.data;
+
+import java.util.Arrays;
+
+// Scratch stack of reusable 2D vectors - push() opens a scope, obtain()
+// hands out vectors and pop() returns every vector obtained since the
+// matching push() for reuse. Not thread-safe, use one pool per thread
+public class Vector2DPool {
+	
+	// The vectors owned by this pool, of which the first size are in use
+	private Vector2D[] vectors = null;
+	// The number of vectors currently in use
+	private int size = 0;
+	// The number of vectors in use when each open scope was pushed
+	private int[] marks = null;
+	// The number of open scopes
+	private int depth = 0;
+	
+	/*
+	 * Construct a pool with vectors pre-allocated
+	 * Parameter: int capacity - The number of vectors to pre-allocate
+	 */
+	public Vector2DPool(int capacity) {
+		vectors = new Vector2D[Math.max(1, capacity)];
+		for (int i = 0; i < vectors.length; i++) {
+			vectors[i] = new Vector2D();
+		}
+		marks = new int[8];
+	}
+	/*
+	 * Open a scope for temporary vectors
+	 */
+	public void push() {
+		if (depth == marks.length) {
+			marks = Arrays.copyOf(marks, marks.length * 2);
+		}
+		marks[depth++] = size;
+	}
+	/*
+	 * Close the innermost scope, returning its vectors to the pool - vectors
+	 * obtained within the scope must not be used afterwards
+	 * Returns: boolean - Whether a scope was open
+	 */
+	public boolean pop() {
+		if (depth == 0) {
+			return false;
+		}
+		size = marks[--depth];
+		return true;
+	}
+	/*
+	 * Obtain a zero-vector from the pool, growing the pool if every vector is
+	 * in use
+	 * Returns: Vector2D - The vector, valid until the current scope is closed
+	 */
+	public Vector2D obtain() {
+		return obtain(0.0d, 0.0d);
+	}
+	/*
+	 * Obtain a vector with set components from the pool, growing the pool if
+	 * every vector is in use
+	 * Parameter: double x - The horizontal component for the vector
+	 * Parameter: double y - The vertical component for the vector
+	 * Returns: Vector2D - The vector, valid until the current scope is closed
+	 */
+	public Vector2D obtain(double x, double y) {
+		if (size == vectors.length) {
+			int capacity = vectors.length;
+			vectors = Arrays.copyOf(vectors, capacity * 2);
+			for (int i = capacity; i < vectors.length; i++) {
+				vectors[i] = new Vector2D();
+			}
+		}
+		return vectors[size++].set(x, y);
+	}
+	/*
+	 * Get the number of vectors currently in use
+	 * Returns: int - The number of vectors in use
+	 */
+	public int getSize() {
+		return size;
+	}
+	/*
+	 * Get the number of vectors owned by the pool
+	 * Returns: int - The capacity of the pool
+	 */
+	public int getCapacity() {
+		return vectors.length;
+	}
+	
+}
@@ -0,0 +1,275 @@
+/*
+ * File:		LooseQuadtree.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Defines a spatial index storing each object in one node of a
+ * 				loose quadtree chosen by its size and center
+ */
+
+package com.limenfanestudio.sillplateframework.data.spatial;
+
+import java.util.Arrays;
+
+// Spatial index storing each object in exactly one node of a quadtree whose
+// nodes' bounds are loosened to twice their size - an object goes to the
+// deepest node at least as large as the object which contains its center,
+// so it never straddles node boundaries and objects of very different
+// sizes mix well. The tree is complete to a fixed depth and stored in flat
+// arrays indexed by level, with per-node object lists linked through the
+// ids and per-node subtree counts for skipping empty branches. Objects
+// whose centers leave the tree's square bounds are kept in the root
+public class LooseQuadtree extends SpatialIndex {
+	
+	// The deepest supported level of the tree
+	public static final int MaxDepth = 12;
+	
+	// The left edge of the tree's bounds
+	private final double originX;
+	// The top edge of the tree's bounds
+	private final double originY;
+	// The width and height of the tree's bounds
+	private final double size;
+	// The deepest level of the tree, where the root is level 0
+	private final int depth;
+	// The index of the first node of each level
+	private final int[] levelOffsets;
+	// The first id in each node's list or -1 if the node is empty
+	private final int[] heads;
+	// The number of objects in each node and its descendants
+	private final int[] subtreeCounts;
+	// The next id in each object's node list or -1
+	private int[] nexts = null;
+	// The previous id in each object's node list or -1
+	private int[] previouses = null;
+	// The level of each object's node
+	private int[] levels = null;
+	// The column of each object's node within its level
+	private int[] columns = null;
+	// The row of each object's node within its level
+	private int[] rows = null;
+	// Stack of the level, column and row of nodes waiting to be searched
+	private final int[] stack;
+	// The level of the node found by the last call to locate()
+	private int targetLevel = 0;
+	// The column of the node found by the last call to locate()
+	private int targetColumn = 0;
+	// The row of the node found by the last call to locate()
+	private int targetRow = 0;
+	
+	/*
+	 * Construct an empty tree
+	 * Parameter: double minX - The left edge of the tree's bounds
+	 * Parameter: double minY - The top edge of the tree's bounds
+	 * Parameter: double size - The width and height of the tree's bounds
+	 * Parameter: int depth - The deepest level of the tree, up to MaxDepth,
+	 * where each level halves the size of the nodes
+	 * Parameter: int capacity - The number of objects to allocate space for
+	 */
+	public LooseQuadtree(double minX, double minY, double size, int depth,
+			int capacity) {
+		super(capacity);
+		originX = Double.isInfinite(minX) || Double.isNaN(minX) ? 0.0d
+				: minX;
+		originY = Double.isInfinite(minY) || Double.isNaN(minY) ? 0.0d
+				: minY;
+		this.size = size > 0.0d && !Double.isInfinite(size) ? size : 1.0d;
+		this.depth = Math.max(0, Math.min(MaxDepth, depth));
+		levelOffsets = new int[this.depth + 2];
+		for (int level = 1; level < levelOffsets.length; level++) {
+			levelOffsets[level] = levelOffsets[level - 1]
+					+ (1 << (2 * (level - 1)));
+		}
+		heads = new int[levelOffsets[this.depth + 1]];
+		subtreeCounts = new int[heads.length];
+		Arrays.fill(heads, -1);
+		capacity = used.length;
+		nexts = new int[capacity];
+		previouses = new int[capacity];
+		levels = new int[capacity];
+		columns = new int[capacity];
+		rows = new int[capacity];
+		stack = new int[3 * (3 * this.depth + 2)];
+	}
+	/*
+	 * Add a newly inserted object to the node fitting its box
+	 * Parameter: int id - The id of the object
+	 */
+	protected void place(int id) {
+		locate(id);
+		link(id, targetLevel, targetColumn, targetRow);
+	}
+	/*
+	 * Move an object to the node fitting its new box if it changed
+	 * Parameter: int id - The id of the object
+	 */
+	protected void relocate(int id) {
+		locate(id);
+		if (targetLevel == levels[id] && targetColumn == columns[id]
+				&& targetRow == rows[id]) {
+			return;
+		}
+		unplace(id);
+		link(id, targetLevel, targetColumn, targetRow);
+	}
+	/*
+	 * Remove an object from its node
+	 * Parameter: int id - The id of the object
+	 */
+	protected void unplace(int id) {
+		int level = levels[id];
+		int node = levelOffsets[level] + (rows[id] << level) + columns[id];
+		if (previouses[id] >= 0) {
+			nexts[previouses[id]] = nexts[id];
+		} else {
+			heads[node] = nexts[id];
+		}
+		if (nexts[id] >= 0) {
+			previouses[nexts[id]] = previouses[id];
+		}
+		count(level, columns[id], rows[id], -1);
+	}
+	/*
+	 * Grow the per-object arrays
+	 * Parameter: int capacity - The new number of ids to hold
+	 */
+	protected void grow(int capacity) {
+		nexts = Arrays.copyOf(nexts, capacity);
+		previouses = Arrays.copyOf(previouses, capacity);
+		levels = Arrays.copyOf(levels, capacity);
+		columns = Arrays.copyOf(columns, capacity);
+		rows = Arrays.copyOf(rows, capacity);
+	}
+	/*
+	 * Empty every node
+	 */
+	protected void reset() {
+		Arrays.fill(heads, -1);
+		Arrays.fill(subtreeCounts, 0);
+	}
+	/*
+	 * Visit every object in the non-empty nodes whose loose bounds match the
+	 * running query
+	 * Parameter: SpatialVisitor visitor - The callback visiting the objects
+	 * Returns: int - The number of objects visited
+	 */
+	protected int search(SpatialVisitor visitor) {
+		int visited = 0;
+		int top = 0;
+		stack[top++] = 0;
+		stack[top++] = 0;
+		stack[top++] = 0;
+		while (top > 0) {
+			int row = stack[--top];
+			int column = stack[--top];
+			int level = stack[--top];
+			int node = levelOffsets[level] + (row << level) + column;
+			if (subtreeCounts[node] == 0) {
+				continue;
+			}
+			// The root also holds objects outside the bounds, so it is
+			// always searched
+			if (level > 0) {
+				double nodeSize = size / (1 << level);
+				double loose = nodeSize * 0.5d;
+				double minX = originX + column * nodeSize - loose;
+				double minY = originY + row * nodeSize - loose;
+				if (!overlaps(minX, minY, minX + nodeSize + 2.0d * loose,
+						minY + nodeSize + 2.0d * loose)) {
+					continue;
+				}
+			}
+			for (int id = heads[node]; id >= 0; id = nexts[id]) {
+				if (matches(id)) {
+					visited++;
+					if (!visitor.visit(id)) {
+						return visited;
+					}
+				}
+			}
+			if (level < depth) {
+				for (int child = 0; child < 4; child++) {
+					stack[top++] = level + 1;
+					stack[top++] = (column << 1) | (child & 1);
+					stack[top++] = (row << 1) | (child >> 1);
+				}
+			}
+		}
+		return visited;
+	}
+	/*
+	 * Find the node fitting an object's box - the deepest node at least as
+	 * large as the box whose cell contains the box's center
+	 * Parameter: int id - The id of the object
+	 */
+	private void locate(int id) {
+		double centerX = (minXs[id] + maxXs[id]) * 0.5d - originX;
+		double centerY = (minYs[id] + maxYs[id]) * 0.5d - originY;
+		double extent = Math.max(maxXs[id] - minXs[id],
+				maxYs[id] - minYs[id]);
+		targetLevel = 0;
+		targetColumn = 0;
+		targetRow = 0;
+		if (centerX >= 0.0d && centerX < size && centerY >= 0.0d
+				&& centerY < size) {
+			double nodeSize = size;
+			while (targetLevel < depth && extent <= nodeSize * 0.5d) {
+				nodeSize *= 0.5d;
+				targetLevel++;
+			}
+			int last = (1 << targetLevel) - 1;
+			targetColumn = Math.min(last, (int)(centerX / nodeSize));
+			targetRow = Math.min(last, (int)(centerY / nodeSize));
+		}
+	}
+	/*
+	 * Link an object into a node's list
+	 * Parameter: int id - The id of the object
+	 * Parameter: int level - The level of the node
+	 * Parameter: int column - The column of the node within its level
+	 * Parameter: int row - The row of the node within its level
+	 */
+	private void link(int id, int level, int column, int row) {
+		int node = levelOffsets[level] + (row << level) + column;
+		int head = heads[node];
+		nexts[id] = head;
+		previouses[id] = -1;
+		if (head >= 0) {
+			previouses[head] = id;
+		}
+		heads[node] = id;
+		levels[id] = level;
+		columns[id] = column;
+		rows[id] = row;
+		count(level, column, row, 1);
+	}
+	/*
+	 * Adjust the subtree counts of a node and its ancestors
+	 * Parameter: int level - The level of the node
+	 * Parameter: int column - The column of the node within its level
+	 * Parameter: int row - The row of the node within its level
+	 * Parameter: int change - The change in the number of objects
+	 */
+	private void count(int level, int column, int row, int change) {
+		for (int i = level; i >= 0; i--) {
+			int shift = level - i;
+			subtreeCounts[levelOffsets[i] + ((row >> shift) << i)
+					+ (column >> shift)] += change;
+		}
+	}
+	
+	/*
+	 * Get the deepest level of the tree
+	 * Returns: int - The depth, where the root is level 0
+	 */
+	public int getDepth() {
+		return depth;
+	}
+	/*
+	 * Get the width and height of the tree's bounds
+	 * Returns: double - The size of the root node
+	 */
+	public double getBoundsSize() {
+		return size;
+	}
+	
+}
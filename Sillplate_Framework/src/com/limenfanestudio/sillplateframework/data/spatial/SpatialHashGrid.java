@@ -0,0 +1,592 @@
+/*
+ * File:		SpatialHashGrid.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Defines a spatial index bucketing objects into the cells of an
+ * 				unbounded uniform grid
+ */
+
+package com.limenfanestudio.sillplateframework.data.spatial;
+
+import java.util.Arrays;
+
+// Spatial index bucketing each object into every cell of a uniform grid its
+// box touches, with the occupied cells found through an open-addressing
+// hash table so the grid is unbounded. Works best when objects are of
+// similar size and the cell size is close to it - an object spanning more
+// than MaxObjectCells cells is kept in a list tested by every query instead,
+// and a query covering more cells than are occupied tests the occupied cells
+// instead, so no operation costs more than the grid holds. Objects moving
+// within the same cells cost no structural work, and objects seen in several
+// cells of a query are reported once by stamping them with the query's
+// number
+public class SpatialHashGrid extends SpatialIndex {
+	
+	// Multiplier spreading cell coordinates over the hash table
+	private static final long HashMultiplier = 0x9E3779B97F4A7C15L;
+	// The number of bits of the smallest hash table's index
+	private static final int MinHashBits = 8;
+	// The smallest capacity of the per-cell arrays
+	private static final int MinCellCapacity = 64;
+	// The lowest cell coordinate, to which positions further out are clamped
+	private static final int MinCell = Integer.MIN_VALUE + 1;
+	// The highest cell coordinate, to which positions further out are
+	// clamped, leaving room to step past it without overflowing
+	private static final int MaxCell = Integer.MAX_VALUE - 1;
+	// The most cells an object is added to before it is kept in the list of
+	// large objects instead
+	public static final int MaxObjectCells = 16;
+	
+	// The width and height of a cell
+	private final double cellSize;
+	// The reciprocal of the cell size
+	private final double inverseCellSize;
+	// The packed coordinates of each hash table slot's cell
+	private long[] keys = null;
+	// The cell index of each hash table slot or -1 if the slot is empty
+	private int[] slots = null;
+	// The number of bits of a hash table index
+	private int hashBits = 0;
+	// The ids in each cell, of which the first cellCounts are in use - the
+	// arrays past cellCount are kept empty for reuse by new cells
+	private int[][] cellItems = null;
+	// The number of ids in each cell
+	private int[] cellCounts = null;
+	// The column of each cell
+	private int[] cellColumns = null;
+	// The row of each cell
+	private int[] cellRows = null;
+	// The number of occupied cells, which are kept packed at the start of
+	// the per-cell arrays
+	private int cellCount = 0;
+	// The left column of the cells covered by each object
+	private int[] columnMins = null;
+	// The top row of the cells covered by each object
+	private int[] rowMins = null;
+	// The right column of the cells covered by each object
+	private int[] columnMaxes = null;
+	// The bottom row of the cells covered by each object
+	private int[] rowMaxes = null;
+	// The ids of the objects spanning too many cells to add to each, of
+	// which the first largeCount are in use
+	private int[] largeItems = null;
+	// The number of large objects
+	private int largeCount = 0;
+	// The index of each object in the list of large objects or -1 if it is
+	// in the cells
+	private int[] largeIndices = null;
+	// The number of the query which last visited each object
+	private int[] stamps = null;
+	// The number of the running query
+	private int stamp = 0;
+	
+	/*
+	 * Construct an empty grid
+	 * Parameter: double cellSize - The width and height of a cell, ideally
+	 * close to the size of a typical object
+	 * Parameter: int capacity - The number of objects to allocate space for
+	 */
+	public SpatialHashGrid(double cellSize, int capacity) {
+		super(capacity);
+		this.cellSize = cellSize > 0.0d && !Double.isInfinite(cellSize)
+				? cellSize : 1.0d;
+		inverseCellSize = 1.0d / this.cellSize;
+		capacity = used.length;
+		columnMins = new int[capacity];
+		rowMins = new int[capacity];
+		columnMaxes = new int[capacity];
+		rowMaxes = new int[capacity];
+		largeIndices = new int[capacity];
+		stamps = new int[capacity];
+		reset();
+	}
+	/*
+	 * Add a newly inserted object to every cell its box touches, or to the
+	 * list of large objects if it touches too many
+	 * Parameter: int id - The id of the object
+	 */
+	protected void place(int id) {
+		columnMins[id] = getCell(minXs[id]);
+		rowMins[id] = getCell(minYs[id]);
+		columnMaxes[id] = getCell(maxXs[id]);
+		rowMaxes[id] = getCell(maxYs[id]);
+		stamps[id] = stamp;
+		if (countCells(columnMins[id], rowMins[id], columnMaxes[id],
+				rowMaxes[id]) > MaxObjectCells) {
+			if (largeCount == largeItems.length) {
+				largeItems = Arrays.copyOf(largeItems, largeCount * 2);
+			}
+			largeIndices[id] = largeCount;
+			largeItems[largeCount++] = id;
+			return;
+		}
+		largeIndices[id] = -1;
+		for (int row = rowMins[id]; row <= rowMaxes[id]; row++) {
+			for (int column = columnMins[id]; column <= columnMaxes[id];
+					column++) {
+				addItem(findCell(column, row, true), id);
+			}
+		}
+	}
+	/*
+	 * Move an object to the cells its new box touches if they changed
+	 * Parameter: int id - The id of the object
+	 */
+	protected void relocate(int id) {
+		if (getCell(minXs[id]) != columnMins[id]
+				|| getCell(minYs[id]) != rowMins[id]
+				|| getCell(maxXs[id]) != columnMaxes[id]
+				|| getCell(maxYs[id]) != rowMaxes[id]) {
+			unplace(id);
+			place(id);
+		}
+	}
+	/*
+	 * Remove an object from every cell it was added to
+	 * Parameter: int id - The id of the object
+	 */
+	protected void unplace(int id) {
+		int index = largeIndices[id];
+		if (index >= 0) {
+			int last = largeItems[--largeCount];
+			largeItems[index] = last;
+			largeIndices[last] = index;
+			largeIndices[id] = -1;
+			return;
+		}
+		for (int row = rowMins[id]; row <= rowMaxes[id]; row++) {
+			for (int column = columnMins[id]; column <= columnMaxes[id];
+					column++) {
+				int cell = findCell(column, row, false);
+				int[] items = cellItems[cell];
+				int count = cellCounts[cell];
+				for (int i = 0; i < count; i++) {
+					if (items[i] == id) {
+						items[i] = items[--count];
+						break;
+					}
+				}
+				cellCounts[cell] = count;
+				if (count == 0) {
+					removeCell(cell);
+				}
+			}
+		}
+	}
+	/*
+	 * Grow the per-object arrays
+	 * Parameter: int capacity - The new number of ids to hold
+	 */
+	protected void grow(int capacity) {
+		columnMins = Arrays.copyOf(columnMins, capacity);
+		rowMins = Arrays.copyOf(rowMins, capacity);
+		columnMaxes = Arrays.copyOf(columnMaxes, capacity);
+		rowMaxes = Arrays.copyOf(rowMaxes, capacity);
+		largeIndices = Arrays.copyOf(largeIndices, capacity);
+		stamps = Arrays.copyOf(stamps, capacity);
+	}
+	/*
+	 * Remove every cell
+	 */
+	protected void reset() {
+		cellItems = new int[MinCellCapacity][];
+		cellCounts = new int[MinCellCapacity];
+		cellColumns = new int[MinCellCapacity];
+		cellRows = new int[MinCellCapacity];
+		cellCount = 0;
+		rehash(MinHashBits);
+		largeItems = new int[16];
+		largeCount = 0;
+	}
+	/*
+	 * Visit every large object and every object in the cells the running
+	 * query touches
+	 * Parameter: SpatialVisitor visitor - The callback visiting the objects
+	 * Returns: int - The number of objects visited
+	 */
+	protected int search(SpatialVisitor visitor) {
+		if (++stamp == 0) {
+			// The stamp wrapped, so old stamps could match new queries
+			Arrays.fill(stamps, 0);
+			stamp = 1;
+		}
+		int visited = searchItems(largeItems, largeCount, visitor);
+		if (visited < 0) {
+			return -1 - visited;
+		}
+		int columnMin = getCell(queryMinX);
+		int rowMin = getCell(queryMinY);
+		int columnMax = getCell(queryMaxX);
+		int rowMax = getCell(queryMaxY);
+		int result;
+		if (queryKind == RayQuery) {
+			// A ray clamped to the edge of the grid cannot be walked, as its
+			// cells no longer follow its line
+			if ((long)columnMax - columnMin + (long)rowMax - rowMin
+					< cellCount && columnMin != MinCell && rowMin != MinCell
+					&& columnMax != MaxCell && rowMax != MaxCell) {
+				result = searchRay(visitor);
+			} else {
+				result = searchOccupied(columnMin, rowMin, columnMax, rowMax,
+						visitor);
+			}
+		} else if (countCells(columnMin, rowMin, columnMax, rowMax)
+				<= cellCount) {
+			result = searchRange(columnMin, rowMin, columnMax, rowMax,
+					visitor);
+		} else {
+			result = searchOccupied(columnMin, rowMin, columnMax, rowMax,
+					visitor);
+		}
+		if (result < 0) {
+			return visited - result - 1;
+		}
+		return visited + result;
+	}
+	/*
+	 * Visit the objects in every cell of a range, looking each cell up in the
+	 * hash table
+	 * Parameter: int columnMin - The left column of the range
+	 * Parameter: int rowMin - The top row of the range
+	 * Parameter: int columnMax - The right column of the range
+	 * Parameter: int rowMax - The bottom row of the range
+	 * Parameter: SpatialVisitor visitor - The callback visiting the objects
+	 * Returns: int - The number of objects visited, or minus one minus the
+	 * number visited if the visitor stopped the query
+	 */
+	private int searchRange(int columnMin, int rowMin, int columnMax,
+			int rowMax, SpatialVisitor visitor) {
+		int visited = 0;
+		for (int row = rowMin; row <= rowMax; row++) {
+			for (int column = columnMin; column <= columnMax; column++) {
+				int cell = findCell(column, row, false);
+				if (cell < 0) {
+					continue;
+				}
+				int result = searchItems(cellItems[cell], cellCounts[cell],
+						visitor);
+				if (result < 0) {
+					return result - visited;
+				}
+				visited += result;
+			}
+		}
+		return visited;
+	}
+	/*
+	 * Visit the objects in every occupied cell within a range, for ranges
+	 * covering more cells than are occupied
+	 * Parameter: int columnMin - The left column of the range
+	 * Parameter: int rowMin - The top row of the range
+	 * Parameter: int columnMax - The right column of the range
+	 * Parameter: int rowMax - The bottom row of the range
+	 * Parameter: SpatialVisitor visitor - The callback visiting the objects
+	 * Returns: int - The number of objects visited, or minus one minus the
+	 * number visited if the visitor stopped the query
+	 */
+	private int searchOccupied(int columnMin, int rowMin, int columnMax,
+			int rowMax, SpatialVisitor visitor) {
+		int visited = 0;
+		for (int cell = 0; cell < cellCount; cell++) {
+			if (cellColumns[cell] < columnMin || cellColumns[cell] > columnMax
+					|| cellRows[cell] < rowMin || cellRows[cell] > rowMax) {
+				continue;
+			}
+			int result = searchItems(cellItems[cell], cellCounts[cell],
+					visitor);
+			if (result < 0) {
+				return result - visited;
+			}
+			visited += result;
+		}
+		return visited;
+	}
+	/*
+	 * Visit every object in the cells the running ray query crosses, walking
+	 * the cells in order along the ray
+	 * Parameter: SpatialVisitor visitor - The callback visiting the objects
+	 * Returns: int - The number of objects visited, or minus one minus the
+	 * number visited if the visitor stopped the query
+	 */
+	private int searchRay(SpatialVisitor visitor) {
+		int column = getCell(queryX);
+		int row = getCell(queryY);
+		int lastColumn = getCell(queryX + queryDirectionX * queryLength);
+		int lastRow = getCell(queryY + queryDirectionY * queryLength);
+		int stepX = queryDirectionX > 0.0d ? 1 : -1;
+		int stepY = queryDirectionY > 0.0d ? 1 : -1;
+		// The distance along the ray to the next column and row boundaries,
+		// and between successive boundaries
+		double nextX = Double.POSITIVE_INFINITY;
+		double nextY = Double.POSITIVE_INFINITY;
+		double deltaX = Double.POSITIVE_INFINITY;
+		double deltaY = Double.POSITIVE_INFINITY;
+		if (queryDirectionX != 0.0d) {
+			double boundary = (column + (stepX > 0 ? 1 : 0)) * cellSize;
+			nextX = (boundary - queryX) / queryDirectionX;
+			deltaX = cellSize / Math.abs(queryDirectionX);
+		}
+		if (queryDirectionY != 0.0d) {
+			double boundary = (row + (stepY > 0 ? 1 : 0)) * cellSize;
+			nextY = (boundary - queryY) / queryDirectionY;
+			deltaY = cellSize / Math.abs(queryDirectionY);
+		}
+		int visited = 0;
+		while (true) {
+			int cell = findCell(column, row, false);
+			if (cell >= 0) {
+				int result = searchItems(cellItems[cell], cellCounts[cell],
+						visitor);
+				if (result < 0) {
+					return result - visited;
+				}
+				visited += result;
+			}
+			if (column == lastColumn && row == lastRow) {
+				break;
+			}
+			if (nextX < nextY) {
+				if (nextX > queryLength) {
+					break;
+				}
+				column += stepX;
+				nextX += deltaX;
+			} else {
+				if (nextY > queryLength) {
+					break;
+				}
+				row += stepY;
+				nextY += deltaY;
+			}
+		}
+		return visited;
+	}
+	/*
+	 * Visit the objects of a cell or the large objects matching the running
+	 * query and not yet visited by it
+	 * Parameter: int[] items - The ids of the objects
+	 * Parameter: int count - The number of ids in use
+	 * Parameter: SpatialVisitor visitor - The callback visiting the objects
+	 * Returns: int - The number of objects visited, or minus one minus the
+	 * number visited if the visitor stopped the query
+	 */
+	private int searchItems(int[] items, int count, SpatialVisitor visitor) {
+		int visited = 0;
+		for (int i = 0; i < count; i++) {
+			int id = items[i];
+			if (stamps[id] == stamp) {
+				continue;
+			}
+			stamps[id] = stamp;
+			if (matches(id)) {
+				visited++;
+				if (!visitor.visit(id)) {
+					return -1 - visited;
+				}
+			}
+		}
+		return visited;
+	}
+	/*
+	 * Get the cell coordinate containing a position, clamped to the range of
+	 * cell coordinates
+	 * Parameter: double position - The horizontal or vertical position
+	 * Returns: int - The column or row of the cell
+	 */
+	private int getCell(double position) {
+		double cell = Math.floor(position * inverseCellSize);
+		if (cell <= MinCell) {
+			return MinCell;
+		}
+		if (cell >= MaxCell) {
+			return MaxCell;
+		}
+		return (int)cell;
+	}
+	/*
+	 * Count the cells in a range without overflowing
+	 * Parameter: int columnMin - The left column of the range
+	 * Parameter: int rowMin - The top row of the range
+	 * Parameter: int columnMax - The right column of the range
+	 * Parameter: int rowMax - The bottom row of the range
+	 * Returns: long - The number of cells, or Long.MAX_VALUE if there are more
+	 */
+	private static long countCells(int columnMin, int rowMin, int columnMax,
+			int rowMax) {
+		long columns = (long)columnMax - columnMin + 1L;
+		long rows = (long)rowMax - rowMin + 1L;
+		return columns > Long.MAX_VALUE / rows ? Long.MAX_VALUE
+				: columns * rows;
+	}
+	/*
+	 * Find the cell at a column and row in the hash table
+	 * Parameter: int column - The column of the cell
+	 * Parameter: int row - The row of the cell
+	 * Parameter: boolean create - Whether to create the cell if missing
+	 * Returns: int - The index of the cell or -1 if it is missing
+	 */
+	private int findCell(int column, int row, boolean create) {
+		long key = getKey(column, row);
+		int slot = findSlot(key);
+		if (slots[slot] >= 0 || !create) {
+			return slots[slot];
+		}
+		if (cellCount == cellCounts.length) {
+			resizeCells(cellCount * 2);
+		}
+		int cell = cellCount++;
+		if (cellItems[cell] == null) {
+			cellItems[cell] = new int[4];
+		}
+		cellColumns[cell] = column;
+		cellRows[cell] = row;
+		keys[slot] = key;
+		slots[slot] = cell;
+		if (cellCount * 2 > slots.length) {
+			rehash(hashBits + 1);
+		}
+		return cell;
+	}
+	/*
+	 * Remove an emptied cell, moving the last cell into its place so the
+	 * occupied cells stay packed, and shrink the hash table and per-cell
+	 * arrays once they are mostly unused
+	 * Parameter: int cell - The index of the cell
+	 */
+	private void removeCell(int cell) {
+		deleteSlot(findSlot(getKey(cellColumns[cell], cellRows[cell])));
+		int last = --cellCount;
+		if (cell != last) {
+			int[] items = cellItems[cell];
+			cellItems[cell] = cellItems[last];
+			cellItems[last] = items;
+			cellCounts[cell] = cellCounts[last];
+			cellCounts[last] = 0;
+			cellColumns[cell] = cellColumns[last];
+			cellRows[cell] = cellRows[last];
+			slots[findSlot(getKey(cellColumns[cell], cellRows[cell]))] = cell;
+		}
+		if (hashBits > MinHashBits && cellCount * 8 < slots.length) {
+			rehash(hashBits - 1);
+		}
+		if (cellCounts.length > MinCellCapacity
+				&& cellCount * 4 < cellCounts.length) {
+			resizeCells(cellCounts.length / 2);
+		}
+	}
+	/*
+	 * Find the hash table slot holding a cell's key, or the empty slot where
+	 * it would be added
+	 * Parameter: long key - The packed coordinates of the cell
+	 * Returns: int - The index of the slot
+	 */
+	private int findSlot(long key) {
+		int mask = slots.length - 1;
+		int slot = getHash(key);
+		while (slots[slot] >= 0 && keys[slot] != key) {
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+	/*
+	 * Empty a hash table slot, shifting later keys of the same probe run
+	 * back so every key stays reachable from its home slot
+	 * Parameter: int slot - The index of the slot
+	 */
+	private void deleteSlot(int slot) {
+		int mask = slots.length - 1;
+		int hole = slot;
+		for (int next = (hole + 1) & mask; slots[next] >= 0;
+				next = (next + 1) & mask) {
+			// A key can fill the hole if the hole lies between its home slot
+			// and where it is now
+			if (((next - getHash(keys[next])) & mask) >= ((next - hole)
+					& mask)) {
+				keys[hole] = keys[next];
+				slots[hole] = slots[next];
+				hole = next;
+			}
+		}
+		slots[hole] = -1;
+	}
+	/*
+	 * Rebuild the hash table at a size from the occupied cells
+	 * Parameter: int bits - The number of bits of a hash table index
+	 */
+	private void rehash(int bits) {
+		hashBits = bits;
+		keys = new long[1 << hashBits];
+		slots = new int[1 << hashBits];
+		Arrays.fill(slots, -1);
+		for (int cell = 0; cell < cellCount; cell++) {
+			long key = getKey(cellColumns[cell], cellRows[cell]);
+			int slot = findSlot(key);
+			keys[slot] = key;
+			slots[slot] = cell;
+		}
+	}
+	/*
+	 * Grow or shrink the per-cell arrays, which must hold every occupied
+	 * cell
+	 * Parameter: int capacity - The new number of cells to hold
+	 */
+	private void resizeCells(int capacity) {
+		cellItems = Arrays.copyOf(cellItems, capacity);
+		cellCounts = Arrays.copyOf(cellCounts, capacity);
+		cellColumns = Arrays.copyOf(cellColumns, capacity);
+		cellRows = Arrays.copyOf(cellRows, capacity);
+	}
+	/*
+	 * Get the home slot of a key in the hash table
+	 * Parameter: long key - The packed coordinates of a cell
+	 * Returns: int - The index of the slot
+	 */
+	private int getHash(long key) {
+		return (int)((key * HashMultiplier) >>> (64 - hashBits));
+	}
+	/*
+	 * Pack a cell's coordinates into a hash table key
+	 * Parameter: int column - The column of the cell
+	 * Parameter: int row - The row of the cell
+	 * Returns: long - The key
+	 */
+	private static long getKey(int column, int row) {
+		return ((long)column << 32) | (row & 0xFFFFFFFFL);
+	}
+	/*
+	 * Append an id to a cell
+	 * Parameter: int cell - The index of the cell
+	 * Parameter: int id - The id of the object
+	 */
+	private void addItem(int cell, int id) {
+		if (cellCounts[cell] == cellItems[cell].length) {
+			cellItems[cell] = Arrays.copyOf(cellItems[cell],
+					cellCounts[cell] * 2);
+		}
+		cellItems[cell][cellCounts[cell]++] = id;
+	}
+	
+	/*
+	 * Get the size of the grid's cells
+	 * Returns: double - The width and height of a cell
+	 */
+	public double getCellSize() {
+		return cellSize;
+	}
+	/*
+	 * Get the number of cells holding at least one object
+	 * Returns: int - The number of occupied cells
+	 */
+	public int getCellCount() {
+		return cellCount;
+	}
+	/*
+	 * Get the number of slots in the hash table of cells, which grows and
+	 * shrinks with the number of occupied cells
+	 * Returns: int - The length of the hash table
+	 */
+	int getTableLength() {
+		return slots.length;
+	}
+	
+}
@@ -0,0 +1,394 @@
+/*
+ * File:		SpatialIndex.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Defines an abstract index of axis-aligned bounding boxes with
+ * 				box, radius and ray queries
+ */
+
+package com.limenfanestudio.sillplateframework.data.spatial;
+
+import java.util.Arrays;
+
+// An abstract index of objects by axis-aligned bounding box - objects are
+// identified by int ids handed out on insertion and reused after removal,
+// and their boxes are kept in parallel arrays. Subclasses only organize the
+// ids spatially. Queries report matching ids to a visitor without
+// allocating. Not thread-safe, as queries share scratch state
+public abstract class SpatialIndex {
+	
+	// Query for boxes overlapping a box
+	protected static final int BoxQuery = 0;
+	// Query for boxes overlapping a circle
+	protected static final int CircleQuery = 1;
+	// Query for boxes crossed by a ray
+	protected static final int RayQuery = 2;
+	
+	// The left edge of each object's box
+	protected double[] minXs = null;
+	// The top edge of each object's box
+	protected double[] minYs = null;
+	// The right edge of each object's box
+	protected double[] maxXs = null;
+	// The bottom edge of each object's box
+	protected double[] maxYs = null;
+	// Whether each id is in use
+	protected boolean[] used = null;
+	// The number of ids ever handed out
+	protected int idCount = 0;
+	// Stack of removed ids for reuse
+	private int[] freeIds = null;
+	// The number of removed ids
+	private int freeCount = 0;
+	// The number of objects in the index
+	private int size = 0;
+	// The kind of the running query
+	protected int queryKind = BoxQuery;
+	// The left edge of the running query's bounding box
+	protected double queryMinX = 0.0d;
+	// The top edge of the running query's bounding box
+	protected double queryMinY = 0.0d;
+	// The right edge of the running query's bounding box
+	protected double queryMaxX = 0.0d;
+	// The bottom edge of the running query's bounding box
+	protected double queryMaxY = 0.0d;
+	// The horizontal position of the running circle query's center or ray
+	// query's origin
+	protected double queryX = 0.0d;
+	// The vertical position of the running circle query's center or ray
+	// query's origin
+	protected double queryY = 0.0d;
+	// The squared radius of the running circle query
+	protected double queryRadiusSquared = 0.0d;
+	// The horizontal component of the running ray query's unit direction
+	protected double queryDirectionX = 0.0d;
+	// The vertical component of the running ray query's unit direction
+	protected double queryDirectionY = 0.0d;
+	// The length of the running ray query
+	protected double queryLength = 0.0d;
+	
+	/*
+	 * Construct an empty index
+	 * Parameter: int capacity - The number of objects to allocate space for
+	 */
+	protected SpatialIndex(int capacity) {
+		capacity = Math.max(1, capacity);
+		minXs = new double[capacity];
+		minYs = new double[capacity];
+		maxXs = new double[capacity];
+		maxYs = new double[capacity];
+		used = new boolean[capacity];
+		freeIds = new int[capacity];
+	}
+	/*
+	 * Insert an object
+	 * Parameter: double minX - The left edge of the object's box
+	 * Parameter: double minY - The top edge of the object's box
+	 * Parameter: double maxX - The right edge of the object's box
+	 * Parameter: double maxY - The bottom edge of the object's box
+	 * Returns: int - The id of the object or -1 if the box is invalid
+	 */
+	public int insert(double minX, double minY, double maxX, double maxY) {
+		if (!isValid(minX, minY, maxX, maxY)) {
+			return -1;
+		}
+		int id;
+		if (freeCount > 0) {
+			id = freeIds[--freeCount];
+		} else {
+			if (idCount == used.length) {
+				int capacity = idCount * 2;
+				minXs = Arrays.copyOf(minXs, capacity);
+				minYs = Arrays.copyOf(minYs, capacity);
+				maxXs = Arrays.copyOf(maxXs, capacity);
+				maxYs = Arrays.copyOf(maxYs, capacity);
+				used = Arrays.copyOf(used, capacity);
+				freeIds = Arrays.copyOf(freeIds, capacity);
+				grow(capacity);
+			}
+			id = idCount++;
+		}
+		minXs[id] = minX;
+		minYs[id] = minY;
+		maxXs[id] = maxX;
+		maxYs[id] = maxY;
+		used[id] = true;
+		size++;
+		place(id);
+		return id;
+	}
+	/*
+	 * Move or resize an object, doing no structural work if it stays in the
+	 * same place in the index
+	 * Parameter: int id - The id of the object
+	 * Parameter: double minX - The new left edge of the object's box
+	 * Parameter: double minY - The new top edge of the object's box
+	 * Parameter: double maxX - The new right edge of the object's box
+	 * Parameter: double maxY - The new bottom edge of the object's box
+	 * Returns: boolean - Whether the id and box are valid
+	 */
+	public boolean update(int id, double minX, double minY, double maxX,
+			double maxY) {
+		if (!contains(id) || !isValid(minX, minY, maxX, maxY)) {
+			return false;
+		}
+		minXs[id] = minX;
+		minYs[id] = minY;
+		maxXs[id] = maxX;
+		maxYs[id] = maxY;
+		relocate(id);
+		return true;
+	}
+	/*
+	 * Remove an object, freeing its id for reuse
+	 * Parameter: int id - The id of the object
+	 * Returns: boolean - Whether the id was in use
+	 */
+	public boolean remove(int id) {
+		if (!contains(id)) {
+			return false;
+		}
+		unplace(id);
+		used[id] = false;
+		freeIds[freeCount++] = id;
+		size--;
+		return true;
+	}
+	/*
+	 * Remove every object, freeing every id
+	 */
+	public void clear() {
+		Arrays.fill(used, 0, idCount, false);
+		idCount = 0;
+		freeCount = 0;
+		size = 0;
+		reset();
+	}
+	/*
+	 * Visit every object whose box overlaps a box
+	 * Parameter: double minX - The left edge of the box
+	 * Parameter: double minY - The top edge of the box
+	 * Parameter: double maxX - The right edge of the box
+	 * Parameter: double maxY - The bottom edge of the box
+	 * Parameter: SpatialVisitor visitor - The callback visiting the objects
+	 * Returns: int - The number of objects visited
+	 */
+	public int queryBox(double minX, double minY, double maxX, double maxY,
+			SpatialVisitor visitor) {
+		if (!isValid(minX, minY, maxX, maxY)) {
+			return 0;
+		}
+		queryKind = BoxQuery;
+		queryMinX = minX;
+		queryMinY = minY;
+		queryMaxX = maxX;
+		queryMaxY = maxY;
+		return search(visitor);
+	}
+	/*
+	 * Visit every object whose box overlaps a circle
+	 * Parameter: double x - The horizontal position of the circle's center
+	 * Parameter: double y - The vertical position of the circle's center
+	 * Parameter: double radius - The radius of the circle
+	 * Parameter: SpatialVisitor visitor - The callback visiting the objects
+	 * Returns: int - The number of objects visited
+	 */
+	public int queryRadius(double x, double y, double radius,
+			SpatialVisitor visitor) {
+		if (!isValid(x - radius, y - radius, x + radius, y + radius)) {
+			return 0;
+		}
+		queryKind = CircleQuery;
+		queryX = x;
+		queryY = y;
+		queryRadiusSquared = radius * radius;
+		queryMinX = x - radius;
+		queryMinY = y - radius;
+		queryMaxX = x + radius;
+		queryMaxY = y + radius;
+		return search(visitor);
+	}
+	/*
+	 * Visit every object whose box is crossed by a ray, in no particular
+	 * order
+	 * Parameter: double x - The horizontal position of the ray's origin
+	 * Parameter: double y - The vertical position of the ray's origin
+	 * Parameter: double directionX - The horizontal component of the ray's
+	 * direction
+	 * Parameter: double directionY - The vertical component of the ray's
+	 * direction
+	 * Parameter: double length - The finite distance the ray travels
+	 * Parameter: SpatialVisitor visitor - The callback visiting the objects
+	 * Returns: int - The number of objects visited
+	 */
+	public int queryRay(double x, double y, double directionX,
+			double directionY, double length, SpatialVisitor visitor) {
+		double magnitude = Math.sqrt(directionX * directionX
+				+ directionY * directionY);
+		if (!(magnitude > 0.0d) || !isValid(x - length, y - length,
+				x + length, y + length)) {
+			return 0;
+		}
+		queryKind = RayQuery;
+		queryX = x;
+		queryY = y;
+		queryDirectionX = directionX / magnitude;
+		queryDirectionY = directionY / magnitude;
+		queryLength = length;
+		double endX = x + queryDirectionX * length;
+		double endY = y + queryDirectionY * length;
+		queryMinX = Math.min(x, endX);
+		queryMinY = Math.min(y, endY);
+		queryMaxX = Math.max(x, endX);
+		queryMaxY = Math.max(y, endY);
+		return search(visitor);
+	}
+	/*
+	 * Test whether a box is finite and not inverted
+	 * Parameter: double minX - The left edge of the box
+	 * Parameter: double minY - The top edge of the box
+	 * Parameter: double maxX - The right edge of the box
+	 * Parameter: double maxY - The bottom edge of the box
+	 * Returns: boolean - Whether the box is valid
+	 */
+	private static boolean isValid(double minX, double minY, double maxX,
+			double maxY) {
+		return minX <= maxX && minY <= maxY && !Double.isInfinite(minX)
+				&& !Double.isInfinite(minY) && !Double.isInfinite(maxX)
+				&& !Double.isInfinite(maxY);
+	}
+	/*
+	 * Test whether an object's box matches the running query
+	 * Parameter: int id - The id of the object
+	 * Returns: boolean - Whether the object matches
+	 */
+	protected boolean matches(int id) {
+		return overlaps(minXs[id], minYs[id], maxXs[id], maxYs[id]);
+	}
+	/*
+	 * Test whether a box matches the running query
+	 * Parameter: double minX - The left edge of the box
+	 * Parameter: double minY - The top edge of the box
+	 * Parameter: double maxX - The right edge of the box
+	 * Parameter: double maxY - The bottom edge of the box
+	 * Returns: boolean - Whether the box matches
+	 */
+	protected boolean overlaps(double minX, double minY, double maxX,
+			double maxY) {
+		if (minX > queryMaxX || maxX < queryMinX || minY > queryMaxY
+				|| maxY < queryMinY) {
+			return false;
+		}
+		if (queryKind == CircleQuery) {
+			double dx = Math.max(0.0d, Math.max(minX - queryX, queryX - maxX));
+			double dy = Math.max(0.0d, Math.max(minY - queryY, queryY - maxY));
+			return dx * dx + dy * dy <= queryRadiusSquared;
+		}
+		if (queryKind == RayQuery) {
+			// Clip the ray against the box's slabs on each axis
+			double near = 0.0d;
+			double far = queryLength;
+			if (queryDirectionX == 0.0d) {
+				if (queryX < minX || queryX > maxX) {
+					return false;
+				}
+			} else {
+				double t0 = (minX - queryX) / queryDirectionX;
+				double t1 = (maxX - queryX) / queryDirectionX;
+				near = Math.max(near, Math.min(t0, t1));
+				far = Math.min(far, Math.max(t0, t1));
+			}
+			if (queryDirectionY == 0.0d) {
+				if (queryY < minY || queryY > maxY) {
+					return false;
+				}
+			} else {
+				double t0 = (minY - queryY) / queryDirectionY;
+				double t1 = (maxY - queryY) / queryDirectionY;
+				near = Math.max(near, Math.min(t0, t1));
+				far = Math.min(far, Math.max(t0, t1));
+			}
+			return near <= far;
+		}
+		return true;
+	}
+	/*
+	 * Add a newly inserted object to the index's structure
+	 * Parameter: int id - The id of the object
+	 */
+	protected abstract void place(int id);
+	/*
+	 * Move an object whose box changed within the index's structure
+	 * Parameter: int id - The id of the object
+	 */
+	protected abstract void relocate(int id);
+	/*
+	 * Remove an object from the index's structure
+	 * Parameter: int id - The id of the object
+	 */
+	protected abstract void unplace(int id);
+	/*
+	 * Grow the index's per-object arrays
+	 * Parameter: int capacity - The new number of ids to hold
+	 */
+	protected abstract void grow(int capacity);
+	/*
+	 * Remove every object from the index's structure
+	 */
+	protected abstract void reset();
+	/*
+	 * Visit every object matching the running query
+	 * Parameter: SpatialVisitor visitor - The callback visiting the objects
+	 * Returns: int - The number of objects visited
+	 */
+	protected abstract int search(SpatialVisitor visitor);
+	
+	/*
+	 * Test whether an id is in use
+	 * Parameter: int id - The id
+	 * Returns: boolean - Whether an object has the id
+	 */
+	public boolean contains(int id) {
+		return id >= 0 && id < idCount && used[id];
+	}
+	/*
+	 * Get the number of objects in the index
+	 * Returns: int - The number of objects
+	 */
+	public int getSize() {
+		return size;
+	}
+	/*
+	 * Get the left edge of an object's box
+	 * Parameter: int id - The id of the object
+	 * Returns: double - The left edge
+	 */
+	public double getMinX(int id) {
+		return minXs[id];
+	}
+	/*
+	 * Get the top edge of an object's box
+	 * Parameter: int id - The id of the object
+	 * Returns: double - The top edge
+	 */
+	public double getMinY(int id) {
+		return minYs[id];
+	}
+	/*
+	 * Get the right edge of an object's box
+	 * Parameter: int id - The id of the object
+	 * Returns: double - The right edge
+	 */
+	public double getMaxX(int id) {
+		return maxXs[id];
+	}
+	/*
+	 * Get the bottom edge of an object's box
+	 * Parameter: int id - The id of the object
+	 * Returns: double - The bottom edge
+	 */
+	public double getMaxY(int id) {
+		return maxYs[id];
+	}
+	
+}
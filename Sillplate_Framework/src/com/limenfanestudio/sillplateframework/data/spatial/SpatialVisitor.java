@@ -0,0 +1,22 @@
+/*
+ * File:		SpatialVisitor.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Defines a callback receiving the objects found by a spatial
+ * 				index query
+ */
+
+package com.limenfanestudio.sillplateframework.data.spatial;
+
+// Callback receiving the objects found by a spatial index query, so queries
+// never allocate result collections
+public interface SpatialVisitor {
+	
+	/*
+	 * Visit an object whose bounding box matches the query
+	 * Parameter: int id - The id of the object
+	 * Returns: boolean - Whether the query should continue
+	 */
+	public boolean visit(int id);
+	
+}
@@ -0,0 +1,159 @@
+/*
+ * File:		Archetype.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Stores the components of every entity sharing the same set of
+ * 				component types in packed arrays
+ */
+
+package com.limenfanestudio.sillplateframework.entity;
+
+import java.util.Arrays;
+
+// Storage for all entities with exactly the same set of component types -
+// every field of every component is a packed double array indexed by row,
+// so systems iterating an archetype read memory sequentially
+public class Archetype {
+	
+	// Bitmask of the component type ids stored in this archetype
+	final long mask;
+	// The component types stored in this archetype, in id order
+	private final ComponentType[] types;
+	// The index of the first column of each component type id or -1 if the
+	// type is not stored in this archetype
+	private final int[] columnOffsets = new int[ComponentType.MaxCount];
+	// The field columns of every component, of which the first size rows are
+	// in use
+	private double[][] columns = null;
+	// The entity handle of each row
+	private long[] entities = null;
+	// The number of rows in use
+	private int size = 0;
+	// Cached archetypes reached by adding each component type id
+	final Archetype[] addEdges = new Archetype[ComponentType.MaxCount];
+	// Cached archetypes reached by removing each component type id
+	final Archetype[] removeEdges = new Archetype[ComponentType.MaxCount];
+	
+	/*
+	 * Construct an empty archetype
+	 * Parameter: long mask - The bitmask of component type ids
+	 * Parameter: ComponentType[] types - The component types, in id order
+	 */
+	Archetype(long mask, ComponentType[] types) {
+		this.mask = mask;
+		this.types = types;
+		Arrays.fill(columnOffsets, -1);
+		int columnCount = 0;
+		for (int i = 0; i < types.length; i++) {
+			columnOffsets[types[i].id] = columnCount;
+			columnCount += types[i].getFieldCount();
+		}
+		columns = new double[columnCount][16];
+		entities = new long[16];
+	}
+	/*
+	 * Append a row for an entity, with every field zeroed
+	 * Parameter: long entity - The entity handle
+	 * Returns: int - The index of the new row
+	 */
+	int add(long entity) {
+		if (size == entities.length) {
+			int capacity = entities.length * 2;
+			entities = Arrays.copyOf(entities, capacity);
+			for (int i = 0; i < columns.length; i++) {
+				columns[i] = Arrays.copyOf(columns[i], capacity);
+			}
+		}
+		int row = size++;
+		entities[row] = entity;
+		for (int i = 0; i < columns.length; i++) {
+			columns[i][row] = 0.0d;
+		}
+		return row;
+	}
+	/*
+	 * Remove a row by moving the last row into its place
+	 * Parameter: int row - The index of the row to remove
+	 * Returns: long - The handle of the entity moved into the row or -1 if
+	 * the last row was removed
+	 */
+	long removeSwap(int row) {
+		int last = --size;
+		if (row == last) {
+			return -1L;
+		}
+		entities[row] = entities[last];
+		for (int i = 0; i < columns.length; i++) {
+			columns[i][row] = columns[i][last];
+		}
+		return entities[row];
+	}
+	/*
+	 * Copy the components a row shares with another archetype into a row of
+	 * that archetype
+	 * Parameter: int row - The index of the source row
+	 * Parameter: Archetype destination - The destination archetype
+	 * Parameter: int destinationRow - The index of the destination row
+	 */
+	void copyRow(int row, Archetype destination, int destinationRow) {
+		for (int i = 0; i < types.length; i++) {
+			int target = destination.columnOffsets[types[i].id];
+			if (target < 0) {
+				continue;
+			}
+			int source = columnOffsets[types[i].id];
+			for (int j = types[i].getFieldCount() - 1; j >= 0; j--) {
+				destination.columns[target + j][destinationRow]
+						= columns[source + j][row];
+			}
+		}
+	}
+	
+	/*
+	 * Test whether this archetype stores a component type
+	 * Parameter: ComponentType type - The component type
+	 * Returns: boolean - Whether the component type is stored
+	 */
+	public boolean has(ComponentType type) {
+		return type.id < ComponentType.MaxCount
+				&& columnOffsets[type.id] >= 0;
+	}
+	/*
+	 * Get the packed values of a field of a component type - the array may be
+	 * replaced when entities are added, so fetch it again after structural
+	 * changes
+	 * Parameter: ComponentType type - The component type
+	 * Parameter: int field - The index of the field
+	 * Returns: double[] - The field's values indexed by row, valid below
+	 * getSize(), or null if the component type is not stored
+	 */
+	public double[] getColumn(ComponentType type, int field) {
+		if (!has(type) || field < 0 || field >= type.getFieldCount()) {
+			return null;
+		}
+		return columns[columnOffsets[type.id] + field];
+	}
+	/*
+	 * Get the entity stored in a row
+	 * Parameter: int row - The index of the row
+	 * Returns: long - The entity handle
+	 */
+	public long getEntity(int row) {
+		return entities[row];
+	}
+	/*
+	 * Get the number of entities stored in this archetype
+	 * Returns: int - The number of rows in use
+	 */
+	public int getSize() {
+		return size;
+	}
+	/*
+	 * Get the component types stored in this archetype
+	 * Returns: ComponentType[] - A copy of the component types, in id order
+	 */
+	public ComponentType[] getComponentTypes() {
+		return types.clone();
+	}
+	
+}
@@ -0,0 +1,23 @@
+/*
+ * File:		ChunkVisitor.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Defines a callback visiting ranges of entities matching a query
+ */
+
+package com.limenfanestudio.sillplateframework.entity;
+
+// Callback visiting a query's matching entities one archetype range at a
+// time - implementations should fetch the columns they need from the
+// archetype once and then loop over the rows
+public interface ChunkVisitor {
+	
+	/*
+	 * Visit a range of rows of an archetype matching the query
+	 * Parameter: Archetype archetype - The archetype storing the entities
+	 * Parameter: int from - The index of the first row to visit
+	 * Parameter: int to - The index after the last row to visit
+	 */
+	public void visit(Archetype archetype, int from, int to);
+	
+}
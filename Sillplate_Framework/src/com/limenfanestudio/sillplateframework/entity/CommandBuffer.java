@@ -0,0 +1,179 @@
+/*
+ * File:		CommandBuffer.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Records structural changes to a world for applying once it is
+ * 				safe to move entities between archetypes
+ */
+
+package com.limenfanestudio.sillplateframework.entity;
+
+import java.util.Arrays;
+
+// Queue of structural changes to a world - creating and destroying entities
+// and adding, removing and setting components - recorded during iteration
+// and applied in order between updates. Entities created through the buffer
+// get temporary negative handles usable in later commands of the same
+// buffer. Recording is synchronized so parallel systems may share a buffer
+public class CommandBuffer {
+	
+	// Command creating an entity
+	private static final int Create = 0;
+	// Command destroying an entity
+	private static final int Destroy = 1;
+	// Command adding a component to an entity
+	private static final int Add = 2;
+	// Command removing a component from an entity
+	private static final int Remove = 3;
+	// Command setting a field of an entity's component
+	private static final int Set = 4;
+	
+	// The kind of each recorded command
+	private int[] operations = new int[64];
+	// The entity handle of each recorded command
+	private long[] entities = new long[64];
+	// The component type of each recorded command or null
+	private ComponentType[] types = new ComponentType[64];
+	// The field index of each recorded set command
+	private int[] fields = new int[64];
+	// The value of each recorded set command
+	private double[] values = new double[64];
+	// The number of recorded commands
+	private int size = 0;
+	// The number of entities created by the recorded commands
+	private int createdCount = 0;
+	// The real handles of the entities created while applying, indexed by
+	// temporary handle
+	private long[] created = new long[16];
+	
+	/*
+	 * Record creating an entity with no components
+	 * Returns: long - The temporary handle of the entity, valid only in
+	 * commands of this buffer until it is applied
+	 */
+	public synchronized long createEntity() {
+		record(Create, 0L, null, 0, 0.0d);
+		return -1L - createdCount++;
+	}
+	/*
+	 * Record destroying an entity
+	 * Parameter: long entity - The entity handle or a temporary handle
+	 */
+	public synchronized void destroyEntity(long entity) {
+		record(Destroy, entity, null, 0, 0.0d);
+	}
+	/*
+	 * Record adding a component with zeroed fields to an entity
+	 * Parameter: long entity - The entity handle or a temporary handle
+	 * Parameter: ComponentType type - The component type
+	 */
+	public synchronized void addComponent(long entity, ComponentType type) {
+		record(Add, entity, type, 0, 0.0d);
+	}
+	/*
+	 * Record removing a component from an entity
+	 * Parameter: long entity - The entity handle or a temporary handle
+	 * Parameter: ComponentType type - The component type
+	 */
+	public synchronized void removeComponent(long entity, ComponentType type) {
+		record(Remove, entity, type, 0, 0.0d);
+	}
+	/*
+	 * Record setting a field of an entity's component
+	 * Parameter: long entity - The entity handle or a temporary handle
+	 * Parameter: ComponentType type - The component type
+	 * Parameter: int field - The index of the field
+	 * Parameter: double value - The new value of the field
+	 */
+	public synchronized void set(long entity, ComponentType type, int field,
+			double value) {
+		record(Set, entity, type, field, value);
+	}
+	/*
+	 * Apply every recorded command to a world in order and clear the buffer -
+	 * commands on entities which no longer exist are skipped
+	 * Parameter: World world - The world to change
+	 * Returns: int - The number of commands applied successfully
+	 */
+	public synchronized int apply(World world) {
+		if (created.length < createdCount) {
+			created = new long[Math.max(createdCount, created.length * 2)];
+		}
+		int createdIndex = 0;
+		int applied = 0;
+		for (int i = 0; i < size; i++) {
+			long entity = entities[i];
+			if (entity < 0L) {
+				entity = created[(int)(-1L - entity)];
+			}
+			boolean success = true;
+			switch (operations[i]) {
+			case Create:
+				created[createdIndex++] = world.createEntity();
+				break;
+			case Destroy:
+				success = world.destroyEntity(entity);
+				break;
+			case Add:
+				success = world.addComponent(entity, types[i]);
+				break;
+			case Remove:
+				success = world.removeComponent(entity, types[i]);
+				break;
+			case Set:
+				success = world.set(entity, types[i], fields[i], values[i]);
+				break;
+			default:
+				success = false;
+				break;
+			}
+			if (success) {
+				applied++;
+			}
+		}
+		clear();
+		return applied;
+	}
+	/*
+	 * Discard every recorded command
+	 */
+	public synchronized void clear() {
+		Arrays.fill(types, 0, size, null);
+		size = 0;
+		createdCount = 0;
+	}
+	/*
+	 * Append a command to the buffer
+	 * Parameter: int operation - The kind of command
+	 * Parameter: long entity - The entity handle
+	 * Parameter: ComponentType type - The component type or null
+	 * Parameter: int field - The field index
+	 * Parameter: double value - The field value
+	 */
+	private void record(int operation, long entity, ComponentType type,
+			int field, double value) {
+		if (size == operations.length) {
+			int capacity = size * 2;
+			operations = Arrays.copyOf(operations, capacity);
+			entities = Arrays.copyOf(entities, capacity);
+			types = Arrays.copyOf(types, capacity);
+			fields = Arrays.copyOf(fields, capacity);
+			values = Arrays.copyOf(values, capacity);
+		}
+		operations[size] = operation;
+		entities[size] = entity;
+		types[size] = type;
+		fields[size] = field;
+		values[size] = value;
+		size++;
+	}
+	
+	/*
+	 * Get the number of recorded commands
+	 * Returns: int - The number of commands waiting to be applied
+	 */
+	public synchronized int getSize() {
+		return size;
+	}
+	
+}
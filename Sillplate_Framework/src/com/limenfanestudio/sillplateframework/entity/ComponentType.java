@@ -0,0 +1,85 @@
+/*
+ * File:		ComponentType.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Defines a type of entity component made of a fixed number of
+ * 				double fields
+ */
+
+package com.limenfanestudio.sillplateframework.entity;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// A type of entity component - a named, fixed set of double fields stored
+// per archetype in packed arrays. Component types are shared between worlds
+// and should be created once, typically as static constants
+public class ComponentType {
+	
+	// Counter assigning each component type a unique id
+	private static final AtomicInteger NextId = new AtomicInteger(0);
+	// The maximum number of component types usable in worlds
+	public static final int MaxCount = 64;
+	
+	// The name of this component type
+	private final String name;
+	// The names of this component type's fields
+	private final String[] fieldNames;
+	// Unique id of this component type, its bit in archetype masks
+	final int id = NextId.getAndIncrement();
+	
+	/*
+	 * Construct a component type with named double fields
+	 * Parameter: String name - The name of this component type
+	 * Parameter: String... fieldNames - The names of the fields, whose order
+	 * gives their field indices
+	 */
+	public ComponentType(String name, String... fieldNames) {
+		this.name = name;
+		this.fieldNames = fieldNames.clone();
+	}
+	
+	/*
+	 * Get the name of this component type
+	 * Returns: String - The name of this component type
+	 */
+	public String getName() {
+		return name;
+	}
+	/*
+	 * Get the number of fields of this component type
+	 * Returns: int - The number of double fields
+	 */
+	public int getFieldCount() {
+		return fieldNames.length;
+	}
+	/*
+	 * Get the name of a field of this component type
+	 * Parameter: int field - The index of the field
+	 * Returns: String - The name of the field
+	 */
+	public String getFieldName(int field) {
+		return fieldNames[field];
+	}
+	/*
+	 * Get the index of a field of this component type by name
+	 * Parameter: String fieldName - The name of the field
+	 * Returns: int - The index of the field or -1 if there is none
+	 */
+	public int getFieldIndex(String fieldName) {
+		for (int i = 0; i < fieldNames.length; i++) {
+			if (fieldNames[i].equals(fieldName)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+	/*
+	 * Get the unique id of this component type
+	 * Returns: int - The id, which must be below MaxCount for the type to be
+	 * usable in worlds
+	 */
+	public int getId() {
+		return id;
+	}
+	
+}
@@ -0,0 +1,87 @@
+/*
+ * File:		Query.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Selects the archetypes of a world holding a set of component
+ * 				types for iteration
+ */
+
+package com.limenfanestudio.sillplateframework.entity;
+
+import java.util.ArrayList;
+
+// A query over the entities of a world with all of a set of required
+// component types and none of a set of excluded ones - the matching
+// archetypes are cached and only archetypes created since the last
+// iteration are tested again
+public class Query {
+	
+	// The world queried
+	private final World world;
+	// Bitmask of the component type ids required
+	private final long required;
+	// Bitmask of the component type ids excluded
+	private final long excluded;
+	// The cached archetypes matching this query
+	private final ArrayList<Archetype> matches = new ArrayList<Archetype>();
+	// The number of the world's archetypes tested so far
+	private int testedCount = 0;
+	
+	/*
+	 * Construct a query
+	 * Parameter: World world - The world queried
+	 * Parameter: long required - Bitmask of the component type ids required
+	 * Parameter: long excluded - Bitmask of the component type ids excluded
+	 */
+	Query(World world, long required, long excluded) {
+		this.world = world;
+		this.required = required;
+		this.excluded = excluded;
+	}
+	/*
+	 * Visit every matching entity, one archetype at a time - structural
+	 * changes to the world must go through its command buffer until the
+	 * iteration is complete
+	 * Parameter: ChunkVisitor visitor - The callback visiting the entities
+	 */
+	public void forEach(ChunkVisitor visitor) {
+		ArrayList<Archetype> archetypes = getArchetypes();
+		for (int i = 0; i < archetypes.size(); i++) {
+			Archetype archetype = archetypes.get(i);
+			int size = archetype.getSize();
+			if (size > 0) {
+				visitor.visit(archetype, 0, size);
+			}
+		}
+	}
+	/*
+	 * Get the archetypes matching this query, testing archetypes created
+	 * since the last call
+	 * Returns: ArrayList<Archetype> - The cached matching archetypes, which
+	 * must not be modified
+	 */
+	public ArrayList<Archetype> getArchetypes() {
+		ArrayList<Archetype> archetypes = world.getArchetypes();
+		while (testedCount < archetypes.size()) {
+			Archetype archetype = archetypes.get(testedCount++);
+			if ((archetype.mask & required) == required
+					&& (archetype.mask & excluded) == 0L) {
+				matches.add(archetype);
+			}
+		}
+		return matches;
+	}
+	/*
+	 * Count the entities matching this query
+	 * Returns: int - The number of matching entities
+	 */
+	public int getEntityCount() {
+		ArrayList<Archetype> archetypes = getArchetypes();
+		int count = 0;
+		for (int i = 0; i < archetypes.size(); i++) {
+			count += archetypes.get(i).getSize();
+		}
+		return count;
+	}
+	
+}
@@ -0,0 +1,273 @@
+/*
+ * File:		SystemScheduler.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Runs the update systems of a scene each update, in parallel
+ * 				where their component accesses do not conflict
+ */
+
+package com.limenfanestudio.sillplateframework.entity;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+
+import com.limenfanestudio.sillplateframework.application.Application;
+import com.limenfanestudio.sillplateframework.logging.LogLevel;
+import com.limenfanestudio.sillplateframework.logging.LogSource;
+
+// Scheduler for the update systems of a scene - systems are grouped into
+// layers in which no two systems conflict, keeping every conflicting pair
+// in the order the systems were added. Each layer runs on a fork/join pool
+// and completes before the next starts, and run() returns only once every
+// system has finished, so rendering never overlaps an update
+public class SystemScheduler {
+	
+	// The pool running systems and parallel loops
+	private ForkJoinPool pool = null;
+	// The systems in the order they were added
+	private final ArrayList<UpdateSystem> systems
+			= new ArrayList<UpdateSystem>();
+	// The layers of mutually non-conflicting systems in run order
+	private final ArrayList<UpdateSystem[]> layers
+			= new ArrayList<UpdateSystem[]>();
+	// Whether the layers must be rebuilt before the next run
+	private boolean dirty = false;
+	
+	/*
+	 * Construct a scheduler with a worker for each available processor
+	 */
+	public SystemScheduler() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+	/*
+	 * Construct a scheduler with a number of workers
+	 * Parameter: int parallelism - The number of worker threads
+	 */
+	public SystemScheduler(int parallelism) {
+		pool = new ForkJoinPool(Math.max(1, parallelism));
+	}
+	/*
+	 * Add a system, which runs after every conflicting system added before
+	 * it
+	 * Parameter: UpdateSystem system - The system to add
+	 */
+	public void add(UpdateSystem system) {
+		systems.add(system);
+		dirty = true;
+	}
+	/*
+	 * Remove a system
+	 * Parameter: UpdateSystem system - The system to remove
+	 * Returns: boolean - Whether the system was scheduled
+	 */
+	public boolean remove(UpdateSystem system) {
+		if (!systems.remove(system)) {
+			return false;
+		}
+		dirty = true;
+		return true;
+	}
+	/*
+	 * Run every system once, returning when all have finished
+	 * Parameter: World world - The world to update
+	 * Parameter: double deltaTime - The fixed duration of an update in
+	 * seconds
+	 */
+	public void run(final World world, final double deltaTime) {
+		if (pool == null) {
+			return;
+		}
+		if (dirty) {
+			buildLayers();
+		}
+		for (int i = 0; i < layers.size(); i++) {
+			final UpdateSystem[] layer = layers.get(i);
+			if (layer.length == 1) {
+				layer[0].update(world, this, deltaTime);
+				continue;
+			}
+			pool.invoke(new RecursiveAction() {
+				private static final long serialVersionUID = 1L;
+				protected void compute() {
+					RecursiveAction[] tasks = new RecursiveAction[layer.length];
+					for (int j = 0; j < layer.length; j++) {
+						final UpdateSystem system = layer[j];
+						tasks[j] = new RecursiveAction() {
+							private static final long serialVersionUID = 1L;
+							protected void compute() {
+								system.update(world, SystemScheduler.this,
+										deltaTime);
+							}
+						};
+					}
+					invokeAll(tasks);
+				}
+			});
+		}
+	}
+	/*
+	 * Visit the entities matching a query in parallel, in chunks of at most
+	 * a number of rows - the visitor must only write to the rows it is given
+	 * Parameter: Query query - The query selecting the entities
+	 * Parameter: ChunkVisitor visitor - The callback visiting each chunk
+	 * Parameter: int chunkSize - The maximum number of rows per chunk
+	 */
+	public void parallelFor(Query query, ChunkVisitor visitor,
+			int chunkSize) {
+		chunkSize = Math.max(1, chunkSize);
+		ArrayList<Archetype> archetypes = query.getArchetypes();
+		int chunkCount = 0;
+		for (int i = 0; i < archetypes.size(); i++) {
+			chunkCount += (archetypes.get(i).getSize() + chunkSize - 1)
+					/ chunkSize;
+		}
+		if (chunkCount == 0) {
+			return;
+		}
+		if (chunkCount == 1 || pool == null) {
+			query.forEach(visitor);
+			return;
+		}
+		Archetype[] chunkArchetypes = new Archetype[chunkCount];
+		int[] chunkStarts = new int[chunkCount];
+		int[] chunkEnds = new int[chunkCount];
+		int chunk = 0;
+		for (int i = 0; i < archetypes.size(); i++) {
+			Archetype archetype = archetypes.get(i);
+			int size = archetype.getSize();
+			for (int from = 0; from < size; from += chunkSize) {
+				chunkArchetypes[chunk] = archetype;
+				chunkStarts[chunk] = from;
+				chunkEnds[chunk] = Math.min(size, from + chunkSize);
+				chunk++;
+			}
+		}
+		pool.invoke(new ChunkTask(visitor, chunkArchetypes, chunkStarts,
+				chunkEnds, 0, chunkCount));
+	}
+	/*
+	 * Stop the worker threads and remove every system
+	 */
+	public void destroy() {
+		if (pool != null) {
+			pool.shutdown();
+			try {
+				pool.awaitTermination(10L, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			pool = null;
+		}
+		systems.clear();
+		layers.clear();
+	}
+	/*
+	 * Group the systems into layers, placing each system in the first layer
+	 * after the last layer holding a system it conflicts with
+	 */
+	private void buildLayers() {
+		ArrayList<ArrayList<UpdateSystem>> groups
+				= new ArrayList<ArrayList<UpdateSystem>>();
+		for (int i = 0; i < systems.size(); i++) {
+			UpdateSystem system = systems.get(i);
+			int layer = 0;
+			for (int j = groups.size() - 1; j >= 0; j--) {
+				ArrayList<UpdateSystem> group = groups.get(j);
+				boolean conflict = false;
+				for (int k = 0; k < group.size() && !conflict; k++) {
+					conflict = system.conflicts(group.get(k));
+				}
+				if (conflict) {
+					layer = j + 1;
+					break;
+				}
+			}
+			if (layer == groups.size()) {
+				groups.add(new ArrayList<UpdateSystem>());
+			}
+			groups.get(layer).add(system);
+		}
+		layers.clear();
+		for (int i = 0; i < groups.size(); i++) {
+			layers.add(groups.get(i).toArray(new UpdateSystem[0]));
+		}
+		dirty = false;
+		Application.Log.write(LogSource.Entity, LogLevel.Debug, "Scheduled ",
+				systems.size(), " systems in ", layers.size(), " layers");
+	}
+	
+	/*
+	 * Get the number of worker threads
+	 * Returns: int - The parallelism of the pool or 0 if destroyed
+	 */
+	public int getParallelism() {
+		return pool == null ? 0 : pool.getParallelism();
+	}
+	/*
+	 * Get the number of layers the systems are grouped into
+	 * Returns: int - The number of layers run one after another
+	 */
+	public int getLayerCount() {
+		if (dirty) {
+			buildLayers();
+		}
+		return layers.size();
+	}
+	
+	// Task visiting a range of chunks, splitting it in halves until a single
+	// chunk remains
+	private static class ChunkTask extends RecursiveAction {
+		
+		// Serialization version of the task
+		private static final long serialVersionUID = 1L;
+		
+		// The callback visiting each chunk
+		private final ChunkVisitor visitor;
+		// The archetype of each chunk
+		private final Archetype[] archetypes;
+		// The first row of each chunk
+		private final int[] starts;
+		// The row after the last of each chunk
+		private final int[] ends;
+		// The index of the first chunk of this task
+		private final int low;
+		// The index after the last chunk of this task
+		private final int high;
+		
+		/*
+		 * Construct a task visiting a range of chunks
+		 * Parameter: ChunkVisitor visitor - The callback visiting each chunk
+		 * Parameter: Archetype[] archetypes - The archetype of each chunk
+		 * Parameter: int[] starts - The first row of each chunk
+		 * Parameter: int[] ends - The row after the last of each chunk
+		 * Parameter: int low - The index of the first chunk
+		 * Parameter: int high - The index after the last chunk
+		 */
+		ChunkTask(ChunkVisitor visitor, Archetype[] archetypes, int[] starts,
+				int[] ends, int low, int high) {
+			this.visitor = visitor;
+			this.archetypes = archetypes;
+			this.starts = starts;
+			this.ends = ends;
+			this.low = low;
+			this.high = high;
+		}
+		/*
+		 * Visit the chunks of this task, forking half of them
+		 */
+		protected void compute() {
+			if (high - low == 1) {
+				visitor.visit(archetypes[low], starts[low], ends[low]);
+				return;
+			}
+			int middle = (low + high) >>> 1;
+			invokeAll(new ChunkTask(visitor, archetypes, starts, ends, low,
+					middle), new ChunkTask(visitor, archetypes, starts, ends,
+					middle, high));
+		}
+		
+	}
+	
+}
@@ -0,0 +1,100 @@
+/*
+ * File:		UpdateSystem.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Defines an abstract system updating the entities of a world,
+ * 				declaring the component types it reads and writes
+ */
+
+package com.limenfanestudio.sillplateframework.entity;
+
+// An abstract system run once per update by a system scheduler - systems
+// declaring no conflicting component types may run in parallel, so a
+// system must only touch the component types it declares and record
+// structural changes in the world's command buffer. Systems touching any
+// other shared state should be exclusive
+public abstract class UpdateSystem {
+	
+	// The name of this system
+	private final String name;
+	// Bitmask of the component type ids read by this system
+	final long reads;
+	// Bitmask of the component type ids written by this system
+	final long writes;
+	// Whether this system must run alone
+	final boolean exclusive;
+	
+	/*
+	 * Construct an exclusive system, which never runs alongside another
+	 * Parameter: String name - The name of this system
+	 */
+	protected UpdateSystem(String name) {
+		this.name = name;
+		reads = -1L;
+		writes = -1L;
+		exclusive = true;
+	}
+	/*
+	 * Construct a system declaring the component types it accesses
+	 * Parameter: String name - The name of this system
+	 * Parameter: ComponentType[] reads - The component types only read
+	 * Parameter: ComponentType[] writes - The component types written
+	 */
+	protected UpdateSystem(String name, ComponentType[] reads,
+			ComponentType[] writes) {
+		this.name = name;
+		long readMask = 0L;
+		long writeMask = 0L;
+		boolean valid = true;
+		for (int i = 0; i < reads.length; i++) {
+			valid &= reads[i].id < ComponentType.MaxCount;
+			readMask |= 1L << reads[i].id;
+		}
+		for (int i = 0; i < writes.length; i++) {
+			valid &= writes[i].id < ComponentType.MaxCount;
+			writeMask |= 1L << writes[i].id;
+		}
+		// Component types unusable in worlds cannot be tracked, so fall back
+		// to running alone
+		this.reads = valid ? readMask : -1L;
+		this.writes = valid ? writeMask : -1L;
+		exclusive = !valid;
+	}
+	/*
+	 * Advance the entities of a world by one fixed timestep
+	 * Parameter: World world - The world to update
+	 * Parameter: SystemScheduler scheduler - The scheduler running this
+	 * system, for splitting large queries with parallelFor()
+	 * Parameter: double deltaTime - The fixed duration of an update in
+	 * seconds
+	 */
+	public abstract void update(World world, SystemScheduler scheduler,
+			double deltaTime);
+	/*
+	 * Test whether this system may not run alongside another
+	 * Parameter: UpdateSystem other - The other system
+	 * Returns: boolean - Whether either system writes a component type the
+	 * other accesses, or either is exclusive
+	 */
+	boolean conflicts(UpdateSystem other) {
+		return exclusive || other.exclusive
+				|| (writes & (other.reads | other.writes)) != 0L
+				|| (other.writes & reads) != 0L;
+	}
+	
+	/*
+	 * Get the name of this system
+	 * Returns: String - The name of this system
+	 */
+	public String getName() {
+		return name;
+	}
+	/*
+	 * Test whether this system must run alone
+	 * Returns: boolean - Whether this system is exclusive
+	 */
+	public boolean isExclusive() {
+		return exclusive;
+	}
+	
+}
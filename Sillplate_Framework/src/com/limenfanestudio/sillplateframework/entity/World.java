@@ -0,0 +1,355 @@
+/*
+ * File:		World.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Manages the entities of a scene and their components stored
+ * 				by archetype
+ */
+
+package com.limenfanestudio.sillplateframework.entity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+import com.limenfanestudio.sillplateframework.application.Application;
+import com.limenfanestudio.sillplateframework.logging.LogLevel;
+import com.limenfanestudio.sillplateframework.logging.LogSource;
+
+// The entities of a scene - an entity is a handle combining an index with a
+// generation, so handles of destroyed entities are never mistaken for the
+// entities reusing their index. Components live in the archetype matching
+// the entity's set of component types, and adding or removing a component
+// moves the entity between archetypes. Structural changes must not be made
+// directly while a query is iterating - record them in the command buffer,
+// which is applied after each update
+public class World {
+	
+	// The archetype of each entity index or null if the index is free
+	private Archetype[] locations = new Archetype[64];
+	// The row of each entity index in its archetype
+	private int[] rows = new int[64];
+	// The current generation of each entity index
+	private int[] generations = new int[64];
+	// Stack of freed entity indices for reuse
+	private int[] freeIndices = new int[64];
+	// The number of freed entity indices
+	private int freeCount = 0;
+	// The number of entity indices ever used
+	private int indexCount = 0;
+	// The number of living entities
+	private int entityCount = 0;
+	// The archetypes of this world, keyed by component type mask
+	private final HashMap<Long, Archetype> archetypeMap
+			= new HashMap<Long, Archetype>();
+	// The archetypes of this world in creation order
+	private final ArrayList<Archetype> archetypes = new ArrayList<Archetype>();
+	// The archetype of entities without components
+	private final Archetype root;
+	// The component types used in this world, indexed by id
+	private final ComponentType[] typesById
+			= new ComponentType[ComponentType.MaxCount];
+	// The command buffer applied after each update
+	private final CommandBuffer commands = new CommandBuffer();
+	
+	/*
+	 * Construct an empty world
+	 */
+	public World() {
+		root = new Archetype(0L, new ComponentType[0]);
+		archetypeMap.put(0L, root);
+		archetypes.add(root);
+	}
+	/*
+	 * Create an entity with no components
+	 * Returns: long - The handle of the new entity
+	 */
+	public long createEntity() {
+		int index;
+		if (freeCount > 0) {
+			index = freeIndices[--freeCount];
+		} else {
+			if (indexCount == locations.length) {
+				int capacity = indexCount * 2;
+				locations = Arrays.copyOf(locations, capacity);
+				rows = Arrays.copyOf(rows, capacity);
+				generations = Arrays.copyOf(generations, capacity);
+			}
+			index = indexCount++;
+		}
+		long entity = ((long)generations[index] << 32) | index;
+		locations[index] = root;
+		rows[index] = root.add(entity);
+		entityCount++;
+		return entity;
+	}
+	/*
+	 * Destroy an entity and its components
+	 * Parameter: long entity - The entity handle
+	 * Returns: boolean - Whether the entity existed
+	 */
+	public boolean destroyEntity(long entity) {
+		if (!isAlive(entity)) {
+			return false;
+		}
+		int index = (int)entity;
+		remove(locations[index], rows[index]);
+		locations[index] = null;
+		generations[index] = (generations[index] + 1) & Integer.MAX_VALUE;
+		if (freeCount == freeIndices.length) {
+			freeIndices = Arrays.copyOf(freeIndices, freeCount * 2);
+		}
+		freeIndices[freeCount++] = index;
+		entityCount--;
+		return true;
+	}
+	/*
+	 * Test whether an entity exists
+	 * Parameter: long entity - The entity handle
+	 * Returns: boolean - Whether the entity exists
+	 */
+	public boolean isAlive(long entity) {
+		int index = (int)entity;
+		return entity >= 0L && index < indexCount && locations[index] != null
+				&& generations[index] == (int)(entity >>> 32);
+	}
+	/*
+	 * Add a component with zeroed fields to an entity
+	 * Parameter: long entity - The entity handle
+	 * Parameter: ComponentType type - The component type
+	 * Returns: boolean - Whether the component was added
+	 */
+	public boolean addComponent(long entity, ComponentType type) {
+		if (!isValid(type) || !isAlive(entity)) {
+			return false;
+		}
+		Archetype source = locations[(int)entity];
+		if (source.has(type)) {
+			return false;
+		}
+		Archetype destination = source.addEdges[type.id];
+		if (destination == null) {
+			destination = getArchetype(source.mask | (1L << type.id));
+			source.addEdges[type.id] = destination;
+			destination.removeEdges[type.id] = source;
+		}
+		move(entity, destination);
+		return true;
+	}
+	/*
+	 * Remove a component from an entity
+	 * Parameter: long entity - The entity handle
+	 * Parameter: ComponentType type - The component type
+	 * Returns: boolean - Whether the component was removed
+	 */
+	public boolean removeComponent(long entity, ComponentType type) {
+		if (!isValid(type) || !isAlive(entity)) {
+			return false;
+		}
+		Archetype source = locations[(int)entity];
+		if (!source.has(type)) {
+			return false;
+		}
+		Archetype destination = source.removeEdges[type.id];
+		if (destination == null) {
+			destination = getArchetype(source.mask & ~(1L << type.id));
+			source.removeEdges[type.id] = destination;
+			destination.addEdges[type.id] = source;
+		}
+		move(entity, destination);
+		return true;
+	}
+	/*
+	 * Test whether an entity has a component
+	 * Parameter: long entity - The entity handle
+	 * Parameter: ComponentType type - The component type
+	 * Returns: boolean - Whether the entity exists and has the component
+	 */
+	public boolean hasComponent(long entity, ComponentType type) {
+		return isAlive(entity) && locations[(int)entity].has(type);
+	}
+	/*
+	 * Get a field of an entity's component - for single entities only, as
+	 * queries are far faster for iterating
+	 * Parameter: long entity - The entity handle
+	 * Parameter: ComponentType type - The component type
+	 * Parameter: int field - The index of the field
+	 * Returns: double - The value of the field or 0 if the entity does not
+	 * have the component
+	 */
+	public double get(long entity, ComponentType type, int field) {
+		if (!isAlive(entity)) {
+			return 0.0d;
+		}
+		double[] column = locations[(int)entity].getColumn(type, field);
+		return column == null ? 0.0d : column[rows[(int)entity]];
+	}
+	/*
+	 * Set a field of an entity's component
+	 * Parameter: long entity - The entity handle
+	 * Parameter: ComponentType type - The component type
+	 * Parameter: int field - The index of the field
+	 * Parameter: double value - The new value of the field
+	 * Returns: boolean - Whether the entity has the component and field
+	 */
+	public boolean set(long entity, ComponentType type, int field,
+			double value) {
+		if (!isAlive(entity)) {
+			return false;
+		}
+		double[] column = locations[(int)entity].getColumn(type, field);
+		if (column == null) {
+			return false;
+		}
+		column[rows[(int)entity]] = value;
+		return true;
+	}
+	/*
+	 * Create a query over the entities with every one of a set of component
+	 * types - queries should be created once and reused
+	 * Parameter: ComponentType... required - The component types required
+	 * Returns: Query - The query or null if a component type is invalid
+	 */
+	public Query createQuery(ComponentType... required) {
+		return createQuery(required, new ComponentType[0]);
+	}
+	/*
+	 * Create a query over the entities with every one of a set of component
+	 * types and none of another - queries should be created once and reused
+	 * Parameter: ComponentType[] required - The component types required
+	 * Parameter: ComponentType[] excluded - The component types excluded
+	 * Returns: Query - The query or null if a component type is invalid
+	 */
+	public Query createQuery(ComponentType[] required,
+			ComponentType[] excluded) {
+		long requiredMask = getMask(required);
+		long excludedMask = getMask(excluded);
+		if (requiredMask == -1L || excludedMask == -1L) {
+			return null;
+		}
+		return new Query(this, requiredMask, excludedMask);
+	}
+	/*
+	 * Apply the structural changes recorded in the command buffer - called
+	 * after each update
+	 * Returns: int - The number of changes applied successfully
+	 */
+	public int applyCommands() {
+		return commands.apply(this);
+	}
+	/*
+	 * Destroy every entity, keeping the archetypes for reuse
+	 */
+	public void clear() {
+		for (int i = 0; i < indexCount; i++) {
+			if (locations[i] != null) {
+				destroyEntity(((long)generations[i] << 32) | i);
+			}
+		}
+		commands.clear();
+	}
+	/*
+	 * Move an entity to another archetype, keeping the components both
+	 * archetypes store
+	 * Parameter: long entity - The entity handle
+	 * Parameter: Archetype destination - The destination archetype
+	 */
+	private void move(long entity, Archetype destination) {
+		int index = (int)entity;
+		Archetype source = locations[index];
+		int row = rows[index];
+		int destinationRow = destination.add(entity);
+		source.copyRow(row, destination, destinationRow);
+		remove(source, row);
+		locations[index] = destination;
+		rows[index] = destinationRow;
+	}
+	/*
+	 * Remove a row from an archetype, updating the entity moved into it
+	 * Parameter: Archetype archetype - The archetype
+	 * Parameter: int row - The index of the row
+	 */
+	private void remove(Archetype archetype, int row) {
+		long moved = archetype.removeSwap(row);
+		if (moved != -1L) {
+			rows[(int)moved] = row;
+		}
+	}
+	/*
+	 * Get or create the archetype for a component type mask
+	 * Parameter: long mask - The bitmask of component type ids
+	 * Returns: Archetype - The archetype
+	 */
+	private Archetype getArchetype(long mask) {
+		Archetype archetype = archetypeMap.get(mask);
+		if (archetype != null) {
+			return archetype;
+		}
+		ArrayList<ComponentType> types = new ArrayList<ComponentType>();
+		long remaining = mask;
+		while (remaining != 0L) {
+			int id = Long.numberOfTrailingZeros(remaining);
+			remaining &= remaining - 1L;
+			types.add(typesById[id]);
+		}
+		archetype = new Archetype(mask, types.toArray(new ComponentType[0]));
+		archetypeMap.put(mask, archetype);
+		archetypes.add(archetype);
+		return archetype;
+	}
+	/*
+	 * Get the bitmask of a set of component types
+	 * Parameter: ComponentType[] types - The component types
+	 * Returns: long - The bitmask or -1 if a component type is invalid
+	 */
+	private long getMask(ComponentType[] types) {
+		long mask = 0L;
+		for (int i = 0; i < types.length; i++) {
+			if (!isValid(types[i])) {
+				return -1L;
+			}
+			mask |= 1L << types[i].id;
+		}
+		return mask;
+	}
+	/*
+	 * Test whether a component type can be used in worlds, remembering it
+	 * for building archetypes
+	 * Parameter: ComponentType type - The component type
+	 * Returns: boolean - Whether the component type is valid
+	 */
+	private boolean isValid(ComponentType type) {
+		if (type == null || type.id >= ComponentType.MaxCount) {
+			Application.Log.write(LogSource.Entity, LogLevel.Warning,
+					"Invalid component type ", type == null ? null
+					: type.getName());
+			return false;
+		}
+		typesById[type.id] = type;
+		return true;
+	}
+	
+	/*
+	 * Get the archetypes of this world
+	 * Returns: ArrayList<Archetype> - The archetypes in creation order, which
+	 * must not be modified
+	 */
+	public ArrayList<Archetype> getArchetypes() {
+		return archetypes;
+	}
+	/*
+	 * Get the command buffer for structural changes applied after each update
+	 * Returns: CommandBuffer - The world's command buffer
+	 */
+	public CommandBuffer getCommandBuffer() {
+		return commands;
+	}
+	/*
+	 * Get the number of living entities
+	 * Returns: int - The number of entities
+	 */
+	public int getEntityCount() {
+		return entityCount;
+	}
+	
+}
@@ -0,0 +1,101 @@
+/*
+ * File:		InputEvent.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Defines a single user input event delivered to the game loop
+ */
+
+package com.limenfanestudio.sillplateframework.input;
+
+// A single user input event - instances are owned by the input system and
+// reused every update, so their values must be copied to be kept
+public class InputEvent {
+	
+	// The kind of this event
+	InputEventType type = null;
+	// The key code, character or button number of this event
+	int code = 0;
+	// The horizontal mouse position on the canvas in pixels
+	int x = 0;
+	// The vertical mouse position on the canvas in pixels
+	int y = 0;
+	// The wheel rotation in notches, negative away from the user
+	double wheel = 0.0d;
+	// The AWT modifier flags held during this event
+	int modifiers = 0;
+	// The time of this event in milliseconds since the epoch
+	long time = 0L;
+	
+	/*
+	 * Set every value of this event
+	 * Parameter: InputEventType type - The kind of event
+	 * Parameter: int code - The key code, character or button number
+	 * Parameter: int x - The horizontal mouse position in pixels
+	 * Parameter: int y - The vertical mouse position in pixels
+	 * Parameter: double wheel - The wheel rotation in notches
+	 * Parameter: int modifiers - The AWT modifier flags
+	 * Parameter: long time - The time in milliseconds since the epoch
+	 */
+	void set(InputEventType type, int code, int x, int y, double wheel,
+			int modifiers, long time) {
+		this.type = type;
+		this.code = code;
+		this.x = x;
+		this.y = y;
+		this.wheel = wheel;
+		this.modifiers = modifiers;
+		this.time = time;
+	}
+	
+	/*
+	 * Get the kind of this event
+	 * Returns: InputEventType - The kind of event
+	 */
+	public InputEventType getType() {
+		return type;
+	}
+	/*
+	 * Get the key code, character or button number of this event, depending
+	 * on its kind
+	 * Returns: int - The code of this event
+	 */
+	public int getCode() {
+		return code;
+	}
+	/*
+	 * Get the horizontal mouse position on the canvas during this event
+	 * Returns: int - The horizontal position in pixels
+	 */
+	public int getX() {
+		return x;
+	}
+	/*
+	 * Get the vertical mouse position on the canvas during this event
+	 * Returns: int - The vertical position in pixels
+	 */
+	public int getY() {
+		return y;
+	}
+	/*
+	 * Get the wheel rotation of this event
+	 * Returns: double - The rotation in notches, negative away from the user
+	 */
+	public double getWheel() {
+		return wheel;
+	}
+	/*
+	 * Get the AWT modifier flags held during this event
+	 * Returns: int - The modifier flags, as InputEvent.getModifiersEx()
+	 */
+	public int getModifiers() {
+		return modifiers;
+	}
+	/*
+	 * Get the time of this event
+	 * Returns: long - The time in milliseconds since the epoch
+	 */
+	public long getTime() {
+		return time;
+	}
+	
+}
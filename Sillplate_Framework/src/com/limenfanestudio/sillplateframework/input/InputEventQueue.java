@@ -0,0 +1,109 @@
+/*
+ * File:		InputEventQueue.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Defines a bounded lock-free queue of input events from a single
+ * 				writing thread to a single reading thread
+ */
+
+package com.limenfanestudio.sillplateframework.input;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Bounded lock-free single-producer, single-consumer ring of input events
+// stored in primitive arrays - the AWT event thread writes, the game loop
+// reads, and neither ever blocks or allocates
+class InputEventQueue {
+	
+	// Every event kind, indexed by ordinal
+	private static final InputEventType[] Types = InputEventType.values();
+	
+	// The kinds of the queued events as ordinals
+	private final int[] types;
+	// The codes of the queued events
+	private final int[] codes;
+	// The horizontal mouse positions of the queued events
+	private final int[] xs;
+	// The vertical mouse positions of the queued events
+	private final int[] ys;
+	// The wheel rotations of the queued events
+	private final double[] wheels;
+	// The modifier flags of the queued events
+	private final int[] modifiers;
+	// The times of the queued events
+	private final long[] times;
+	// Mask mapping a sequence number to an array index
+	private final int mask;
+	// The sequence number of the next event to be written
+	private final AtomicLong tail = new AtomicLong(0L);
+	// The sequence number of the next event to be read
+	private final AtomicLong head = new AtomicLong(0L);
+	
+	/*
+	 * Construct an empty input event queue
+	 * Parameter: int capacity - The minimum number of events the queue can
+	 * hold, rounded up to a power of two
+	 */
+	InputEventQueue(int capacity) {
+		int size = 2;
+		while (size < capacity) {
+			size <<= 1;
+		}
+		types = new int[size];
+		codes = new int[size];
+		xs = new int[size];
+		ys = new int[size];
+		wheels = new double[size];
+		modifiers = new int[size];
+		times = new long[size];
+		mask = size - 1;
+	}
+	
+	/*
+	 * Add an event to the queue - writing thread only
+	 * Parameter: InputEventType type - The kind of event
+	 * Parameter: int code - The key code, character or button number
+	 * Parameter: int x - The horizontal mouse position in pixels
+	 * Parameter: int y - The vertical mouse position in pixels
+	 * Parameter: double wheel - The wheel rotation in notches
+	 * Parameter: int modifiers - The AWT modifier flags
+	 * Parameter: long time - The time in milliseconds since the epoch
+	 * Returns: boolean - Whether the queue had space for the event
+	 */
+	boolean offer(InputEventType type, int code, int x, int y, double wheel,
+			int modifiers, long time) {
+		long sequence = tail.get();
+		if (sequence - head.get() > mask) {
+			return false;
+		}
+		int index = (int)sequence & mask;
+		types[index] = type.ordinal();
+		codes[index] = code;
+		xs[index] = x;
+		ys[index] = y;
+		wheels[index] = wheel;
+		this.modifiers[index] = modifiers;
+		times[index] = time;
+		// Publish the written values to the reader
+		tail.lazySet(sequence + 1L);
+		return true;
+	}
+	/*
+	 * Remove the oldest event from the queue - reading thread only
+	 * Parameter: InputEvent destination - The event to copy the values into
+	 * Returns: boolean - Whether an event was available
+	 */
+	boolean poll(InputEvent destination) {
+		long sequence = head.get();
+		if (sequence == tail.get()) {
+			return false;
+		}
+		int index = (int)sequence & mask;
+		destination.set(Types[types[index]], codes[index], xs[index],
+				ys[index], wheels[index], modifiers[index], times[index]);
+		// Hand the slot back to the writer
+		head.lazySet(sequence + 1L);
+		return true;
+	}
+	
+}
@@ -0,0 +1,30 @@
+/*
+ * File:		InputEventType.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Defines the kinds of user input events
+ */
+
+package com.limenfanestudio.sillplateframework.input;
+
+// Kinds of user input events received from the window
+public enum InputEventType {
+	
+	// A key was pressed or auto-repeated, code is the AWT key code
+	KeyPressed,
+	// A key was released, code is the AWT key code
+	KeyReleased,
+	// A character was typed, code is the character
+	KeyTyped,
+	// A mouse button was pressed, code is the AWT button number
+	ButtonPressed,
+	// A mouse button was released, code is the AWT button number
+	ButtonReleased,
+	// The mouse moved, with or without buttons held
+	MouseMoved,
+	// The mouse wheel moved, wheel is the rotation in notches
+	WheelMoved,
+	// The window lost focus, so every held key and button is released
+	FocusLost
+	
+}
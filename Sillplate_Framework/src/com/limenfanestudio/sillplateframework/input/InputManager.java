@@ -0,0 +1,475 @@
+/*
+ * File:		InputManager.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Manages keyboard and mouse input from the window, delivered to
+ * 				the game loop once per update
+ */
+
+package com.limenfanestudio.sillplateframework.input;
+
+import java.awt.Canvas;
+import java.awt.event.FocusAdapter;
+import java.awt.event.FocusEvent;
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.limenfanestudio.sillplateframework.application.Application;
+import com.limenfanestudio.sillplateframework.application
+		.ApplicationConfiguration;
+import com.limenfanestudio.sillplateframework.logging.LogLevel;
+import com.limenfanestudio.sillplateframework.logging.LogSource;
+
+// The main class of the Sillplate Framework's input system - listeners on
+// the AWT event thread push events into a lock-free queue which the game
+// loop drains once per update into a snapshot of held, pressed and
+// released keys and buttons, and a list of the update's events
+public class InputManager {
+	
+	// The number of key codes tracked in the key state snapshot
+	private static final int KeyCount = 65536;
+	// The number of mouse buttons tracked in the button state snapshot
+	private static final int ButtonCount = 32;
+	
+	// Queue of events from the AWT event thread to the game loop - volatile
+	// as listeners already dispatched may still post after destroy()
+	private volatile InputEventQueue queue = null;
+	// The canvas the listeners are registered on or null if there is no
+	// window
+	private Canvas canvas = null;
+	// Listener for keyboard events
+	private KeyAdapter keyListener = null;
+	// Listener for mouse button, motion and wheel events
+	private MouseAdapter mouseListener = null;
+	// Listener for losing keyboard focus
+	private FocusAdapter focusListener = null;
+	// Bitset of keys currently held, indexed by key code
+	private final long[] keysDown = new long[KeyCount / 64];
+	// Bitset of keys pressed during the last update
+	private final long[] keysPressed = new long[KeyCount / 64];
+	// Bitset of keys released during the last update
+	private final long[] keysReleased = new long[KeyCount / 64];
+	// Bitset of mouse buttons currently held, indexed by button number
+	private int buttonsDown = 0;
+	// Bitset of mouse buttons pressed during the last update
+	private int buttonsPressed = 0;
+	// Bitset of mouse buttons released during the last update
+	private int buttonsReleased = 0;
+	// The horizontal mouse position on the canvas in pixels
+	private int mouseX = 0;
+	// The vertical mouse position on the canvas in pixels
+	private int mouseY = 0;
+	// The horizontal mouse position of the last mouse event, only accessed on
+	// the AWT event thread and posted with keyboard and focus events
+	private int listenerX = 0;
+	// The vertical mouse position of the last mouse event, only accessed on
+	// the AWT event thread and posted with keyboard and focus events
+	private int listenerY = 0;
+	// The wheel rotation during the last update in notches
+	private double wheelRotation = 0.0d;
+	// The events received during the last update, of which the first
+	// eventCount are in use
+	private InputEvent[] events = null;
+	// The number of events received during the last update
+	private int eventCount = 0;
+	// The number of events discarded because the queue was full
+	private final AtomicLong droppedCount = new AtomicLong(0L);
+	// Whether events come from a replay instead of the window, whose
+	// events are then drained and ignored
+	private boolean replaying = false;
+	// Receives the window's events ignored while replaying
+	private final InputEvent ignored = new InputEvent();
+	
+	/*
+	 * Initialize the Sillplate Framework's input system and start listening
+	 * to the canvas
+	 * Parameter: ApplicationConfiguration.InputConfiguration configuration -
+	 * The configuration settings for the input system
+	 * Parameter: Canvas canvas - The canvas to listen to or null if there is
+	 * no window
+	 * Returns: boolean - Whether the input system was initialized
+	 * successfully
+	 */
+	public boolean initialize(
+			ApplicationConfiguration.InputConfiguration configuration,
+			Canvas canvas) {
+		if (configuration.queueSize < 1) {
+			Application.Log.write(LogSource.Input, LogLevel.Warning,
+					"Invalid input queue size ", configuration.queueSize);
+			return false;
+		}
+		queue = new InputEventQueue(configuration.queueSize);
+		events = new InputEvent[64];
+		for (int i = 0; i < events.length; i++) {
+			events[i] = new InputEvent();
+		}
+		this.canvas = canvas;
+		if (canvas != null) {
+			addListeners();
+		}
+		Application.Log.write(LogSource.Input, LogLevel.Information,
+				"Initialized input system");
+		return true;
+	}
+	/*
+	 * Drain the events received since the last update into the input
+	 * snapshot and event list - called by the game loop once per update
+	 */
+	public void update() {
+		Arrays.fill(keysPressed, 0L);
+		Arrays.fill(keysReleased, 0L);
+		buttonsPressed = 0;
+		buttonsReleased = 0;
+		wheelRotation = 0.0d;
+		eventCount = 0;
+		if (replaying) {
+			while (queue.poll(ignored)) {
+			}
+			return;
+		}
+		while (true) {
+			ensureEventCapacity();
+			InputEvent event = events[eventCount];
+			if (!queue.poll(event)) {
+				break;
+			}
+			apply(event);
+			eventCount++;
+		}
+	}
+	/*
+	 * Add an event to the current update as if received from the window,
+	 * for replaying recorded input - called on the loop thread after
+	 * update()
+	 * Parameter: InputEventType type - The kind of event
+	 * Parameter: int code - The key code, character or button number
+	 * Parameter: int x - The horizontal mouse position in pixels
+	 * Parameter: int y - The vertical mouse position in pixels
+	 * Parameter: double wheel - The wheel rotation in notches
+	 * Parameter: int modifiers - The AWT modifier flags
+	 * Parameter: long time - The time in milliseconds since the epoch
+	 */
+	public void inject(InputEventType type, int code, int x, int y,
+			double wheel, int modifiers, long time) {
+		ensureEventCapacity();
+		InputEvent event = events[eventCount];
+		event.set(type, code, x, y, wheel, modifiers, time);
+		apply(event);
+		eventCount++;
+	}
+	/*
+	 * Stop listening to the canvas and free the input system's memory - the
+	 * listeners are removed first and any event they are still handling is
+	 * discarded
+	 */
+	public void destroy() {
+		if (canvas != null) {
+			canvas.removeKeyListener(keyListener);
+			canvas.removeMouseListener(mouseListener);
+			canvas.removeMouseMotionListener(mouseListener);
+			canvas.removeMouseWheelListener(mouseListener);
+			canvas.removeFocusListener(focusListener);
+			canvas = null;
+		}
+		queue = null;
+		events = null;
+		eventCount = 0;
+	}
+	/*
+	 * Register listeners on the canvas which push events into the queue
+	 */
+	private void addListeners() {
+		keyListener = new KeyAdapter() {
+			public void keyPressed(KeyEvent e) {
+				post(InputEventType.KeyPressed, e.getKeyCode(), listenerX,
+						listenerY, 0.0d, e.getModifiersEx(), e.getWhen());
+			}
+			public void keyReleased(KeyEvent e) {
+				post(InputEventType.KeyReleased, e.getKeyCode(), listenerX,
+						listenerY, 0.0d, e.getModifiersEx(), e.getWhen());
+			}
+			public void keyTyped(KeyEvent e) {
+				post(InputEventType.KeyTyped, e.getKeyChar(), listenerX,
+						listenerY, 0.0d, e.getModifiersEx(), e.getWhen());
+			}
+		};
+		mouseListener = new MouseAdapter() {
+			public void mousePressed(MouseEvent e) {
+				e.getComponent().requestFocus();
+				listenerX = e.getX();
+				listenerY = e.getY();
+				post(InputEventType.ButtonPressed, e.getButton(), listenerX,
+						listenerY, 0.0d, e.getModifiersEx(), e.getWhen());
+			}
+			public void mouseReleased(MouseEvent e) {
+				listenerX = e.getX();
+				listenerY = e.getY();
+				post(InputEventType.ButtonReleased, e.getButton(), listenerX,
+						listenerY, 0.0d, e.getModifiersEx(), e.getWhen());
+			}
+			public void mouseMoved(MouseEvent e) {
+				listenerX = e.getX();
+				listenerY = e.getY();
+				post(InputEventType.MouseMoved, 0, listenerX, listenerY, 0.0d,
+						e.getModifiersEx(), e.getWhen());
+			}
+			public void mouseDragged(MouseEvent e) {
+				mouseMoved(e);
+			}
+			public void mouseWheelMoved(MouseWheelEvent e) {
+				listenerX = e.getX();
+				listenerY = e.getY();
+				post(InputEventType.WheelMoved, 0, listenerX, listenerY,
+						e.getPreciseWheelRotation(), e.getModifiersEx(),
+						e.getWhen());
+			}
+		};
+		focusListener = new FocusAdapter() {
+			public void focusLost(FocusEvent e) {
+				post(InputEventType.FocusLost, 0, listenerX, listenerY, 0.0d, 0,
+						System.currentTimeMillis());
+			}
+		};
+		canvas.setFocusable(true);
+		canvas.setFocusTraversalKeysEnabled(false);
+		canvas.addKeyListener(keyListener);
+		canvas.addMouseListener(mouseListener);
+		canvas.addMouseMotionListener(mouseListener);
+		canvas.addMouseWheelListener(mouseListener);
+		canvas.addFocusListener(focusListener);
+		canvas.requestFocus();
+	}
+	/*
+	 * Grow the event list if every event in it is in use
+	 */
+	private void ensureEventCapacity() {
+		if (eventCount == events.length) {
+			int capacity = events.length;
+			events = Arrays.copyOf(events, capacity * 2);
+			for (int i = capacity; i < events.length; i++) {
+				events[i] = new InputEvent();
+			}
+		}
+	}
+	/*
+	 * Push an event into the queue from the AWT event thread, discarding it
+	 * if the game loop has fallen too far behind or the input system has
+	 * been destroyed
+	 * Parameter: InputEventType type - The kind of event
+	 * Parameter: int code - The key code, character or button number
+	 * Parameter: int x - The horizontal mouse position in pixels
+	 * Parameter: int y - The vertical mouse position in pixels
+	 * Parameter: double wheel - The wheel rotation in notches
+	 * Parameter: int modifiers - The AWT modifier flags
+	 * Parameter: long time - The time in milliseconds since the epoch
+	 */
+	private void post(InputEventType type, int code, int x, int y,
+			double wheel, int modifiers, long time) {
+		InputEventQueue target = queue;
+		if (target == null) {
+			return;
+		}
+		if (!target.offer(type, code, x, y, wheel, modifiers, time)) {
+			droppedCount.incrementAndGet();
+		}
+	}
+	/*
+	 * Apply an event to the input snapshot
+	 * Parameter: InputEvent event - The event to apply
+	 */
+	private void apply(InputEvent event) {
+		int code = event.code;
+		switch (event.type) {
+		case KeyPressed:
+			// Auto-repeated presses of a held key are only events
+			if (code >= 0 && code < KeyCount && !getBit(keysDown, code)) {
+				setBit(keysDown, code, true);
+				setBit(keysPressed, code, true);
+			}
+			break;
+		case KeyReleased:
+			if (code >= 0 && code < KeyCount) {
+				setBit(keysDown, code, false);
+				setBit(keysReleased, code, true);
+			}
+			break;
+		case ButtonPressed:
+			if (code >= 0 && code < ButtonCount) {
+				buttonsDown |= 1 << code;
+				buttonsPressed |= 1 << code;
+			}
+			mouseX = event.x;
+			mouseY = event.y;
+			break;
+		case ButtonReleased:
+			if (code >= 0 && code < ButtonCount) {
+				buttonsDown &= ~(1 << code);
+				buttonsReleased |= 1 << code;
+			}
+			mouseX = event.x;
+			mouseY = event.y;
+			break;
+		case MouseMoved:
+			mouseX = event.x;
+			mouseY = event.y;
+			break;
+		case WheelMoved:
+			wheelRotation += event.wheel;
+			mouseX = event.x;
+			mouseY = event.y;
+			break;
+		case FocusLost:
+			// Release everything held since the releases will never arrive
+			for (int i = 0; i < keysDown.length; i++) {
+				keysReleased[i] |= keysDown[i];
+				keysDown[i] = 0L;
+			}
+			buttonsReleased |= buttonsDown;
+			buttonsDown = 0;
+			break;
+		default:
+			break;
+		}
+	}
+	/*
+	 * Get a bit from a bitset
+	 * Parameter: long[] bits - The bitset
+	 * Parameter: int index - The index of the bit
+	 * Returns: boolean - Whether the bit is set
+	 */
+	private static boolean getBit(long[] bits, int index) {
+		return (bits[index >>> 6] & (1L << index)) != 0L;
+	}
+	/*
+	 * Set or clear a bit in a bitset
+	 * Parameter: long[] bits - The bitset
+	 * Parameter: int index - The index of the bit
+	 * Parameter: boolean value - Whether the bit should be set
+	 */
+	private static void setBit(long[] bits, int index, boolean value) {
+		if (value) {
+			bits[index >>> 6] |= 1L << index;
+		} else {
+			bits[index >>> 6] &= ~(1L << index);
+		}
+	}
+	
+	/*
+	 * Test whether a key is held
+	 * Parameter: int keyCode - The AWT key code, as KeyEvent.VK_*
+	 * Returns: boolean - Whether the key is held
+	 */
+	public boolean isKeyDown(int keyCode) {
+		return keyCode >= 0 && keyCode < KeyCount && getBit(keysDown, keyCode);
+	}
+	/*
+	 * Test whether a key was pressed during the last update
+	 * Parameter: int keyCode - The AWT key code, as KeyEvent.VK_*
+	 * Returns: boolean - Whether the key was pressed
+	 */
+	public boolean isKeyPressed(int keyCode) {
+		return keyCode >= 0 && keyCode < KeyCount
+				&& getBit(keysPressed, keyCode);
+	}
+	/*
+	 * Test whether a key was released during the last update
+	 * Parameter: int keyCode - The AWT key code, as KeyEvent.VK_*
+	 * Returns: boolean - Whether the key was released
+	 */
+	public boolean isKeyReleased(int keyCode) {
+		return keyCode >= 0 && keyCode < KeyCount
+				&& getBit(keysReleased, keyCode);
+	}
+	/*
+	 * Test whether a mouse button is held
+	 * Parameter: int button - The AWT button number, as MouseEvent.BUTTON*
+	 * Returns: boolean - Whether the button is held
+	 */
+	public boolean isButtonDown(int button) {
+		return button >= 0 && button < ButtonCount
+				&& (buttonsDown & (1 << button)) != 0;
+	}
+	/*
+	 * Test whether a mouse button was pressed during the last update
+	 * Parameter: int button - The AWT button number, as MouseEvent.BUTTON*
+	 * Returns: boolean - Whether the button was pressed
+	 */
+	public boolean isButtonPressed(int button) {
+		return button >= 0 && button < ButtonCount
+				&& (buttonsPressed & (1 << button)) != 0;
+	}
+	/*
+	 * Test whether a mouse button was released during the last update
+	 * Parameter: int button - The AWT button number, as MouseEvent.BUTTON*
+	 * Returns: boolean - Whether the button was released
+	 */
+	public boolean isButtonReleased(int button) {
+		return button >= 0 && button < ButtonCount
+				&& (buttonsReleased & (1 << button)) != 0;
+	}
+	/*
+	 * Get the horizontal mouse position on the canvas
+	 * Returns: int - The horizontal position in pixels
+	 */
+	public int getMouseX() {
+		return mouseX;
+	}
+	/*
+	 * Get the vertical mouse position on the canvas
+	 * Returns: int - The vertical position in pixels
+	 */
+	public int getMouseY() {
+		return mouseY;
+	}
+	/*
+	 * Get the total wheel rotation during the last update
+	 * Returns: double - The rotation in notches, negative away from the user
+	 */
+	public double getWheelRotation() {
+		return wheelRotation;
+	}
+	/*
+	 * Get the number of events received during the last update
+	 * Returns: int - The number of events
+	 */
+	public int getEventCount() {
+		return eventCount;
+	}
+	/*
+	 * Get an event received during the last update, in the order received
+	 * Parameter: int index - The index of the event, below getEventCount()
+	 * Returns: InputEvent - The event, reused after the next update
+	 */
+	public InputEvent getEvent(int index) {
+		return events[index];
+	}
+	/*
+	 * Test whether events come from a replay instead of the window
+	 * Returns: boolean - Whether replaying
+	 */
+	public boolean isReplaying() {
+		return replaying;
+	}
+	/*
+	 * Set whether events come from a replay through inject(), ignoring the
+	 * window's events
+	 * Parameter: boolean replaying - Whether replaying
+	 */
+	public void setReplaying(boolean replaying) {
+		this.replaying = replaying;
+	}
+	/*
+	 * Get the number of events discarded because the game loop fell too far
+	 * behind the window
+	 * Returns: long - The number of dropped events
+	 */
+	public long getDroppedCount() {
+		return droppedCount.get();
+	}
+	
+}
@@ -0,0 +1,219 @@
+/*
+ * File:		BinaryLogDecoder.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Command-line tool converting binary log files back into the
+ * 				logging system's text format
+ */
+
+package com.limenfanestudio.sillplateframework.logging;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+// Converts files written by binary log outputs into lines of text matching
+// the logging system's text outputs
+public class BinaryLogDecoder {
+	
+	// The timestamp format used when none is given on the command line
+	private static final String DefaultTimestampFormat =
+			"yyyy.MM.dd@HH:mm:ss.SSS";
+	
+	/*
+	 * Decode binary log files to the standard output
+	 * Usage: BinaryLogDecoder [-format timestampFormat] file...
+	 * Parameter: String[] args - The command-line arguments
+	 */
+	public static void main(String[] args) {
+		String timestampFormat = DefaultTimestampFormat;
+		List<String> fileNames = new ArrayList<String>();
+		for (int i = 0; i < args.length; i++) {
+			if (args[i].equals("-format") && i + 1 < args.length) {
+				timestampFormat = args[++i];
+			} else {
+				fileNames.add(args[i]);
+			}
+		}
+		if (fileNames.isEmpty()) {
+			System.err.println("Usage: BinaryLogDecoder [-format "
+					+ "timestampFormat] file...");
+			System.exit(1);
+		}
+		DateTimeFormatter formatter = null;
+		try {
+			formatter = DateTimeFormatter.ofPattern(timestampFormat)
+					.withZone(ZoneId.systemDefault());
+		} catch (IllegalArgumentException e) {
+			System.err.println("Invalid timestamp format \""
+					+ timestampFormat + "\"");
+			System.exit(1);
+		}
+		boolean success = true;
+		for (String fileName : fileNames) {
+			if (!decode(fileName, formatter, System.out)) {
+				System.err.println("Failed to decode \"" + fileName + "\"");
+				success = false;
+			}
+		}
+		System.exit(success ? 0 : 1);
+	}
+	/*
+	 * Decode a binary log file into lines of text
+	 * Parameter: String fileName - The file name / path of the binary log file
+	 * Parameter: DateTimeFormatter formatter - The formatter for timestamps
+	 * Parameter: PrintStream out - The stream to write the lines to
+	 * Returns: boolean - Whether the file was a valid binary log file and was
+	 * decoded completely
+	 */
+	public static boolean decode(String fileName, DateTimeFormatter formatter,
+			PrintStream out) {
+		try (RandomAccessFile file = new RandomAccessFile(fileName, "r")) {
+			MappedByteBuffer mapping = file.getChannel().map(
+					FileChannel.MapMode.READ_ONLY, 0L, file.length());
+			if (mapping.remaining() < BinaryLogOutput.HeaderSize
+					|| mapping.getInt() != BinaryLogOutput.Magic
+					|| mapping.getShort() > BinaryLogOutput.Version) {
+				return false;
+			}
+			return decodeRecords(mapping, formatter, out);
+		} catch (IOException e) {
+			return false;
+		}
+	}
+	/*
+	 * Decode the records following a binary log file's header
+	 * Parameter: ByteBuffer buffer - The file's contents, positioned after
+	 * the header
+	 * Parameter: DateTimeFormatter formatter - The formatter for timestamps
+	 * Parameter: PrintStream out - The stream to write the lines to
+	 * Returns: boolean - Whether every record was valid
+	 */
+	private static boolean decodeRecords(ByteBuffer buffer,
+			DateTimeFormatter formatter, PrintStream out) {
+		List<String> sources = new ArrayList<String>();
+		List<String> levels = new ArrayList<String>();
+		StringBuilder line = new StringBuilder(256);
+		try {
+			while (buffer.hasRemaining()) {
+				byte tag = buffer.get();
+				if (tag == BinaryLogOutput.EndRecord) {
+					return true;
+				} else if (tag == BinaryLogOutput.SourceRecord) {
+					set(sources, buffer.getShort(), getString(buffer));
+				} else if (tag == BinaryLogOutput.LevelRecord) {
+					short id = buffer.getShort();
+					buffer.getInt();
+					set(levels, id, getString(buffer));
+				} else if (tag == BinaryLogOutput.LogRecord) {
+					long timestamp = buffer.getLong();
+					String source = sources.get(buffer.getShort());
+					String level = levels.get(buffer.getShort());
+					int argumentCount = buffer.getShort();
+					line.setLength(0);
+					line.append(formatter.format(Instant.ofEpochSecond(
+							timestamp / 1000000000L, timestamp % 1000000000L)))
+							.append(": [").append(source).append("] [")
+							.append(level).append("] ");
+					for (int i = 0; i < argumentCount; i++) {
+						if (!appendArgument(buffer, line)) {
+							return false;
+						}
+					}
+					if (buffer.hasRemaining() && buffer.get(buffer.position())
+							== BinaryLogOutput.FieldsRecord) {
+						buffer.get();
+						int fieldCount = buffer.getShort();
+						for (int i = 0; i < fieldCount; i++) {
+							if (i > 0 || argumentCount > 0) {
+								line.append(' ');
+							}
+							line.append(getString(buffer)).append('=');
+							if (!appendArgument(buffer, line)) {
+								return false;
+							}
+						}
+					}
+					out.println(line);
+				} else {
+					return false;
+				}
+			}
+		} catch (RuntimeException e) {
+			// Truncated records or undefined ids
+			return false;
+		}
+		return true;
+	}
+	/*
+	 * Read a log argument and append its text form to a line
+	 * Parameter: ByteBuffer buffer - The buffer positioned at the argument
+	 * Parameter: StringBuilder line - The line to append to
+	 * Returns: boolean - Whether the argument's tag was valid
+	 */
+	private static boolean appendArgument(ByteBuffer buffer,
+			StringBuilder line) {
+		byte tag = buffer.get();
+		switch (tag) {
+		case BinaryLogOutput.NullArgument:
+			line.append("null");
+			return true;
+		case BinaryLogOutput.StringArgument:
+			line.append(getString(buffer));
+			return true;
+		case BinaryLogOutput.IntegerArgument:
+			line.append(buffer.getInt());
+			return true;
+		case BinaryLogOutput.LongArgument:
+			line.append(buffer.getLong());
+			return true;
+		case BinaryLogOutput.DoubleArgument:
+			line.append(buffer.getDouble());
+			return true;
+		case BinaryLogOutput.FloatArgument:
+			line.append(buffer.getFloat());
+			return true;
+		case BinaryLogOutput.BooleanArgument:
+			line.append(buffer.get() != 0);
+			return true;
+		case BinaryLogOutput.CharacterArgument:
+			line.append(buffer.getChar());
+			return true;
+		default:
+			return false;
+		}
+	}
+	/*
+	 * Read a string written as its length and UTF-16 characters
+	 * Parameter: ByteBuffer buffer - The buffer positioned at the string
+	 * Returns: String - The string
+	 */
+	private static String getString(ByteBuffer buffer) {
+		char[] chars = new char[buffer.getInt()];
+		for (int i = 0; i < chars.length; i++) {
+			chars[i] = buffer.getChar();
+		}
+		return new String(chars);
+	}
+	/*
+	 * Store a name at an id in a list, growing the list as needed
+	 * Parameter: List<String> names - The names indexed by id
+	 * Parameter: int id - The id
+	 * Parameter: String name - The name
+	 */
+	private static void set(List<String> names, int id, String name) {
+		while (names.size() <= id) {
+			names.add(null);
+		}
+		names.set(id, name);
+	}
+	
+}
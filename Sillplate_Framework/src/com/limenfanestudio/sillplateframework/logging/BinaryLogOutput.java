@@ -0,0 +1,345 @@
+/*
+ * File:		BinaryLogOutput.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Defines a log output writing compact binary records to
+ * 				pre-allocated, memory-mapped files
+ */
+
+package com.limenfanestudio.sillplateframework.logging;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+// Log output writing each log as a binary record into a memory-mapped file
+// of fixed size, continuing in a new numbered file whenever one is full -
+// files are read back as text by BinaryLogDecoder
+class BinaryLogOutput extends LogOutput {
+	
+	// Identifies the start of a binary log file
+	static final int Magic = 0x534C4F47;
+	// Version of the binary log format - version 2 added field records
+	static final short Version = 2;
+	// Record tag marking the end of the records in a file
+	static final byte EndRecord = 0;
+	// Record tag defining the name of a source id
+	static final byte SourceRecord = 1;
+	// Record tag defining the name and severity of a level id
+	static final byte LevelRecord = 2;
+	// Record tag for a log
+	static final byte LogRecord = 3;
+	// Record tag for the structured fields of the log before it
+	static final byte FieldsRecord = 4;
+	// Argument tag for a null object
+	static final byte NullArgument = 0;
+	// Argument tag for a string or any object stored as its string form
+	static final byte StringArgument = 1;
+	// Argument tag for an integer
+	static final byte IntegerArgument = 2;
+	// Argument tag for a long integer
+	static final byte LongArgument = 3;
+	// Argument tag for a double
+	static final byte DoubleArgument = 4;
+	// Argument tag for a float
+	static final byte FloatArgument = 5;
+	// Argument tag for a boolean
+	static final byte BooleanArgument = 6;
+	// Argument tag for a character
+	static final byte CharacterArgument = 7;
+	// Size in bytes of the header at the start of every file
+	static final int HeaderSize = 6;
+	
+	// The file name / path the numbered files are named after
+	private String fileName = "";
+	// The size in bytes every file is pre-allocated to
+	private int segmentSize = 0;
+	// The number of the file currently being written to
+	private int segmentIndex = -1;
+	// Java NIO handle for the current file
+	private FileChannel channel = null;
+	// Memory mapping of the current file
+	private MappedByteBuffer mapping = null;
+	// Whether each source id has been defined in the current file
+	private boolean[] sourcesDefined = new boolean[16];
+	// Whether each level id has been defined in the current file
+	private boolean[] levelsDefined = new boolean[8];
+	// String forms of the current log's arguments which are not primitives
+	private String[] strings = new String[8];
+	
+	/*
+	 * Construct a binary log output, creating its first file
+	 * Parameter: String fileName - The file name / path the numbered files are
+	 * named after
+	 * Parameter: int segmentSize - The size in bytes to pre-allocate every
+	 * file to
+	 * Throws: IOException - If the first file could not be created
+	 */
+	BinaryLogOutput(String fileName, int segmentSize) throws IOException {
+		this.fileName = fileName;
+		this.segmentSize = Math.max(4096, segmentSize);
+		openSegment();
+	}
+	
+	@Override
+	void write(LogEvent event, LogLine line) throws IOException {
+		if (mapping == null) {
+			throw new IOException("Binary log \"" + fileName + "\" is closed");
+		}
+		int sourceId = event.source.id;
+		int levelId = event.level.id;
+		int size = 15;
+		if (strings.length < event.dataLength) {
+			strings = new String[event.dataLength];
+		}
+		for (int i = 0; i < event.dataLength; i++) {
+			size += getArgumentSize(event.data[i], i);
+		}
+		LogFields fields = event.fields;
+		if (fields != null) {
+			size += getFieldsSize(fields);
+		}
+		int sourceSize = 7 + 2 * event.source.getName().length();
+		int levelSize = 11 + 2 * event.level.getName().length();
+		// Leave room for the end record, and discard logs that could never
+		// fit in an empty file, where both ids must be defined again
+		if (size + sourceSize + levelSize + 1 > segmentSize - HeaderSize) {
+			Arrays.fill(strings, 0, event.dataLength, null);
+			return;
+		}
+		if (!isDefined(sourcesDefined, sourceId)) {
+			size += sourceSize;
+		}
+		if (!isDefined(levelsDefined, levelId)) {
+			size += levelSize;
+		}
+		if (size + 1 > mapping.remaining()) {
+			openSegment();
+		}
+		if (!isDefined(sourcesDefined, sourceId)) {
+			mapping.put(SourceRecord);
+			mapping.putShort((short)sourceId);
+			putString(event.source.getName());
+			sourcesDefined = define(sourcesDefined, sourceId);
+		}
+		if (!isDefined(levelsDefined, levelId)) {
+			mapping.put(LevelRecord);
+			mapping.putShort((short)levelId);
+			mapping.putInt(event.level.getSeverity());
+			putString(event.level.getName());
+			levelsDefined = define(levelsDefined, levelId);
+		}
+		mapping.put(LogRecord);
+		mapping.putLong(event.timestamp);
+		mapping.putShort((short)sourceId);
+		mapping.putShort((short)levelId);
+		mapping.putShort((short)event.dataLength);
+		for (int i = 0; i < event.dataLength; i++) {
+			putArgument(event.data[i], i);
+			strings[i] = null;
+		}
+		if (fields != null) {
+			putFields(fields);
+		}
+		// Terminate the records without advancing so the next record
+		// overwrites the end marker
+		mapping.put(mapping.position(), EndRecord);
+	}
+	@Override
+	void flush() {
+		// Written records are visible through the page cache immediately, so
+		// only close() forces them to storage
+	}
+	@Override
+	void close() throws IOException {
+		if (channel != null) {
+			mapping.force();
+			channel.close();
+			channel = null;
+			mapping = null;
+		}
+	}
+	/*
+	 * Create, pre-allocate and map the next file, then close the current one
+	 * - if the next file cannot be created the current one stays open
+	 * Throws: IOException - If the next file could not be created
+	 */
+	private void openSegment() throws IOException {
+		RandomAccessFile file = new RandomAccessFile(fileName + "."
+				+ (segmentIndex + 1), "rw");
+		FileChannel nextChannel = null;
+		MappedByteBuffer nextMapping = null;
+		try {
+			file.setLength(0L);
+			file.setLength(segmentSize);
+			nextChannel = file.getChannel();
+			nextMapping = nextChannel.map(FileChannel.MapMode.READ_WRITE, 0L,
+					segmentSize);
+		} catch (IOException e) {
+			file.close();
+			throw e;
+		}
+		try {
+			close();
+		} finally {
+			segmentIndex++;
+			channel = nextChannel;
+			mapping = nextMapping;
+		}
+		mapping.putInt(Magic);
+		mapping.putShort(Version);
+		mapping.put(mapping.position(), EndRecord);
+		Arrays.fill(sourcesDefined, false);
+		Arrays.fill(levelsDefined, false);
+	}
+	/*
+	 * Write a string as its length and UTF-16 characters
+	 * Parameter: String string - The string to write
+	 */
+	private void putString(String string) {
+		int length = string.length();
+		mapping.putInt(length);
+		for (int i = 0; i < length; i++) {
+			mapping.putChar(string.charAt(i));
+		}
+	}
+	/*
+	 * Write a log argument as its tag and raw bytes
+	 * Parameter: Object obj - The argument to write
+	 * Parameter: int index - The index of the argument in the log
+	 */
+	private void putArgument(Object obj, int index) {
+		if (obj == null) {
+			mapping.put(NullArgument);
+		} else if (obj instanceof Integer || obj instanceof Short
+				|| obj instanceof Byte) {
+			mapping.put(IntegerArgument);
+			mapping.putInt(((Number)obj).intValue());
+		} else if (obj instanceof Long) {
+			mapping.put(LongArgument);
+			mapping.putLong((Long)obj);
+		} else if (obj instanceof Double) {
+			mapping.put(DoubleArgument);
+			mapping.putDouble((Double)obj);
+		} else if (obj instanceof Float) {
+			mapping.put(FloatArgument);
+			mapping.putFloat((Float)obj);
+		} else if (obj instanceof Boolean) {
+			mapping.put(BooleanArgument);
+			mapping.put((byte)((Boolean)obj ? 1 : 0));
+		} else if (obj instanceof Character) {
+			mapping.put(CharacterArgument);
+			mapping.putChar((Character)obj);
+		} else {
+			mapping.put(StringArgument);
+			putString(strings[index]);
+		}
+	}
+	/*
+	 * Write the structured fields of a log as a field record - each field is
+	 * its key followed by its value tagged like an argument
+	 * Parameter: LogFields fields - The fields to write
+	 */
+	private void putFields(LogFields fields) {
+		mapping.put(FieldsRecord);
+		mapping.putShort((short)fields.count);
+		for (int i = 0; i < fields.count; i++) {
+			putString(fields.keys[i]);
+			switch (fields.types[i]) {
+			case LogFields.IntegerField:
+				mapping.put(IntegerArgument);
+				mapping.putInt((int)fields.longs[i]);
+				break;
+			case LogFields.LongField:
+				mapping.put(LongArgument);
+				mapping.putLong(fields.longs[i]);
+				break;
+			case LogFields.DoubleField:
+				mapping.put(DoubleArgument);
+				mapping.putDouble(fields.doubles[i]);
+				break;
+			default:
+				if (fields.strings[i] == null) {
+					mapping.put(NullArgument);
+				} else {
+					mapping.put(StringArgument);
+					putString(fields.strings[i]);
+				}
+				break;
+			}
+		}
+	}
+	/*
+	 * Compute the number of bytes the field record of a log is written as
+	 * Parameter: LogFields fields - The fields of the log
+	 * Returns: int - The size of the record in bytes
+	 */
+	private static int getFieldsSize(LogFields fields) {
+		int size = 3;
+		for (int i = 0; i < fields.count; i++) {
+			size += 4 + 2 * fields.keys[i].length();
+			switch (fields.types[i]) {
+			case LogFields.IntegerField:
+				size += 5;
+				break;
+			case LogFields.StringField:
+				size += fields.strings[i] == null ? 1 : 5 + 2
+						* fields.strings[i].length();
+				break;
+			default:
+				size += 9;
+				break;
+			}
+		}
+		return size;
+	}
+	/*
+	 * Compute the number of bytes a log argument is written as, storing the
+	 * string form of arguments which are not primitives
+	 * Parameter: Object obj - The argument
+	 * Parameter: int index - The index of the argument in the log
+	 * Returns: int - The size of the argument in bytes
+	 */
+	private int getArgumentSize(Object obj, int index) {
+		if (obj == null) {
+			return 1;
+		} else if (obj instanceof Integer || obj instanceof Short
+				|| obj instanceof Byte || obj instanceof Float) {
+			return 5;
+		} else if (obj instanceof Long || obj instanceof Double) {
+			return 9;
+		} else if (obj instanceof Boolean) {
+			return 2;
+		} else if (obj instanceof Character) {
+			return 3;
+		}
+		strings[index] = obj.toString();
+		return 5 + 2 * strings[index].length();
+	}
+	/*
+	 * Test whether an id has been defined in the current file
+	 * Parameter: boolean[] defined - The defined flags indexed by id
+	 * Parameter: int id - The id
+	 * Returns: boolean - Whether the id has been defined
+	 */
+	private static boolean isDefined(boolean[] defined, int id) {
+		return id < defined.length && defined[id];
+	}
+	/*
+	 * Mark an id as defined in the current file
+	 * Parameter: boolean[] defined - The defined flags indexed by id
+	 * Parameter: int id - The id
+	 * Returns: boolean[] - The defined flags, grown if needed to hold the id
+	 */
+	private static boolean[] define(boolean[] defined, int id) {
+		if (id >= defined.length) {
+			defined = Arrays.copyOf(defined, Math.max(id + 1,
+					defined.length * 2));
+		}
+		defined[id] = true;
+		return defined;
+	}
+	
+}
@@ -0,0 +1,26 @@
+/*
+ * File:		ConsoleLogOutput.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Defines a log output writing lines of text to the console
+ */
+
+package com.limenfanestudio.sillplateframework.logging;
+
+// Log output writing each log as a line of text to the standard output
+class ConsoleLogOutput extends LogOutput {
+	
+	@Override
+	void write(LogEvent event, LogLine line) {
+		System.out.write(line.getArray(), 0, line.length());
+	}
+	@Override
+	void flush() {
+		System.out.flush();
+	}
+	@Override
+	void close() {
+		System.out.flush();
+	}
+	
+}
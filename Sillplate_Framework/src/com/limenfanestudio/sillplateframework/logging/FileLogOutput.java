@@ -0,0 +1,43 @@
+/*
+ * File:		FileLogOutput.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Defines a log output writing lines of text to a file
+ */
+
+package com.limenfanestudio.sillplateframework.logging;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+// Log output writing each log as a line of text to a file
+class FileLogOutput extends LogOutput {
+	
+	// Java IO handle for the file
+	private OutputStream writer = null;
+	
+	/*
+	 * Construct a file log output, creating or truncating the file
+	 * Parameter: String fileName - The file name / path of the file
+	 * Throws: IOException - If the file could not be opened
+	 */
+	FileLogOutput(String fileName) throws IOException {
+		writer = new BufferedOutputStream(new FileOutputStream(fileName));
+	}
+	
+	@Override
+	void write(LogEvent event, LogLine line) throws IOException {
+		writer.write(line.getArray(), 0, line.length());
+	}
+	@Override
+	void flush() throws IOException {
+		writer.flush();
+	}
+	@Override
+	void close() throws IOException {
+		writer.close();
+	}
+	
+}
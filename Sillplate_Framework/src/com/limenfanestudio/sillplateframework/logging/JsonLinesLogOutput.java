@@ -0,0 +1,108 @@
+/*
+ * File:		JsonLinesLogOutput.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Defines a log output writing each log as a JSON object on its
+ * 				own line
+ */
+
+package com.limenfanestudio.sillplateframework.logging;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+// Log output writing each log to a file as a JSON object on its own line,
+// for log pipelines to ingest without parsing text - the object holds the
+// time, source, level and message of the log followed by its structured
+// fields, encoded straight into a reused line
+class JsonLinesLogOutput extends LogOutput {
+	
+	// Cache of ISO-8601 UTC timestamps shared by every JSON Lines output
+	private static final LogTimestampCache Timestamps = new LogTimestampCache(
+			DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'")
+			.withZone(ZoneOffset.UTC));
+	
+	// Java IO handle for the file
+	private OutputStream writer = null;
+	// Reused line each log is encoded into
+	private final LogLine json = new LogLine();
+	
+	/*
+	 * Construct a JSON Lines log output, creating or truncating the file
+	 * Parameter: String fileName - The file name / path of the file
+	 * Throws: IOException - If the file could not be opened
+	 */
+	JsonLinesLogOutput(String fileName) throws IOException {
+		writer = new BufferedOutputStream(new FileOutputStream(fileName));
+	}
+	
+	@Override
+	void write(LogEvent event, LogLine line) throws IOException {
+		json.clear();
+		json.put("{\"time\":\"");
+		Timestamps.put(json, event.timestamp);
+		json.put("\",\"source\":\"");
+		json.putEscaped(event.source.getName());
+		json.put("\",\"level\":\"");
+		json.putEscaped(event.level.getName());
+		json.put("\",\"message\":\"");
+		for (int i = 0; i < event.dataLength; i++) {
+			json.putEscaped(event.data[i]);
+		}
+		json.put('"');
+		LogFields fields = event.fields;
+		if (fields != null) {
+			for (int i = 0; i < fields.count; i++) {
+				json.put(",\"");
+				json.putEscaped(fields.keys[i]);
+				json.put("\":");
+				putValue(fields, i);
+			}
+		}
+		json.put("}\n");
+		writer.write(json.getArray(), 0, json.length());
+	}
+	@Override
+	void flush() throws IOException {
+		writer.flush();
+	}
+	@Override
+	void close() throws IOException {
+		writer.close();
+	}
+	/*
+	 * Write the value of a field as a JSON value - numbers JSON cannot hold
+	 * and null strings are written as null
+	 * Parameter: LogFields fields - The fields of the log
+	 * Parameter: int index - The index of the field
+	 */
+	private void putValue(LogFields fields, int index) {
+		switch (fields.types[index]) {
+		case LogFields.DoubleField:
+			double value = fields.doubles[index];
+			if (Double.isNaN(value) || Double.isInfinite(value)) {
+				json.put("null");
+			} else {
+				json.put(value);
+			}
+			break;
+		case LogFields.StringField:
+			if (fields.strings[index] == null) {
+				json.put("null");
+			} else {
+				json.put('"');
+				json.putEscaped(fields.strings[index]);
+				json.put('"');
+			}
+			break;
+		default:
+			json.put(fields.longs[index]);
+			break;
+		}
+	}
+	
+}
@@ -0,0 +1,142 @@
+/*
+ * File:		LogEntry.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Defines a builder for structured logs with typed key-value
+ * 				fields
+ */
+
+package com.limenfanestudio.sillplateframework.logging;
+
+// A structured log being built - obtained from LogManager.entry(), given
+// typed fields and then written, for example
+// Application.Log.entry(LogSource.Assets, LogLevel.Information)
+// 		.field("path", path).field("bytes", size).write("Loaded asset");
+// Entries are reused for each thread, so an entry must be written before
+// the next one is obtained and must not be kept afterwards. If the log is
+// disabled the entry ignores its fields and writes nothing
+public class LogEntry {
+	
+	// Data of entries written without a message
+	private static final Object[] NoMessage = new Object[0];
+	
+	// The logging system writing this entry or null if it is disabled
+	private LogManager manager = null;
+	// The source flag of this entry
+	private LogSource source = null;
+	// The level flag of this entry
+	private LogLevel level = null;
+	// The fields of this entry
+	private final LogFields fields = new LogFields();
+	// Reused array holding the message as the log's data
+	private final Object[] message = new Object[1];
+	// Whether this entry has been obtained and not yet written
+	boolean busy = false;
+	
+	/*
+	 * Construct an entry for a logging system
+	 * Parameter: LogManager manager - The logging system or null for an entry
+	 * which is always disabled
+	 */
+	LogEntry(LogManager manager) {
+		this.manager = manager;
+	}
+	/*
+	 * Start this entry as a new log
+	 * Parameter: LogSource source - The source flag of the log
+	 * Parameter: LogLevel level - The level flag of the log
+	 */
+	void start(LogSource source, LogLevel level) {
+		this.source = source;
+		this.level = level;
+		fields.clear();
+		busy = true;
+	}
+	/*
+	 * Add an integer field to this entry
+	 * Parameter: String key - The key of the field
+	 * Parameter: int value - The value of the field
+	 * Returns: LogEntry - This entry
+	 */
+	public LogEntry field(String key, int value) {
+		if (busy) {
+			fields.add(key, LogFields.IntegerField, value);
+		}
+		return this;
+	}
+	/*
+	 * Add a long integer field to this entry
+	 * Parameter: String key - The key of the field
+	 * Parameter: long value - The value of the field
+	 * Returns: LogEntry - This entry
+	 */
+	public LogEntry field(String key, long value) {
+		if (busy) {
+			fields.add(key, LogFields.LongField, value);
+		}
+		return this;
+	}
+	/*
+	 * Add a double field to this entry
+	 * Parameter: String key - The key of the field
+	 * Parameter: double value - The value of the field
+	 * Returns: LogEntry - This entry
+	 */
+	public LogEntry field(String key, double value) {
+		if (busy) {
+			fields.add(key, value);
+		}
+		return this;
+	}
+	/*
+	 * Add a string field to this entry
+	 * Parameter: String key - The key of the field
+	 * Parameter: String value - The value of the field
+	 * Returns: LogEntry - This entry
+	 */
+	public LogEntry field(String key, String value) {
+		if (busy) {
+			fields.add(key, value);
+		}
+		return this;
+	}
+	/*
+	 * Write this entry to the log without a message
+	 */
+	public void write() {
+		if (!busy) {
+			return;
+		}
+		try {
+			manager.log(source, level, NoMessage, fields);
+		} finally {
+			reset();
+		}
+	}
+	/*
+	 * Write this entry to the log with a message
+	 * Parameter: String message - The message of the log
+	 */
+	public void write(String message) {
+		if (!busy) {
+			return;
+		}
+		this.message[0] = message;
+		try {
+			manager.log(source, level, this.message, fields);
+		} finally {
+			this.message[0] = null;
+			reset();
+		}
+	}
+	/*
+	 * Release this entry's flags and fields once written so it can be reused
+	 */
+	private void reset() {
+		source = null;
+		level = null;
+		fields.clear();
+		busy = false;
+	}
+	
+}
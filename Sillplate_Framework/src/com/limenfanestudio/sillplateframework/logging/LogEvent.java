@@ -0,0 +1,128 @@
+/*
+ * File:		LogEvent.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Defines a reusable container for a single log message passed
+ * 				between the logging system's threads
+ */
+
+package com.limenfanestudio.sillplateframework.logging;
+
+// A single log message's timestamp, flags and data - instances are owned by
+// the logging system and reused for many messages
+class LogEvent {
+	
+	// Data of events released by unwrap() until they are next filled
+	private static final Object[] NoData = new Object[0];
+	
+	// The time the log was written in nanoseconds since the epoch
+	long timestamp = 0L;
+	// The source flag of the log
+	LogSource source = null;
+	// The level flag of the log
+	LogLevel level = null;
+	// The objects written to the log, of which only the first dataLength are
+	// in use
+	Object[] data = new Object[4];
+	// The number of objects in use in data
+	int dataLength = 0;
+	// The typed key-value fields of the log or null for a log without fields
+	LogFields fields = null;
+	// Storage the fields of buffered logs are copied into
+	private LogFields storedFields = null;
+	
+	/*
+	 * Fill this log event, copying the data objects into its own storage
+	 * Parameter: long timestamp - The time in nanoseconds since the epoch
+	 * Parameter: LogSource source - The source flag of the log
+	 * Parameter: LogLevel level - The level flag of the log
+	 * Parameter: Object[] data - The objects written to the log
+	 * Parameter: LogFields fields - The fields of the log or null for none
+	 */
+	void set(long timestamp, LogSource source, LogLevel level,
+			Object[] data, LogFields fields) {
+		this.timestamp = timestamp;
+		this.source = source;
+		this.level = level;
+		if (this.data.length < data.length) {
+			this.data = new Object[data.length];
+		}
+		for (int i = 0; i < data.length; i++) {
+			this.data[i] = capture(data[i]);
+		}
+		dataLength = data.length;
+		if (fields == null || fields.count == 0) {
+			this.fields = null;
+			return;
+		}
+		if (storedFields == null) {
+			storedFields = new LogFields();
+		}
+		storedFields.copy(fields);
+		this.fields = storedFields;
+	}
+	/*
+	 * Fill this log event, referencing the data objects directly - used when
+	 * the log is written immediately on the calling thread
+	 * Parameter: long timestamp - The time in nanoseconds since the epoch
+	 * Parameter: LogSource source - The source flag of the log
+	 * Parameter: LogLevel level - The level flag of the log
+	 * Parameter: Object[] data - The objects written to the log
+	 * Parameter: LogFields fields - The fields of the log or null for none
+	 */
+	void wrap(long timestamp, LogSource source, LogLevel level,
+			Object[] data, LogFields fields) {
+		this.timestamp = timestamp;
+		this.source = source;
+		this.level = level;
+		this.data = data;
+		dataLength = data.length;
+		this.fields = fields == null || fields.count == 0 ? null : fields;
+	}
+	/*
+	 * Release the references of a log event filled by wrap() without
+	 * clearing the data objects, which belong to the caller
+	 */
+	void unwrap() {
+		source = null;
+		level = null;
+		data = NoData;
+		dataLength = 0;
+		fields = null;
+	}
+	/*
+	 * Release the references held by this log event so it does not keep
+	 * logged objects alive while waiting for reuse
+	 */
+	void clear() {
+		source = null;
+		level = null;
+		for (int i = 0; i < dataLength; i++) {
+			data[i] = null;
+		}
+		dataLength = 0;
+		if (storedFields != null) {
+			storedFields.clear();
+		}
+		fields = null;
+	}
+	/*
+	 * Convert an object to a form that is safe to format later on another
+	 * thread - strings and boxed primitives are immutable and kept as-is, all
+	 * other objects, including other numbers such as AtomicInteger, are
+	 * converted to strings immediately
+	 * Parameter: Object obj - The object to capture
+	 * Returns: Object - The object or its string form
+	 */
+	private static Object capture(Object obj) {
+		if (obj == null || obj instanceof String || obj instanceof Integer
+				|| obj instanceof Long || obj instanceof Double
+				|| obj instanceof Float || obj instanceof Short
+				|| obj instanceof Byte || obj instanceof Boolean
+				|| obj instanceof Character) {
+			return obj;
+		}
+		return obj.toString();
+	}
+	
+}
@@ -0,0 +1,110 @@
+/*
+ * File:		LogFields.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Defines reusable storage for the typed key-value fields of a
+ * 				structured log
+ */
+
+package com.limenfanestudio.sillplateframework.logging;
+
+import java.util.Arrays;
+
+// The key-value fields of a structured log, stored in parallel arrays by type
+// so numbers are never boxed - instances are owned by the logging system and
+// reused for many logs
+class LogFields {
+	
+	// Field type for an integer
+	static final byte IntegerField = 0;
+	// Field type for a long integer
+	static final byte LongField = 1;
+	// Field type for a double
+	static final byte DoubleField = 2;
+	// Field type for a string
+	static final byte StringField = 3;
+	
+	// The keys of the fields, of which only the first count are in use
+	String[] keys = new String[8];
+	// The types of the fields
+	byte[] types = new byte[8];
+	// The values of integer and long integer fields
+	long[] longs = new long[8];
+	// The values of double fields
+	double[] doubles = new double[8];
+	// The values of string fields
+	String[] strings = new String[8];
+	// The number of fields in use
+	int count = 0;
+	
+	/*
+	 * Add an integer or long integer field
+	 * Parameter: String key - The key of the field
+	 * Parameter: byte type - IntegerField or LongField
+	 * Parameter: long value - The value of the field
+	 */
+	void add(String key, byte type, long value) {
+		int index = next(key, type);
+		longs[index] = value;
+	}
+	/*
+	 * Add a double field
+	 * Parameter: String key - The key of the field
+	 * Parameter: double value - The value of the field
+	 */
+	void add(String key, double value) {
+		int index = next(key, DoubleField);
+		doubles[index] = value;
+	}
+	/*
+	 * Add a string field
+	 * Parameter: String key - The key of the field
+	 * Parameter: String value - The value of the field
+	 */
+	void add(String key, String value) {
+		int index = next(key, StringField);
+		strings[index] = value;
+	}
+	/*
+	 * Replace these fields with a copy of other fields
+	 * Parameter: LogFields fields - The fields to copy
+	 */
+	void copy(LogFields fields) {
+		clear();
+		for (int i = 0; i < fields.count; i++) {
+			int index = next(fields.keys[i], fields.types[i]);
+			longs[index] = fields.longs[i];
+			doubles[index] = fields.doubles[i];
+			strings[index] = fields.strings[i];
+		}
+	}
+	/*
+	 * Remove every field, releasing the references to their keys and strings
+	 */
+	void clear() {
+		Arrays.fill(keys, 0, count, null);
+		Arrays.fill(strings, 0, count, null);
+		count = 0;
+	}
+	/*
+	 * Claim the next field, growing the arrays if they are full
+	 * Parameter: String key - The key of the field
+	 * Parameter: byte type - The type of the field
+	 * Returns: int - The index of the field
+	 */
+	private int next(String key, byte type) {
+		if (count == keys.length) {
+			int length = keys.length * 2;
+			keys = Arrays.copyOf(keys, length);
+			types = Arrays.copyOf(types, length);
+			longs = Arrays.copyOf(longs, length);
+			doubles = Arrays.copyOf(doubles, length);
+			strings = Arrays.copyOf(strings, length);
+		}
+		keys[count] = key;
+		types[count] = type;
+		strings[count] = null;
+		return count++;
+	}
+	
+}
@@ -7,26 +7,48 @@
 
 package com.limenfanestudio.sillplateframework.logging;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 // Defines a type for log level flags and static levels for the Sillplate
-// Framework - wrapper for a string
+// Framework - wrapper for a string and a severity ordering the levels
 public class LogLevel {
 	
+	// Counter assigning each log level flag a unique id
+	private static final AtomicInteger NextId = new AtomicInteger(0);
+	
+	// Debug log level
+	public static LogLevel Debug = new LogLevel("Debug", 100);
 	// Information log level
-	public static LogLevel Information = new LogLevel("Info");
+	public static LogLevel Information = new LogLevel("Info", 200);
 	// Warning log level
-	public static LogLevel Warning = new LogLevel("Warning");
+	public static LogLevel Warning = new LogLevel("Warning", 300);
 	// Error log level
-	public static LogLevel Error = new LogLevel("Error");
+	public static LogLevel Error = new LogLevel("Error", 400);
 	
 	// The name of this log level flag
 	protected String name = "";
+	// Unique id of this log level flag, interned for compact log outputs
+	final int id = NextId.getAndIncrement();
+	// The severity of this log level flag - higher values are more severe
+	protected int severity = 0;
 	
 	/*
-	 * Constructs a log level flag with a name
+	 * Constructs a log level flag with a name and the severity of the
+	 * information level
 	 * Parameter: String name - The name of this log level flag
 	 */
 	public LogLevel(String name) {
+		this(name, 200);
+	}
+	/*
+	 * Constructs a log level flag with a name and severity
+	 * Parameter: String name - The name of this log level flag
+	 * Parameter: int severity - The severity of this log level flag, where
+	 * higher values are more severe
+	 */
+	public LogLevel(String name, int severity) {
 		this.name = name;
+		this.severity = severity;
 	}
 	
 	/*
@@ -36,5 +58,12 @@ public class LogLevel {
 	public String getName() {
 		return name;
 	}
+	/*
+	 * Get the severity of this log level flag
+	 * Returns: int - The severity of this log level flag
+	 */
+	public int getSeverity() {
+		return severity;
+	}
 
 }
@@ -0,0 +1,242 @@
+/*
+ * File:		LogLine.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Defines a reusable buffer logs are encoded into as lines of
+ * 				UTF-8 text
+ */
+
+package com.limenfanestudio.sillplateframework.logging;
+
+import java.nio.ByteBuffer;
+
+// A log formatted as a line of UTF-8 text - objects are encoded straight into
+// a reused buffer, so formatting a log allocates no intermediate strings
+class LogLine {
+	
+	// The encoded line, from the start of the buffer to its position
+	private ByteBuffer bytes = ByteBuffer.allocate(256);
+	// Scratch builder objects other than strings are appended to before
+	// being encoded
+	private final StringBuilder text = new StringBuilder(64);
+	// Whether this line is being formatted or written, so a log written while
+	// formatting another on the same thread is given its own line
+	boolean busy = false;
+	
+	/*
+	 * Empty this line to format another log into it
+	 */
+	void clear() {
+		bytes.clear();
+	}
+	/*
+	 * Append encoded bytes to this line
+	 * Parameter: byte[] data - The bytes to append
+	 */
+	void put(byte[] data) {
+		ensureRemaining(data.length);
+		bytes.put(data);
+	}
+	/*
+	 * Append an ASCII character to this line
+	 * Parameter: char c - The character to append
+	 */
+	void put(char c) {
+		ensureRemaining(1);
+		bytes.put((byte)c);
+	}
+	/*
+	 * Append an object to this line as text - integers and decimals are
+	 * written without being converted to strings
+	 * Parameter: Object obj - The object to append
+	 */
+	void put(Object obj) {
+		if (obj instanceof String) {
+			put((CharSequence)obj);
+			return;
+		}
+		text.setLength(0);
+		if (obj instanceof Long || obj instanceof Integer
+				|| obj instanceof Short || obj instanceof Byte) {
+			text.append(((Number)obj).longValue());
+		} else if (obj instanceof Double) {
+			text.append(((Double)obj).doubleValue());
+		} else if (obj instanceof Float) {
+			text.append(((Float)obj).floatValue());
+		} else {
+			text.append(obj);
+		}
+		put(text);
+	}
+	/*
+	 * Append a long integer to this line as text
+	 * Parameter: long value - The number to append
+	 */
+	void put(long value) {
+		text.setLength(0);
+		text.append(value);
+		put(text);
+	}
+	/*
+	 * Append a double to this line as text
+	 * Parameter: double value - The number to append
+	 */
+	void put(double value) {
+		text.setLength(0);
+		text.append(value);
+		put(text);
+	}
+	/*
+	 * Append the value of a structured log field to this line as text
+	 * Parameter: LogFields fields - The fields of the log
+	 * Parameter: int index - The index of the field
+	 */
+	void putField(LogFields fields, int index) {
+		switch (fields.types[index]) {
+		case LogFields.DoubleField:
+			put(fields.doubles[index]);
+			break;
+		case LogFields.StringField:
+			put((Object)fields.strings[index]);
+			break;
+		default:
+			put(fields.longs[index]);
+			break;
+		}
+	}
+	/*
+	 * Append characters to this line, encoded as UTF-8 - unpaired surrogates
+	 * are replaced with '?'
+	 * Parameter: CharSequence chars - The characters to append
+	 */
+	void put(CharSequence chars) {
+		put(chars, false);
+	}
+	/*
+	 * Append an object to this line as the contents of a JSON string,
+	 * escaping quotes, backslashes and control characters
+	 * Parameter: Object obj - The object to append
+	 */
+	void putEscaped(Object obj) {
+		if (obj instanceof String) {
+			put((String)obj, true);
+			return;
+		}
+		text.setLength(0);
+		text.append(obj);
+		put(text, true);
+	}
+	/*
+	 * Append characters to this line, encoded as UTF-8 and optionally escaped
+	 * for a JSON string
+	 * Parameter: CharSequence chars - The characters to append
+	 * Parameter: boolean escape - Whether to escape the characters for JSON
+	 */
+	private void put(CharSequence chars, boolean escape) {
+		int length = chars.length();
+		// A character takes at most three bytes, a surrogate pair four and an
+		// escaped control character six
+		ensureRemaining(length * (escape ? 6 : 3));
+		byte[] array = bytes.array();
+		int position = bytes.position();
+		for (int i = 0; i < length; i++) {
+			char c = chars.charAt(i);
+			if (escape && (c < 0x20 || c == '"' || c == '\\')) {
+				position = escape(array, position, c);
+			} else if (c < 0x80) {
+				array[position++] = (byte)c;
+			} else if (c < 0x800) {
+				array[position++] = (byte)(0xC0 | (c >> 6));
+				array[position++] = (byte)(0x80 | (c & 0x3F));
+			} else if (Character.isHighSurrogate(c) && i + 1 < length
+					&& Character.isLowSurrogate(chars.charAt(i + 1))) {
+				int codePoint = Character.toCodePoint(c, chars.charAt(++i));
+				array[position++] = (byte)(0xF0 | (codePoint >> 18));
+				array[position++] = (byte)(0x80 | ((codePoint >> 12) & 0x3F));
+				array[position++] = (byte)(0x80 | ((codePoint >> 6) & 0x3F));
+				array[position++] = (byte)(0x80 | (codePoint & 0x3F));
+			} else if (Character.isSurrogate(c)) {
+				array[position++] = (byte)'?';
+			} else {
+				array[position++] = (byte)(0xE0 | (c >> 12));
+				array[position++] = (byte)(0x80 | ((c >> 6) & 0x3F));
+				array[position++] = (byte)(0x80 | (c & 0x3F));
+			}
+		}
+		bytes.position(position);
+	}
+	/*
+	 * Overwrite three bytes already in this line with the ASCII digits of a
+	 * number below 1000
+	 * Parameter: int index - The index of the first digit's byte
+	 * Parameter: int value - The number to write
+	 */
+	void putDigits(int index, int value) {
+		bytes.put(index, (byte)('0' + value / 100));
+		bytes.put(index + 1, (byte)('0' + value / 10 % 10));
+		bytes.put(index + 2, (byte)('0' + value % 10));
+	}
+	/*
+	 * Write the JSON escape sequence of a character
+	 * Parameter: byte[] array - The array to write to
+	 * Parameter: int position - The index to write at
+	 * Parameter: char c - The character to escape
+	 * Returns: int - The index after the escape sequence
+	 */
+	private static int escape(byte[] array, int position, char c) {
+		array[position++] = (byte)'\\';
+		switch (c) {
+		case '"':
+		case '\\':
+			array[position++] = (byte)c;
+			break;
+		case '\n':
+			array[position++] = (byte)'n';
+			break;
+		case '\r':
+			array[position++] = (byte)'r';
+			break;
+		case '\t':
+			array[position++] = (byte)'t';
+			break;
+		default:
+			array[position++] = (byte)'u';
+			array[position++] = (byte)'0';
+			array[position++] = (byte)'0';
+			array[position++] = (byte)Character.forDigit(c >> 4, 16);
+			array[position++] = (byte)Character.forDigit(c & 0xF, 16);
+			break;
+		}
+		return position;
+	}
+	/*
+	 * Grow the buffer so a number of bytes can be appended
+	 * Parameter: int count - The number of bytes to make room for
+	 */
+	private void ensureRemaining(int count) {
+		if (bytes.remaining() >= count) {
+			return;
+		}
+		ByteBuffer grown = ByteBuffer.allocate(Math.max(bytes.capacity() * 2,
+				bytes.position() + count));
+		bytes.flip();
+		grown.put(bytes);
+		bytes = grown;
+	}
+	
+	/*
+	 * Get the array holding this line's bytes
+	 * Returns: byte[] - The array, in use up to the line's length
+	 */
+	byte[] getArray() {
+		return bytes.array();
+	}
+	/*
+	 * Get the length of this line
+	 * Returns: int - The number of bytes in use
+	 */
+	int length() {
+		return bytes.position();
+	}
+	
+}
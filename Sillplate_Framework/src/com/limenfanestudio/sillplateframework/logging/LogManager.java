@@ -8,29 +8,113 @@
 
 package com.limenfanestudio.sillplateframework.logging;
 
-import java.io.FileWriter;
 import java.io.IOException;
-import java.time.ZonedDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
 
 import com.limenfanestudio.sillplateframework.application.Application;
 import com.limenfanestudio.sillplateframework.application
 		.ApplicationConfiguration;
+import com.limenfanestudio.sillplateframework.metrics.MetricCounter;
+import com.limenfanestudio.sillplateframework.metrics.MetricsManager;
 
 // The main class of the Sillplate Framework's logging system
 public class LogManager {
 	
 	// Whether console output is enabled for the logging system
 	private boolean consoleEnabled = false;
+	// Console output for the logging system
+	private ConsoleLogOutput console = null;
+	// The minimum level of logs written from sources without their own
+	// minimum level
+	private volatile LogLevel minimumLevel = null;
+	// The lowest minimum level severity of all enabled outputs, below which
+	// no output would write a log
+	private volatile int outputSeverity = Integer.MIN_VALUE;
 	// Format to create timestamps in for logs
 	private String timestampFormat = "";
+	// Cache of timestamps formatted in the current timestamp format or null
+	// for no timestamps
+	private volatile LogTimestampCache timestamps = null;
+	// Entry handed out for structured logs which are disabled, ignoring its
+	// fields
+	private final LogEntry disabledEntry = new LogEntry(null);
+	// Reused entries structured logs are built in, one for each thread
+	// writing logs
+	private final ThreadLocal<LogEntry> entries = new ThreadLocal<LogEntry>() {
+		@Override
+		protected LogEntry initialValue() {
+			return new LogEntry(LogManager.this);
+		}
+	};
+	// Reused lines logs written immediately are formatted into, one for each
+	// thread writing logs
+	private final ThreadLocal<LogLine> lines = new ThreadLocal<LogLine>() {
+		@Override
+		protected LogLine initialValue() {
+			return new LogLine();
+		}
+	};
+	// Reused events logs written immediately are wrapped in, one for each
+	// thread writing logs and in use while its line is busy
+	private final ThreadLocal<LogEvent> events = new ThreadLocal<LogEvent>() {
+		@Override
+		protected LogEvent initialValue() {
+			return new LogEvent();
+		}
+	};
 	// Set of output files for the logging system associated with their file
 	// names / paths
-	private Map<String, FileWriter> files = null;
+	private Map<String, LogOutput> files = null;
+	// The size in bytes binary log files are pre-allocated to
+	private int binarySegmentSize = 0;
+	// The maximum size in bytes of a rolling log file or 0 for no limit
+	private long maxFileSize = 0L;
+	// The maximum age in milliseconds of a rolling log file or 0 for no limit
+	private long maxFileAge = 0L;
+	// The number of closed rolling log files kept for each file name
+	private int retainedFileCount = 0;
+	// Background thread compressing closed rolling log files, started when
+	// the first rolling log file is added
+	private ExecutorService compressor = null;
+	// The wall-clock time in nanoseconds since the epoch at which the logging
+	// system was initialized
+	private long baseTime = 0L;
+	// The System.nanoTime() value at which the logging system was initialized
+	private long baseNanoTime = 0L;
+	// Buffer of logs waiting for the background writer thread or null if
+	// asynchronous logging is disabled
+	private volatile LogRingBuffer buffer = null;
+	// Background thread formatting and outputting buffered logs
+	private Thread writer = null;
+	// Whether the background writer thread should keep running
+	private volatile boolean writerRunning = false;
+	// What to do with new logs when the buffer is full
+	private volatile LogOverflowPolicy overflowPolicy = null;
+	// The maximum time in nanoseconds buffered logs wait before being flushed
+	private long flushInterval = 0L;
+	// The number of buffered logs at which the writer is woken to flush
+	private int flushWatermark = 0;
+	// The number of logs discarded because the buffer was full
+	private final AtomicLong droppedCount = new AtomicLong(0L);
+	// The number of threads currently placing a log in the buffer, which the
+	// writer waits for before it stops
+	private final AtomicInteger producers = new AtomicInteger(0);
+	// Counter of logs written or null if no metrics are attached
+	private volatile MetricCounter writtenCounter = null;
 	
 	/*
 	 * Initialize the Sillplate Framework's logging system
@@ -41,7 +125,12 @@ public class LogManager {
 	 */
 	public boolean initialize(
 			ApplicationConfiguration.LogConfiguration configuration) {
-		files = new HashMap<String, FileWriter>();
+		files = new HashMap<String, LogOutput>();
+		console = new ConsoleLogOutput();
+		console.setMinimumLevel(configuration.consoleMinimumLevel);
+		minimumLevel = configuration.minimumLevel;
+		baseTime = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+		baseNanoTime = System.nanoTime();
 		setConsoleEnabled(configuration.consoleEnabled);
 		if (!setTimestampFormat(configuration.timestampFormat)) {
 			return false;
@@ -51,10 +140,47 @@ public class LogManager {
 				return false;
 			}
 		}
+		maxFileSize = configuration.maxFileSize;
+		maxFileAge = configuration.maxFileAge;
+		retainedFileCount = configuration.retainedFileCount;
+		for (String fileName : configuration.rollingFileNames) {
+			if (!addRollingFileName(fileName)) {
+				return false;
+			}
+		}
+		binarySegmentSize = configuration.binarySegmentSize;
+		for (String fileName : configuration.binaryFileNames) {
+			if (!addBinaryFileName(fileName)) {
+				return false;
+			}
+		}
+		for (String fileName : configuration.jsonFileNames) {
+			if (!addJsonFileName(fileName)) {
+				return false;
+			}
+		}
+		if (configuration.asyncEnabled) {
+			startWriter(configuration);
+		}
 		Application.Log.write(LogSource.Log, LogLevel.Information,
 				"Initialized logging system");
 		return true;
 	}
+	/*
+	 * Test whether a log with source and level flags would be written to any
+	 * output - use to skip expensive preparation of log data
+	 * Parameter: LogSource source - The source flag for the log
+	 * Parameter: LogLevel level - The level flag for the log
+	 * Returns: boolean - Whether the log would be written
+	 */
+	public boolean isEnabled(LogSource source, LogLevel level) {
+		LogLevel minimum = source.minimumLevel;
+		if (minimum == null) {
+			minimum = minimumLevel;
+		}
+		return level.severity >= outputSeverity && (minimum == null
+				|| level.severity >= minimum.severity);
+	}
 	/*
 	 * Write a set of objects to the log with source and level flags
 	 * Parameter: LogSource source - The source flag for this log
@@ -62,22 +188,77 @@ public class LogManager {
 	 * Parameter: Object... data - The objects to write to the log
 	 */
 	public void write(LogSource source, LogLevel level, Object... data) {
-		String log = getTimestamp() + ": [" + source.getName() + "] ["
-				+ level.getName() + "] ";
-		for (Object obj : data) {
-			log += obj.toString();
+		if (isEnabled(source, level)) {
+			log(source, level, data, null);
 		}
-		log += "\n";
-		if (consoleEnabled) {
-			System.out.print(log);
+	}
+	/*
+	 * Write an object to the log with source and level flags, without
+	 * allocating if the log is disabled
+	 * Parameter: LogSource source - The source flag for this log
+	 * Parameter: LogLevel level - The level flag for this log
+	 * Parameter: Object a - The object to write to the log
+	 */
+	public void write(LogSource source, LogLevel level, Object a) {
+		if (isEnabled(source, level)) {
+			log(source, level, new Object[] {a}, null);
 		}
-		for (Map.Entry<String, FileWriter> file : files.entrySet()) {
-			try {
-				file.getValue().write(log);
-				file.getValue().flush();
-			} catch (IOException e) {
-				continue;
-			}
+	}
+	/*
+	 * Write two objects to the log with source and level flags, without
+	 * allocating if the log is disabled
+	 * Parameter: LogSource source - The source flag for this log
+	 * Parameter: LogLevel level - The level flag for this log
+	 * Parameter: Object a - The first object to write to the log
+	 * Parameter: Object b - The second object to write to the log
+	 */
+	public void write(LogSource source, LogLevel level, Object a, Object b) {
+		if (isEnabled(source, level)) {
+			log(source, level, new Object[] {a, b}, null);
+		}
+	}
+	/*
+	 * Write three objects to the log with source and level flags, without
+	 * allocating if the log is disabled
+	 * Parameter: LogSource source - The source flag for this log
+	 * Parameter: LogLevel level - The level flag for this log
+	 * Parameter: Object a - The first object to write to the log
+	 * Parameter: Object b - The second object to write to the log
+	 * Parameter: Object c - The third object to write to the log
+	 */
+	public void write(LogSource source, LogLevel level, Object a, Object b,
+			Object c) {
+		if (isEnabled(source, level)) {
+			log(source, level, new Object[] {a, b, c}, null);
+		}
+	}
+	/*
+	 * Write four objects to the log with source and level flags, without
+	 * allocating if the log is disabled
+	 * Parameter: LogSource source - The source flag for this log
+	 * Parameter: LogLevel level - The level flag for this log
+	 * Parameter: Object a - The first object to write to the log
+	 * Parameter: Object b - The second object to write to the log
+	 * Parameter: Object c - The third object to write to the log
+	 * Parameter: Object d - The fourth object to write to the log
+	 */
+	public void write(LogSource source, LogLevel level, Object a, Object b,
+			Object c, Object d) {
+		if (isEnabled(source, level)) {
+			log(source, level, new Object[] {a, b, c, d}, null);
+		}
+	}
+	/*
+	 * Write a lazily computed object to the log with source and level flags -
+	 * the supplier is only called if the log is enabled
+	 * Parameter: LogSource source - The source flag for this log
+	 * Parameter: LogLevel level - The level flag for this log
+	 * Parameter: Supplier<?> supplier - Supplier of the object to write to the
+	 * log
+	 */
+	public void write(LogSource source, LogLevel level, Supplier<?> supplier) {
+		if (isEnabled(source, level)) {
+			log(source, level, new Object[] {supplier.get()}, null);
 		}
 	}
 	/*
@@ -87,14 +268,59 @@ public class LogManager {
 	 * Parameter: Object... data - The objects to write to the log
 	 */
 	public void write(LogLevel level, Object... data) {
-		write(LogSource.General, level, data);
+		if (isEnabled(LogSource.General, level)) {
+			log(LogSource.General, level, data, null);
+		}
 	}
 	/*
 	 * Write a set of objects to the log with the default source and level flags
 	 * Parameter: Object... data - The objects to write to the log
 	 */
 	public void write(Object... data) {
-		write(LogLevel.Information, data);
+		if (isEnabled(LogSource.General, LogLevel.Information)) {
+			log(LogSource.General, LogLevel.Information, data, null);
+		}
+	}
+	/*
+	 * Start a structured log with source and level flags - typed key-value
+	 * fields are added to the returned entry before it is written, without
+	 * boxing or joining them into text. Fields of disabled logs are ignored
+	 * Parameter: LogSource source - The source flag for this log
+	 * Parameter: LogLevel level - The level flag for this log
+	 * Returns: LogEntry - The entry to add fields to and write, reused by the
+	 * calling thread once written
+	 */
+	public LogEntry entry(LogSource source, LogLevel level) {
+		if (!isEnabled(source, level)) {
+			return disabledEntry;
+		}
+		LogEntry entry = entries.get();
+		if (entry.busy) {
+			// An entry was obtained while building another on this thread
+			entry = new LogEntry(this);
+		}
+		entry.start(source, level);
+		return entry;
+	}
+	/*
+	 * Report the logging system's metrics to the metrics system - the number
+	 * of logs written and dropped, and the number waiting in the asynchronous
+	 * buffer
+	 * Parameter: MetricsManager metrics - The metrics system
+	 */
+	public void attachMetrics(MetricsManager metrics) {
+		writtenCounter = metrics.getCounter("log.written");
+		metrics.getGauge("log.dropped", new DoubleSupplier() {
+			public double getAsDouble() {
+				return droppedCount.get();
+			}
+		});
+		metrics.getGauge("log.buffered", new DoubleSupplier() {
+			public double getAsDouble() {
+				LogRingBuffer buffer = LogManager.this.buffer;
+				return buffer == null ? 0.0d : buffer.size();
+			}
+		});
 	}
 	/*
 	 * Free the memory of the Sillplate Framework's logging system
@@ -104,26 +330,324 @@ public class LogManager {
 		Application.Log.write(LogSource.Log, LogLevel.Information,
 				"Destroying logging system");
 		boolean success = true;
-		for (Map.Entry<String, FileWriter> file : files.entrySet()) {
+		if (buffer != null) {
+			stopWriter();
+		}
+		if (compressor != null) {
+			// Let queued compressions finish before the outputs close, so no
+			// closed file is left uncompressed and their warnings can still
+			// be written
+			compressor.shutdown();
 			try {
-				file.getValue().close();
-			} catch (IOException e) {
+				if (!compressor.awaitTermination(10L, TimeUnit.SECONDS)) {
+					success = false;
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
 				success = false;
 			}
+			compressor = null;
+		}
+		synchronized (files) {
+			for (Map.Entry<String, LogOutput> file : files.entrySet()) {
+				try {
+					file.getValue().close();
+				} catch (IOException e) {
+					success = false;
+				}
+			}
 		}
 		timestampFormat = "";
+		timestamps = null;
 		consoleEnabled = false;
 		return success;
 	}
 	/*
-	 * Generate a current timestamp and the timestamp format
-	 * Returns: String - The current timestamp
+	 * Write an enabled log to the outputs or the asynchronous buffer
+	 * Parameter: LogSource source - The source flag for this log
+	 * Parameter: LogLevel level - The level flag for this log
+	 * Parameter: Object[] data - The objects to write to the log
+	 * Parameter: LogFields fields - The fields of this log or null for none
+	 */
+	void log(LogSource source, LogLevel level, Object[] data,
+			LogFields fields) {
+		long timestamp = getTime();
+		MetricCounter counter = writtenCounter;
+		if (counter != null) {
+			counter.increment();
+		}
+		LogRingBuffer buffer = this.buffer;
+		if (buffer != null && enqueue(buffer, timestamp, source, level, data,
+				fields)) {
+			return;
+		}
+		LogLine line = lines.get();
+		LogEvent event = null;
+		if (line.busy) {
+			// A logged object wrote a log of its own while being formatted
+			line = new LogLine();
+			event = new LogEvent();
+		} else {
+			event = events.get();
+		}
+		event.wrap(timestamp, source, level, data, fields);
+		line.busy = true;
+		try {
+			format(line, event);
+			output(event, line);
+			flush();
+		} finally {
+			event.unwrap();
+			line.busy = false;
+		}
+	}
+	/*
+	 * Get the name of a minimum level for the logging system's own logs
+	 * Parameter: LogLevel level - The minimum level or null for all levels
+	 * Returns: String - The name of the level
+	 */
+	private static String getLevelName(LogLevel level) {
+		return level == null ? "all" : level.getName();
+	}
+	/*
+	 * Get the current wall-clock time from the monotonic clock
+	 * Returns: long - The current time in nanoseconds since the epoch
 	 */
-	private String getTimestamp() {
-		ZonedDateTime time = ZonedDateTime.now();
-		DateTimeFormatter formatter = DateTimeFormatter.ofPattern(
-				timestampFormat);
-		return time.format(formatter);
+	private long getTime() {
+		return baseTime + (System.nanoTime() - baseNanoTime);
+	}
+	/*
+	 * Format a log into a line of text, replacing the line's contents
+	 * Parameter: LogLine line - The line to format the log into
+	 * Parameter: LogEvent event - The log to format
+	 */
+	private void format(LogLine line, LogEvent event) {
+		line.clear();
+		LogTimestampCache timestamps = this.timestamps;
+		if (timestamps != null) {
+			timestamps.put(line, event.timestamp);
+		}
+		line.put(event.source.getPrefix(event.level));
+		for (int i = 0; i < event.dataLength; i++) {
+			line.put(event.data[i]);
+		}
+		LogFields fields = event.fields;
+		if (fields != null) {
+			for (int i = 0; i < fields.count; i++) {
+				if (i > 0 || event.dataLength > 0) {
+					line.put(' ');
+				}
+				line.put(fields.keys[i]);
+				line.put('=');
+				line.putField(fields, i);
+			}
+		}
+		line.put('\n');
+	}
+	/*
+	 * Place a log in the buffer for the background writer thread, following
+	 * the overflow policy if the buffer is full
+	 * Parameter: LogRingBuffer buffer - The buffer to place the log in
+	 * Parameter: long timestamp - The time of the log in nanoseconds since the
+	 * epoch
+	 * Parameter: LogSource source - The source flag of the log
+	 * Parameter: LogLevel level - The level flag of the log
+	 * Parameter: Object[] data - The objects written to the log
+	 * Parameter: LogFields fields - The fields of the log or null for none
+	 * Returns: boolean - Whether the log was buffered or dropped, or false if
+	 * the writer is stopping and the log must be written synchronously
+	 */
+	private boolean enqueue(LogRingBuffer buffer, long timestamp,
+			LogSource source, LogLevel level, Object[] data,
+			LogFields fields) {
+		// Register as a producer before checking the buffer is still in use,
+		// so a stopping writer either waits for this log or this log sees
+		// the writer stopping
+		producers.incrementAndGet();
+		try {
+			if (this.buffer != buffer) {
+				return false;
+			}
+			long sequence = buffer.claim();
+			while (sequence < 0L) {
+				LogOverflowPolicy policy = overflowPolicy;
+				if (policy == LogOverflowPolicy.Drop
+						|| (policy == LogOverflowPolicy.DropLowest
+						&& level.severity < LogLevel.Warning.severity)) {
+					droppedCount.incrementAndGet();
+					return true;
+				}
+				LockSupport.unpark(writer);
+				Thread.yield();
+				sequence = buffer.claim();
+			}
+			buffer.get(sequence).set(timestamp, source, level, data, fields);
+			buffer.publish(sequence);
+			if (buffer.size() >= flushWatermark) {
+				LockSupport.unpark(writer);
+			}
+			return true;
+		} finally {
+			producers.decrementAndGet();
+		}
+	}
+	/*
+	 * Create the log buffer and start the background writer thread
+	 * Parameter: ApplicationConfiguration.LogConfiguration configuration - The
+	 * asynchronous logging settings
+	 */
+	private void startWriter(
+			ApplicationConfiguration.LogConfiguration configuration) {
+		overflowPolicy = configuration.asyncOverflowPolicy;
+		flushInterval = TimeUnit.MILLISECONDS.toNanos(Math.max(1L,
+				configuration.asyncFlushInterval));
+		final LogRingBuffer buffer = new LogRingBuffer(
+				configuration.asyncBufferSize);
+		flushWatermark = Math.max(1, Math.min(buffer.capacity() / 2,
+				configuration.asyncFlushWatermark));
+		writerRunning = true;
+		writer = new Thread(new Runnable() {
+			public void run() {
+				runWriter(buffer);
+			}
+		}, "Sillplate Log Writer");
+		writer.setDaemon(true);
+		writer.start();
+		this.buffer = buffer;
+		Application.Log.write(LogSource.Log, LogLevel.Information, "Started ",
+				"asynchronous log writer with buffer size ", buffer.capacity());
+	}
+	/*
+	 * Stop the background writer thread once it has written every buffered log
+	 * and return the logging system to synchronous output
+	 */
+	private void stopWriter() {
+		// New logs are written synchronously while the writer drains
+		buffer = null;
+		writerRunning = false;
+		LockSupport.unpark(writer);
+		boolean interrupted = false;
+		while (writer.isAlive()) {
+			try {
+				writer.join();
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+		writer = null;
+	}
+	/*
+	 * Main body of the background writer thread - formats and outputs
+	 * buffered logs in batches, flushing outputs after the flush interval or
+	 * when the buffer passes the flush watermark
+	 * Parameter: LogRingBuffer buffer - The buffer to read logs from
+	 */
+	private void runWriter(LogRingBuffer buffer) {
+		LogLine line = new LogLine();
+		long lastFlush = System.nanoTime();
+		int unflushed = 0;
+		while (true) {
+			// Read the stop flag before draining so every log buffered before
+			// destroy() was called is written
+			boolean stopping = !writerRunning;
+			LogEvent event = buffer.peek();
+			while (event != null) {
+				format(line, event);
+				output(event, line);
+				buffer.release();
+				unflushed++;
+				if (unflushed >= flushWatermark) {
+					flush();
+					unflushed = 0;
+					lastFlush = System.nanoTime();
+				}
+				event = buffer.peek();
+			}
+			long now = System.nanoTime();
+			if (unflushed > 0 && (stopping || now - lastFlush
+					>= flushInterval)) {
+				flush();
+				unflushed = 0;
+				lastFlush = now;
+			}
+			if (stopping) {
+				// Logs being placed by producers which saw the buffer before
+				// it was removed, and logs claimed but not yet published, are
+				// still owed a write
+				if (producers.get() == 0 && buffer.size() == 0) {
+					return;
+				}
+				Thread.yield();
+				continue;
+			}
+			LockSupport.parkNanos(unflushed > 0 ? flushInterval
+					- (now - lastFlush) : flushInterval);
+		}
+	}
+	/*
+	 * Write a log to every output accepting its level, without flushing
+	 * Parameter: LogEvent event - The log to write
+	 * Parameter: LogLine line - The log formatted as a line of text
+	 */
+	private void output(LogEvent event, LogLine line) {
+		if (consoleEnabled && console.accepts(event.level)) {
+			console.write(event, line);
+		}
+		synchronized (files) {
+			for (Map.Entry<String, LogOutput> file : files.entrySet()) {
+				if (!file.getValue().accepts(event.level)) {
+					continue;
+				}
+				try {
+					file.getValue().write(event, line);
+				} catch (IOException | RuntimeException e) {
+					// A failing output must never throw into the caller's log
+					continue;
+				}
+			}
+		}
+	}
+	/*
+	 * Flush every file output
+	 */
+	private void flush() {
+		synchronized (files) {
+			for (Map.Entry<String, LogOutput> file : files.entrySet()) {
+				try {
+					file.getValue().flush();
+				} catch (IOException | RuntimeException e) {
+					continue;
+				}
+			}
+		}
+	}
+	/*
+	 * Recompute the lowest minimum level of all enabled outputs after an
+	 * output or its minimum level changes
+	 */
+	private void updateOutputSeverity() {
+		int severity = Integer.MAX_VALUE;
+		if (consoleEnabled) {
+			severity = getSeverity(console.getMinimumLevel());
+		}
+		synchronized (files) {
+			for (Map.Entry<String, LogOutput> file : files.entrySet()) {
+				severity = Math.min(severity, getSeverity(file.getValue()
+						.getMinimumLevel()));
+			}
+		}
+		outputSeverity = severity;
+	}
+	/*
+	 * Get the severity of a minimum level
+	 * Parameter: LogLevel level - The minimum level or null for all levels
+	 * Returns: int - The severity of the level or the lowest possible severity
+	 */
+	private static int getSeverity(LogLevel level) {
+		return level == null ? Integer.MIN_VALUE : level.severity;
 	}
 	
 	/*
@@ -140,9 +664,47 @@ public class LogManager {
 	 */
 	public void setConsoleEnabled(boolean consoleEnabled) {
 		this.consoleEnabled = consoleEnabled;
+		updateOutputSeverity();
 		Application.Log.write(LogSource.Log, LogLevel.Information, "Set ",
 				"console output enabled ", consoleEnabled);
 	}
+	/*
+	 * Get the minimum level of logs written to the console
+	 * Returns: LogLevel - The minimum level or null for all levels
+	 */
+	public LogLevel getConsoleMinimumLevel() {
+		return console.getMinimumLevel();
+	}
+	/*
+	 * Set the minimum level of logs written to the console
+	 * Parameter: LogLevel minimumLevel - The minimum level or null for all
+	 * levels
+	 */
+	public void setConsoleMinimumLevel(LogLevel minimumLevel) {
+		console.setMinimumLevel(minimumLevel);
+		updateOutputSeverity();
+		Application.Log.write(LogSource.Log, LogLevel.Information, "Set ",
+				"console minimum level ", getLevelName(minimumLevel));
+	}
+	/*
+	 * Get the minimum level of logs written from sources without their own
+	 * minimum level
+	 * Returns: LogLevel - The minimum level or null for all levels
+	 */
+	public LogLevel getMinimumLevel() {
+		return minimumLevel;
+	}
+	/*
+	 * Set the minimum level of logs written from sources without their own
+	 * minimum level
+	 * Parameter: LogLevel minimumLevel - The minimum level or null for all
+	 * levels
+	 */
+	public void setMinimumLevel(LogLevel minimumLevel) {
+		this.minimumLevel = minimumLevel;
+		Application.Log.write(LogSource.Log, LogLevel.Information, "Set ",
+				"minimum level ", getLevelName(minimumLevel));
+	}
 	/*
 	 * Get the current timestamp format used by the logging system
 	 * Returns: String - The current timestamp format
@@ -157,7 +719,8 @@ public class LogManager {
 	 */
 	public boolean setTimestampFormat(String timestampFormat) {
 		try {
-			DateTimeFormatter.ofPattern(timestampFormat);
+			timestamps = new LogTimestampCache(DateTimeFormatter.ofPattern(
+					timestampFormat).withZone(ZoneId.systemDefault()));
 		} catch (IllegalArgumentException e) {
 			Application.Log.write(LogSource.Log, LogLevel.Warning, "Invalid ",
 					"timestamp format \"", timestampFormat, "\"");
@@ -168,13 +731,46 @@ public class LogManager {
 				"timestamp format \"", this.timestampFormat, "\"");
 		return true;
 	}
+	/*
+	 * Test whether logs are written asynchronously by a background thread
+	 * Returns: boolean - Whether asynchronous logging is enabled
+	 */
+	public boolean isAsyncEnabled() {
+		return buffer != null;
+	}
+	/*
+	 * Get the behaviour for new logs while the asynchronous buffer is full
+	 * Returns: LogOverflowPolicy - The current overflow policy
+	 */
+	public LogOverflowPolicy getOverflowPolicy() {
+		return overflowPolicy;
+	}
+	/*
+	 * Set the behaviour for new logs while the asynchronous buffer is full
+	 * Parameter: LogOverflowPolicy overflowPolicy - The overflow policy to use
+	 */
+	public void setOverflowPolicy(LogOverflowPolicy overflowPolicy) {
+		this.overflowPolicy = overflowPolicy;
+		Application.Log.write(LogSource.Log, LogLevel.Information, "Set ",
+				"overflow policy ", overflowPolicy);
+	}
+	/*
+	 * Get the number of logs discarded because the asynchronous buffer was
+	 * full
+	 * Returns: long - The number of dropped logs
+	 */
+	public long getDroppedCount() {
+		return droppedCount.get();
+	}
 	/*
 	 * Get the file names of the set of files the logging system is writing to
 	 * Returns: List<String> - The set of file names in use by the logging
 	 * system
 	 */
 	public List<String> getFileNames() {
-		return new ArrayList<String>(files.keySet());
+		synchronized (files) {
+			return new ArrayList<String>(files.keySet());
+		}
 	}
 	/*
 	 * Add a file by name for the logging system to write to
@@ -188,7 +784,11 @@ public class LogManager {
 			return false;
 		}
 		try {
-			files.put(fileName, new FileWriter(fileName));
+			LogOutput file = new FileLogOutput(fileName);
+			synchronized (files) {
+				files.put(fileName, file);
+			}
+			updateOutputSeverity();
 		} catch (IOException e) {
 			Application.Log.write(LogSource.Log, LogLevel.Warning, "Failed to ",
 					"open log file \"", fileName, "\"");
@@ -198,6 +798,142 @@ public class LogManager {
 				"file \"", fileName, "\"");
 		return true;
 	}
+	/*
+	 * Add a file by name for the logging system to write to, rolling it over
+	 * when it passes the maximum file size or age - closed files are renamed
+	 * with a timestamp and compressed with gzip in the background, and only
+	 * the newest are kept. An existing file is rolled over rather than
+	 * truncated
+	 * Parameter: String fileName - The file name of the file to write to
+	 * Returns: boolean - Whether the file name is valid and not already in use
+	 */
+	public boolean addRollingFileName(String fileName) {
+		if (files.containsKey(fileName)) {
+			Application.Log.write(LogSource.Log, LogLevel.Warning, "Log file ",
+					"\"", fileName, "\" already present");
+			return false;
+		}
+		if (compressor == null) {
+			compressor = Executors.newSingleThreadExecutor(
+					new ThreadFactory() {
+				public Thread newThread(Runnable runnable) {
+					Thread thread = new Thread(runnable,
+							"Sillplate Log Compressor");
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+		}
+		try {
+			LogOutput file = new RollingFileLogOutput(fileName, maxFileSize,
+					maxFileAge, retainedFileCount, compressor);
+			synchronized (files) {
+				files.put(fileName, file);
+			}
+			updateOutputSeverity();
+		} catch (IOException e) {
+			Application.Log.write(LogSource.Log, LogLevel.Warning, "Failed to ",
+					"open rolling log file \"", fileName, "\"");
+			return false;
+		}
+		Application.Log.write(LogSource.Log, LogLevel.Information, "Added ",
+				"rolling log file \"", fileName, "\"");
+		return true;
+	}
+	/*
+	 * Add a file by name for the logging system to write compact binary
+	 * records to - records are written to memory-mapped, pre-allocated files
+	 * named after the file name with an increasing number appended, and are
+	 * converted back to text with BinaryLogDecoder
+	 * Parameter: String fileName - The file name the binary files are named
+	 * after
+	 * Returns: boolean - Whether the file name is valid and not already in use
+	 */
+	public boolean addBinaryFileName(String fileName) {
+		if (files.containsKey(fileName)) {
+			Application.Log.write(LogSource.Log, LogLevel.Warning, "Log file ",
+					"\"", fileName, "\" already present");
+			return false;
+		}
+		try {
+			LogOutput file = new BinaryLogOutput(fileName, binarySegmentSize);
+			synchronized (files) {
+				files.put(fileName, file);
+			}
+			updateOutputSeverity();
+		} catch (IOException e) {
+			Application.Log.write(LogSource.Log, LogLevel.Warning, "Failed to ",
+					"open binary log file \"", fileName, "\"");
+			return false;
+		}
+		Application.Log.write(LogSource.Log, LogLevel.Information, "Added ",
+				"binary log file \"", fileName, "\"");
+		return true;
+	}
+	/*
+	 * Add a file by name for the logging system to write logs to as JSON
+	 * Lines - one object per log holding its time, source, level and message
+	 * followed by the typed fields of structured logs
+	 * Parameter: String fileName - The file name of the file to write to
+	 * Returns: boolean - Whether the file name is valid and not already in use
+	 */
+	public boolean addJsonFileName(String fileName) {
+		if (files.containsKey(fileName)) {
+			Application.Log.write(LogSource.Log, LogLevel.Warning, "Log file ",
+					"\"", fileName, "\" already present");
+			return false;
+		}
+		try {
+			LogOutput file = new JsonLinesLogOutput(fileName);
+			synchronized (files) {
+				files.put(fileName, file);
+			}
+			updateOutputSeverity();
+		} catch (IOException e) {
+			Application.Log.write(LogSource.Log, LogLevel.Warning, "Failed to ",
+					"open JSON Lines log file \"", fileName, "\"");
+			return false;
+		}
+		Application.Log.write(LogSource.Log, LogLevel.Information, "Added ",
+				"JSON Lines log file \"", fileName, "\"");
+		return true;
+	}
+	/*
+	 * Get the minimum level of logs written to a file
+	 * Parameter: String fileName - The file name of the file
+	 * Returns: LogLevel - The minimum level or null for all levels or if the
+	 * file name is not in use
+	 */
+	public LogLevel getFileMinimumLevel(String fileName) {
+		synchronized (files) {
+			LogOutput file = files.get(fileName);
+			return file == null ? null : file.getMinimumLevel();
+		}
+	}
+	/*
+	 * Set the minimum level of logs written to a file
+	 * Parameter: String fileName - The file name of the file
+	 * Parameter: LogLevel minimumLevel - The minimum level or null for all
+	 * levels
+	 * Returns: boolean - Whether the file name is in use
+	 */
+	public boolean setFileMinimumLevel(String fileName,
+			LogLevel minimumLevel) {
+		synchronized (files) {
+			LogOutput file = files.get(fileName);
+			if (file == null) {
+				Application.Log.write(LogSource.Log, LogLevel.Warning,
+						"Log file \"", fileName, "\" not present");
+				return false;
+			}
+			file.setMinimumLevel(minimumLevel);
+		}
+		updateOutputSeverity();
+		Application.Log.write(LogSource.Log, LogLevel.Information, "Set log ",
+				"file \"", fileName, "\" minimum level ",
+				getLevelName(minimumLevel));
+		return true;
+	}
 	/*
 	 * Remove a file by name from the logging system
 	 * Parameter: String fileName - The file name to remove
@@ -211,14 +947,18 @@ public class LogManager {
 					"\"", fileName, "\" not present");
 			return false;
 		}
-		try {
-			files.get(fileName).close();
-		} catch (IOException e) {
+		synchronized (files) {
+			try {
+				files.remove(fileName).close();
+			} catch (IOException e) {
+				success = false;
+			}
+		}
+		updateOutputSeverity();
+		if (!success) {
 			Application.Log.write(LogSource.Log, LogLevel.Warning, "Failed to ",
 					"close log file \"", fileName, "\"");
-			success = false;
 		}
-		files.remove(fileName);
 		Application.Log.write(LogSource.Log, LogLevel.Information, "Removed ",
 				"log file \"", fileName, "\"");
 		return success;
@@ -0,0 +1,64 @@
+/*
+ * File:		LogOutput.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Defines an abstract destination for the logging system's
+ * 				messages
+ */
+
+package com.limenfanestudio.sillplateframework.logging;
+
+import java.io.IOException;
+
+// An abstract destination the logging system writes messages to, with its
+// own minimum level
+abstract class LogOutput {
+	
+	// The minimum level of logs written to this output or null for all levels
+	private volatile LogLevel minimumLevel = null;
+	
+	/*
+	 * Write a log to this output, without necessarily flushing it
+	 * Parameter: LogEvent event - The log to write
+	 * Parameter: LogLine line - The log formatted as a line of UTF-8 text
+	 * Throws: IOException - If the output could not be written to
+	 */
+	abstract void write(LogEvent event, LogLine line) throws IOException;
+	/*
+	 * Flush any logs written to this output but not yet stored
+	 * Throws: IOException - If the output could not be flushed
+	 */
+	abstract void flush() throws IOException;
+	/*
+	 * Flush and close this output
+	 * Throws: IOException - If the output could not be closed
+	 */
+	abstract void close() throws IOException;
+	
+	/*
+	 * Test whether logs of a level should be written to this output
+	 * Parameter: LogLevel level - The level of the log
+	 * Returns: boolean - Whether the level meets this output's minimum level
+	 */
+	boolean accepts(LogLevel level) {
+		LogLevel minimumLevel = this.minimumLevel;
+		return minimumLevel == null
+				|| level.severity >= minimumLevel.severity;
+	}
+	/*
+	 * Get the minimum level of logs written to this output
+	 * Returns: LogLevel - The minimum level or null for all levels
+	 */
+	LogLevel getMinimumLevel() {
+		return minimumLevel;
+	}
+	/*
+	 * Set the minimum level of logs written to this output
+	 * Parameter: LogLevel minimumLevel - The minimum level or null for all
+	 * levels
+	 */
+	void setMinimumLevel(LogLevel minimumLevel) {
+		this.minimumLevel = minimumLevel;
+	}
+	
+}
@@ -0,0 +1,22 @@
+/*
+ * File:		LogOverflowPolicy.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Defines the behaviours of the asynchronous logging system when
+ * 				its buffer is full
+ */
+
+package com.limenfanestudio.sillplateframework.logging;
+
+// Behaviours for new logs written while the asynchronous logging system's
+// buffer is full
+public enum LogOverflowPolicy {
+	
+	// Block the writing thread until the buffer has space
+	Block,
+	// Discard the new log
+	Drop,
+	// Discard the new log if it is below the warning level, otherwise block
+	DropLowest
+	
+}
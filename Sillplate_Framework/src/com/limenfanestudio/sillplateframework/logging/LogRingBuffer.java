@@ -0,0 +1,122 @@
+/*
+ * File:		LogRingBuffer.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Defines a bounded lock-free queue of reusable log events for
+ * 				many writing threads and a single reading thread
+ */
+
+package com.limenfanestudio.sillplateframework.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Bounded lock-free ring buffer of pre-allocated log events - any number of
+// threads may claim and publish slots, a single thread reads them in order
+class LogRingBuffer {
+	
+	// The pre-allocated log events stored in the ring
+	private final LogEvent[] slots;
+	// Per-slot sequence numbers marking whether a slot is free to claim or
+	// published and ready to read
+	private final AtomicLongArray sequences;
+	// Mask mapping a sequence number to a slot index
+	private final int mask;
+	// The sequence number of the next slot to be claimed by a writer
+	private final AtomicLong tail = new AtomicLong(0L);
+	// The sequence number of the next slot to be read by the reader
+	private volatile long head = 0L;
+	
+	/*
+	 * Construct a ring buffer of empty log events
+	 * Parameter: int capacity - The minimum number of log events the buffer
+	 * can hold, rounded up to a power of two
+	 */
+	LogRingBuffer(int capacity) {
+		int size = 2;
+		while (size < capacity) {
+			size <<= 1;
+		}
+		slots = new LogEvent[size];
+		sequences = new AtomicLongArray(size);
+		for (int i = 0; i < size; i++) {
+			slots[i] = new LogEvent();
+			sequences.set(i, i);
+		}
+		mask = size - 1;
+	}
+	
+	/*
+	 * Claim the next free slot for writing
+	 * Returns: long - The sequence number of the claimed slot or -1 if the
+	 * buffer is full
+	 */
+	long claim() {
+		long sequence = tail.get();
+		while (true) {
+			long difference = sequences.get((int)sequence & mask) - sequence;
+			if (difference == 0L) {
+				if (tail.compareAndSet(sequence, sequence + 1L)) {
+					return sequence;
+				}
+				sequence = tail.get();
+			} else if (difference < 0L) {
+				return -1L;
+			} else {
+				sequence = tail.get();
+			}
+		}
+	}
+	/*
+	 * Get the log event in a claimed slot to fill it
+	 * Parameter: long sequence - The sequence number returned by claim()
+	 * Returns: LogEvent - The slot's log event
+	 */
+	LogEvent get(long sequence) {
+		return slots[(int)sequence & mask];
+	}
+	/*
+	 * Publish a claimed and filled slot to the reader
+	 * Parameter: long sequence - The sequence number returned by claim()
+	 */
+	void publish(long sequence) {
+		sequences.set((int)sequence & mask, sequence + 1L);
+	}
+	/*
+	 * Get the next published log event without removing it - reader only
+	 * Returns: LogEvent - The next log event or null if none is published
+	 */
+	LogEvent peek() {
+		long sequence = head;
+		int index = (int)sequence & mask;
+		if (sequences.get(index) != sequence + 1L) {
+			return null;
+		}
+		return slots[index];
+	}
+	/*
+	 * Free the log event last returned by peek() for reuse - reader only
+	 */
+	void release() {
+		long sequence = head;
+		int index = (int)sequence & mask;
+		slots[index].clear();
+		sequences.set(index, sequence + slots.length);
+		head = sequence + 1L;
+	}
+	/*
+	 * Get the number of claimed slots not yet released by the reader
+	 * Returns: int - The number of log events in the buffer
+	 */
+	int size() {
+		return (int)(tail.get() - head);
+	}
+	/*
+	 * Get the number of log events the buffer can hold
+	 * Returns: int - The capacity of the buffer
+	 */
+	int capacity() {
+		return slots.length;
+	}
+	
+}
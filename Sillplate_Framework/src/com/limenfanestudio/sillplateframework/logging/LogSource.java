@@ -7,10 +7,17 @@
 
 package com.limenfanestudio.sillplateframework.logging;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
 // Defines a type for a log source flags and static sources for the Sillplate
 // Framework's components - wrapper for a string
 public class LogSource {
 	
+	// Counter assigning each log source flag a unique id
+	private static final AtomicInteger NextId = new AtomicInteger(0);
+	
 	// General log source
 	public static LogSource General = new LogSource("General");
 	// Application log source
@@ -19,9 +26,33 @@ public class LogSource {
 	public static LogSource Log = new LogSource("Log Manager");
 	// Windowing system log source
 	public static LogSource Window = new LogSource("Window Manager");
+	// Loop system log source
+	public static LogSource Loop = new LogSource("Loop Manager");
+	// Rendering system log source
+	public static LogSource Render = new LogSource("Render Manager");
+	// Input system log source
+	public static LogSource Input = new LogSource("Input Manager");
+	// Entity system log source
+	public static LogSource Entity = new LogSource("Entity World");
+	// Asset system log source
+	public static LogSource Assets = new LogSource("Asset Manager");
+	// Profiling system log source
+	public static LogSource Profiler = new LogSource("Profile Manager");
+	// Replay system log source
+	public static LogSource Replay = new LogSource("Replay Manager");
+	// Metrics system log source
+	public static LogSource Metrics = new LogSource("Metrics Manager");
 	
 	// The name of this log source flag
 	protected String name = "";
+	// Unique id of this log source flag, interned for compact log outputs
+	final int id = NextId.getAndIncrement();
+	// The minimum level of logs written from this source or null to use the
+	// logging system's minimum level
+	protected volatile LogLevel minimumLevel = null;
+	// The encoded ": [source] [level] " prefixes of lines from this log source
+	// flag, indexed by log level flag id and filled as levels are first used
+	private volatile byte[][] prefixes = new byte[0][];
 	
 	/*
 	 * Constructs a log source flag with a name
@@ -37,5 +68,42 @@ public class LogSource {
 	public String getName() {
 		return name;
 	}
+	/*
+	 * Get the minimum level of logs written from this source
+	 * Returns: LogLevel - The minimum level or null if the logging system's
+	 * minimum level is used
+	 */
+	public LogLevel getMinimumLevel() {
+		return minimumLevel;
+	}
+	/*
+	 * Set the minimum level of logs written from this source
+	 * Parameter: LogLevel minimumLevel - The minimum level or null to use the
+	 * logging system's minimum level
+	 */
+	public void setMinimumLevel(LogLevel minimumLevel) {
+		this.minimumLevel = minimumLevel;
+	}
+	/*
+	 * Get the encoded prefix following the timestamp of lines from this log
+	 * source flag with a level, encoding it the first time it is used
+	 * Parameter: LogLevel level - The level flag of the line
+	 * Returns: byte[] - The prefix encoded as UTF-8
+	 */
+	byte[] getPrefix(LogLevel level) {
+		byte[][] prefixes = this.prefixes;
+		if (level.id < prefixes.length && prefixes[level.id] != null) {
+			return prefixes[level.id];
+		}
+		byte[] prefix = (": [" + name + "] [" + level.getName() + "] ")
+				.getBytes(StandardCharsets.UTF_8);
+		synchronized (this) {
+			prefixes = Arrays.copyOf(this.prefixes, Math.max(
+					this.prefixes.length, level.id + 1));
+			prefixes[level.id] = prefix;
+			this.prefixes = prefixes;
+		}
+		return prefix;
+	}
 	
 }
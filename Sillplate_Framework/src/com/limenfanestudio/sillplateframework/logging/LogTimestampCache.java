@@ -0,0 +1,121 @@
+/*
+ * File:		LogTimestampCache.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Defines a cache of the logging system's formatted timestamps,
+ * 				patching in milliseconds instead of formatting every log
+ */
+
+package com.limenfanestudio.sillplateframework.logging;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+// Timestamp formatter keeping the encoded text of the current second - when
+// the format's only sub-second field is milliseconds, logs in the same second
+// copy the text and patch in their milliseconds, and formats without
+// sub-second fields copy it as-is. Other formats are formatted for every log
+class LogTimestampCache {
+	
+	// The formatted timestamp of one second
+	private static class Second {
+		
+		// The time in seconds since the epoch the text is for
+		final long epochSecond;
+		// The encoded timestamp or null if logs in this second must be
+		// formatted one by one
+		final byte[] text;
+		// The index in text of the three millisecond digits or -1 if the
+		// text is the same throughout the second
+		final int millisIndex;
+		
+		/*
+		 * Construct the formatted timestamp of a second
+		 * Parameter: long epochSecond - The time in seconds since the epoch
+		 * Parameter: byte[] text - The encoded timestamp or null
+		 * Parameter: int millisIndex - The index of the millisecond digits or
+		 * -1 for none
+		 */
+		Second(long epochSecond, byte[] text, int millisIndex) {
+			this.epochSecond = epochSecond;
+			this.text = text;
+			this.millisIndex = millisIndex;
+		}
+		
+	}
+	
+	// The compiled timestamp format
+	private final DateTimeFormatter formatter;
+	// The most recently used second, replaced whole so threads formatting
+	// logs concurrently never see it half updated
+	private volatile Second second = null;
+	
+	/*
+	 * Construct a timestamp cache for a compiled format
+	 * Parameter: DateTimeFormatter formatter - The format, with a time zone
+	 */
+	LogTimestampCache(DateTimeFormatter formatter) {
+		this.formatter = formatter;
+	}
+	/*
+	 * Append the timestamp of a time to a line
+	 * Parameter: LogLine line - The line to append to
+	 * Parameter: long time - The time in nanoseconds since the epoch
+	 */
+	void put(LogLine line, long time) {
+		long epochSecond = Math.floorDiv(time, 1000000000L);
+		int nanos = (int)Math.floorMod(time, 1000000000L);
+		Second second = this.second;
+		if (second == null || second.epochSecond != epochSecond) {
+			second = format(epochSecond);
+			this.second = second;
+		}
+		if (second.text == null) {
+			line.put(formatter.format(Instant.ofEpochSecond(epochSecond,
+					nanos)));
+			return;
+		}
+		int start = line.length();
+		line.put(second.text);
+		if (second.millisIndex >= 0) {
+			line.putDigits(start + second.millisIndex, nanos / 1000000);
+		}
+	}
+	/*
+	 * Format the timestamp of a second, finding whether and where the
+	 * milliseconds can be patched in by comparing its start with a time late
+	 * in the second
+	 * Parameter: long epochSecond - The time in seconds since the epoch
+	 * Returns: Second - The formatted timestamp of the second
+	 */
+	private Second format(long epochSecond) {
+		String start = formatter.format(Instant.ofEpochSecond(epochSecond));
+		String late = formatter.format(Instant.ofEpochSecond(epochSecond,
+				987654321L));
+		if (start.equals(late)) {
+			return new Second(epochSecond, start.getBytes(
+					StandardCharsets.UTF_8), -1);
+		}
+		// Only three digits going from "000" to "987" may differ - any other
+		// difference is a finer field the cached text cannot follow
+		if (start.length() != late.length()) {
+			return new Second(epochSecond, null, -1);
+		}
+		int first = 0;
+		while (start.charAt(first) == late.charAt(first)) {
+			first++;
+		}
+		if (first + 3 > start.length()
+				|| !start.regionMatches(first, "000", 0, 3)
+				|| !late.regionMatches(first, "987", 0, 3)
+				|| !start.regionMatches(first + 3, late, first + 3,
+				start.length() - first - 3)) {
+			return new Second(epochSecond, null, -1);
+		}
+		return new Second(epochSecond, start.getBytes(StandardCharsets.UTF_8),
+				start.substring(0, first).getBytes(StandardCharsets.UTF_8)
+				.length);
+	}
+	
+}
@@ -0,0 +1,274 @@
+/*
+ * File:		RollingFileLogOutput.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Defines a log output writing lines of text to a file which is
+ * 				rolled over and compressed by size and age
+ */
+
+package com.limenfanestudio.sillplateframework.logging;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+import com.limenfanestudio.sillplateframework.application.Application;
+
+// Log output writing each log as a line of text to a file - when the file
+// grows too large or old it is closed, renamed with a timestamp and
+// compressed on a background thread while a new file is started
+class RollingFileLogOutput extends LogOutput {
+	
+	// Format of the timestamps appended to the names of closed files, in UTC
+	// so the times only ever increase
+	private static final DateTimeFormatter SegmentFormatter = DateTimeFormatter
+			.ofPattern("yyyyMMdd-HHmmss-SSS").withZone(ZoneOffset.UTC);
+	// Pattern of what follows the file name and a dot in the names of closed
+	// files - the timestamp, the index added if the name was taken and the
+	// extension once compressed
+	private static final Pattern ClosedPattern = Pattern.compile(
+			"(\\d{8}-\\d{6}-\\d{3})(?:-(\\d{1,9}))?(?:\\.gz)?");
+	// Extension of compressed closed files
+	private static final String CompressedExtension = ".gz";
+	
+	// The file name / path of the file being written to
+	private String fileName = "";
+	// The maximum size in bytes of a file before it is rolled over or 0 for
+	// no limit
+	private long maxSize = 0L;
+	// The maximum age in milliseconds of a file before it is rolled over or 0
+	// for no limit
+	private long maxAge = 0L;
+	// The number of closed files kept before the oldest are deleted
+	private int retainedCount = 0;
+	// Executor compressing and deleting closed files in the background
+	private Executor compressor = null;
+	// Java IO handle for the file being written to
+	private OutputStream writer = null;
+	// The size in bytes of the file being written to
+	private long size = 0L;
+	// The time in milliseconds since the epoch the current file was started
+	private long openedTime = 0L;
+	
+	/*
+	 * Construct a rolling file log output, rolling over any existing file so
+	 * logs from a previous run are kept
+	 * Parameter: String fileName - The file name / path to write to
+	 * Parameter: long maxSize - The maximum size in bytes of a file or 0 for
+	 * no limit
+	 * Parameter: long maxAge - The maximum age in milliseconds of a file or 0
+	 * for no limit
+	 * Parameter: int retainedCount - The number of closed files to keep
+	 * Parameter: Executor compressor - Executor to compress closed files on
+	 * Throws: IOException - If the file could not be opened
+	 */
+	RollingFileLogOutput(String fileName, long maxSize, long maxAge,
+			int retainedCount, Executor compressor) throws IOException {
+		this.fileName = fileName;
+		this.maxSize = maxSize;
+		this.maxAge = maxAge;
+		this.retainedCount = Math.max(0, retainedCount);
+		this.compressor = compressor;
+		File file = new File(fileName);
+		if (file.length() > 0L) {
+			roll(System.currentTimeMillis());
+		} else {
+			open(System.currentTimeMillis());
+		}
+	}
+	
+	@Override
+	void write(LogEvent event, LogLine line) throws IOException {
+		long time = event.timestamp / 1000000L;
+		if ((maxSize > 0L && size > 0L && size + line.length() > maxSize)
+				|| (maxAge > 0L && time - openedTime >= maxAge)) {
+			roll(time);
+		}
+		if (writer == null) {
+			throw new IOException("Log file \"" + fileName + "\" is closed");
+		}
+		writer.write(line.getArray(), 0, line.length());
+		size += line.length();
+	}
+	@Override
+	void flush() throws IOException {
+		if (writer != null) {
+			writer.flush();
+		}
+	}
+	@Override
+	void close() throws IOException {
+		if (writer != null) {
+			writer.close();
+			writer = null;
+		}
+	}
+	/*
+	 * Start a new, empty file
+	 * Parameter: long time - The current time in milliseconds since the epoch
+	 * Throws: IOException - If the file could not be opened
+	 */
+	private void open(long time) throws IOException {
+		writer = new BufferedOutputStream(new FileOutputStream(fileName));
+		size = 0L;
+		openedTime = time;
+	}
+	/*
+	 * Close the current file, rename it with a timestamp, queue it for
+	 * compression and start a new file - if the new file cannot be opened the
+	 * closed file is reopened and written to until the next roll
+	 * Parameter: long time - The current time in milliseconds since the epoch
+	 * Throws: IOException - If neither the new nor the closed file could be
+	 * opened
+	 */
+	private void roll(long time) throws IOException {
+		close();
+		File file = new File(fileName);
+		String closedName = fileName + "." + SegmentFormatter.format(
+				Instant.ofEpochMilli(time));
+		File closedFile = new File(closedName);
+		for (int i = 1; closedFile.exists() || new File(closedFile.getPath()
+				+ CompressedExtension).exists(); i++) {
+			closedFile = new File(closedName + "-" + i);
+		}
+		if (!file.renameTo(closedFile)) {
+			reopen(file, time);
+			return;
+		}
+		try {
+			open(time);
+		} catch (IOException e) {
+			reopen(closedFile, time);
+			return;
+		}
+		final File compressed = closedFile;
+		try {
+			compressor.execute(new Runnable() {
+				public void run() {
+					compress(compressed);
+					prune();
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			// The logging system is being destroyed, so the closed file is
+			// kept uncompressed
+		}
+	}
+	/*
+	 * Continue appending to a file after a failed roll, rolling again once
+	 * another full file has been written
+	 * Parameter: File file - The file to append to
+	 * Parameter: long time - The current time in milliseconds since the epoch
+	 * Throws: IOException - If the file could not be opened
+	 */
+	private void reopen(File file, long time) throws IOException {
+		writer = new BufferedOutputStream(new FileOutputStream(file, true));
+		size = 0L;
+		openedTime = time;
+	}
+	/*
+	 * Compress a closed file with gzip and delete the uncompressed file -
+	 * runs on the compressor
+	 * Parameter: File file - The closed file
+	 */
+	private void compress(File file) {
+		File target = new File(file.getPath() + CompressedExtension);
+		byte[] buffer = new byte[65536];
+		try (InputStream in = new FileInputStream(file);
+				OutputStream out = new GZIPOutputStream(new FileOutputStream(
+						target), buffer.length)) {
+			int count = in.read(buffer);
+			while (count >= 0) {
+				out.write(buffer, 0, count);
+				count = in.read(buffer);
+			}
+		} catch (IOException e) {
+			target.delete();
+			Application.Log.write(LogSource.Log, LogLevel.Warning, "Failed to ",
+					"compress log file \"", file.getPath(), "\"");
+			return;
+		}
+		if (!file.delete()) {
+			Application.Log.write(LogSource.Log, LogLevel.Warning, "Failed to ",
+					"delete compressed log file \"", file.getPath(), "\"");
+		}
+	}
+	/*
+	 * Delete the oldest closed files beyond the retained count - runs on the
+	 * compressor
+	 */
+	private void prune() {
+		File file = new File(fileName).getAbsoluteFile();
+		File directory = file.getParentFile();
+		String prefix = file.getName() + ".";
+		String[] names = directory == null ? null : directory.list();
+		if (names == null) {
+			return;
+		}
+		List<String> closedNames = new ArrayList<String>();
+		final Map<String, long[]> keys = new HashMap<String, long[]>();
+		for (String name : names) {
+			if (!name.startsWith(prefix)) {
+				continue;
+			}
+			Matcher matcher = ClosedPattern.matcher(name.substring(
+					prefix.length()));
+			if (!matcher.matches()) {
+				continue;
+			}
+			try {
+				long time = Instant.from(SegmentFormatter.parse(
+						matcher.group(1))).toEpochMilli();
+				long index = matcher.group(2) == null ? 0L : Long.parseLong(
+						matcher.group(2));
+				keys.put(name, new long[] {time, index});
+				closedNames.add(name);
+			} catch (DateTimeParseException e) {
+				// Not a timestamp, so not a file closed by this output
+			}
+		}
+		// Oldest first, by the time each file was closed and then by the
+		// index added when the name was taken
+		Collections.sort(closedNames, new Comparator<String>() {
+			public int compare(String a, String b) {
+				long[] keyA = keys.get(a);
+				long[] keyB = keys.get(b);
+				if (keyA[0] != keyB[0]) {
+					return Long.compare(keyA[0], keyB[0]);
+				}
+				return Long.compare(keyA[1], keyB[1]);
+			}
+		});
+		for (int i = 0; i < closedNames.size() - retainedCount; i++) {
+			try {
+				Files.deleteIfExists(new File(directory, closedNames.get(i))
+						.toPath());
+			} catch (IOException e) {
+				Application.Log.write(LogSource.Log, LogLevel.Warning,
+						"Failed to delete old log file \"", closedNames.get(i),
+						"\"");
+			}
+		}
+	}
+	
+}
@@ -0,0 +1,373 @@
+/*
+ * File:		LoopManager.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Runs the Sillplate Framework application's main loop with a
+ * 				fixed update timestep, interpolated rendering and frame pacing
+ */
+
+package com.limenfanestudio.sillplateframework.looping;
+
+import java.util.concurrent.locks.LockSupport;
+
+import com.limenfanestudio.sillplateframework.application.Application;
+import com.limenfanestudio.sillplateframework.application
+		.ApplicationConfiguration;
+import com.limenfanestudio.sillplateframework.application.Scene;
+import com.limenfanestudio.sillplateframework.entity.SystemScheduler;
+import com.limenfanestudio.sillplateframework.entity.World;
+import com.limenfanestudio.sillplateframework.logging.LogLevel;
+import com.limenfanestudio.sillplateframework.logging.LogSource;
+import com.limenfanestudio.sillplateframework.metrics.MetricsManager;
+import com.limenfanestudio.sillplateframework.physics.PhysicsWorld;
+import com.limenfanestudio.sillplateframework.profiling.ProfileManager;
+import com.limenfanestudio.sillplateframework.profiling.ProfileScope;
+
+// The main class of the Sillplate Framework's loop system
+public class LoopManager {
+	
+	// Time in nanoseconds before a frame deadline at which the loop stops
+	// parking its thread and spins instead, covering coarse OS timers
+	private static final long SpinThreshold = 2000000L;
+	// Number of nanoseconds in a second
+	private static final double NanosecondsPerSecond = 1000000000.0d;
+	
+	// The number of fixed-step updates run per second
+	private double tickRate = 0.0d;
+	// The maximum number of frames rendered per second or 0 for uncapped
+	private double frameCap = 0.0d;
+	// The maximum number of updates run in a single frame before the loop
+	// drops time to catch up
+	private int maxTicksPerFrame = 0;
+	// The duration of a single update in nanoseconds
+	private long tickDuration = 0L;
+	// The minimum duration of a single frame in nanoseconds or 0 for uncapped
+	private long frameDuration = 0L;
+	// The number of updates run since the loop started
+	private long tickCount = 0L;
+	// The number of frames rendered since the loop started
+	private long frameCount = 0L;
+	// The fraction of an update elapsed since the last update at the time of
+	// the last rendered frame
+	private double alpha = 0.0d;
+	// Whether the loop runs one update per iteration on simulated time
+	// instead of following the clock
+	private boolean simulated = false;
+	// Whether the loop is currently running
+	private volatile boolean running = false;
+	
+	/*
+	 * Initialize the Sillplate Framework's loop system
+	 * Parameter: ApplicationConfiguration.LoopConfiguration configuration - The
+	 * configuration settings for the loop system
+	 * Returns: boolean - Whether the loop system was initialized successfully
+	 */
+	public boolean initialize(
+			ApplicationConfiguration.LoopConfiguration configuration) {
+		if (!setTickRate(configuration.tickRate)) {
+			return false;
+		}
+		if (!setFrameCap(configuration.frameCap)) {
+			return false;
+		}
+		if (!setMaxTicksPerFrame(configuration.maxTicksPerFrame)) {
+			return false;
+		}
+		setSimulated(configuration.simulated);
+		Application.Log.write(LogSource.Loop, LogLevel.Information,
+				"Initialized loop system");
+		return true;
+	}
+	/*
+	 * Run the main loop until the current scene requests to stop, the window
+	 * requests to close or stop() is called
+	 */
+	public void run() {
+		running = true;
+		tickCount = 0L;
+		frameCount = 0L;
+		long accumulator = 0L;
+		long previousTime = System.nanoTime();
+		long nextFrameTime = previousTime;
+		Application.Log.write(LogSource.Loop, LogLevel.Information, "Started ",
+				"main loop");
+		ProfileManager profiler = Application.Profiler;
+		MetricsManager metrics = Application.Metrics;
+		while (running && (Application.Window == null
+				|| !Application.Window.isClosing())) {
+			long frameStart = System.nanoTime();
+			profiler.begin(ProfileScope.Frame);
+			long elapsed = frameStart - previousTime;
+			previousTime = frameStart;
+			// Clamp the time a single frame can add so a long stall cannot
+			// force more updates than the loop can ever catch up on
+			long maxElapsed = tickDuration * maxTicksPerFrame;
+			if (elapsed > maxElapsed) {
+				elapsed = maxElapsed;
+			}
+			if (simulated) {
+				elapsed = tickDuration;
+			}
+			accumulator += elapsed;
+			double deltaTime = getDeltaTime();
+			while (accumulator >= tickDuration) {
+				if (!tick(deltaTime)) {
+					running = false;
+					break;
+				}
+				accumulator -= tickDuration;
+			}
+			if (!running) {
+				profiler.end(ProfileScope.Frame);
+				break;
+			}
+			alpha = (double)accumulator / (double)tickDuration;
+			profiler.begin(ProfileScope.Render);
+			Application.Render.render(Application.GetCurrentScene(), alpha);
+			profiler.end(ProfileScope.Render);
+			frameCount++;
+			profiler.end(ProfileScope.Frame);
+			profiler.endFrame();
+			metrics.endFrame();
+			if (frameDuration > 0L && !simulated) {
+				nextFrameTime += frameDuration;
+				// Resynchronize rather than rendering a burst of frames after
+				// falling more than a frame behind
+				if (nextFrameTime - System.nanoTime() < -frameDuration) {
+					nextFrameTime = System.nanoTime();
+				}
+				waitUntil(nextFrameTime);
+			}
+		}
+		running = false;
+		Application.Log.write(LogSource.Loop, LogLevel.Information, "Stopped ",
+				"main loop after ", tickCount, " updates and ", frameCount,
+				" frames");
+	}
+	/*
+	 * Run a number of updates immediately, without rendering or waiting for
+	 * real time - cannot be called while the main loop is running
+	 * Parameter: long ticks - The number of updates to run
+	 * Returns: long - The number of updates run, fewer if the current scene
+	 * requested to stop
+	 */
+	public long step(long ticks) {
+		if (running) {
+			Application.Log.write(LogSource.Loop, LogLevel.Warning, "Cannot ",
+					"step while the main loop is running");
+			return 0L;
+		}
+		double deltaTime = getDeltaTime();
+		long count = 0L;
+		while (count < ticks && tick(deltaTime)) {
+			count++;
+		}
+		return count;
+	}
+	/*
+	 * Request the main loop to stop after the current frame
+	 */
+	public void stop() {
+		running = false;
+	}
+	/*
+	 * Free the memory of the Sillplate Framework's loop system
+	 */
+	public void destroy() {
+		running = false;
+		tickRate = 0.0d;
+		frameCap = 0.0d;
+		maxTicksPerFrame = 0;
+		simulated = false;
+		tickDuration = 0L;
+		frameDuration = 0L;
+	}
+	/*
+	 * Run a single fixed-step update of the current scene, then its systems,
+	 * recorded changes and physics, recording or replaying the tick
+	 * Parameter: double deltaTime - The fixed duration of an update in seconds
+	 * Returns: boolean - Whether the scene requested to continue running and
+	 * any replay has not ended
+	 */
+	private boolean tick(double deltaTime) {
+		ProfileManager profiler = Application.Profiler;
+		if (!Application.Replay.beginTick()) {
+			return false;
+		}
+		Application.UpdateTransitions();
+		profiler.begin(ProfileScope.Input);
+		Application.Input.update();
+		boolean continuing = Application.Replay.updateInput();
+		Scene scene = Application.GetCurrentScene();
+		continuing = continuing && scene.processInput();
+		profiler.end(ProfileScope.Input);
+		if (!continuing) {
+			return false;
+		}
+		profiler.begin(ProfileScope.Update);
+		scene.update(deltaTime);
+		World world = scene.getWorld();
+		if (world != null) {
+			SystemScheduler scheduler = scene.getScheduler();
+			if (scheduler != null) {
+				scheduler.run(world, deltaTime);
+			}
+			world.applyCommands();
+		}
+		profiler.end(ProfileScope.Update);
+		PhysicsWorld physics = scene.getPhysicsWorld();
+		if (physics != null) {
+			profiler.begin(ProfileScope.Physics);
+			physics.step(deltaTime);
+			profiler.end(ProfileScope.Physics);
+		}
+		Application.Replay.endTick(scene);
+		tickCount++;
+		return true;
+	}
+	/*
+	 * Block the loop thread until a point in time, parking while far from it
+	 * and spinning for the final stretch for precision
+	 * Parameter: long deadline - The System.nanoTime() value to wait until
+	 */
+	private void waitUntil(long deadline) {
+		long remaining = deadline - System.nanoTime();
+		while (remaining > 0L) {
+			if (remaining > SpinThreshold) {
+				LockSupport.parkNanos(remaining - SpinThreshold);
+			} else {
+				Thread.onSpinWait();
+			}
+			remaining = deadline - System.nanoTime();
+		}
+	}
+	
+	/*
+	 * Test whether the main loop is currently running
+	 * Returns: boolean - Whether the main loop is running
+	 */
+	public boolean isRunning() {
+		return running;
+	}
+	/*
+	 * Get the number of fixed-step updates run per second
+	 * Returns: double - The update rate in hertz
+	 */
+	public double getTickRate() {
+		return tickRate;
+	}
+	/*
+	 * Set the number of fixed-step updates to run per second
+	 * Parameter: double tickRate - The update rate in hertz
+	 * Returns: boolean - Whether the given update rate is valid
+	 */
+	public boolean setTickRate(double tickRate) {
+		if (!(tickRate > 0.0d)) {
+			Application.Log.write(LogSource.Loop, LogLevel.Warning, "Invalid ",
+					"tick rate ", tickRate);
+			return false;
+		}
+		this.tickRate = tickRate;
+		tickDuration = Math.max(1L, Math.round(NanosecondsPerSecond
+				/ tickRate));
+		Application.Log.write(LogSource.Loop, LogLevel.Information, "Set ",
+				"tick rate ", tickRate);
+		return true;
+	}
+	/*
+	 * Get the maximum number of frames rendered per second
+	 * Returns: double - The frame cap in hertz or 0 if uncapped
+	 */
+	public double getFrameCap() {
+		return frameCap;
+	}
+	/*
+	 * Set the maximum number of frames to render per second
+	 * Parameter: double frameCap - The frame cap in hertz or 0 for uncapped
+	 * Returns: boolean - Whether the given frame cap is valid
+	 */
+	public boolean setFrameCap(double frameCap) {
+		if (!(frameCap >= 0.0d) || Double.isInfinite(frameCap)) {
+			Application.Log.write(LogSource.Loop, LogLevel.Warning, "Invalid ",
+					"frame cap ", frameCap);
+			return false;
+		}
+		this.frameCap = frameCap;
+		frameDuration = frameCap == 0.0d ? 0L
+				: Math.round(NanosecondsPerSecond / frameCap);
+		Application.Log.write(LogSource.Loop, LogLevel.Information, "Set ",
+				"frame cap ", frameCap);
+		return true;
+	}
+	/*
+	 * Get the maximum number of updates run in a single frame
+	 * Returns: int - The maximum number of updates per frame
+	 */
+	public int getMaxTicksPerFrame() {
+		return maxTicksPerFrame;
+	}
+	/*
+	 * Set the maximum number of updates to run in a single frame before the
+	 * loop drops time to catch up
+	 * Parameter: int maxTicksPerFrame - The maximum number of updates per frame
+	 * Returns: boolean - Whether the given maximum is valid
+	 */
+	public boolean setMaxTicksPerFrame(int maxTicksPerFrame) {
+		if (maxTicksPerFrame < 1) {
+			Application.Log.write(LogSource.Loop, LogLevel.Warning, "Invalid ",
+					"maximum ticks per frame ", maxTicksPerFrame);
+			return false;
+		}
+		this.maxTicksPerFrame = maxTicksPerFrame;
+		Application.Log.write(LogSource.Loop, LogLevel.Information, "Set ",
+				"maximum ticks per frame ", maxTicksPerFrame);
+		return true;
+	}
+	/*
+	 * Test whether the loop runs on simulated time
+	 * Returns: boolean - Whether the loop is simulated
+	 */
+	public boolean isSimulated() {
+		return simulated;
+	}
+	/*
+	 * Set whether the loop runs one update per iteration back to back on
+	 * simulated time instead of following the clock
+	 * Parameter: boolean simulated - Whether the loop is simulated
+	 */
+	public void setSimulated(boolean simulated) {
+		this.simulated = simulated;
+		Application.Log.write(LogSource.Loop, LogLevel.Information, "Set ",
+				"simulated time ", simulated);
+	}
+	/*
+	 * Get the fixed duration of a single update
+	 * Returns: double - The update timestep in seconds
+	 */
+	public double getDeltaTime() {
+		return (double)tickDuration / NanosecondsPerSecond;
+	}
+	/*
+	 * Get the number of updates run since the main loop started
+	 * Returns: long - The update count
+	 */
+	public long getTickCount() {
+		return tickCount;
+	}
+	/*
+	 * Get the number of frames rendered since the main loop started
+	 * Returns: long - The frame count
+	 */
+	public long getFrameCount() {
+		return frameCount;
+	}
+	/*
+	 * Get the interpolation factor passed to the scene for the last frame
+	 * Returns: double - The fraction of an update elapsed since the last
+	 * update, from 0 to 1
+	 */
+	public double getAlpha() {
+		return alpha;
+	}
+	
+}
@@ -0,0 +1,58 @@
+/*
+ * File:		MetricCounter.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Defines a named, monotonically increasing count of events for
+ * 				the metrics system
+ */
+
+package com.limenfanestudio.sillplateframework.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// A count of events - increments from many threads are spread over striped
+// cells instead of contending on a single value, so counting never blocks
+public class MetricCounter {
+	
+	// The name of this counter
+	private final String name;
+	// The striped count
+	private final LongAdder count = new LongAdder();
+	
+	/*
+	 * Construct a counter starting at zero
+	 * Parameter: String name - The name of the counter
+	 */
+	MetricCounter(String name) {
+		this.name = name;
+	}
+	/*
+	 * Count one event
+	 */
+	public void increment() {
+		count.increment();
+	}
+	/*
+	 * Count a number of events
+	 * Parameter: long amount - The number of events
+	 */
+	public void add(long amount) {
+		count.add(amount);
+	}
+	
+	/*
+	 * Get the name of this counter
+	 * Returns: String - The name of the counter
+	 */
+	public String getName() {
+		return name;
+	}
+	/*
+	 * Get the number of events counted
+	 * Returns: long - The count
+	 */
+	public long get() {
+		return count.sum();
+	}
+	
+}
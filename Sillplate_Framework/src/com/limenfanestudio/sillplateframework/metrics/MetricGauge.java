@@ -0,0 +1,69 @@
+/*
+ * File:		MetricGauge.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Defines a named value for the metrics system which can rise
+ * 				and fall, set directly or sampled each frame
+ */
+
+package com.limenfanestudio.sillplateframework.metrics;
+
+import java.util.function.DoubleSupplier;
+
+// A value which can rise and fall, such as the number of entities alive -
+// either set directly by its owner or sampled from a supplier by the loop at
+// the end of each frame, so suppliers may read state owned by the loop
+// thread
+public class MetricGauge {
+	
+	// The name of this gauge
+	private final String name;
+	// The supplier sampled each frame or null if the value is set directly
+	private final DoubleSupplier sampler;
+	// The current value
+	private volatile double value = 0.0d;
+	
+	/*
+	 * Construct a gauge starting at zero
+	 * Parameter: String name - The name of the gauge
+	 * Parameter: DoubleSupplier sampler - The supplier sampled each frame or
+	 * null if the value is set directly
+	 */
+	MetricGauge(String name, DoubleSupplier sampler) {
+		this.name = name;
+		this.sampler = sampler;
+	}
+	/*
+	 * Take the value from the supplier, if this gauge has one - called by the
+	 * metrics system on the loop thread
+	 */
+	void sample() {
+		if (sampler != null) {
+			value = sampler.getAsDouble();
+		}
+	}
+	
+	/*
+	 * Get the name of this gauge
+	 * Returns: String - The name of the gauge
+	 */
+	public String getName() {
+		return name;
+	}
+	/*
+	 * Get the current value of this gauge
+	 * Returns: double - The value
+	 */
+	public double get() {
+		return value;
+	}
+	/*
+	 * Set the current value of this gauge - a sampled gauge overwrites it at
+	 * the end of the frame
+	 * Parameter: double value - The value
+	 */
+	public void set(double value) {
+		this.value = value;
+	}
+	
+}
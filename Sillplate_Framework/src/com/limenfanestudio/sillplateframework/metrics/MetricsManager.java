@@ -0,0 +1,455 @@
+/*
+ * File:		MetricsManager.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Manages the Sillplate Framework application's named runtime
+ * 				metrics and exports snapshots of them
+ */
+
+package com.limenfanestudio.sillplateframework.metrics;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleSupplier;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+import com.limenfanestudio.sillplateframework.application.Application;
+import com.limenfanestudio.sillplateframework.application
+		.ApplicationConfiguration;
+import com.limenfanestudio.sillplateframework.logging.LogEntry;
+import com.limenfanestudio.sillplateframework.logging.LogLevel;
+import com.limenfanestudio.sillplateframework.logging.LogSource;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+// The main class of the Sillplate Framework's metrics system - counters,
+// gauges and histograms are created by name and updated from any thread
+// without locking. The loop samples gauges and records the frame time and
+// the garbage collection time of each frame at the end of every frame.
+// Snapshots are exported periodically as JSON lines to a file and as
+// structured logs, and served as JSON over a local HTTP endpoint
+public class MetricsManager {
+	
+	// The path the HTTP endpoint serves snapshots at
+	private static final String EndpointPath = "/metrics";
+	// Percentiles exported for every histogram
+	private static final double[] Percentiles = {50.0d, 90.0d, 99.0d};
+	// Names of the exported percentiles
+	private static final String[] PercentileNames = {"p50", "p90", "p99"};
+	
+	// Counters by name
+	private final Map<String, MetricCounter> counters =
+			new ConcurrentHashMap<String, MetricCounter>();
+	// Gauges by name
+	private final Map<String, MetricGauge> gauges =
+			new ConcurrentHashMap<String, MetricGauge>();
+	// Histograms by name
+	private final Map<String, MetricHistogram> histograms =
+			new ConcurrentHashMap<String, MetricHistogram>();
+	// Gauges sampled at the end of each frame
+	private final List<MetricGauge> sampled =
+			new CopyOnWriteArrayList<MetricGauge>();
+	// Time between frames in nanoseconds
+	private MetricHistogram frameTimes = null;
+	// Garbage collection time of each frame in milliseconds
+	private MetricHistogram frameCollectionTimes = null;
+	// The garbage collectors of the virtual machine listened to
+	private final List<NotificationEmitter> collectors =
+			new ArrayList<NotificationEmitter>();
+	// Adds the duration of each garbage collection to the collection time,
+	// so frames read a single value instead of querying every collector -
+	// notifications arrive shortly after each collection, so a collection is
+	// counted in the frame its notification arrives in
+	private final NotificationListener collectionListener =
+			new NotificationListener() {
+		public void handleNotification(Notification notification,
+				Object handback) {
+			if (notification.getType().equals(GarbageCollectionNotificationInfo
+					.GARBAGE_COLLECTION_NOTIFICATION)) {
+				collectionTime.addAndGet(GarbageCollectionNotificationInfo
+						.from((CompositeData)notification.getUserData())
+						.getGcInfo().getDuration());
+			}
+		}
+	};
+	// The total garbage collection time in milliseconds since initialization
+	private final AtomicLong collectionTime = new AtomicLong(0L);
+	// The time the last frame ended in nanoseconds or 0 before the first
+	private long lastFrameTime = 0L;
+	// The total garbage collection time in milliseconds at the last frame
+	private long lastCollectionTime = 0L;
+	// The file name / path snapshots are appended to or null for none
+	private String exportFileName = null;
+	// Whether snapshots are written to the log
+	private boolean exportToLog = false;
+	// Thread exporting snapshots periodically or null if not exporting
+	private ScheduledExecutorService exporter = null;
+	// Local HTTP server serving snapshots or null if not serving
+	private HttpServer server = null;
+	
+	/*
+	 * Initialize the Sillplate Framework's metrics system
+	 * Parameter: ApplicationConfiguration.MetricsConfiguration configuration -
+	 * The configuration settings for the metrics system
+	 * Returns: boolean - Whether the metrics system was initialized
+	 * successfully
+	 */
+	public boolean initialize(
+			ApplicationConfiguration.MetricsConfiguration configuration) {
+		if (configuration.exportInterval < 0L || configuration.httpPort < 0
+				|| configuration.httpPort > 65535) {
+			Application.Log.write(LogSource.Metrics, LogLevel.Warning,
+					"Invalid metrics export interval ",
+					configuration.exportInterval, " or HTTP port ",
+					configuration.httpPort);
+			return false;
+		}
+		frameTimes = getHistogram("frame.time.nanos");
+		frameCollectionTimes = getHistogram("frame.gc.millis");
+		for (GarbageCollectorMXBean collector
+				: ManagementFactory.getGarbageCollectorMXBeans()) {
+			if (collector instanceof NotificationEmitter) {
+				NotificationEmitter emitter = (NotificationEmitter)collector;
+				emitter.addNotificationListener(collectionListener, null,
+						null);
+				collectors.add(emitter);
+			}
+		}
+		lastCollectionTime = collectionTime.get();
+		lastFrameTime = 0L;
+		exportFileName = configuration.exportFileName;
+		exportToLog = configuration.exportToLog;
+		if (configuration.exportInterval > 0L && (exportFileName != null
+				|| exportToLog)) {
+			startExporter(configuration.exportInterval);
+		}
+		if (configuration.httpPort > 0
+				&& !startServer(configuration.httpPort)) {
+			return false;
+		}
+		Application.Log.write(LogSource.Metrics, LogLevel.Information,
+				"Initialized metrics system");
+		return true;
+	}
+	/*
+	 * Sample every sampled gauge and record the frame's time and garbage
+	 * collection time - called by the loop at the end of each frame
+	 */
+	public void endFrame() {
+		long now = System.nanoTime();
+		if (lastFrameTime != 0L) {
+			frameTimes.record(now - lastFrameTime);
+		}
+		lastFrameTime = now;
+		long collectionTime = this.collectionTime.get();
+		frameCollectionTimes.record(collectionTime - lastCollectionTime);
+		lastCollectionTime = collectionTime;
+		for (int i = 0; i < sampled.size(); i++) {
+			sampled.get(i).sample();
+		}
+	}
+	/*
+	 * Export a snapshot of every metric to the export file and the log, as
+	 * configured
+	 */
+	public void export() {
+		if (exportFileName != null) {
+			String snapshot = getSnapshot() + "\n";
+			try {
+				Files.write(Paths.get(exportFileName), snapshot.getBytes(
+						StandardCharsets.UTF_8), StandardOpenOption.CREATE,
+						StandardOpenOption.APPEND);
+			} catch (IOException e) {
+				Application.Log.write(LogSource.Metrics, LogLevel.Warning,
+						"Failed to export metrics to \"", exportFileName,
+						"\"");
+			}
+		}
+		if (exportToLog) {
+			exportToLog();
+		}
+	}
+	/*
+	 * Free the memory of the Sillplate Framework's metrics system, exporting a
+	 * final snapshot if exporting periodically
+	 */
+	public void destroy() {
+		if (server != null) {
+			server.stop(0);
+			server = null;
+		}
+		if (exporter != null) {
+			exporter.shutdown();
+			try {
+				exporter.awaitTermination(10L, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			exporter = null;
+			export();
+		}
+		sampled.clear();
+		counters.clear();
+		gauges.clear();
+		histograms.clear();
+		for (NotificationEmitter collector : collectors) {
+			try {
+				collector.removeNotificationListener(collectionListener);
+			} catch (ListenerNotFoundException e) {
+				continue;
+			}
+		}
+		collectors.clear();
+	}
+	/*
+	 * Start the thread exporting snapshots periodically
+	 * Parameter: long interval - The time between snapshots in milliseconds
+	 */
+	private void startExporter(long interval) {
+		exporter = Executors.newSingleThreadScheduledExecutor(
+				new ThreadFactory() {
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable,
+						"Sillplate Metrics Exporter");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		exporter.scheduleAtFixedRate(new Runnable() {
+			public void run() {
+				export();
+			}
+		}, interval, interval, TimeUnit.MILLISECONDS);
+	}
+	/*
+	 * Start the HTTP server serving snapshots on the loopback address
+	 * Parameter: int port - The port to listen on
+	 * Returns: boolean - Whether the server was started
+	 */
+	private boolean startServer(int port) {
+		try {
+			server = HttpServer.create(new InetSocketAddress(
+					InetAddress.getLoopbackAddress(), port), 0);
+		} catch (IOException e) {
+			Application.Log.write(LogSource.Metrics, LogLevel.Warning,
+					"Failed to start metrics endpoint on port ", port);
+			return false;
+		}
+		server.createContext(EndpointPath, new HttpHandler() {
+			public void handle(HttpExchange exchange) throws IOException {
+				if (!exchange.getRequestMethod().equals("GET")) {
+					exchange.sendResponseHeaders(405, -1L);
+					exchange.close();
+					return;
+				}
+				byte[] body = getSnapshot().getBytes(StandardCharsets.UTF_8);
+				exchange.getResponseHeaders().set("Content-Type",
+						"application/json");
+				exchange.sendResponseHeaders(200, body.length);
+				try (OutputStream out = exchange.getResponseBody()) {
+					out.write(body);
+				}
+			}
+		});
+		server.start();
+		Application.Log.write(LogSource.Metrics, LogLevel.Information,
+				"Serving metrics at http://",
+				server.getAddress().getHostString(), ":",
+				server.getAddress().getPort(), EndpointPath);
+		return true;
+	}
+	/*
+	 * Write a snapshot of every metric to the log as one structured log
+	 */
+	private void exportToLog() {
+		LogEntry entry = Application.Log.entry(LogSource.Metrics,
+				LogLevel.Information);
+		for (String name : getSortedNames(counters)) {
+			entry.field(name, counters.get(name).get());
+		}
+		for (String name : getSortedNames(gauges)) {
+			entry.field(name, gauges.get(name).get());
+		}
+		for (String name : getSortedNames(histograms)) {
+			MetricHistogram histogram = histograms.get(name);
+			entry.field(name + ".count", histogram.getCount());
+			for (int i = 0; i < Percentiles.length; i++) {
+				entry.field(name + "." + PercentileNames[i],
+						histogram.getPercentile(Percentiles[i]));
+			}
+			entry.field(name + ".max", histogram.getMaximum());
+		}
+		entry.write("Metrics snapshot");
+	}
+	/*
+	 * Get the names of a set of metrics in order
+	 * Parameter: Map<String, ?> metrics - The metrics by name
+	 * Returns: List<String> - The sorted names
+	 */
+	private static List<String> getSortedNames(Map<String, ?> metrics) {
+		List<String> names = new ArrayList<String>(metrics.keySet());
+		Collections.sort(names);
+		return names;
+	}
+	/*
+	 * Append a string to a JSON document as a quoted, escaped string
+	 * Parameter: StringBuilder json - The document
+	 * Parameter: String string - The string
+	 */
+	private static void appendString(StringBuilder json, String string) {
+		json.append('"');
+		for (int i = 0; i < string.length(); i++) {
+			char c = string.charAt(i);
+			if (c == '"' || c == '\\') {
+				json.append('\\').append(c);
+			} else if (c < 0x20) {
+				json.append(String.format("\\u%04x", (int)c));
+			} else {
+				json.append(c);
+			}
+		}
+		json.append('"');
+	}
+	
+	/*
+	 * Get the counter with a name, creating it the first time
+	 * Parameter: String name - The name of the counter
+	 * Returns: MetricCounter - The counter
+	 */
+	public MetricCounter getCounter(String name) {
+		MetricCounter counter = counters.get(name);
+		if (counter == null) {
+			counter = new MetricCounter(name);
+			MetricCounter existing = counters.putIfAbsent(name, counter);
+			if (existing != null) {
+				counter = existing;
+			}
+		}
+		return counter;
+	}
+	/*
+	 * Get the gauge with a name which is set directly, creating it the first
+	 * time
+	 * Parameter: String name - The name of the gauge
+	 * Returns: MetricGauge - The gauge
+	 */
+	public MetricGauge getGauge(String name) {
+		return getGauge(name, null);
+	}
+	/*
+	 * Get the gauge with a name, creating it the first time sampling a
+	 * supplier at the end of each frame - the supplier of a gauge which
+	 * already exists is ignored
+	 * Parameter: String name - The name of the gauge
+	 * Parameter: DoubleSupplier sampler - The supplier sampled on the loop
+	 * thread or null if the gauge is set directly
+	 * Returns: MetricGauge - The gauge
+	 */
+	public MetricGauge getGauge(String name, DoubleSupplier sampler) {
+		MetricGauge gauge = gauges.get(name);
+		if (gauge == null) {
+			gauge = new MetricGauge(name, sampler);
+			MetricGauge existing = gauges.putIfAbsent(name, gauge);
+			if (existing != null) {
+				gauge = existing;
+			} else if (sampler != null) {
+				sampled.add(gauge);
+			}
+		}
+		return gauge;
+	}
+	/*
+	 * Get the histogram with a name, creating it the first time
+	 * Parameter: String name - The name of the histogram
+	 * Returns: MetricHistogram - The histogram
+	 */
+	public MetricHistogram getHistogram(String name) {
+		MetricHistogram histogram = histograms.get(name);
+		if (histogram == null) {
+			histogram = new MetricHistogram(name);
+			MetricHistogram existing = histograms.putIfAbsent(name,
+					histogram);
+			if (existing != null) {
+				histogram = existing;
+			}
+		}
+		return histogram;
+	}
+	/*
+	 * Get a snapshot of every metric as a JSON object - counters and gauges
+	 * by name, and for each histogram its count, mean, percentiles and
+	 * maximum
+	 * Returns: String - The snapshot
+	 */
+	public String getSnapshot() {
+		StringBuilder json = new StringBuilder(1024);
+		json.append("{\"time\":").append(System.currentTimeMillis());
+		json.append(",\"counters\":{");
+		String separator = "";
+		for (String name : getSortedNames(counters)) {
+			json.append(separator);
+			appendString(json, name);
+			json.append(':').append(counters.get(name).get());
+			separator = ",";
+		}
+		json.append("},\"gauges\":{");
+		separator = "";
+		for (String name : getSortedNames(gauges)) {
+			double value = gauges.get(name).get();
+			json.append(separator);
+			appendString(json, name);
+			json.append(':');
+			if (Double.isNaN(value) || Double.isInfinite(value)) {
+				json.append("null");
+			} else {
+				json.append(value);
+			}
+			separator = ",";
+		}
+		json.append("},\"histograms\":{");
+		separator = "";
+		for (String name : getSortedNames(histograms)) {
+			MetricHistogram histogram = histograms.get(name);
+			json.append(separator);
+			appendString(json, name);
+			json.append(":{\"count\":").append(histogram.getCount())
+					.append(",\"mean\":").append(histogram.getMean());
+			for (int i = 0; i < Percentiles.length; i++) {
+				json.append(",\"").append(PercentileNames[i]).append("\":")
+						.append(histogram.getPercentile(Percentiles[i]));
+			}
+			json.append(",\"max\":").append(histogram.getMaximum())
+					.append('}');
+			separator = ",";
+		}
+		json.append("}}");
+		return json.toString();
+	}
+	
+}
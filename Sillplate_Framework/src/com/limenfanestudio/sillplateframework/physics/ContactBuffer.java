@@ -0,0 +1,140 @@
+/*
+ * File:		ContactBuffer.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Stores the contact points found in a physics step and their
+ * 				solver state in parallel arrays
+ */
+
+package com.limenfanestudio.sillplateframework.physics;
+
+import java.util.Arrays;
+
+// Contact points of a physics step stored as parallel arrays - each point
+// joins two bodies along a normal pointing from the first to the second,
+// and carries the impulses accumulated by the solver for warm starting the
+// next step
+class ContactBuffer {
+	
+	// The first body of each contact
+	int[] bodiesA = null;
+	// The second body of each contact
+	int[] bodiesB = null;
+	// The feature of the bodies' shapes creating each contact, telling
+	// contacts between the same bodies apart across steps
+	int[] features = null;
+	// The horizontal component of each contact's unit normal
+	double[] normalXs = null;
+	// The vertical component of each contact's unit normal
+	double[] normalYs = null;
+	// The horizontal position of each contact point
+	double[] pointXs = null;
+	// The vertical position of each contact point
+	double[] pointYs = null;
+	// The overlap of the bodies along each contact's normal
+	double[] penetrations = null;
+	// The normal impulse accumulated at each contact
+	double[] normalImpulses = null;
+	// The friction impulse accumulated at each contact
+	double[] tangentImpulses = null;
+	// The effective mass along each contact's normal
+	double[] normalMasses = null;
+	// The effective mass along each contact's tangent
+	double[] tangentMasses = null;
+	// The target normal velocity of each contact from penetration and
+	// restitution
+	double[] biases = null;
+	// The combined friction coefficient of each contact
+	double[] frictions = null;
+	// The horizontal offset of each contact point from the first body
+	double[] offsetAXs = null;
+	// The vertical offset of each contact point from the first body
+	double[] offsetAYs = null;
+	// The horizontal offset of each contact point from the second body
+	double[] offsetBXs = null;
+	// The vertical offset of each contact point from the second body
+	double[] offsetBYs = null;
+	// The number of contacts in use
+	int size = 0;
+	
+	/*
+	 * Construct an empty contact buffer
+	 * Parameter: int capacity - The number of contacts to allocate space for
+	 */
+	ContactBuffer(int capacity) {
+		capacity = Math.max(1, capacity);
+		bodiesA = new int[capacity];
+		bodiesB = new int[capacity];
+		features = new int[capacity];
+		normalXs = new double[capacity];
+		normalYs = new double[capacity];
+		pointXs = new double[capacity];
+		pointYs = new double[capacity];
+		penetrations = new double[capacity];
+		normalImpulses = new double[capacity];
+		tangentImpulses = new double[capacity];
+		normalMasses = new double[capacity];
+		tangentMasses = new double[capacity];
+		biases = new double[capacity];
+		frictions = new double[capacity];
+		offsetAXs = new double[capacity];
+		offsetAYs = new double[capacity];
+		offsetBXs = new double[capacity];
+		offsetBYs = new double[capacity];
+	}
+	/*
+	 * Append a contact with no accumulated impulses
+	 * Parameter: int bodyA - The first body
+	 * Parameter: int bodyB - The second body
+	 * Parameter: int feature - The shape feature creating the contact
+	 * Parameter: double normalX - The horizontal component of the unit
+	 * normal from the first body to the second
+	 * Parameter: double normalY - The vertical component of the unit normal
+	 * Parameter: double pointX - The horizontal position of the contact
+	 * Parameter: double pointY - The vertical position of the contact
+	 * Parameter: double penetration - The overlap along the normal
+	 */
+	void add(int bodyA, int bodyB, int feature, double normalX,
+			double normalY, double pointX, double pointY,
+			double penetration) {
+		if (size == bodiesA.length) {
+			grow(size * 2);
+		}
+		bodiesA[size] = bodyA;
+		bodiesB[size] = bodyB;
+		features[size] = feature;
+		normalXs[size] = normalX;
+		normalYs[size] = normalY;
+		pointXs[size] = pointX;
+		pointYs[size] = pointY;
+		penetrations[size] = penetration;
+		normalImpulses[size] = 0.0d;
+		tangentImpulses[size] = 0.0d;
+		size++;
+	}
+	/*
+	 * Grow every array
+	 * Parameter: int capacity - The new number of contacts to hold
+	 */
+	private void grow(int capacity) {
+		bodiesA = Arrays.copyOf(bodiesA, capacity);
+		bodiesB = Arrays.copyOf(bodiesB, capacity);
+		features = Arrays.copyOf(features, capacity);
+		normalXs = Arrays.copyOf(normalXs, capacity);
+		normalYs = Arrays.copyOf(normalYs, capacity);
+		pointXs = Arrays.copyOf(pointXs, capacity);
+		pointYs = Arrays.copyOf(pointYs, capacity);
+		penetrations = Arrays.copyOf(penetrations, capacity);
+		normalImpulses = Arrays.copyOf(normalImpulses, capacity);
+		tangentImpulses = Arrays.copyOf(tangentImpulses, capacity);
+		normalMasses = Arrays.copyOf(normalMasses, capacity);
+		tangentMasses = Arrays.copyOf(tangentMasses, capacity);
+		biases = Arrays.copyOf(biases, capacity);
+		frictions = Arrays.copyOf(frictions, capacity);
+		offsetAXs = Arrays.copyOf(offsetAXs, capacity);
+		offsetAYs = Arrays.copyOf(offsetAYs, capacity);
+		offsetBXs = Arrays.copyOf(offsetBXs, capacity);
+		offsetBYs = Arrays.copyOf(offsetBYs, capacity);
+	}
+	
+}
@@ -0,0 +1,298 @@
+/*
+ * File:		Narrowphase.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Finds the contact points between pairs of circle and oriented
+ * 				box bodies
+ */
+
+package com.limenfanestudio.sillplateframework.physics;
+
+// Exact collision tests for pairs of bodies whose bounding boxes overlap -
+// circles against circles directly, circles against boxes in the box's
+// frame and boxes against boxes by the separating axis test, clipping the
+// incident face against the reference face for up to two contact points
+class Narrowphase {
+	
+	// Relative tolerance preferring the first box's axes when choosing the
+	// reference face, keeping contacts stable between steps
+	private static final double RelativeTolerance = 0.95d;
+	// Absolute tolerance preferring the first box's axes
+	private static final double AbsoluteTolerance = 0.01d;
+	
+	// The world whose bodies are tested
+	private final PhysicsWorld world;
+	// The horizontal positions of the clipped incident face's points
+	private final double[] clipXs = new double[2];
+	// The vertical positions of the clipped incident face's points
+	private final double[] clipYs = new double[2];
+	// The vertex ids of the clipped incident face's points
+	private final int[] clipIds = new int[2];
+	
+	/*
+	 * Construct a narrowphase for a world
+	 * Parameter: PhysicsWorld world - The world whose bodies are tested
+	 */
+	Narrowphase(PhysicsWorld world) {
+		this.world = world;
+	}
+	/*
+	 * Find the contacts between two bodies
+	 * Parameter: int a - The first body
+	 * Parameter: int b - The second body
+	 * Parameter: ContactBuffer contacts - The buffer receiving the contacts
+	 */
+	void collide(int a, int b, ContactBuffer contacts) {
+		boolean boxA = world.shapes[a] == PhysicsWorld.BoxShape;
+		boolean boxB = world.shapes[b] == PhysicsWorld.BoxShape;
+		if (boxA && boxB) {
+			collideBoxes(a, b, contacts);
+		} else if (boxA) {
+			collideBoxCircle(a, b, contacts);
+		} else if (boxB) {
+			collideBoxCircle(b, a, contacts);
+		} else {
+			collideCircles(a, b, contacts);
+		}
+	}
+	/*
+	 * Find the contact between two circles
+	 * Parameter: int a - The first circle
+	 * Parameter: int b - The second circle
+	 * Parameter: ContactBuffer contacts - The buffer receiving the contacts
+	 */
+	private void collideCircles(int a, int b, ContactBuffer contacts) {
+		double dx = world.xs[b] - world.xs[a];
+		double dy = world.ys[b] - world.ys[a];
+		double radius = world.radii[a] + world.radii[b];
+		double distanceSquared = dx * dx + dy * dy;
+		if (distanceSquared > radius * radius) {
+			return;
+		}
+		double distance = Math.sqrt(distanceSquared);
+		double normalX = 1.0d;
+		double normalY = 0.0d;
+		if (distance > 0.0d) {
+			normalX = dx / distance;
+			normalY = dy / distance;
+		}
+		contacts.add(a, b, 0, normalX, normalY,
+				world.xs[a] + normalX * world.radii[a],
+				world.ys[a] + normalY * world.radii[a], radius - distance);
+	}
+	/*
+	 * Find the contact between a box and a circle, with the normal pointing
+	 * from the box to the circle
+	 * Parameter: int box - The box
+	 * Parameter: int circle - The circle
+	 * Parameter: ContactBuffer contacts - The buffer receiving the contacts
+	 */
+	private void collideBoxCircle(int box, int circle,
+			ContactBuffer contacts) {
+		double cos = world.coses[box];
+		double sin = world.sins[box];
+		double halfWidth = world.halfWidths[box];
+		double halfHeight = world.halfHeights[box];
+		double radius = world.radii[circle];
+		double dx = world.xs[circle] - world.xs[box];
+		double dy = world.ys[circle] - world.ys[box];
+		// The circle's center in the box's frame and the closest point of
+		// the box to it
+		double localX = dx * cos + dy * sin;
+		double localY = -dx * sin + dy * cos;
+		double closestX = Math.max(-halfWidth, Math.min(halfWidth, localX));
+		double closestY = Math.max(-halfHeight, Math.min(halfHeight, localY));
+		double normalX;
+		double normalY;
+		double penetration;
+		int feature;
+		if (closestX == localX && closestY == localY) {
+			// The center is inside the box, so push out through the nearest
+			// face
+			double overlapX = halfWidth - Math.abs(localX);
+			double overlapY = halfHeight - Math.abs(localY);
+			if (overlapX < overlapY) {
+				normalX = localX < 0.0d ? -1.0d : 1.0d;
+				normalY = 0.0d;
+				closestX = normalX * halfWidth;
+				penetration = overlapX + radius;
+			} else {
+				normalX = 0.0d;
+				normalY = localY < 0.0d ? -1.0d : 1.0d;
+				closestY = normalY * halfHeight;
+				penetration = overlapY + radius;
+			}
+			feature = 1;
+		} else {
+			double ex = localX - closestX;
+			double ey = localY - closestY;
+			double distanceSquared = ex * ex + ey * ey;
+			if (distanceSquared > radius * radius) {
+				return;
+			}
+			double distance = Math.sqrt(distanceSquared);
+			normalX = ex / distance;
+			normalY = ey / distance;
+			penetration = radius - distance;
+			feature = 0;
+		}
+		contacts.add(box, circle, feature, normalX * cos - normalY * sin,
+				normalX * sin + normalY * cos,
+				world.xs[box] + closestX * cos - closestY * sin,
+				world.ys[box] + closestX * sin + closestY * cos, penetration);
+	}
+	/*
+	 * Find the contacts between two oriented boxes
+	 * Parameter: int a - The first box
+	 * Parameter: int b - The second box
+	 * Parameter: ContactBuffer contacts - The buffer receiving the contacts
+	 */
+	private void collideBoxes(int a, int b, ContactBuffer contacts) {
+		double cosA = world.coses[a];
+		double sinA = world.sins[a];
+		double cosB = world.coses[b];
+		double sinB = world.sins[b];
+		double halfWidthA = world.halfWidths[a];
+		double halfHeightA = world.halfHeights[a];
+		double halfWidthB = world.halfWidths[b];
+		double halfHeightB = world.halfHeights[b];
+		double dx = world.xs[b] - world.xs[a];
+		double dy = world.ys[b] - world.ys[a];
+		// Absolute dot products between the axes of the boxes
+		double c00 = Math.abs(cosA * cosB + sinA * sinB);
+		double c01 = Math.abs(-cosA * sinB + sinA * cosB);
+		double c10 = Math.abs(-sinA * cosB + cosA * sinB);
+		double c11 = Math.abs(sinA * sinB + cosA * cosB);
+		// Separation along each of the four face normals
+		double separationA0 = Math.abs(dx * cosA + dy * sinA) - halfWidthA
+				- (halfWidthB * c00 + halfHeightB * c01);
+		double separationA1 = Math.abs(-dx * sinA + dy * cosA) - halfHeightA
+				- (halfWidthB * c10 + halfHeightB * c11);
+		double separationB0 = Math.abs(dx * cosB + dy * sinB) - halfWidthB
+				- (halfWidthA * c00 + halfHeightA * c10);
+		double separationB1 = Math.abs(-dx * sinB + dy * cosB) - halfHeightB
+				- (halfWidthA * c01 + halfHeightA * c11);
+		if (separationA0 > 0.0d || separationA1 > 0.0d
+				|| separationB0 > 0.0d || separationB1 > 0.0d) {
+			return;
+		}
+		int axis = 0;
+		double separation = separationA0;
+		if (separationA1 > RelativeTolerance * separation
+				+ AbsoluteTolerance * halfHeightA) {
+			axis = 1;
+			separation = separationA1;
+		}
+		if (separationB0 > RelativeTolerance * separation
+				+ AbsoluteTolerance * halfWidthB) {
+			axis = 2;
+			separation = separationB0;
+		}
+		if (separationB1 > RelativeTolerance * separation
+				+ AbsoluteTolerance * halfHeightB) {
+			axis = 3;
+		}
+		// The reference box owns the chosen face, the incident box touches
+		// it, and the normal points from the reference to the incident box
+		boolean referenceA = axis < 2;
+		int reference = referenceA ? a : b;
+		int incident = referenceA ? b : a;
+		double cosR = world.coses[reference];
+		double sinR = world.sins[reference];
+		double normalX = (axis & 1) == 0 ? cosR : -sinR;
+		double normalY = (axis & 1) == 0 ? sinR : cosR;
+		double tangentX = -normalY;
+		double tangentY = normalX;
+		double halfNormal = (axis & 1) == 0 ? world.halfWidths[reference]
+				: world.halfHeights[reference];
+		double halfTangent = (axis & 1) == 0 ? world.halfHeights[reference]
+				: world.halfWidths[reference];
+		double directionX = world.xs[incident] - world.xs[reference];
+		double directionY = world.ys[incident] - world.ys[reference];
+		if (directionX * normalX + directionY * normalY < 0.0d) {
+			normalX = -normalX;
+			normalY = -normalY;
+			tangentX = -tangentX;
+			tangentY = -tangentY;
+		}
+		// The incident face is the face most opposed to the normal
+		double cosI = world.coses[incident];
+		double sinI = world.sins[incident];
+		double dot0 = cosI * normalX + sinI * normalY;
+		double dot1 = -sinI * normalX + cosI * normalY;
+		double faceX;
+		double faceY;
+		double edgeX;
+		double edgeY;
+		int face;
+		if (Math.abs(dot0) > Math.abs(dot1)) {
+			double sign = dot0 > 0.0d ? -1.0d : 1.0d;
+			faceX = world.xs[incident] + sign * cosI
+					* world.halfWidths[incident];
+			faceY = world.ys[incident] + sign * sinI
+					* world.halfWidths[incident];
+			edgeX = -sinI * world.halfHeights[incident];
+			edgeY = cosI * world.halfHeights[incident];
+			face = sign > 0.0d ? 0 : 1;
+		} else {
+			double sign = dot1 > 0.0d ? -1.0d : 1.0d;
+			faceX = world.xs[incident] - sign * sinI
+					* world.halfHeights[incident];
+			faceY = world.ys[incident] + sign * cosI
+					* world.halfHeights[incident];
+			edgeX = cosI * world.halfWidths[incident];
+			edgeY = sinI * world.halfWidths[incident];
+			face = sign > 0.0d ? 2 : 3;
+		}
+		clipXs[0] = faceX + edgeX;
+		clipYs[0] = faceY + edgeY;
+		clipIds[0] = 0;
+		clipXs[1] = faceX - edgeX;
+		clipYs[1] = faceY - edgeY;
+		clipIds[1] = 1;
+		// Clip the incident face to the sides of the reference face
+		double referenceX = world.xs[reference] + normalX * halfNormal;
+		double referenceY = world.ys[reference] + normalY * halfNormal;
+		double side = tangentX * referenceX + tangentY * referenceY;
+		if (!clip(tangentX, tangentY, side + halfTangent)
+				|| !clip(-tangentX, -tangentY, halfTangent - side)) {
+			return;
+		}
+		double front = normalX * referenceX + normalY * referenceY;
+		double contactNormalX = referenceA ? normalX : -normalX;
+		double contactNormalY = referenceA ? normalY : -normalY;
+		for (int i = 0; i < 2; i++) {
+			double depth = front - (normalX * clipXs[i] + normalY * clipYs[i]);
+			if (depth >= 0.0d) {
+				contacts.add(a, b, (axis << 4) | (face << 2) | clipIds[i],
+						contactNormalX, contactNormalY, clipXs[i], clipYs[i],
+						depth);
+			}
+		}
+	}
+	/*
+	 * Clip the incident face's two points to a half-plane
+	 * Parameter: double normalX - The horizontal component of the plane's
+	 * outward normal
+	 * Parameter: double normalY - The vertical component of the plane's
+	 * outward normal
+	 * Parameter: double offset - The plane's distance along the normal
+	 * Returns: boolean - Whether two points remain inside the half-plane
+	 */
+	private boolean clip(double normalX, double normalY, double offset) {
+		double distance0 = normalX * clipXs[0] + normalY * clipYs[0] - offset;
+		double distance1 = normalX * clipXs[1] + normalY * clipYs[1] - offset;
+		if (distance0 > 0.0d && distance1 > 0.0d) {
+			return false;
+		}
+		if (distance0 > 0.0d || distance1 > 0.0d) {
+			// Move the outside point onto the plane, keeping its id
+			int outside = distance0 > 0.0d ? 0 : 1;
+			double t = distance0 / (distance0 - distance1);
+			clipXs[outside] = clipXs[0] + t * (clipXs[1] - clipXs[0]);
+			clipYs[outside] = clipYs[0] + t * (clipYs[1] - clipYs[0]);
+		}
+		return true;
+	}
+	
+}
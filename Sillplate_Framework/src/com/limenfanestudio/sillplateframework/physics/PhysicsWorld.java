@@ -0,0 +1,1092 @@
+/*
+ * File:		PhysicsWorld.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Simulates rigid circle and box bodies with contacts resolved by
+ * 				a sequential impulse solver
+ */
+
+package com.limenfanestudio.sillplateframework.physics;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+
+// A 2D rigid body simulation stepped once per fixed update. Body state is
+// kept in parallel primitive arrays indexed by body id. Each step finds
+// candidate pairs by sweep-and-prune along the horizontal axis, finds their
+// contact points, warm starts them with the impulses of matching contacts
+// from the last step and solves them by sequential impulses. Bodies
+// touching through dynamic bodies form islands, which are independent and
+// solved in parallel when there are enough contacts - each island is
+// solved the same way on any thread, so a step's result depends only on
+// the world's state and the timestep
+public class PhysicsWorld {
+	
+	// Shape of circle bodies
+	static final int CircleShape = 0;
+	// Shape of oriented box bodies
+	static final int BoxShape = 1;
+	// Fraction of the penetration beyond the slop removed per second
+	private static final double Baumgarte = 0.2d;
+	// Penetration left uncorrected to keep resting contacts touching, in
+	// world units
+	private static final double PenetrationSlop = 0.01d;
+	// Minimum closing speed for restitution to apply, in world units per
+	// second
+	private static final double RestitutionThreshold = 1.0d;
+	// Minimum number of contacts in a step for islands to be solved in
+	// parallel
+	private static final int ParallelThreshold = 512;
+	// Multiplier spreading contact keys over the warm starting table
+	private static final long HashMultiplier = 0x9E3779B97F4A7C15L;
+	
+	// Task solving a batch of neighbouring islands, reused between steps
+	private class IslandTask extends RecursiveAction {
+		
+		private static final long serialVersionUID = 1L;
+		// The first island of the batch
+		int from = 0;
+		// The island after the last of the batch
+		int to = 0;
+		
+		@Override
+		protected void compute() {
+			solveIslands(from, to, stepTime);
+		}
+		
+	}
+	
+	// The horizontal position of each body's center
+	double[] xs = null;
+	// The vertical position of each body's center
+	double[] ys = null;
+	// The rotation of each body in radians
+	double[] angles = null;
+	// The cosine of each body's rotation
+	double[] coses = null;
+	// The sine of each body's rotation
+	double[] sins = null;
+	// The horizontal velocity of each body
+	double[] velocityXs = null;
+	// The vertical velocity of each body
+	double[] velocityYs = null;
+	// The angular velocity of each body in radians per second
+	double[] angularVelocities = null;
+	// The reciprocal of each body's mass or 0 for static bodies
+	double[] inverseMasses = null;
+	// The reciprocal of each body's moment of inertia or 0 for static bodies
+	double[] inverseInertias = null;
+	// The friction coefficient of each body
+	double[] frictions = null;
+	// The restitution of each body, from 0 to 1
+	double[] restitutions = null;
+	// The shape of each body
+	int[] shapes = null;
+	// The radius of each circle body
+	double[] radii = null;
+	// The half width of each box body
+	double[] halfWidths = null;
+	// The half height of each box body
+	double[] halfHeights = null;
+	// The left edge of each body's bounding box
+	double[] minXs = null;
+	// The top edge of each body's bounding box
+	double[] minYs = null;
+	// The right edge of each body's bounding box
+	double[] maxXs = null;
+	// The bottom edge of each body's bounding box
+	double[] maxYs = null;
+	// Whether each body id is in use
+	private boolean[] used = null;
+	// The number of body ids ever handed out
+	private int idCount = 0;
+	// Stack of removed body ids for reuse
+	private int[] freeIds = null;
+	// The number of removed body ids
+	private int freeCount = 0;
+	// The live body ids ordered by the left edges of their bounding boxes
+	private int[] order = null;
+	// The index of each live body in order
+	private int[] orderIndices = null;
+	// Whether each body id was removed since the last step, so its cached
+	// contacts do not warm start a body reusing the id
+	private boolean[] removed = null;
+	// The body ids removed since the last step
+	private int[] removedIds = null;
+	// The number of body ids removed since the last step
+	private int removedCount = 0;
+	// The number of live bodies
+	private int bodyCount = 0;
+	// The union-find parent of each body while building islands
+	private int[] parents = null;
+	// The island of each island's root body or -1
+	private int[] islandIndices = null;
+	// The contacts of this step
+	private ContactBuffer contacts = null;
+	// The contacts of the last step, for warm starting
+	private ContactBuffer previous = null;
+	// Hash table of the last step's contact indices or -1 for empty slots
+	private int[] table = null;
+	// The contact indices grouped by island
+	private int[] contactOrder = null;
+	// The index of the first contact of each island in contactOrder, with
+	// the end of the last island after it
+	private int[] islandStarts = null;
+	// The next free position of each island in contactOrder while grouping
+	private int[] islandCursors = null;
+	// The number of islands with contacts in this step
+	private int islandCount = 0;
+	// The first island of each batch solved in parallel, with the end of
+	// the last batch after it
+	private int[] batchStarts = null;
+	// The tasks solving the batches, of which the first batchCount are used
+	// in this step
+	private IslandTask[] tasks = null;
+	// The number of batches solved in parallel in this step
+	private int batchCount = 0;
+	// Task forking the batches' tasks and solving the first itself
+	private RecursiveAction batchTask = null;
+	// The timestep of the step being solved in seconds
+	private double stepTime = 0.0d;
+	// The narrowphase finding contacts
+	private final Narrowphase narrowphase;
+	// The pool solving islands in parallel or null for a single thread
+	private ForkJoinPool pool = null;
+	// The horizontal acceleration of gravity
+	private double gravityX = 0.0d;
+	// The vertical acceleration of gravity
+	private double gravityY = 0.0d;
+	// The number of solver iterations per step
+	private int velocityIterations = 0;
+	
+	/*
+	 * Construct an empty world solving islands on every available processor
+	 */
+	public PhysicsWorld() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+	/*
+	 * Construct an empty world
+	 * Parameter: int parallelism - The number of threads solving islands or
+	 * 1 to solve on the calling thread only
+	 */
+	public PhysicsWorld(int parallelism) {
+		int capacity = 64;
+		xs = new double[capacity];
+		ys = new double[capacity];
+		angles = new double[capacity];
+		coses = new double[capacity];
+		sins = new double[capacity];
+		velocityXs = new double[capacity];
+		velocityYs = new double[capacity];
+		angularVelocities = new double[capacity];
+		inverseMasses = new double[capacity];
+		inverseInertias = new double[capacity];
+		frictions = new double[capacity];
+		restitutions = new double[capacity];
+		shapes = new int[capacity];
+		radii = new double[capacity];
+		halfWidths = new double[capacity];
+		halfHeights = new double[capacity];
+		minXs = new double[capacity];
+		minYs = new double[capacity];
+		maxXs = new double[capacity];
+		maxYs = new double[capacity];
+		used = new boolean[capacity];
+		freeIds = new int[capacity];
+		order = new int[capacity];
+		orderIndices = new int[capacity];
+		removed = new boolean[capacity];
+		removedIds = new int[capacity];
+		parents = new int[capacity];
+		islandIndices = new int[capacity];
+		contacts = new ContactBuffer(256);
+		previous = new ContactBuffer(256);
+		table = new int[512];
+		Arrays.fill(table, -1);
+		contactOrder = new int[256];
+		islandStarts = new int[65];
+		islandCursors = new int[65];
+		narrowphase = new Narrowphase(this);
+		if (parallelism > 1) {
+			pool = new ForkJoinPool(parallelism);
+			batchStarts = new int[parallelism * 4 + 1];
+			tasks = new IslandTask[parallelism * 4];
+			for (int i = 0; i < tasks.length; i++) {
+				tasks[i] = new IslandTask();
+			}
+			batchTask = new RecursiveAction() {
+				private static final long serialVersionUID = 1L;
+				protected void compute() {
+					for (int i = batchCount - 1; i > 0; i--) {
+						tasks[i].fork();
+					}
+					tasks[0].invoke();
+					for (int i = 1; i < batchCount; i++) {
+						tasks[i].join();
+					}
+				}
+			};
+		}
+		gravityY = 9.81d;
+		velocityIterations = 8;
+	}
+	/*
+	 * Add a circle body
+	 * Parameter: double x - The horizontal position of the center
+	 * Parameter: double y - The vertical position of the center
+	 * Parameter: double radius - The radius
+	 * Parameter: double density - The mass per unit area or 0 for a static
+	 * body
+	 * Returns: int - The id of the body or -1 if a parameter is invalid
+	 */
+	public int createCircle(double x, double y, double radius,
+			double density) {
+		if (!(radius > 0.0d) || !(density >= 0.0d)) {
+			return -1;
+		}
+		double mass = density * Math.PI * radius * radius;
+		int id = create(x, y, 0.0d, mass, mass * radius * radius * 0.5d);
+		if (id >= 0) {
+			shapes[id] = CircleShape;
+			radii[id] = radius;
+			halfWidths[id] = radius;
+			halfHeights[id] = radius;
+		}
+		return id;
+	}
+	/*
+	 * Add an oriented box body
+	 * Parameter: double x - The horizontal position of the center
+	 * Parameter: double y - The vertical position of the center
+	 * Parameter: double halfWidth - Half the width of the box
+	 * Parameter: double halfHeight - Half the height of the box
+	 * Parameter: double angle - The rotation in radians
+	 * Parameter: double density - The mass per unit area or 0 for a static
+	 * body
+	 * Returns: int - The id of the body or -1 if a parameter is invalid
+	 */
+	public int createBox(double x, double y, double halfWidth,
+			double halfHeight, double angle, double density) {
+		if (!(halfWidth > 0.0d) || !(halfHeight > 0.0d)
+				|| !(density >= 0.0d)) {
+			return -1;
+		}
+		double mass = density * 4.0d * halfWidth * halfHeight;
+		int id = create(x, y, angle, mass, mass * (halfWidth * halfWidth
+				+ halfHeight * halfHeight) / 3.0d);
+		if (id >= 0) {
+			shapes[id] = BoxShape;
+			radii[id] = Math.sqrt(halfWidth * halfWidth
+					+ halfHeight * halfHeight);
+			halfWidths[id] = halfWidth;
+			halfHeights[id] = halfHeight;
+		}
+		return id;
+	}
+	/*
+	 * Remove a body, freeing its id for reuse - the last body in the sweep
+	 * order takes its place and is sorted back by the next step
+	 * Parameter: int id - The id of the body
+	 * Returns: boolean - Whether the id was in use
+	 */
+	public boolean removeBody(int id) {
+		if (!contains(id)) {
+			return false;
+		}
+		used[id] = false;
+		freeIds[freeCount++] = id;
+		int last = order[--bodyCount];
+		order[orderIndices[id]] = last;
+		orderIndices[last] = orderIndices[id];
+		// The id may be reused before the next step, so the removed body's
+		// cached contacts must not warm start its successor
+		if (!removed[id]) {
+			removed[id] = true;
+			removedIds[removedCount++] = id;
+		}
+		return true;
+	}
+	/*
+	 * Remove every body
+	 */
+	public void clear() {
+		Arrays.fill(used, 0, idCount, false);
+		idCount = 0;
+		freeCount = 0;
+		bodyCount = 0;
+		islandCount = 0;
+		batchCount = 0;
+		contacts.size = 0;
+		previous.size = 0;
+		Arrays.fill(table, -1);
+		for (int i = 0; i < removedCount; i++) {
+			removed[removedIds[i]] = false;
+		}
+		removedCount = 0;
+	}
+	/*
+	 * Advance the simulation by a timestep - called once per fixed update
+	 * so the result is deterministic for a given tick rate
+	 * Parameter: double deltaTime - The timestep in seconds
+	 * Returns: boolean - Whether the timestep is valid
+	 */
+	public boolean step(double deltaTime) {
+		if (!(deltaTime > 0.0d) || Double.isInfinite(deltaTime)) {
+			return false;
+		}
+		for (int i = 0; i < bodyCount; i++) {
+			int id = order[i];
+			if (inverseMasses[id] > 0.0d) {
+				velocityXs[id] += gravityX * deltaTime;
+				velocityYs[id] += gravityY * deltaTime;
+			}
+			updateBounds(id);
+		}
+		findContacts();
+		warmStart();
+		buildIslands();
+		solveIslands(deltaTime);
+		for (int i = 0; i < bodyCount; i++) {
+			int id = order[i];
+			if (inverseMasses[id] > 0.0d) {
+				xs[id] += velocityXs[id] * deltaTime;
+				ys[id] += velocityYs[id] * deltaTime;
+				angles[id] += angularVelocities[id] * deltaTime;
+			}
+		}
+		cacheContacts();
+		return true;
+	}
+	/*
+	 * Stop the solver threads
+	 */
+	public void destroy() {
+		if (pool != null) {
+			pool.shutdown();
+			try {
+				pool.awaitTermination(10L, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			pool = null;
+		}
+		clear();
+	}
+	/*
+	 * Add a body with a shape set by the caller
+	 * Parameter: double x - The horizontal position of the center
+	 * Parameter: double y - The vertical position of the center
+	 * Parameter: double angle - The rotation in radians
+	 * Parameter: double mass - The mass or 0 for a static body
+	 * Parameter: double inertia - The moment of inertia
+	 * Returns: int - The id of the body or -1 if the position is invalid
+	 */
+	private int create(double x, double y, double angle, double mass,
+			double inertia) {
+		if (!isFinite(x) || !isFinite(y) || !isFinite(angle)
+				|| !isFinite(mass)) {
+			return -1;
+		}
+		int id;
+		if (freeCount > 0) {
+			id = freeIds[--freeCount];
+		} else {
+			if (idCount == used.length) {
+				grow(idCount * 2);
+			}
+			id = idCount++;
+		}
+		used[id] = true;
+		orderIndices[id] = bodyCount;
+		order[bodyCount++] = id;
+		xs[id] = x;
+		ys[id] = y;
+		angles[id] = angle;
+		velocityXs[id] = 0.0d;
+		velocityYs[id] = 0.0d;
+		angularVelocities[id] = 0.0d;
+		inverseMasses[id] = mass > 0.0d ? 1.0d / mass : 0.0d;
+		inverseInertias[id] = mass > 0.0d ? 1.0d / inertia : 0.0d;
+		frictions[id] = 0.5d;
+		restitutions[id] = 0.0d;
+		return id;
+	}
+	/*
+	 * Grow the per-body arrays
+	 * Parameter: int capacity - The new number of body ids to hold
+	 */
+	private void grow(int capacity) {
+		xs = Arrays.copyOf(xs, capacity);
+		ys = Arrays.copyOf(ys, capacity);
+		angles = Arrays.copyOf(angles, capacity);
+		coses = Arrays.copyOf(coses, capacity);
+		sins = Arrays.copyOf(sins, capacity);
+		velocityXs = Arrays.copyOf(velocityXs, capacity);
+		velocityYs = Arrays.copyOf(velocityYs, capacity);
+		angularVelocities = Arrays.copyOf(angularVelocities, capacity);
+		inverseMasses = Arrays.copyOf(inverseMasses, capacity);
+		inverseInertias = Arrays.copyOf(inverseInertias, capacity);
+		frictions = Arrays.copyOf(frictions, capacity);
+		restitutions = Arrays.copyOf(restitutions, capacity);
+		shapes = Arrays.copyOf(shapes, capacity);
+		radii = Arrays.copyOf(radii, capacity);
+		halfWidths = Arrays.copyOf(halfWidths, capacity);
+		halfHeights = Arrays.copyOf(halfHeights, capacity);
+		minXs = Arrays.copyOf(minXs, capacity);
+		minYs = Arrays.copyOf(minYs, capacity);
+		maxXs = Arrays.copyOf(maxXs, capacity);
+		maxYs = Arrays.copyOf(maxYs, capacity);
+		used = Arrays.copyOf(used, capacity);
+		freeIds = Arrays.copyOf(freeIds, capacity);
+		order = Arrays.copyOf(order, capacity);
+		orderIndices = Arrays.copyOf(orderIndices, capacity);
+		removed = Arrays.copyOf(removed, capacity);
+		removedIds = Arrays.copyOf(removedIds, capacity);
+		parents = Arrays.copyOf(parents, capacity);
+		islandIndices = Arrays.copyOf(islandIndices, capacity);
+	}
+	/*
+	 * Update a body's rotation terms and bounding box
+	 * Parameter: int id - The id of the body
+	 */
+	private void updateBounds(int id) {
+		double cos = Math.cos(angles[id]);
+		double sin = Math.sin(angles[id]);
+		coses[id] = cos;
+		sins[id] = sin;
+		double extentX = halfWidths[id];
+		double extentY = halfHeights[id];
+		if (shapes[id] == BoxShape) {
+			extentX = Math.abs(cos) * halfWidths[id]
+					+ Math.abs(sin) * halfHeights[id];
+			extentY = Math.abs(sin) * halfWidths[id]
+					+ Math.abs(cos) * halfHeights[id];
+		}
+		minXs[id] = xs[id] - extentX;
+		minYs[id] = ys[id] - extentY;
+		maxXs[id] = xs[id] + extentX;
+		maxYs[id] = ys[id] + extentY;
+	}
+	/*
+	 * Sort the bodies by the left edges of their bounding boxes and sweep
+	 * across them, testing every pair whose boxes overlap - the order is
+	 * kept between steps, so the insertion sort is nearly linear
+	 */
+	private void findContacts() {
+		for (int i = 1; i < bodyCount; i++) {
+			int id = order[i];
+			double key = minXs[id];
+			int j = i - 1;
+			while (j >= 0 && minXs[order[j]] > key) {
+				order[j + 1] = order[j];
+				j--;
+			}
+			order[j + 1] = id;
+		}
+		for (int i = 0; i < bodyCount; i++) {
+			orderIndices[order[i]] = i;
+		}
+		contacts.size = 0;
+		for (int i = 0; i < bodyCount; i++) {
+			int a = order[i];
+			double maxX = maxXs[a];
+			for (int j = i + 1; j < bodyCount; j++) {
+				int b = order[j];
+				if (minXs[b] > maxX) {
+					break;
+				}
+				if (minYs[b] > maxYs[a] || maxYs[b] < minYs[a]
+						|| (inverseMasses[a] == 0.0d
+						&& inverseMasses[b] == 0.0d)) {
+					continue;
+				}
+				if (a < b) {
+					narrowphase.collide(a, b, contacts);
+				} else {
+					narrowphase.collide(b, a, contacts);
+				}
+			}
+		}
+	}
+	/*
+	 * Start each contact with the impulses of the matching contact from the
+	 * last step
+	 */
+	private void warmStart() {
+		if (previous.size == 0) {
+			return;
+		}
+		int mask = table.length - 1;
+		for (int i = 0; i < contacts.size; i++) {
+			int a = contacts.bodiesA[i];
+			int b = contacts.bodiesB[i];
+			int feature = contacts.features[i];
+			int slot = hash(a, b, feature, mask);
+			while (table[slot] >= 0) {
+				int match = table[slot];
+				if (previous.bodiesA[match] == a
+						&& previous.bodiesB[match] == b
+						&& previous.features[match] == feature) {
+					if (removed[a] || removed[b]) {
+						break;
+					}
+					contacts.normalImpulses[i]
+							= previous.normalImpulses[match];
+					contacts.tangentImpulses[i]
+							= previous.tangentImpulses[match];
+					break;
+				}
+				slot = (slot + 1) & mask;
+			}
+		}
+	}
+	/*
+	 * Keep this step's contacts for warm starting the next step
+	 */
+	private void cacheContacts() {
+		for (int i = 0; i < removedCount; i++) {
+			removed[removedIds[i]] = false;
+		}
+		removedCount = 0;
+		ContactBuffer swap = previous;
+		previous = contacts;
+		contacts = swap;
+		int length = table.length;
+		while (length < previous.size * 2) {
+			length *= 2;
+		}
+		if (length != table.length) {
+			table = new int[length];
+		}
+		Arrays.fill(table, -1);
+		int mask = length - 1;
+		for (int i = 0; i < previous.size; i++) {
+			int slot = hash(previous.bodiesA[i], previous.bodiesB[i],
+					previous.features[i], mask);
+			while (table[slot] >= 0) {
+				slot = (slot + 1) & mask;
+			}
+			table[slot] = i;
+		}
+	}
+	/*
+	 * Hash a contact's bodies and feature to a warm starting table slot
+	 * Parameter: int a - The first body
+	 * Parameter: int b - The second body
+	 * Parameter: int feature - The shape feature
+	 * Parameter: int mask - The table length minus one
+	 * Returns: int - The slot to start probing at
+	 */
+	private static int hash(int a, int b, int feature, int mask) {
+		long key = (((long)a << 32) | (b & 0xFFFFFFFFL)) * 31L + feature;
+		return (int)((key * HashMultiplier) >>> 40) & mask;
+	}
+	/*
+	 * Group the contacts into islands of bodies connected through dynamic
+	 * bodies, numbering islands in the order of their first contact
+	 */
+	private void buildIslands() {
+		islandCount = 0;
+		if (contacts.size == 0) {
+			return;
+		}
+		for (int i = 0; i < bodyCount; i++) {
+			parents[order[i]] = order[i];
+			islandIndices[order[i]] = -1;
+		}
+		for (int i = 0; i < contacts.size; i++) {
+			int a = contacts.bodiesA[i];
+			int b = contacts.bodiesB[i];
+			if (inverseMasses[a] > 0.0d && inverseMasses[b] > 0.0d) {
+				int rootA = find(a);
+				int rootB = find(b);
+				if (rootA != rootB) {
+					parents[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+				}
+			}
+		}
+		// Count the contacts of each island, then place them in order
+		if (contactOrder.length < contacts.size) {
+			contactOrder = new int[contacts.size * 2];
+		}
+		for (int i = 0; i < contacts.size; i++) {
+			int root = find(getDynamicBody(i));
+			int island = islandIndices[root];
+			if (island < 0) {
+				island = islandCount++;
+				islandIndices[root] = island;
+				if (islandStarts.length < islandCount + 1) {
+					islandStarts = Arrays.copyOf(islandStarts,
+							islandStarts.length * 2);
+				}
+				islandStarts[island + 1] = 0;
+			}
+			islandStarts[island + 1]++;
+		}
+		islandStarts[0] = 0;
+		for (int i = 1; i <= islandCount; i++) {
+			islandStarts[i] += islandStarts[i - 1];
+		}
+		if (islandCursors.length < islandCount) {
+			islandCursors = new int[islandStarts.length];
+		}
+		System.arraycopy(islandStarts, 0, islandCursors, 0, islandCount);
+		for (int i = 0; i < contacts.size; i++) {
+			int island = islandIndices[find(getDynamicBody(i))];
+			contactOrder[islandCursors[island]++] = i;
+		}
+	}
+	/*
+	 * Find the root of a body's set while building islands, halving the path
+	 * Parameter: int id - The id of the body
+	 * Returns: int - The id of the set's root body
+	 */
+	private int find(int id) {
+		while (parents[id] != id) {
+			parents[id] = parents[parents[id]];
+			id = parents[id];
+		}
+		return id;
+	}
+	/*
+	 * Get a dynamic body of a contact, which decides its island
+	 * Parameter: int contact - The index of the contact
+	 * Returns: int - The id of a dynamic body of the contact
+	 */
+	private int getDynamicBody(int contact) {
+		int a = contacts.bodiesA[contact];
+		return inverseMasses[a] > 0.0d ? a : contacts.bodiesB[contact];
+	}
+	/*
+	 * Solve every island's contacts, in parallel if there are enough
+	 * Parameter: double deltaTime - The timestep in seconds
+	 */
+	private void solveIslands(double deltaTime) {
+		if (islandCount == 0) {
+			return;
+		}
+		if (pool == null || islandCount == 1
+				|| contacts.size < ParallelThreshold) {
+			solveIslands(0, islandCount, deltaTime);
+			return;
+		}
+		// Batch neighbouring islands into tasks of similar contact counts,
+		// the last batch taking any islands left once every task is used
+		int taskCount = Math.min(islandCount, tasks.length);
+		int target = Math.max(1, contacts.size / taskCount);
+		batchCount = 0;
+		int contactsInBatch = 0;
+		for (int i = 0; i < islandCount; i++) {
+			if (contactsInBatch == 0 && batchCount < taskCount) {
+				batchStarts[batchCount++] = i;
+			}
+			contactsInBatch += islandStarts[i + 1] - islandStarts[i];
+			if (contactsInBatch >= target) {
+				contactsInBatch = 0;
+			}
+		}
+		batchStarts[batchCount] = islandCount;
+		for (int i = 0; i < batchCount; i++) {
+			tasks[i].from = batchStarts[i];
+			tasks[i].to = batchStarts[i + 1];
+			tasks[i].reinitialize();
+		}
+		stepTime = deltaTime;
+		batchTask.reinitialize();
+		pool.invoke(batchTask);
+	}
+	/*
+	 * Solve the contacts of a range of islands on the calling thread
+	 * Parameter: int from - The first island
+	 * Parameter: int to - The island after the last
+	 * Parameter: double deltaTime - The timestep in seconds
+	 */
+	private void solveIslands(int from, int to, double deltaTime) {
+		int start = islandStarts[from];
+		int end = islandStarts[to];
+		for (int i = start; i < end; i++) {
+			prepareContact(contactOrder[i], deltaTime);
+		}
+		for (int iteration = 0; iteration < velocityIterations; iteration++) {
+			for (int i = start; i < end; i++) {
+				solveContact(contactOrder[i]);
+			}
+		}
+	}
+	/*
+	 * Compute a contact's effective masses and target velocity, and apply
+	 * its warm starting impulse
+	 * Parameter: int i - The index of the contact
+	 * Parameter: double deltaTime - The timestep in seconds
+	 */
+	private void prepareContact(int i, double deltaTime) {
+		ContactBuffer c = contacts;
+		int a = c.bodiesA[i];
+		int b = c.bodiesB[i];
+		double normalX = c.normalXs[i];
+		double normalY = c.normalYs[i];
+		double offsetAX = c.pointXs[i] - xs[a];
+		double offsetAY = c.pointYs[i] - ys[a];
+		double offsetBX = c.pointXs[i] - xs[b];
+		double offsetBY = c.pointYs[i] - ys[b];
+		c.offsetAXs[i] = offsetAX;
+		c.offsetAYs[i] = offsetAY;
+		c.offsetBXs[i] = offsetBX;
+		c.offsetBYs[i] = offsetBY;
+		double inverseMassSum = inverseMasses[a] + inverseMasses[b];
+		double normalA = offsetAX * normalY - offsetAY * normalX;
+		double normalB = offsetBX * normalY - offsetBY * normalX;
+		c.normalMasses[i] = 1.0d / (inverseMassSum
+				+ inverseInertias[a] * normalA * normalA
+				+ inverseInertias[b] * normalB * normalB);
+		// The tangent is the normal turned a quarter clockwise
+		double tangentA = offsetAX * -normalX - offsetAY * normalY;
+		double tangentB = offsetBX * -normalX - offsetBY * normalY;
+		c.tangentMasses[i] = 1.0d / (inverseMassSum
+				+ inverseInertias[a] * tangentA * tangentA
+				+ inverseInertias[b] * tangentB * tangentB);
+		double bias = Baumgarte / deltaTime
+				* Math.max(0.0d, c.penetrations[i] - PenetrationSlop);
+		double closing = relativeVelocityX(i) * normalX
+				+ relativeVelocityY(i) * normalY;
+		if (closing < -RestitutionThreshold) {
+			bias = Math.max(bias, -Math.max(restitutions[a], restitutions[b])
+					* closing);
+		}
+		c.biases[i] = bias;
+		c.frictions[i] = Math.sqrt(frictions[a] * frictions[b]);
+		double impulseX = normalX * c.normalImpulses[i]
+				+ normalY * c.tangentImpulses[i];
+		double impulseY = normalY * c.normalImpulses[i]
+				- normalX * c.tangentImpulses[i];
+		applyImpulse(i, impulseX, impulseY);
+	}
+	/*
+	 * Run a solver iteration on a contact, clamping its accumulated friction
+	 * impulse to the friction cone and its normal impulse to pushing only
+	 * Parameter: int i - The index of the contact
+	 */
+	private void solveContact(int i) {
+		ContactBuffer c = contacts;
+		double normalX = c.normalXs[i];
+		double normalY = c.normalYs[i];
+		double tangentX = normalY;
+		double tangentY = -normalX;
+		double tangentSpeed = relativeVelocityX(i) * tangentX
+				+ relativeVelocityY(i) * tangentY;
+		double maxFriction = c.frictions[i] * c.normalImpulses[i];
+		double tangentImpulse = Math.max(-maxFriction, Math.min(maxFriction,
+				c.tangentImpulses[i] - c.tangentMasses[i] * tangentSpeed));
+		double tangentChange = tangentImpulse - c.tangentImpulses[i];
+		c.tangentImpulses[i] = tangentImpulse;
+		applyImpulse(i, tangentX * tangentChange, tangentY * tangentChange);
+		double normalSpeed = relativeVelocityX(i) * normalX
+				+ relativeVelocityY(i) * normalY;
+		double normalImpulse = Math.max(0.0d, c.normalImpulses[i]
+				+ c.normalMasses[i] * (c.biases[i] - normalSpeed));
+		double normalChange = normalImpulse - c.normalImpulses[i];
+		c.normalImpulses[i] = normalImpulse;
+		applyImpulse(i, normalX * normalChange, normalY * normalChange);
+	}
+	/*
+	 * Get the horizontal velocity of a contact's second body relative to its
+	 * first at the contact point
+	 * Parameter: int i - The index of the contact
+	 * Returns: double - The horizontal relative velocity
+	 */
+	private double relativeVelocityX(int i) {
+		int a = contacts.bodiesA[i];
+		int b = contacts.bodiesB[i];
+		return velocityXs[b] - angularVelocities[b] * contacts.offsetBYs[i]
+				- velocityXs[a] + angularVelocities[a] * contacts.offsetAYs[i];
+	}
+	/*
+	 * Get the vertical velocity of a contact's second body relative to its
+	 * first at the contact point
+	 * Parameter: int i - The index of the contact
+	 * Returns: double - The vertical relative velocity
+	 */
+	private double relativeVelocityY(int i) {
+		int a = contacts.bodiesA[i];
+		int b = contacts.bodiesB[i];
+		return velocityYs[b] + angularVelocities[b] * contacts.offsetBXs[i]
+				- velocityYs[a] - angularVelocities[a] * contacts.offsetAXs[i];
+	}
+	/*
+	 * Apply an impulse at a contact point, pushing the second body along it
+	 * and the first against it - static bodies are never written, so islands
+	 * sharing them can be solved in parallel
+	 * Parameter: int i - The index of the contact
+	 * Parameter: double impulseX - The horizontal impulse
+	 * Parameter: double impulseY - The vertical impulse
+	 */
+	private void applyImpulse(int i, double impulseX, double impulseY) {
+		int a = contacts.bodiesA[i];
+		int b = contacts.bodiesB[i];
+		if (inverseMasses[a] > 0.0d) {
+			velocityXs[a] -= impulseX * inverseMasses[a];
+			velocityYs[a] -= impulseY * inverseMasses[a];
+			angularVelocities[a] -= inverseInertias[a]
+					* (contacts.offsetAXs[i] * impulseY
+					- contacts.offsetAYs[i] * impulseX);
+		}
+		if (inverseMasses[b] > 0.0d) {
+			velocityXs[b] += impulseX * inverseMasses[b];
+			velocityYs[b] += impulseY * inverseMasses[b];
+			angularVelocities[b] += inverseInertias[b]
+					* (contacts.offsetBXs[i] * impulseY
+					- contacts.offsetBYs[i] * impulseX);
+		}
+	}
+	/*
+	 * Test whether a value is neither infinite nor not a number
+	 * Parameter: double value - The value
+	 * Returns: boolean - Whether the value is finite
+	 */
+	private static boolean isFinite(double value) {
+		return !Double.isInfinite(value) && !Double.isNaN(value);
+	}
+	
+	/*
+	 * Test whether a body id is in use
+	 * Parameter: int id - The id of the body
+	 * Returns: boolean - Whether a body has the id
+	 */
+	public boolean contains(int id) {
+		return id >= 0 && id < idCount && used[id];
+	}
+	/*
+	 * Test whether a body is static
+	 * Parameter: int id - The id of the body
+	 * Returns: boolean - Whether the body has no mass and never moves
+	 */
+	public boolean isStatic(int id) {
+		return inverseMasses[id] == 0.0d;
+	}
+	/*
+	 * Get the horizontal position of a body's center
+	 * Parameter: int id - The id of the body
+	 * Returns: double - The horizontal position
+	 */
+	public double getX(int id) {
+		return xs[id];
+	}
+	/*
+	 * Get the vertical position of a body's center
+	 * Parameter: int id - The id of the body
+	 * Returns: double - The vertical position
+	 */
+	public double getY(int id) {
+		return ys[id];
+	}
+	/*
+	 * Get the rotation of a body
+	 * Parameter: int id - The id of the body
+	 * Returns: double - The rotation in radians
+	 */
+	public double getAngle(int id) {
+		return angles[id];
+	}
+	/*
+	 * Move a body
+	 * Parameter: int id - The id of the body
+	 * Parameter: double x - The horizontal position of the center
+	 * Parameter: double y - The vertical position of the center
+	 * Parameter: double angle - The rotation in radians
+	 * Returns: boolean - Whether the id and position are valid
+	 */
+	public boolean setTransform(int id, double x, double y, double angle) {
+		if (!contains(id) || !isFinite(x) || !isFinite(y)
+				|| !isFinite(angle)) {
+			return false;
+		}
+		xs[id] = x;
+		ys[id] = y;
+		angles[id] = angle;
+		return true;
+	}
+	/*
+	 * Get the horizontal velocity of a body
+	 * Parameter: int id - The id of the body
+	 * Returns: double - The horizontal velocity in units per second
+	 */
+	public double getVelocityX(int id) {
+		return velocityXs[id];
+	}
+	/*
+	 * Get the vertical velocity of a body
+	 * Parameter: int id - The id of the body
+	 * Returns: double - The vertical velocity in units per second
+	 */
+	public double getVelocityY(int id) {
+		return velocityYs[id];
+	}
+	/*
+	 * Get the angular velocity of a body
+	 * Parameter: int id - The id of the body
+	 * Returns: double - The angular velocity in radians per second
+	 */
+	public double getAngularVelocity(int id) {
+		return angularVelocities[id];
+	}
+	/*
+	 * Set the velocity of a dynamic body
+	 * Parameter: int id - The id of the body
+	 * Parameter: double velocityX - The horizontal velocity
+	 * Parameter: double velocityY - The vertical velocity
+	 * Parameter: double angularVelocity - The angular velocity in radians
+	 * per second
+	 * Returns: boolean - Whether the body is dynamic and the velocity valid
+	 */
+	public boolean setVelocity(int id, double velocityX, double velocityY,
+			double angularVelocity) {
+		if (!contains(id) || isStatic(id) || !isFinite(velocityX)
+				|| !isFinite(velocityY) || !isFinite(angularVelocity)) {
+			return false;
+		}
+		velocityXs[id] = velocityX;
+		velocityYs[id] = velocityY;
+		angularVelocities[id] = angularVelocity;
+		return true;
+	}
+	/*
+	 * Apply an impulse to a dynamic body at a point
+	 * Parameter: int id - The id of the body
+	 * Parameter: double impulseX - The horizontal impulse
+	 * Parameter: double impulseY - The vertical impulse
+	 * Parameter: double pointX - The horizontal position of the point
+	 * Parameter: double pointY - The vertical position of the point
+	 * Returns: boolean - Whether the body is dynamic and the impulse valid
+	 */
+	public boolean applyImpulse(int id, double impulseX, double impulseY,
+			double pointX, double pointY) {
+		if (!contains(id) || isStatic(id) || !isFinite(impulseX)
+				|| !isFinite(impulseY) || !isFinite(pointX)
+				|| !isFinite(pointY)) {
+			return false;
+		}
+		velocityXs[id] += impulseX * inverseMasses[id];
+		velocityYs[id] += impulseY * inverseMasses[id];
+		angularVelocities[id] += inverseInertias[id] * ((pointX - xs[id])
+				* impulseY - (pointY - ys[id]) * impulseX);
+		return true;
+	}
+	/*
+	 * Get the friction coefficient of a body
+	 * Parameter: int id - The id of the body
+	 * Returns: double - The friction coefficient
+	 */
+	public double getFriction(int id) {
+		return frictions[id];
+	}
+	/*
+	 * Set the friction coefficient of a body
+	 * Parameter: int id - The id of the body
+	 * Parameter: double friction - The non-negative friction coefficient
+	 * Returns: boolean - Whether the id and coefficient are valid
+	 */
+	public boolean setFriction(int id, double friction) {
+		if (!contains(id) || !(friction >= 0.0d)
+				|| Double.isInfinite(friction)) {
+			return false;
+		}
+		frictions[id] = friction;
+		return true;
+	}
+	/*
+	 * Get the restitution of a body
+	 * Parameter: int id - The id of the body
+	 * Returns: double - The restitution, from 0 to 1
+	 */
+	public double getRestitution(int id) {
+		return restitutions[id];
+	}
+	/*
+	 * Set the restitution of a body
+	 * Parameter: int id - The id of the body
+	 * Parameter: double restitution - The restitution, from 0 for no bounce
+	 * to 1 for a perfect bounce
+	 * Returns: boolean - Whether the id and restitution are valid
+	 */
+	public boolean setRestitution(int id, double restitution) {
+		if (!contains(id) || !(restitution >= 0.0d && restitution <= 1.0d)) {
+			return false;
+		}
+		restitutions[id] = restitution;
+		return true;
+	}
+	/*
+	 * Get the horizontal acceleration of gravity
+	 * Returns: double - The acceleration in units per second squared
+	 */
+	public double getGravityX() {
+		return gravityX;
+	}
+	/*
+	 * Get the vertical acceleration of gravity
+	 * Returns: double - The acceleration in units per second squared
+	 */
+	public double getGravityY() {
+		return gravityY;
+	}
+	/*
+	 * Set the acceleration of gravity
+	 * Parameter: double gravityX - The horizontal acceleration
+	 * Parameter: double gravityY - The vertical acceleration, positive
+	 * downwards
+	 * Returns: boolean - Whether the acceleration is valid
+	 */
+	public boolean setGravity(double gravityX, double gravityY) {
+		if (!isFinite(gravityX) || !isFinite(gravityY)) {
+			return false;
+		}
+		this.gravityX = gravityX;
+		this.gravityY = gravityY;
+		return true;
+	}
+	/*
+	 * Get the number of solver iterations per step
+	 * Returns: int - The number of iterations
+	 */
+	public int getVelocityIterations() {
+		return velocityIterations;
+	}
+	/*
+	 * Set the number of solver iterations per step, trading accuracy of
+	 * stacks for time
+	 * Parameter: int velocityIterations - The number of iterations
+	 * Returns: boolean - Whether the number is positive
+	 */
+	public boolean setVelocityIterations(int velocityIterations) {
+		if (velocityIterations < 1) {
+			return false;
+		}
+		this.velocityIterations = velocityIterations;
+		return true;
+	}
+	/*
+	 * Get the number of bodies
+	 * Returns: int - The number of bodies
+	 */
+	public int getBodyCount() {
+		return bodyCount;
+	}
+	/*
+	 * Get the number of contact points found in the last step
+	 * Returns: int - The number of contacts
+	 */
+	public int getContactCount() {
+		return previous.size;
+	}
+	/*
+	 * Get the number of islands solved in the last step
+	 * Returns: int - The number of islands with contacts
+	 */
+	public int getIslandCount() {
+		return islandCount;
+	}
+	
+}
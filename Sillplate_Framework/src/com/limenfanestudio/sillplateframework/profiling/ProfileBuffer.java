@@ -0,0 +1,150 @@
+/*
+ * File:		ProfileBuffer.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Defines a thread's buffer of timed scopes waiting to be
+ * 				collected by the profiling system
+ */
+
+package com.limenfanestudio.sillplateframework.profiling;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Bounded lock-free single-producer, single-consumer ring of timed scopes
+// stored in primitive arrays, plus the stack of scopes its thread has open -
+// the owning thread writes, the loop thread collects once per frame, and
+// neither ever blocks or allocates
+class ProfileBuffer {
+	
+	// The name of the owning thread
+	final String threadName;
+	// The id of the owning thread
+	final long threadId;
+	// The scope ids of the buffered scopes
+	private final int[] scopes;
+	// The start times of the buffered scopes in nanoseconds
+	private final long[] starts;
+	// The end times of the buffered scopes in nanoseconds
+	private final long[] ends;
+	// The nesting depths of the buffered scopes
+	private final int[] depths;
+	// Mask mapping a sequence number to an array index
+	private final int mask;
+	// The sequence number of the next scope to be written
+	private final AtomicLong tail = new AtomicLong(0L);
+	// The sequence number of the next scope to be read
+	private final AtomicLong head = new AtomicLong(0L);
+	// The number of scopes dropped because the ring was full
+	private volatile long dropped = 0L;
+	// The ids of the open scopes, innermost last - owning thread only
+	private int[] openScopes = new int[16];
+	// The start times of the open scopes - owning thread only
+	private long[] openStarts = new long[16];
+	// The number of open scopes - owning thread only
+	private int depth = 0;
+	// The profiling system's enable count when the open scopes were begun
+	int epoch = 0;
+	
+	/*
+	 * Construct an empty buffer for the calling thread
+	 * Parameter: int capacity - The minimum number of scopes the buffer can
+	 * hold, rounded up to a power of two
+	 */
+	ProfileBuffer(int capacity) {
+		int size = 2;
+		while (size < capacity) {
+			size <<= 1;
+		}
+		scopes = new int[size];
+		starts = new long[size];
+		ends = new long[size];
+		depths = new int[size];
+		mask = size - 1;
+		Thread thread = Thread.currentThread();
+		threadName = thread.getName();
+		threadId = thread.getId();
+	}
+	
+	/*
+	 * Open a scope - owning thread only
+	 * Parameter: int scope - The id of the scope
+	 * Parameter: long time - The start time in nanoseconds
+	 */
+	void begin(int scope, long time) {
+		if (depth == openScopes.length) {
+			int[] grownScopes = new int[depth * 2];
+			long[] grownStarts = new long[depth * 2];
+			System.arraycopy(openScopes, 0, grownScopes, 0, depth);
+			System.arraycopy(openStarts, 0, grownStarts, 0, depth);
+			openScopes = grownScopes;
+			openStarts = grownStarts;
+		}
+		openScopes[depth] = scope;
+		openStarts[depth] = time;
+		depth++;
+	}
+	/*
+	 * Close the innermost open scope with an id, dropping any scopes left
+	 * open inside it, and buffer it - owning thread only
+	 * Parameter: int scope - The id of the scope
+	 * Parameter: long time - The end time in nanoseconds
+	 */
+	void end(int scope, long time) {
+		int index = depth - 1;
+		while (index >= 0 && openScopes[index] != scope) {
+			index--;
+		}
+		if (index < 0) {
+			return;
+		}
+		depth = index;
+		long sequence = tail.get();
+		if (sequence - head.get() > mask) {
+			dropped++;
+			return;
+		}
+		int slot = (int)sequence & mask;
+		scopes[slot] = scope;
+		starts[slot] = openStarts[index];
+		ends[slot] = time;
+		depths[slot] = index;
+		// Publish the written values to the reader
+		tail.lazySet(sequence + 1L);
+	}
+	/*
+	 * Drop every open scope - owning thread only
+	 * Parameter: int epoch - The profiling system's current enable count
+	 */
+	void reset(int epoch) {
+		depth = 0;
+		this.epoch = epoch;
+	}
+	/*
+	 * Remove the oldest buffered scope - loop thread only
+	 * Parameter: long[] destination - Receives the scope id, start time, end
+	 * time and depth
+	 * Returns: boolean - Whether a scope was available
+	 */
+	boolean poll(long[] destination) {
+		long sequence = head.get();
+		if (sequence == tail.get()) {
+			return false;
+		}
+		int slot = (int)sequence & mask;
+		destination[0] = scopes[slot];
+		destination[1] = starts[slot];
+		destination[2] = ends[slot];
+		destination[3] = depths[slot];
+		// Hand the slot back to the writer
+		head.lazySet(sequence + 1L);
+		return true;
+	}
+	/*
+	 * Get the number of scopes dropped because the buffer was full
+	 * Returns: long - The number of dropped scopes
+	 */
+	long getDroppedCount() {
+		return dropped;
+	}
+	
+}
@@ -0,0 +1,495 @@
+/*
+ * File:		ProfileManager.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Manages timing the phases of a Sillplate Framework
+ * 				application's frames and reporting where frame time goes
+ */
+
+package com.limenfanestudio.sillplateframework.profiling;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.limenfanestudio.sillplateframework.application.Application;
+import com.limenfanestudio.sillplateframework.application
+		.ApplicationConfiguration;
+import com.limenfanestudio.sillplateframework.logging.LogLevel;
+import com.limenfanestudio.sillplateframework.logging.LogSource;
+
+// The main class of the Sillplate Framework's profiling system - begin()
+// and end() time nestable scopes on any thread into that thread's buffer,
+// and the loop collects every buffer once per frame into each scope's
+// history of time per frame. While disabled, begin() and end() return after
+// reading a single flag. A trace of every collected scope can be recorded
+// and written in the Chrome trace event format
+public class ProfileManager {
+	
+	// The font of the overlay's text
+	private static final Font OverlayFont = new Font(Font.MONOSPACED,
+			Font.PLAIN, 12);
+	// The colour drawn behind the overlay's text
+	private static final Color OverlayBackground = new Color(0, 0, 0, 160);
+	// The number of scopes a trace holds before its buffers first grow
+	private static final int InitialTraceSize = 4096;
+	// Number of nanoseconds in a millisecond
+	private static final double NanosecondsPerMillisecond = 1000000.0d;
+	
+	// Whether scopes are being timed
+	private volatile boolean enabled = false;
+	// The number of times timing has been enabled, invalidating scopes left
+	// open while disabled
+	private volatile int epoch = 0;
+	// Whether the timing statistics are drawn over each frame
+	private boolean overlayEnabled = false;
+	// The number of frames each scope's history covers
+	private int historySize = 0;
+	// The minimum number of scopes each thread's buffer holds
+	private int bufferSize = 0;
+	// The maximum number of scopes a trace records
+	private int traceCapacity = 0;
+	// The calling thread's buffer, created on the thread's first scope
+	private ThreadLocal<ProfileBuffer> buffers = null;
+	// Every thread's buffer, in order of creation
+	private CopyOnWriteArrayList<ProfileBuffer> registered = null;
+	// Each scope's total time in the frame being collected, by scope id
+	private long[] frameTotals = new long[0];
+	// Whether each scope was entered in the frame being collected
+	private boolean[] frameEntered = new boolean[0];
+	// Each scope's recent times per frame, as a ring of historySize samples
+	private long[][] history = new long[0][];
+	// The number of samples in each scope's history
+	private int[] historyCounts = new int[0];
+	// The index of the next sample in each scope's history
+	private int[] historyCursors = new int[0];
+	// The number of frames collected
+	private long frameCount = 0L;
+	// Receives each scope collected from a buffer
+	private final long[] event = new long[4];
+	// The scope ids of the traced scopes or null if not tracing
+	private int[] traceScopes = null;
+	// The start times of the traced scopes in nanoseconds
+	private long[] traceStarts = null;
+	// The end times of the traced scopes in nanoseconds
+	private long[] traceEnds = null;
+	// The indices of the buffers the traced scopes came from
+	private int[] traceThreads = null;
+	// The number of traced scopes
+	private int traceSize = 0;
+	// The number of scopes left out of the trace because it was full
+	private long traceDropped = 0L;
+	// The time the trace started in nanoseconds
+	private long traceStart = 0L;
+	
+	/*
+	 * Initialize the Sillplate Framework's profiling system
+	 * Parameter: ApplicationConfiguration.ProfilerConfiguration configuration
+	 * - The configuration settings for the profiling system
+	 * Returns: boolean - Whether the profiling system was initialized
+	 * successfully
+	 */
+	public boolean initialize(
+			ApplicationConfiguration.ProfilerConfiguration configuration) {
+		if (configuration.historySize < 1 || configuration.bufferSize < 1
+				|| configuration.traceCapacity < 1) {
+			Application.Log.write(LogSource.Profiler, LogLevel.Warning,
+					"Invalid profiler history size ",
+					configuration.historySize, ", buffer size ",
+					configuration.bufferSize, " or trace capacity ",
+					configuration.traceCapacity);
+			return false;
+		}
+		historySize = configuration.historySize;
+		bufferSize = configuration.bufferSize;
+		traceCapacity = configuration.traceCapacity;
+		overlayEnabled = configuration.overlayEnabled;
+		registered = new CopyOnWriteArrayList<ProfileBuffer>();
+		buffers = new ThreadLocal<ProfileBuffer>() {
+			protected ProfileBuffer initialValue() {
+				ProfileBuffer buffer = new ProfileBuffer(bufferSize);
+				registered.add(buffer);
+				return buffer;
+			}
+		};
+		setEnabled(configuration.enabled);
+		Application.Log.write(LogSource.Profiler, LogLevel.Information,
+				"Initialized profiling system");
+		return true;
+	}
+	/*
+	 * Start timing a scope on the calling thread
+	 * Parameter: ProfileScope scope - The scope
+	 */
+	public void begin(ProfileScope scope) {
+		if (!enabled) {
+			return;
+		}
+		ProfileBuffer buffer = buffers.get();
+		int current = epoch;
+		if (buffer.epoch != current) {
+			buffer.reset(current);
+		}
+		buffer.begin(scope.id, System.nanoTime());
+	}
+	/*
+	 * Stop timing the innermost open scope on the calling thread with the
+	 * same id, dropping any scopes left open inside it
+	 * Parameter: ProfileScope scope - The scope
+	 */
+	public void end(ProfileScope scope) {
+		if (!enabled) {
+			return;
+		}
+		long time = System.nanoTime();
+		ProfileBuffer buffer = buffers.get();
+		if (buffer.epoch == epoch) {
+			buffer.end(scope.id, time);
+		}
+	}
+	/*
+	 * Collect the scopes every thread has closed into the history of time
+	 * per frame of each scope entered - called by the loop after each frame
+	 */
+	public synchronized void endFrame() {
+		if (!enabled || registered == null) {
+			return;
+		}
+		ensureScopes(ProfileScope.getCount());
+		for (int i = 0; i < registered.size(); i++) {
+			ProfileBuffer buffer = registered.get(i);
+			while (buffer.poll(event)) {
+				int scope = (int)event[0];
+				if (scope >= frameTotals.length) {
+					continue;
+				}
+				frameTotals[scope] += event[2] - event[1];
+				frameEntered[scope] = true;
+				if (traceScopes != null) {
+					trace(scope, event[1], event[2], i);
+				}
+			}
+		}
+		for (int scope = 0; scope < frameTotals.length; scope++) {
+			if (!frameEntered[scope]) {
+				continue;
+			}
+			if (history[scope] == null) {
+				history[scope] = new long[historySize];
+			}
+			history[scope][historyCursors[scope]] = frameTotals[scope];
+			historyCursors[scope] = (historyCursors[scope] + 1) % historySize;
+			historyCounts[scope] = Math.min(historyCounts[scope] + 1,
+					historySize);
+			frameTotals[scope] = 0L;
+			frameEntered[scope] = false;
+		}
+		frameCount++;
+	}
+	/*
+	 * Draw each scope's statistics over a frame if the overlay is enabled
+	 * Parameter: Graphics2D graphics - The graphics context of the frame
+	 */
+	public synchronized void drawOverlay(Graphics2D graphics) {
+		if (!overlayEnabled || !enabled) {
+			return;
+		}
+		List<String> lines = new ArrayList<String>();
+		lines.add(String.format(Locale.ROOT, "%-10s %8s %8s %8s", "ms", "p50",
+				"p99", "max"));
+		for (int scope = 0; scope < historyCounts.length; scope++) {
+			ProfileStatistics statistics = getStatistics(ProfileScope.get(
+					scope));
+			if (statistics != null) {
+				lines.add(String.format(Locale.ROOT, "%-10.10s %8.3f %8.3f "
+						+ "%8.3f", statistics.getScope().getName(),
+						statistics.getMedian() / NanosecondsPerMillisecond,
+						statistics.getPercentile99()
+						/ NanosecondsPerMillisecond, statistics.getMaximum()
+						/ NanosecondsPerMillisecond));
+			}
+		}
+		Font previousFont = graphics.getFont();
+		graphics.setFont(OverlayFont);
+		FontMetrics metrics = graphics.getFontMetrics();
+		int width = 0;
+		for (String line : lines) {
+			width = Math.max(width, metrics.stringWidth(line));
+		}
+		int lineHeight = metrics.getHeight();
+		graphics.setColor(OverlayBackground);
+		graphics.fillRect(4, 4, width + 8, lineHeight * lines.size() + 8);
+		graphics.setColor(Color.WHITE);
+		for (int i = 0; i < lines.size(); i++) {
+			graphics.drawString(lines.get(i), 8, 8 + metrics.getAscent()
+					+ lineHeight * i);
+		}
+		graphics.setFont(previousFont);
+	}
+	/*
+	 * Start recording every collected scope into a trace
+	 * Returns: boolean - Whether a trace was started
+	 */
+	public synchronized boolean startTrace() {
+		if (registered == null || traceScopes != null) {
+			Application.Log.write(LogSource.Profiler, LogLevel.Warning,
+					"Failed to start trace, profiling system not initialized ",
+					"or already tracing");
+			return false;
+		}
+		int size = Math.min(InitialTraceSize, traceCapacity);
+		traceScopes = new int[size];
+		traceStarts = new long[size];
+		traceEnds = new long[size];
+		traceThreads = new int[size];
+		traceSize = 0;
+		traceDropped = 0L;
+		traceStart = System.nanoTime();
+		Application.Log.write(LogSource.Profiler, LogLevel.Information,
+				"Started trace");
+		return true;
+	}
+	/*
+	 * Stop recording the trace and write it as Chrome trace event JSON,
+	 * viewable in chrome://tracing or Perfetto
+	 * Parameter: String fileName - The file name / path to write the trace to
+	 * Returns: boolean - Whether the trace was written
+	 */
+	public synchronized boolean stopTrace(String fileName) {
+		if (traceScopes == null) {
+			Application.Log.write(LogSource.Profiler, LogLevel.Warning,
+					"Failed to stop trace, not tracing");
+			return false;
+		}
+		boolean success = true;
+		try (Writer writer = Files.newBufferedWriter(Paths.get(fileName),
+				StandardCharsets.UTF_8)) {
+			writeTrace(writer);
+		} catch (IOException e) {
+			Application.Log.write(LogSource.Profiler, LogLevel.Warning,
+					"Failed to write trace to \"", fileName, "\"");
+			success = false;
+		}
+		if (success) {
+			Application.Log.write(LogSource.Profiler, LogLevel.Information,
+					"Wrote trace of ", traceSize, " scopes to \"", fileName,
+					"\"");
+		}
+		if (traceDropped > 0L) {
+			Application.Log.write(LogSource.Profiler, LogLevel.Warning,
+					"Trace full, ", traceDropped, " scopes left out");
+		}
+		traceScopes = null;
+		traceStarts = null;
+		traceEnds = null;
+		traceThreads = null;
+		traceSize = 0;
+		return success;
+	}
+	/*
+	 * Free the memory of the Sillplate Framework's profiling system
+	 */
+	public synchronized void destroy() {
+		enabled = false;
+		traceScopes = null;
+		traceStarts = null;
+		traceEnds = null;
+		traceThreads = null;
+		traceSize = 0;
+		buffers = null;
+		registered = null;
+	}
+	/*
+	 * Grow the per-scope arrays to cover every scope constructed
+	 * Parameter: int count - The number of scopes
+	 */
+	private void ensureScopes(int count) {
+		if (count <= frameTotals.length) {
+			return;
+		}
+		frameTotals = Arrays.copyOf(frameTotals, count);
+		frameEntered = Arrays.copyOf(frameEntered, count);
+		history = Arrays.copyOf(history, count);
+		historyCounts = Arrays.copyOf(historyCounts, count);
+		historyCursors = Arrays.copyOf(historyCursors, count);
+	}
+	/*
+	 * Record a collected scope in the trace, growing it up to its capacity
+	 * Parameter: int scope - The id of the scope
+	 * Parameter: long start - The start time in nanoseconds
+	 * Parameter: long end - The end time in nanoseconds
+	 * Parameter: int thread - The index of the buffer the scope came from
+	 */
+	private void trace(int scope, long start, long end, int thread) {
+		if (start < traceStart) {
+			return;
+		}
+		if (traceSize == traceScopes.length) {
+			if (traceSize == traceCapacity) {
+				traceDropped++;
+				return;
+			}
+			int size = (int)Math.min((long)traceSize * 2L, traceCapacity);
+			traceScopes = Arrays.copyOf(traceScopes, size);
+			traceStarts = Arrays.copyOf(traceStarts, size);
+			traceEnds = Arrays.copyOf(traceEnds, size);
+			traceThreads = Arrays.copyOf(traceThreads, size);
+		}
+		traceScopes[traceSize] = scope;
+		traceStarts[traceSize] = start;
+		traceEnds[traceSize] = end;
+		traceThreads[traceSize] = thread;
+		traceSize++;
+	}
+	/*
+	 * Write the trace as Chrome trace event JSON, naming each thread then
+	 * listing each scope as a complete event
+	 * Parameter: Writer writer - The writer to write the JSON to
+	 * Throws: IOException - If the writer fails
+	 */
+	private void writeTrace(Writer writer) throws IOException {
+		writer.write("{\"traceEvents\":[");
+		for (int i = 0; i < registered.size(); i++) {
+			ProfileBuffer buffer = registered.get(i);
+			writer.write(i == 0 ? "\n" : ",\n");
+			writer.write("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,"
+					+ "\"tid\":" + buffer.threadId + ",\"args\":{\"name\":");
+			writeString(writer, buffer.threadName);
+			writer.write("}}");
+		}
+		for (int i = 0; i < traceSize; i++) {
+			writer.write(i == 0 && registered.isEmpty() ? "\n" : ",\n");
+			writer.write("{\"name\":");
+			writeString(writer, ProfileScope.get(traceScopes[i]).getName());
+			writer.write(",\"ph\":\"X\",\"pid\":1,\"tid\":"
+					+ registered.get(traceThreads[i]).threadId + ",\"ts\":"
+					+ formatMicroseconds(traceStarts[i] - traceStart)
+					+ ",\"dur\":" + formatMicroseconds(traceEnds[i]
+					- traceStarts[i]) + "}");
+		}
+		writer.write("\n],\"displayTimeUnit\":\"ms\"}\n");
+	}
+	/*
+	 * Write a string as a quoted JSON string
+	 * Parameter: Writer writer - The writer to write to
+	 * Parameter: String value - The string
+	 * Throws: IOException - If the writer fails
+	 */
+	private static void writeString(Writer writer, String value)
+			throws IOException {
+		writer.write('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '"' || c == '\\') {
+				writer.write('\\');
+				writer.write(c);
+			} else if (c < 0x20) {
+				writer.write(String.format(Locale.ROOT, "\\u%04x", (int)c));
+			} else {
+				writer.write(c);
+			}
+		}
+		writer.write('"');
+	}
+	/*
+	 * Format a duration as microseconds with nanosecond precision
+	 * Parameter: long nanoseconds - The non-negative duration in nanoseconds
+	 * Returns: String - The duration in microseconds
+	 */
+	private static String formatMicroseconds(long nanoseconds) {
+		long fraction = nanoseconds % 1000L;
+		return (nanoseconds / 1000L) + (fraction < 10L ? ".00"
+				: fraction < 100L ? ".0" : ".") + fraction;
+	}
+	
+	/*
+	 * Get the statistics of a scope's time per frame over the frames in its
+	 * history
+	 * Parameter: ProfileScope scope - The scope
+	 * Returns: ProfileStatistics - The statistics or null if no collected
+	 * frame entered the scope
+	 */
+	public synchronized ProfileStatistics getStatistics(ProfileScope scope) {
+		if (scope.id >= historyCounts.length
+				|| historyCounts[scope.id] == 0) {
+			return null;
+		}
+		int count = historyCounts[scope.id];
+		long[] sorted = Arrays.copyOf(history[scope.id], count);
+		Arrays.sort(sorted);
+		return new ProfileStatistics(scope, sorted, count);
+	}
+	/*
+	 * Test whether scopes are being timed
+	 * Returns: boolean - Whether profiling is enabled
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+	/*
+	 * Set whether scopes are timed - scopes open when profiling is enabled
+	 * are not timed
+	 * Parameter: boolean enabled - Whether profiling is enabled
+	 */
+	public void setEnabled(boolean enabled) {
+		if (enabled && !this.enabled) {
+			epoch++;
+		}
+		this.enabled = enabled;
+		Application.Log.write(LogSource.Profiler, LogLevel.Information, "Set ",
+				"profiling enabled ", enabled);
+	}
+	/*
+	 * Test whether the statistics are drawn over each frame
+	 * Returns: boolean - Whether the overlay is enabled
+	 */
+	public boolean isOverlayEnabled() {
+		return overlayEnabled;
+	}
+	/*
+	 * Set whether the statistics are drawn over each frame while profiling
+	 * is enabled
+	 * Parameter: boolean overlayEnabled - Whether the overlay is enabled
+	 */
+	public void setOverlayEnabled(boolean overlayEnabled) {
+		this.overlayEnabled = overlayEnabled;
+	}
+	/*
+	 * Test whether a trace is being recorded
+	 * Returns: boolean - Whether tracing
+	 */
+	public synchronized boolean isTracing() {
+		return traceScopes != null;
+	}
+	/*
+	 * Get the number of frames collected
+	 * Returns: long - The frame count
+	 */
+	public synchronized long getFrameCount() {
+		return frameCount;
+	}
+	/*
+	 * Get the number of scopes dropped because a thread's buffer was full
+	 * Returns: long - The number of dropped scopes
+	 */
+	public long getDroppedCount() {
+		long dropped = 0L;
+		List<ProfileBuffer> buffers = registered;
+		for (int i = 0; buffers != null && i < buffers.size(); i++) {
+			dropped += buffers.get(i).getDroppedCount();
+		}
+		return dropped;
+	}
+	
+}
@@ -0,0 +1,76 @@
+/*
+ * File:		ProfileScope.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Defines a type for named timed scopes
+ */
+
+package com.limenfanestudio.sillplateframework.profiling;
+
+import java.util.ArrayList;
+
+// Defines a type for a named scope timed by the profiling system and static
+// scopes for the phases of the Sillplate Framework's main loop
+public class ProfileScope {
+	
+	// Every scope constructed, indexed by id
+	private static final ArrayList<ProfileScope> Scopes =
+			new ArrayList<ProfileScope>();
+	
+	// Scope covering a whole frame, excluding the wait for frame pacing
+	public static ProfileScope Frame = new ProfileScope("Frame");
+	// Scope covering input polling and the scene's input processing
+	public static ProfileScope Input = new ProfileScope("Input");
+	// Scope covering the scene's update, its systems and recorded changes
+	public static ProfileScope Update = new ProfileScope("Update");
+	// Scope covering the physics step
+	public static ProfileScope Physics = new ProfileScope("Physics");
+	// Scope covering drawing a frame, including presenting it
+	public static ProfileScope Render = new ProfileScope("Render");
+	// Scope covering presenting a drawn frame to the display
+	public static ProfileScope Present = new ProfileScope("Present");
+	
+	// The name of this scope
+	private final String name;
+	// Unique id of this scope, indexing the profiling system's statistics
+	final int id;
+	
+	/*
+	 * Construct a scope with a name
+	 * Parameter: String name - The name of this scope
+	 */
+	public ProfileScope(String name) {
+		this.name = name;
+		synchronized (Scopes) {
+			id = Scopes.size();
+			Scopes.add(this);
+		}
+	}
+	/*
+	 * Get the number of scopes constructed
+	 * Returns: int - The number of scopes
+	 */
+	static int getCount() {
+		synchronized (Scopes) {
+			return Scopes.size();
+		}
+	}
+	/*
+	 * Get a scope by id
+	 * Parameter: int id - The id of the scope
+	 * Returns: ProfileScope - The scope
+	 */
+	static ProfileScope get(int id) {
+		synchronized (Scopes) {
+			return Scopes.get(id);
+		}
+	}
+	/*
+	 * Get the name of this scope
+	 * Returns: String - The name of this scope
+	 */
+	public String getName() {
+		return name;
+	}
+	
+}
@@ -0,0 +1,99 @@
+/*
+ * File:		ProfileStatistics.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Defines a snapshot of a scope's timings over recent frames
+ */
+
+package com.limenfanestudio.sillplateframework.profiling;
+
+// Snapshot of the total time per frame spent in a scope over the frames in
+// the profiling system's history which entered it
+public class ProfileStatistics {
+	
+	// The scope the timings are of
+	private final ProfileScope scope;
+	// The number of frames sampled
+	private final int sampleCount;
+	// The mean time per frame in nanoseconds
+	private final long mean;
+	// The median time per frame in nanoseconds
+	private final long median;
+	// The 99th percentile time per frame in nanoseconds
+	private final long percentile99;
+	// The longest time in a frame in nanoseconds
+	private final long maximum;
+	
+	/*
+	 * Construct a snapshot from a scope's samples
+	 * Parameter: ProfileScope scope - The scope the samples are of
+	 * Parameter: long[] sorted - The time per frame of each sample in
+	 * nanoseconds, sorted ascending
+	 * Parameter: int count - The number of samples, at least 1
+	 */
+	ProfileStatistics(ProfileScope scope, long[] sorted, int count) {
+		this.scope = scope;
+		sampleCount = count;
+		long total = 0L;
+		for (int i = 0; i < count; i++) {
+			total += sorted[i];
+		}
+		mean = total / count;
+		median = sorted[rank(0.5d, count)];
+		percentile99 = sorted[rank(0.99d, count)];
+		maximum = sorted[count - 1];
+	}
+	/*
+	 * Get the nearest-rank index of a percentile
+	 * Parameter: double fraction - The percentile as a fraction from 0 to 1
+	 * Parameter: int count - The number of samples
+	 * Returns: int - The index of the percentile in the sorted samples
+	 */
+	private static int rank(double fraction, int count) {
+		return Math.max(0, (int)Math.ceil(fraction * count) - 1);
+	}
+	
+	/*
+	 * Get the scope the timings are of
+	 * Returns: ProfileScope - The scope
+	 */
+	public ProfileScope getScope() {
+		return scope;
+	}
+	/*
+	 * Get the number of frames sampled
+	 * Returns: int - The number of samples
+	 */
+	public int getSampleCount() {
+		return sampleCount;
+	}
+	/*
+	 * Get the mean time per frame
+	 * Returns: long - The mean in nanoseconds
+	 */
+	public long getMean() {
+		return mean;
+	}
+	/*
+	 * Get the median time per frame
+	 * Returns: long - The 50th percentile in nanoseconds
+	 */
+	public long getMedian() {
+		return median;
+	}
+	/*
+	 * Get the 99th percentile time per frame
+	 * Returns: long - The 99th percentile in nanoseconds
+	 */
+	public long getPercentile99() {
+		return percentile99;
+	}
+	/*
+	 * Get the longest time spent in the scope in a single frame
+	 * Returns: long - The maximum in nanoseconds
+	 */
+	public long getMaximum() {
+		return maximum;
+	}
+	
+}
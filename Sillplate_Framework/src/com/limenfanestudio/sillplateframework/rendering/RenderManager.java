@@ -0,0 +1,292 @@
+/*
+ * File:		RenderManager.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Manages drawing each frame of the current scene to the window's
+ * 				canvas through a buffer strategy or to an offscreen image
+ */
+
+package com.limenfanestudio.sillplateframework.rendering;
+
+import java.awt.AWTException;
+import java.awt.BufferCapabilities;
+import java.awt.Canvas;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.ImageCapabilities;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+
+import com.limenfanestudio.sillplateframework.application.Application;
+import com.limenfanestudio.sillplateframework.application
+		.ApplicationConfiguration;
+import com.limenfanestudio.sillplateframework.application.Scene;
+import com.limenfanestudio.sillplateframework.logging.LogLevel;
+import com.limenfanestudio.sillplateframework.logging.LogSource;
+import com.limenfanestudio.sillplateframework.profiling.ProfileScope;
+
+// The main class of the Sillplate Framework's rendering system
+public class RenderManager {
+	
+	// Canvas drawn to or null if rendering offscreen
+	private Canvas canvas = null;
+	// Buffer strategy of the canvas, recreated whenever the canvas is given a
+	// new native peer
+	private BufferStrategy strategy = null;
+	// The number of buffers in the canvas's buffer strategy
+	private int bufferCount = 0;
+	// Whether buffers should be shown by page flipping paced to the
+	// display's refresh
+	private boolean vsync = false;
+	// The colour each frame is cleared to before the scene is drawn
+	private Color backgroundColor = null;
+	// The width in pixels of the offscreen target
+	private int offscreenWidth = 0;
+	// The height in pixels of the offscreen target
+	private int offscreenHeight = 0;
+	// Hardware-accelerated offscreen target when a display is available
+	private VolatileImage volatileTarget = null;
+	// Offscreen target when no display is available
+	private BufferedImage bufferedTarget = null;
+	// Whether frames are drawn
+	private boolean enabled = false;
+	
+	/*
+	 * Initialize the Sillplate Framework's rendering system
+	 * Parameter: ApplicationConfiguration.RenderConfiguration configuration -
+	 * The configuration settings for the rendering system
+	 * Parameter: Canvas canvas - The canvas to draw to or null to draw to an
+	 * offscreen image
+	 * Returns: boolean - Whether the rendering system was initialized
+	 * successfully
+	 */
+	public boolean initialize(
+			ApplicationConfiguration.RenderConfiguration configuration,
+			Canvas canvas) {
+		if (configuration.bufferCount < 2 || configuration.bufferCount > 3) {
+			Application.Log.write(LogSource.Render, LogLevel.Warning,
+					"Invalid buffer count ", configuration.bufferCount);
+			return false;
+		}
+		this.canvas = canvas;
+		bufferCount = configuration.bufferCount;
+		vsync = configuration.vsync;
+		backgroundColor = configuration.backgroundColor;
+		enabled = configuration.enabled;
+		if (canvas != null) {
+			canvas.setIgnoreRepaint(true);
+		} else {
+			offscreenWidth = Math.max(1, (int)configuration
+					.offscreenDimensions.x);
+			offscreenHeight = Math.max(1, (int)configuration
+					.offscreenDimensions.y);
+			Application.Log.write(LogSource.Render, LogLevel.Information,
+					"Rendering offscreen at ", offscreenWidth, "x",
+					offscreenHeight);
+		}
+		Application.Log.write(LogSource.Render, LogLevel.Information,
+				"Initialized rendering system");
+		return true;
+	}
+	/*
+	 * Draw a frame of a scene and present it, unless rendering is disabled
+	 * Parameter: Scene scene - The scene to draw
+	 * Parameter: double alpha - The fraction of an update elapsed since the
+	 * last update, passed to the scene for interpolation
+	 */
+	public void render(Scene scene, double alpha) {
+		if (!enabled) {
+			return;
+		}
+		if (canvas == null) {
+			renderOffscreen(scene, alpha);
+			return;
+		}
+		// Drawing during a resize would rebuild the back buffers every frame,
+		// so frames are skipped until the size settles and the buffers are
+		// rebuilt once by the next frame at the final size
+		if (Application.Window != null && Application.Window.isResizing()) {
+			return;
+		}
+		BufferStrategy strategy = getStrategy();
+		if (strategy == null) {
+			return;
+		}
+		do {
+			do {
+				Graphics2D graphics = (Graphics2D)strategy.getDrawGraphics();
+				try {
+					draw(graphics, canvas.getWidth(), canvas.getHeight(), scene,
+							alpha);
+				} finally {
+					graphics.dispose();
+				}
+			} while (strategy.contentsRestored());
+			Application.Profiler.begin(ProfileScope.Present);
+			strategy.show();
+			Application.Profiler.end(ProfileScope.Present);
+		} while (strategy.contentsLost());
+		// Push the frame to the display now rather than when the windowing
+		// system next flushes
+		Application.Profiler.begin(ProfileScope.Present);
+		Toolkit.getDefaultToolkit().sync();
+		Application.Profiler.end(ProfileScope.Present);
+	}
+	/*
+	 * Free the memory of the Sillplate Framework's rendering system
+	 */
+	public void destroy() {
+		if (strategy != null) {
+			strategy.dispose();
+			strategy = null;
+		}
+		if (volatileTarget != null) {
+			volatileTarget.flush();
+			volatileTarget = null;
+		}
+		bufferedTarget = null;
+		canvas = null;
+	}
+	/*
+	 * Get the canvas's buffer strategy, creating it if the canvas has none
+	 * Returns: BufferStrategy - The buffer strategy or null if the canvas
+	 * cannot be drawn to yet
+	 */
+	private BufferStrategy getStrategy() {
+		BufferStrategy current = canvas.getBufferStrategy();
+		if (current != null && current == strategy) {
+			return strategy;
+		}
+		if (!canvas.isDisplayable() || canvas.getWidth() <= 0
+				|| canvas.getHeight() <= 0) {
+			return null;
+		}
+		try {
+			if (vsync) {
+				// Page flipping is presented on the display's refresh where
+				// the graphics pipeline supports it, typically in fullscreen
+				canvas.createBufferStrategy(bufferCount,
+						new BufferCapabilities(new ImageCapabilities(true),
+						new ImageCapabilities(true),
+						BufferCapabilities.FlipContents.UNDEFINED));
+			} else {
+				canvas.createBufferStrategy(bufferCount);
+			}
+		} catch (AWTException e) {
+			canvas.createBufferStrategy(bufferCount);
+		}
+		strategy = canvas.getBufferStrategy();
+		Application.Log.write(LogSource.Render, LogLevel.Information,
+				"Created buffer strategy with ", bufferCount, " buffers, ",
+				"page flipping ", strategy.getCapabilities().isPageFlipping());
+		return strategy;
+	}
+	/*
+	 * Draw a frame of a scene to the offscreen target
+	 * Parameter: Scene scene - The scene to draw
+	 * Parameter: double alpha - The interpolation factor for the scene
+	 */
+	private void renderOffscreen(Scene scene, double alpha) {
+		if (GraphicsEnvironment.isHeadless()) {
+			if (bufferedTarget == null) {
+				bufferedTarget = new BufferedImage(offscreenWidth,
+						offscreenHeight, BufferedImage.TYPE_INT_RGB);
+			}
+			Graphics2D graphics = bufferedTarget.createGraphics();
+			try {
+				draw(graphics, offscreenWidth, offscreenHeight, scene, alpha);
+			} finally {
+				graphics.dispose();
+			}
+			return;
+		}
+		GraphicsConfiguration configuration = GraphicsEnvironment
+				.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+				.getDefaultConfiguration();
+		do {
+			if (volatileTarget == null || volatileTarget.validate(
+					configuration) == VolatileImage.IMAGE_INCOMPATIBLE) {
+				if (volatileTarget != null) {
+					volatileTarget.flush();
+				}
+				volatileTarget = configuration.createCompatibleVolatileImage(
+						offscreenWidth, offscreenHeight);
+			}
+			Graphics2D graphics = volatileTarget.createGraphics();
+			try {
+				draw(graphics, offscreenWidth, offscreenHeight, scene, alpha);
+			} finally {
+				graphics.dispose();
+			}
+		} while (volatileTarget.contentsLost());
+	}
+	/*
+	 * Clear a frame and draw a scene to it
+	 * Parameter: Graphics2D graphics - The graphics context of the frame
+	 * Parameter: int width - The width of the frame in pixels
+	 * Parameter: int height - The height of the frame in pixels
+	 * Parameter: Scene scene - The scene to draw
+	 * Parameter: double alpha - The interpolation factor for the scene
+	 */
+	private void draw(Graphics2D graphics, int width, int height, Scene scene,
+			double alpha) {
+		graphics.setColor(backgroundColor);
+		graphics.fillRect(0, 0, width, height);
+		scene.render(graphics, alpha);
+		Application.Profiler.drawOverlay(graphics);
+	}
+	
+	/*
+	 * Test whether the rendering system is drawing to an offscreen target
+	 * instead of the window
+	 * Returns: boolean - Whether rendering is offscreen
+	 */
+	public boolean isOffscreen() {
+		return canvas == null;
+	}
+	/*
+	 * Get the last frame drawn to the offscreen target
+	 * Returns: BufferedImage - The last offscreen frame or null if rendering
+	 * to the window or no frame has been drawn
+	 */
+	public BufferedImage getOffscreenImage() {
+		if (volatileTarget != null) {
+			return volatileTarget.getSnapshot();
+		}
+		return bufferedTarget;
+	}
+	/*
+	 * Test whether frames are drawn
+	 * Returns: boolean - Whether rendering is enabled
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+	/*
+	 * Set whether frames are drawn, which headless servers and simulations
+	 * can turn off
+	 * Parameter: boolean enabled - Whether rendering is enabled
+	 */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+	/*
+	 * Get the colour each frame is cleared to
+	 * Returns: Color - The background colour
+	 */
+	public Color getBackgroundColor() {
+		return backgroundColor;
+	}
+	/*
+	 * Set the colour each frame is cleared to
+	 * Parameter: Color backgroundColor - The background colour
+	 */
+	public void setBackgroundColor(Color backgroundColor) {
+		this.backgroundColor = backgroundColor;
+	}
+	
+}
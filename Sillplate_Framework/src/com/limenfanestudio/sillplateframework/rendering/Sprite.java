@@ -0,0 +1,90 @@
+/*
+ * File:		Sprite.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Defines a rectangular region of an image drawn by the sprite
+ * 				batch
+ */
+
+package com.limenfanestudio.sillplateframework.rendering;
+
+import java.awt.Image;
+
+// A rectangular region of a source image - a whole image or one packed
+// into a texture atlas page
+public class Sprite {
+	
+	// The source image containing this sprite
+	private Image image = null;
+	// Key grouping sprites sharing a source image when sorting draws
+	final int imageKey;
+	// The horizontal position of this sprite in the source image in pixels
+	private int x = 0;
+	// The vertical position of this sprite in the source image in pixels
+	private int y = 0;
+	// The width of this sprite in pixels
+	private int width = 0;
+	// The height of this sprite in pixels
+	private int height = 0;
+	
+	/*
+	 * Constructs a sprite covering a whole image
+	 * Parameter: Image image - The source image, which must be fully loaded
+	 */
+	public Sprite(Image image) {
+		this(image, 0, 0, image.getWidth(null), image.getHeight(null));
+	}
+	/*
+	 * Constructs a sprite covering a region of an image
+	 * Parameter: Image image - The source image
+	 * Parameter: int x - The horizontal position of the region in pixels
+	 * Parameter: int y - The vertical position of the region in pixels
+	 * Parameter: int width - The width of the region in pixels
+	 * Parameter: int height - The height of the region in pixels
+	 */
+	public Sprite(Image image, int x, int y, int width, int height) {
+		this.image = image;
+		imageKey = System.identityHashCode(image) & 0xFFFFFF;
+		this.x = x;
+		this.y = y;
+		this.width = width;
+		this.height = height;
+	}
+	
+	/*
+	 * Get the source image containing this sprite
+	 * Returns: Image - The source image
+	 */
+	public Image getImage() {
+		return image;
+	}
+	/*
+	 * Get the horizontal position of this sprite in the source image
+	 * Returns: int - The horizontal position in pixels
+	 */
+	public int getX() {
+		return x;
+	}
+	/*
+	 * Get the vertical position of this sprite in the source image
+	 * Returns: int - The vertical position in pixels
+	 */
+	public int getY() {
+		return y;
+	}
+	/*
+	 * Get the width of this sprite
+	 * Returns: int - The width in pixels
+	 */
+	public int getWidth() {
+		return width;
+	}
+	/*
+	 * Get the height of this sprite
+	 * Returns: int - The height in pixels
+	 */
+	public int getHeight() {
+		return height;
+	}
+	
+}
@@ -0,0 +1,196 @@
+/*
+ * File:		SpriteBatch.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Queues sprite draws for a frame and submits them sorted by
+ * 				layer and source image
+ */
+
+package com.limenfanestudio.sillplateframework.rendering;
+
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.Rectangle;
+import java.util.Arrays;
+
+// Collects sprite draws between begin() and end(), then draws them ordered
+// by layer and, within a layer, grouped by source image so consecutive
+// draws reuse the same texture in accelerated pipelines - sprites outside
+// the graphics clip are skipped. Not thread-safe
+public class SpriteBatch {
+	
+	// The lowest layer a sprite can be drawn on
+	public static final int MinLayer = -16384;
+	// The highest layer a sprite can be drawn on
+	public static final int MaxLayer = 16383;
+	// The maximum number of sprites queued between begin() and end()
+	public static final int MaxSprites = 1 << 24;
+	
+	// The graphics context draws are submitted to or null outside begin() and
+	// end()
+	private Graphics2D graphics = null;
+	// The queued sprites
+	private Sprite[] sprites = null;
+	// The horizontal positions of the queued draws in pixels
+	private double[] xs = null;
+	// The vertical positions of the queued draws in pixels
+	private double[] ys = null;
+	// The widths of the queued draws in pixels
+	private double[] widths = null;
+	// The heights of the queued draws in pixels
+	private double[] heights = null;
+	// Sort keys of the queued draws - layer, then source image, then queue
+	// order to keep sorting stable
+	private long[] keys = null;
+	// The number of queued draws
+	private int count = 0;
+	// The number of sprites drawn by the last end()
+	private int drawCount = 0;
+	// The number of runs of draws sharing a source image in the last end()
+	private int batchCount = 0;
+	
+	/*
+	 * Construct a sprite batch
+	 * Parameter: int capacity - The number of draws to allocate space for,
+	 * grown as needed
+	 */
+	public SpriteBatch(int capacity) {
+		allocate(Math.max(16, capacity));
+	}
+	
+	/*
+	 * Start queueing draws for a graphics context
+	 * Parameter: Graphics2D graphics - The graphics context to draw to
+	 * Returns: boolean - Whether the batch was not already started
+	 */
+	public boolean begin(Graphics2D graphics) {
+		if (this.graphics != null) {
+			return false;
+		}
+		this.graphics = graphics;
+		count = 0;
+		return true;
+	}
+	/*
+	 * Queue a sprite draw at its own size
+	 * Parameter: Sprite sprite - The sprite to draw
+	 * Parameter: double x - The horizontal position to draw at in pixels
+	 * Parameter: double y - The vertical position to draw at in pixels
+	 * Parameter: int layer - The layer to draw on, higher layers drawn on top
+	 * Returns: boolean - Whether the draw was queued
+	 */
+	public boolean draw(Sprite sprite, double x, double y, int layer) {
+		return draw(sprite, x, y, sprite.getWidth(), sprite.getHeight(),
+				layer);
+	}
+	/*
+	 * Queue a sprite draw scaled to a size
+	 * Parameter: Sprite sprite - The sprite to draw
+	 * Parameter: double x - The horizontal position to draw at in pixels
+	 * Parameter: double y - The vertical position to draw at in pixels
+	 * Parameter: double width - The width to draw at in pixels
+	 * Parameter: double height - The height to draw at in pixels
+	 * Parameter: int layer - The layer to draw on, higher layers drawn on top
+	 * Returns: boolean - Whether the batch is started, the layer is valid and
+	 * the batch is not full
+	 */
+	public boolean draw(Sprite sprite, double x, double y, double width,
+			double height, int layer) {
+		if (graphics == null || layer < MinLayer || layer > MaxLayer
+				|| count == MaxSprites) {
+			return false;
+		}
+		if (count == sprites.length) {
+			allocate(Math.min(MaxSprites, count * 2));
+		}
+		sprites[count] = sprite;
+		xs[count] = x;
+		ys[count] = y;
+		widths[count] = width;
+		heights[count] = height;
+		keys[count] = ((long)(layer - MinLayer) << 48)
+				| ((long)sprite.imageKey << 24) | count;
+		count++;
+		return true;
+	}
+	/*
+	 * Sort and draw every queued sprite, then stop queueing
+	 * Returns: boolean - Whether the batch was started
+	 */
+	public boolean end() {
+		if (graphics == null) {
+			return false;
+		}
+		Arrays.sort(keys, 0, count);
+		Rectangle clip = graphics.getClipBounds();
+		Image lastImage = null;
+		drawCount = 0;
+		batchCount = 0;
+		for (int i = 0; i < count; i++) {
+			int index = (int)(keys[i] & (MaxSprites - 1));
+			Sprite sprite = sprites[index];
+			int x = (int)Math.floor(xs[index]);
+			int y = (int)Math.floor(ys[index]);
+			int width = (int)Math.round(widths[index]);
+			int height = (int)Math.round(heights[index]);
+			sprites[index] = null;
+			if (clip != null && (x >= clip.x + clip.width
+					|| y >= clip.y + clip.height || x + width <= clip.x
+					|| y + height <= clip.y)) {
+				continue;
+			}
+			Image image = sprite.getImage();
+			if (image != lastImage) {
+				lastImage = image;
+				batchCount++;
+			}
+			graphics.drawImage(image, x, y, x + width, y + height,
+					sprite.getX(), sprite.getY(),
+					sprite.getX() + sprite.getWidth(),
+					sprite.getY() + sprite.getHeight(), null);
+			drawCount++;
+		}
+		count = 0;
+		graphics = null;
+		return true;
+	}
+	/*
+	 * Grow the queue's arrays
+	 * Parameter: int capacity - The number of draws to hold
+	 */
+	private void allocate(int capacity) {
+		if (sprites == null) {
+			sprites = new Sprite[capacity];
+			xs = new double[capacity];
+			ys = new double[capacity];
+			widths = new double[capacity];
+			heights = new double[capacity];
+			keys = new long[capacity];
+			return;
+		}
+		sprites = Arrays.copyOf(sprites, capacity);
+		xs = Arrays.copyOf(xs, capacity);
+		ys = Arrays.copyOf(ys, capacity);
+		widths = Arrays.copyOf(widths, capacity);
+		heights = Arrays.copyOf(heights, capacity);
+		keys = Arrays.copyOf(keys, capacity);
+	}
+	
+	/*
+	 * Get the number of sprites drawn by the last end(), excluding those
+	 * outside the clip
+	 * Returns: int - The number of sprites drawn
+	 */
+	public int getDrawCount() {
+		return drawCount;
+	}
+	/*
+	 * Get the number of runs of consecutive draws sharing a source image in
+	 * the last end()
+	 * Returns: int - The number of batches
+	 */
+	public int getBatchCount() {
+		return batchCount;
+	}
+	
+}
@@ -0,0 +1,61 @@
+/*
+ * File:		TextureAtlas.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Defines a set of images packed into a few large pages with
+ * 				named sprites for each packed image
+ */
+
+package com.limenfanestudio.sillplateframework.rendering;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Set of large page images with many small images packed into them, each
+// available as a named sprite - created by a TextureAtlasPacker
+public class TextureAtlas {
+	
+	// The page images the sprites are packed into
+	private List<BufferedImage> pages = null;
+	// The packed sprites associated with their names
+	private Map<String, Sprite> sprites = null;
+	
+	/*
+	 * Constructs a texture atlas
+	 * Parameter: List<BufferedImage> pages - The page images
+	 * Parameter: Map<String, Sprite> sprites - The packed sprites associated
+	 * with their names
+	 */
+	TextureAtlas(List<BufferedImage> pages, Map<String, Sprite> sprites) {
+		this.pages = new ArrayList<BufferedImage>(pages);
+		this.sprites = new HashMap<String, Sprite>(sprites);
+	}
+	
+	/*
+	 * Get a packed sprite by name
+	 * Parameter: String name - The name the image was added to the packer with
+	 * Returns: Sprite - The sprite or null if no image has the name
+	 */
+	public Sprite getSprite(String name) {
+		return sprites.get(name);
+	}
+	/*
+	 * Get the names of every packed sprite
+	 * Returns: List<String> - The sprite names
+	 */
+	public List<String> getSpriteNames() {
+		return new ArrayList<String>(sprites.keySet());
+	}
+	/*
+	 * Get the page images the sprites are packed into
+	 * Returns: List<BufferedImage> - The page images
+	 */
+	public List<BufferedImage> getPages() {
+		return Collections.unmodifiableList(pages);
+	}
+	
+}
@@ -0,0 +1,157 @@
+/*
+ * File:		TextureAtlasPacker.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Packs many small images into a few large display-compatible
+ * 				images to form a texture atlas
+ */
+
+package com.limenfanestudio.sillplateframework.rendering;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.limenfanestudio.sillplateframework.application.Application;
+import com.limenfanestudio.sillplateframework.logging.LogLevel;
+import com.limenfanestudio.sillplateframework.logging.LogSource;
+
+// Collects named images and packs them into square pages with a shelf
+// algorithm - tallest images first, filling rows left to right - creating
+// pages compatible with the display so they can be cached in video memory
+public class TextureAtlasPacker {
+	
+	// The width and height of each page in pixels
+	private int pageSize = 0;
+	// Transparent pixels left between packed images so filtering never
+	// samples a neighbour
+	private int padding = 0;
+	// The images to pack associated with their names, in the order added
+	private Map<String, BufferedImage> images = null;
+	
+	/*
+	 * Constructs a texture atlas packer
+	 * Parameter: int pageSize - The width and height of each page in pixels
+	 * Parameter: int padding - The transparent pixels left between images
+	 */
+	public TextureAtlasPacker(int pageSize, int padding) {
+		this.pageSize = Math.max(1, pageSize);
+		this.padding = Math.max(0, padding);
+		images = new LinkedHashMap<String, BufferedImage>();
+	}
+	
+	/*
+	 * Add an image to be packed
+	 * Parameter: String name - The name to get the image's sprite by
+	 * Parameter: BufferedImage image - The image to pack
+	 * Returns: boolean - Whether the name is not already in use and the image
+	 * fits on a page
+	 */
+	public boolean add(String name, BufferedImage image) {
+		if (images.containsKey(name)) {
+			Application.Log.write(LogSource.Render, LogLevel.Warning, "Atlas ",
+					"image \"", name, "\" already present");
+			return false;
+		}
+		if (image.getWidth() + 2 * padding > pageSize
+				|| image.getHeight() + 2 * padding > pageSize) {
+			Application.Log.write(LogSource.Render, LogLevel.Warning, "Atlas ",
+					"image \"", name, "\" larger than page size ", pageSize);
+			return false;
+		}
+		images.put(name, image);
+		return true;
+	}
+	/*
+	 * Pack the added images into pages compatible with the default screen, or
+	 * plain translucent images when there is no display
+	 * Returns: TextureAtlas - The texture atlas of the packed images
+	 */
+	public TextureAtlas pack() {
+		GraphicsConfiguration configuration = null;
+		if (!GraphicsEnvironment.isHeadless()) {
+			configuration = GraphicsEnvironment.getLocalGraphicsEnvironment()
+					.getDefaultScreenDevice().getDefaultConfiguration();
+		}
+		return pack(configuration);
+	}
+	/*
+	 * Pack the added images into pages
+	 * Parameter: GraphicsConfiguration configuration - The configuration to
+	 * create compatible pages for or null for plain translucent images
+	 * Returns: TextureAtlas - The texture atlas of the packed images
+	 */
+	public TextureAtlas pack(GraphicsConfiguration configuration) {
+		List<String> names = new ArrayList<String>(images.keySet());
+		Collections.sort(names, new Comparator<String>() {
+			public int compare(String a, String b) {
+				return images.get(b).getHeight() - images.get(a).getHeight();
+			}
+		});
+		List<BufferedImage> pages = new ArrayList<BufferedImage>();
+		Map<String, Sprite> sprites = new HashMap<String, Sprite>();
+		BufferedImage page = null;
+		Graphics2D graphics = null;
+		int shelfX = 0;
+		int shelfY = 0;
+		int shelfHeight = 0;
+		for (String name : names) {
+			BufferedImage image = images.get(name);
+			int width = image.getWidth() + 2 * padding;
+			int height = image.getHeight() + 2 * padding;
+			if (page != null && shelfX + width > pageSize) {
+				shelfX = 0;
+				shelfY += shelfHeight;
+				shelfHeight = 0;
+			}
+			if (page == null || shelfY + height > pageSize) {
+				if (graphics != null) {
+					graphics.dispose();
+				}
+				page = createPage(configuration);
+				pages.add(page);
+				graphics = page.createGraphics();
+				graphics.setComposite(AlphaComposite.Src);
+				shelfX = 0;
+				shelfY = 0;
+				shelfHeight = 0;
+			}
+			graphics.drawImage(image, shelfX + padding, shelfY + padding, null);
+			sprites.put(name, new Sprite(page, shelfX + padding,
+					shelfY + padding, image.getWidth(), image.getHeight()));
+			shelfX += width;
+			shelfHeight = Math.max(shelfHeight, height);
+		}
+		if (graphics != null) {
+			graphics.dispose();
+		}
+		Application.Log.write(LogSource.Render, LogLevel.Information, "Packed ",
+				names.size(), " images into ", pages.size(), " atlas pages");
+		return new TextureAtlas(pages, sprites);
+	}
+	/*
+	 * Create an empty, transparent page
+	 * Parameter: GraphicsConfiguration configuration - The configuration to
+	 * create a compatible page for or null for a plain translucent image
+	 * Returns: BufferedImage - The page
+	 */
+	private BufferedImage createPage(GraphicsConfiguration configuration) {
+		if (configuration != null) {
+			return configuration.createCompatibleImage(pageSize, pageSize,
+					Transparency.TRANSLUCENT);
+		}
+		return new BufferedImage(pageSize, pageSize,
+				BufferedImage.TYPE_INT_ARGB_PRE);
+	}
+	
+}
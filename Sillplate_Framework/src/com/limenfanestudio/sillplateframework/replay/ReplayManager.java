@@ -0,0 +1,586 @@
+/*
+ * File:		ReplayManager.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Manages recording a Sillplate Framework application's input
+ * 				and random seeds per tick and replaying them deterministically
+ */
+
+package com.limenfanestudio.sillplateframework.replay;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+import com.limenfanestudio.sillplateframework.application.Application;
+import com.limenfanestudio.sillplateframework.application
+		.ApplicationConfiguration;
+import com.limenfanestudio.sillplateframework.application.Scene;
+import com.limenfanestudio.sillplateframework.input.InputEvent;
+import com.limenfanestudio.sillplateframework.input.InputEventType;
+import com.limenfanestudio.sillplateframework.logging.LogLevel;
+import com.limenfanestudio.sillplateframework.logging.LogSource;
+
+// The main class of the Sillplate Framework's replay system - the loop
+// reseeds the shared random number generator at the start of every tick,
+// and while recording each tick's seed, input events and scene swaps are
+// encoded and written by a background thread, with the scene's snapshot
+// every few ticks. A replay feeds a recording back through the same scene
+// at its fixed timestep, ignoring the window's input, and compares the
+// scene's snapshots to detect desynchronization. Scenes stay deterministic
+// by drawing random numbers only from getRandom() and reading input only
+// from the input system. Run replays headless on simulated time to replay
+// as fast as possible
+public class ReplayManager {
+	
+	// The most bytes a tick record's header can take
+	private static final int MaxTickHeaderSize = 15;
+	// The most bytes an encoded input event can take
+	private static final int MaxEventSize = 44;
+	// Every input event kind, indexed by ordinal
+	private static final InputEventType[] Types = InputEventType.values();
+	
+	// The random number generator scenes draw from, reseeded each tick
+	private final Random random = new Random();
+	// Generator of each tick's seed while not replaying
+	private SplittableRandom seeds = null;
+	// The number of ticks between snapshots while recording or 0 for none
+	private int snapshotInterval = 0;
+	// The size in bytes of the chunks ticks are encoded into
+	private int chunkSize = 0;
+	// The number of ticks recorded or replayed
+	private long tickCount = 0L;
+	// The seed of the current tick
+	private long seed = 0L;
+	// Whether the current tick swapped in a transition's scene while
+	// recording, or must swap one in while replaying
+	private boolean transitionDue = false;
+	// The writer of the recording or null if not recording
+	private ReplayWriter writer = null;
+	// The chunk the recording is encoded into
+	private ByteBuffer chunk = null;
+	// The file name / path of the recording or replay
+	private String fileName = null;
+	// The mapped replay or null if not replaying
+	private MappedByteBuffer replay = null;
+	// The number of input events in the current tick of the replay
+	private int replayEventCount = 0;
+	// The time of the previous input event encoded or decoded
+	private long previousTime = 0L;
+	// The number of snapshots which did not match while replaying
+	private long desyncCount = 0L;
+	// Whether a failure to write the recording has been logged
+	private boolean failureReported = false;
+	
+	/*
+	 * Initialize the Sillplate Framework's replay system, starting a
+	 * recording or replay if configured - called once the loop and input
+	 * systems are initialized
+	 * Parameter: ApplicationConfiguration.ReplayConfiguration configuration -
+	 * The configuration settings for the replay system
+	 * Returns: boolean - Whether the replay system was initialized
+	 * successfully
+	 */
+	public boolean initialize(
+			ApplicationConfiguration.ReplayConfiguration configuration) {
+		if (configuration.chunkSize < 1024
+				|| configuration.snapshotInterval < 0) {
+			Application.Log.write(LogSource.Replay, LogLevel.Warning,
+					"Invalid replay chunk size ", configuration.chunkSize,
+					" or snapshot interval ", configuration.snapshotInterval);
+			return false;
+		}
+		chunkSize = configuration.chunkSize;
+		snapshotInterval = configuration.snapshotInterval;
+		seeds = new SplittableRandom(configuration.seed != 0L
+				? configuration.seed : System.nanoTime());
+		if (configuration.recordFileName != null
+				&& !startRecording(configuration.recordFileName)) {
+			return false;
+		}
+		if (configuration.replayFileName != null
+				&& !startReplay(configuration.replayFileName)) {
+			return false;
+		}
+		Application.Log.write(LogSource.Replay, LogLevel.Information,
+				"Initialized replay system");
+		return true;
+	}
+	/*
+	 * Start recording every tick to a file
+	 * Parameter: String fileName - The file name / path of the recording
+	 * Returns: boolean - Whether recording started
+	 */
+	public boolean startRecording(String fileName) {
+		if (writer != null || replay != null) {
+			Application.Log.write(LogSource.Replay, LogLevel.Warning,
+					"Cannot record while already recording or replaying");
+			return false;
+		}
+		FileChannel channel;
+		try {
+			channel = FileChannel.open(Paths.get(fileName),
+					StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+					StandardOpenOption.TRUNCATE_EXISTING);
+		} catch (IOException e) {
+			Application.Log.write(LogSource.Replay, LogLevel.Warning,
+					"Failed to open recording \"", fileName, "\"");
+			return false;
+		}
+		writer = new ReplayWriter(channel, chunkSize);
+		chunk = writer.obtain();
+		chunk.putInt(ReplayWriter.Magic);
+		chunk.putShort(ReplayWriter.Version);
+		chunk.putShort((short)0);
+		chunk.putDouble(Application.Loop.getTickRate());
+		chunk.putLong(System.currentTimeMillis());
+		this.fileName = fileName;
+		tickCount = 0L;
+		previousTime = 0L;
+		failureReported = false;
+		Application.Log.write(LogSource.Replay, LogLevel.Information,
+				"Started recording \"", fileName, "\"");
+		return true;
+	}
+	/*
+	 * Stop recording, writing the rest of the recording to its file
+	 * Returns: boolean - Whether the whole recording was written
+	 */
+	public boolean stopRecording() {
+		if (writer == null) {
+			return false;
+		}
+		ensureSpace(1);
+		chunk.put(ReplayWriter.EndRecord);
+		chunk.flip();
+		writer.submit(chunk);
+		chunk = null;
+		boolean success = writer.finish();
+		writer = null;
+		if (success) {
+			Application.Log.write(LogSource.Replay, LogLevel.Information,
+					"Recorded ", tickCount, " ticks to \"", fileName, "\"");
+		} else {
+			Application.Log.write(LogSource.Replay, LogLevel.Warning,
+					"Failed to write recording \"", fileName, "\"");
+		}
+		fileName = null;
+		return success;
+	}
+	/*
+	 * Start replaying a recording from the next tick, switching the loop to
+	 * the recording's tick rate and the input system to replayed events
+	 * Parameter: String fileName - The file name / path of the recording
+	 * Returns: boolean - Whether the recording is valid and replay started
+	 */
+	public boolean startReplay(String fileName) {
+		if (writer != null || replay != null) {
+			Application.Log.write(LogSource.Replay, LogLevel.Warning,
+					"Cannot replay while already recording or replaying");
+			return false;
+		}
+		MappedByteBuffer mapping;
+		try (FileChannel channel = FileChannel.open(Paths.get(fileName),
+				StandardOpenOption.READ)) {
+			mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0L,
+					channel.size());
+		} catch (IOException e) {
+			Application.Log.write(LogSource.Replay, LogLevel.Warning,
+					"Failed to open replay \"", fileName, "\"");
+			return false;
+		}
+		mapping.order(ByteOrder.BIG_ENDIAN);
+		if (mapping.remaining() < ReplayWriter.HeaderSize
+				|| mapping.getInt() != ReplayWriter.Magic
+				|| mapping.getShort() != ReplayWriter.Version) {
+			Application.Log.write(LogSource.Replay, LogLevel.Warning,
+					"Invalid replay \"", fileName, "\"");
+			return false;
+		}
+		mapping.getShort();
+		double tickRate = mapping.getDouble();
+		mapping.getLong();
+		if (tickRate != Application.Loop.getTickRate()
+				&& !Application.Loop.setTickRate(tickRate)) {
+			return false;
+		}
+		replay = mapping;
+		this.fileName = fileName;
+		tickCount = 0L;
+		previousTime = 0L;
+		desyncCount = 0L;
+		Application.Input.setReplaying(true);
+		Application.Log.write(LogSource.Replay, LogLevel.Information,
+				"Started replaying \"", fileName, "\"");
+		return true;
+	}
+	/*
+	 * Stop replaying and return the input system to the window's events
+	 */
+	public void stopReplay() {
+		if (replay == null) {
+			return;
+		}
+		replay = null;
+		Application.Input.setReplaying(false);
+		Application.Log.write(LogSource.Replay, LogLevel.Information,
+				"Stopped replaying \"", fileName, "\" after ", tickCount,
+				" ticks with ", desyncCount, " desynchronized snapshots");
+		fileName = null;
+	}
+	/*
+	 * Start a tick, reseeding the random number generator and reading the
+	 * tick's record while replaying - called by the loop before anything
+	 * else in the tick
+	 * Returns: boolean - Whether the tick should run, false once a replay
+	 * has ended
+	 */
+	public boolean beginTick() {
+		transitionDue = false;
+		if (replay == null) {
+			seed = seeds.nextLong();
+			random.setSeed(seed);
+			return true;
+		}
+		try {
+			byte tag = replay.hasRemaining() ? replay.get()
+					: ReplayWriter.EndRecord;
+			if (tag == ReplayWriter.EndRecord) {
+				stopReplay();
+				return false;
+			}
+			if (tag != ReplayWriter.TickRecord) {
+				throw new IllegalArgumentException();
+			}
+			transitionDue = (replay.get() & ReplayWriter.TransitionFlag) != 0;
+			seed = replay.getLong();
+			replayEventCount = getLength(replay);
+		} catch (BufferUnderflowException | IllegalArgumentException e) {
+			corrupt();
+			return false;
+		}
+		random.setSeed(seed);
+		return true;
+	}
+	/*
+	 * Record that the current tick swapped in a scene transition's scene -
+	 * called by the application when it swaps scenes
+	 */
+	public void recordTransition() {
+		if (writer != null) {
+			transitionDue = true;
+		}
+	}
+	/*
+	 * Record the input events of the current tick, or add the replayed ones
+	 * to the input system - called by the loop after the input system's
+	 * update
+	 * Returns: boolean - Whether the tick should continue, false if the
+	 * replay was corrupt
+	 */
+	public boolean updateInput() {
+		if (writer != null) {
+			int count = Application.Input.getEventCount();
+			ensureSpace(MaxTickHeaderSize);
+			chunk.put(ReplayWriter.TickRecord);
+			chunk.put(transitionDue ? ReplayWriter.TransitionFlag : 0);
+			chunk.putLong(seed);
+			putCount(chunk, count);
+			for (int i = 0; i < count; i++) {
+				ensureSpace(MaxEventSize);
+				putEvent(chunk, Application.Input.getEvent(i));
+			}
+			reportFailure();
+			return true;
+		}
+		if (replay == null) {
+			return true;
+		}
+		try {
+			for (int i = 0; i < replayEventCount; i++) {
+				int type = replay.get();
+				if (type < 0 || type >= Types.length) {
+					throw new IllegalArgumentException();
+				}
+				int code = getInt(replay);
+				int x = getInt(replay);
+				int y = getInt(replay);
+				int modifiers = getInt(replay);
+				previousTime += getLong(replay);
+				double wheel = Types[type] == InputEventType.WheelMoved
+						? replay.getDouble() : 0.0d;
+				Application.Input.inject(Types[type], code, x, y, wheel,
+						modifiers, previousTime);
+			}
+		} catch (BufferUnderflowException | IllegalArgumentException e) {
+			corrupt();
+			return false;
+		}
+		return true;
+	}
+	/*
+	 * End a tick, recording the scene's snapshot when due or comparing it
+	 * to the replay's - called by the loop after the tick's physics step
+	 * Parameter: Scene scene - The current scene
+	 */
+	public void endTick(Scene scene) {
+		if (writer == null && replay == null) {
+			return;
+		}
+		tickCount++;
+		if (writer != null) {
+			if (snapshotInterval > 0 && tickCount % snapshotInterval == 0L) {
+				byte[] snapshot = scene.getSnapshot();
+				if (snapshot != null) {
+					putSnapshot(snapshot);
+				}
+			}
+			return;
+		}
+		if (!replay.hasRemaining()
+				|| replay.get(replay.position())
+				!= ReplayWriter.SnapshotRecord) {
+			return;
+		}
+		byte[] recorded;
+		try {
+			replay.get();
+			recorded = new byte[getLength(replay)];
+			replay.get(recorded);
+		} catch (BufferUnderflowException | IllegalArgumentException e) {
+			corrupt();
+			return;
+		}
+		byte[] snapshot = scene.getSnapshot();
+		if (snapshot != null && !Arrays.equals(snapshot, recorded)) {
+			desyncCount++;
+			Application.Log.write(LogSource.Replay, LogLevel.Warning,
+					"Replay desynchronized at tick ", tickCount);
+		}
+	}
+	/*
+	 * Stop any recording or replay and free the replay system's memory
+	 */
+	public void destroy() {
+		stopRecording();
+		stopReplay();
+		seeds = null;
+	}
+	/*
+	 * Make room in the recording's chunk, submitting it for writing if full
+	 * Parameter: int size - The number of bytes needed
+	 */
+	private void ensureSpace(int size) {
+		if (chunk.remaining() < size) {
+			chunk.flip();
+			writer.submit(chunk);
+			chunk = writer.obtain();
+		}
+	}
+	/*
+	 * Encode a snapshot record, submitting it as its own chunk if it does
+	 * not fit in one
+	 * Parameter: byte[] snapshot - The scene's snapshot
+	 */
+	private void putSnapshot(byte[] snapshot) {
+		ensureSpace(6);
+		chunk.put(ReplayWriter.SnapshotRecord);
+		putCount(chunk, snapshot.length);
+		if (snapshot.length <= chunk.remaining()) {
+			chunk.put(snapshot);
+			return;
+		}
+		chunk.flip();
+		writer.submit(chunk);
+		writer.submit(ByteBuffer.wrap(snapshot.clone()));
+		chunk = writer.obtain();
+	}
+	/*
+	 * Log once if the recording cannot be written
+	 */
+	private void reportFailure() {
+		if (writer.isFailed() && !failureReported) {
+			failureReported = true;
+			Application.Log.write(LogSource.Replay, LogLevel.Warning,
+					"Failed to write recording \"", fileName, "\"");
+		}
+	}
+	/*
+	 * Stop a replay whose data is corrupt
+	 */
+	private void corrupt() {
+		Application.Log.write(LogSource.Replay, LogLevel.Warning,
+				"Corrupt replay \"", fileName, "\" at tick ", tickCount);
+		stopReplay();
+	}
+	/*
+	 * Encode an input event
+	 * Parameter: ByteBuffer buffer - The buffer to encode into
+	 * Parameter: InputEvent event - The event
+	 */
+	private void putEvent(ByteBuffer buffer, InputEvent event) {
+		buffer.put((byte)event.getType().ordinal());
+		putLong(buffer, event.getCode());
+		putLong(buffer, event.getX());
+		putLong(buffer, event.getY());
+		putLong(buffer, event.getModifiers());
+		putLong(buffer, event.getTime() - previousTime);
+		previousTime = event.getTime();
+		if (event.getType() == InputEventType.WheelMoved) {
+			buffer.putDouble(event.getWheel());
+		}
+	}
+	/*
+	 * Encode a non-negative count as a variable-length integer
+	 * Parameter: ByteBuffer buffer - The buffer to encode into
+	 * Parameter: int count - The count
+	 */
+	private static void putCount(ByteBuffer buffer, int count) {
+		while ((count & ~0x7F) != 0) {
+			buffer.put((byte)((count & 0x7F) | 0x80));
+			count >>>= 7;
+		}
+		buffer.put((byte)count);
+	}
+	/*
+	 * Encode a signed value as a zigzag variable-length integer
+	 * Parameter: ByteBuffer buffer - The buffer to encode into
+	 * Parameter: long value - The value
+	 */
+	private static void putLong(ByteBuffer buffer, long value) {
+		long bits = (value << 1) ^ (value >> 63);
+		while ((bits & ~0x7FL) != 0L) {
+			buffer.put((byte)((bits & 0x7FL) | 0x80L));
+			bits >>>= 7;
+		}
+		buffer.put((byte)bits);
+	}
+	/*
+	 * Decode a non-negative count encoded as a variable-length integer
+	 * Parameter: ByteBuffer buffer - The buffer to decode from
+	 * Returns: int - The count
+	 * Throws: IllegalArgumentException - If the count is malformed
+	 */
+	private static int getCount(ByteBuffer buffer) {
+		int count = 0;
+		for (int shift = 0; shift < 32; shift += 7) {
+			byte b = buffer.get();
+			count |= (b & 0x7F) << shift;
+			if (b >= 0) {
+				if (count < 0) {
+					break;
+				}
+				return count;
+			}
+		}
+		throw new IllegalArgumentException("Malformed count");
+	}
+	/*
+	 * Decode the number of bytes or records which follow, rejecting counts
+	 * larger than the rest of the buffer could hold so corrupt counts cannot
+	 * exhaust memory
+	 * Parameter: ByteBuffer buffer - The buffer to decode from
+	 * Returns: int - The count
+	 * Throws: IllegalArgumentException - If the count is malformed or larger
+	 * than the bytes remaining
+	 */
+	private static int getLength(ByteBuffer buffer) {
+		int count = getCount(buffer);
+		if (count > buffer.remaining()) {
+			throw new IllegalArgumentException("Count exceeds replay");
+		}
+		return count;
+	}
+	/*
+	 * Decode a signed value encoded as a zigzag variable-length integer
+	 * Parameter: ByteBuffer buffer - The buffer to decode from
+	 * Returns: long - The value
+	 * Throws: IllegalArgumentException - If the value is malformed
+	 */
+	private static long getLong(ByteBuffer buffer) {
+		long bits = 0L;
+		for (int shift = 0; shift < 64; shift += 7) {
+			byte b = buffer.get();
+			bits |= (long)(b & 0x7F) << shift;
+			if (b >= 0) {
+				return (bits >>> 1) ^ -(bits & 1L);
+			}
+		}
+		throw new IllegalArgumentException("Malformed value");
+	}
+	/*
+	 * Decode a signed 32-bit value encoded as a zigzag variable-length
+	 * integer
+	 * Parameter: ByteBuffer buffer - The buffer to decode from
+	 * Returns: int - The value
+	 * Throws: IllegalArgumentException - If the value is malformed
+	 */
+	private static int getInt(ByteBuffer buffer) {
+		long value = getLong(buffer);
+		if (value != (int)value) {
+			throw new IllegalArgumentException("Malformed value");
+		}
+		return (int)value;
+	}
+	
+	/*
+	 * Get the random number generator scenes draw from - reseeded at the
+	 * start of every tick with a seed that is recorded and replayed
+	 * Returns: Random - The random number generator, for the loop thread
+	 */
+	public Random getRandom() {
+		return random;
+	}
+	/*
+	 * Get the seed the random number generator was given this tick
+	 * Returns: long - The seed
+	 */
+	public long getSeed() {
+		return seed;
+	}
+	/*
+	 * Test whether the current tick must swap in the scene transition in
+	 * progress to match the replay
+	 * Returns: boolean - Whether a transition is due
+	 */
+	public boolean isTransitionDue() {
+		return replay != null && transitionDue;
+	}
+	/*
+	 * Test whether ticks are being recorded
+	 * Returns: boolean - Whether recording
+	 */
+	public boolean isRecording() {
+		return writer != null;
+	}
+	/*
+	 * Test whether a recording is being replayed
+	 * Returns: boolean - Whether replaying
+	 */
+	public boolean isReplaying() {
+		return replay != null;
+	}
+	/*
+	 * Get the number of ticks recorded or replayed so far
+	 * Returns: long - The tick count
+	 */
+	public long getTickCount() {
+		return tickCount;
+	}
+	/*
+	 * Get the number of snapshots which did not match the replay
+	 * Returns: long - The number of desynchronized snapshots
+	 */
+	public long getDesyncCount() {
+		return desyncCount;
+	}
+	
+}
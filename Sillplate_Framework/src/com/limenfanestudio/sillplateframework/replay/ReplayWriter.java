@@ -0,0 +1,175 @@
+/*
+ * File:		ReplayWriter.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Writes a replay's encoded chunks to its file on a background
+ * 				thread
+ */
+
+package com.limenfanestudio.sillplateframework.replay;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+// Background writer for a replay file - the loop thread encodes ticks into
+// chunks and submits them, and the writer thread writes them in order and
+// hands the chunks back for reuse. Submitting blocks only when the writer
+// has fallen a whole queue of chunks behind.
+//
+// Format, big-endian: a header of the magic number (int), format version
+// (short), reserved (short), tick rate (double) and start time in
+// milliseconds since the epoch (long), then records each starting with a
+// tag byte. A tick record holds flags (byte), the tick's random seed (long)
+// and its input events as a count then each event's type ordinal (byte),
+// and as zigzag variable-length integers its code, x, y, modifiers and time
+// since the previous event, plus the rotation (double) of wheel events. A
+// snapshot record holds a length and the scene's snapshot of the tick
+// before it. The end record ends the stream
+class ReplayWriter {
+	
+	// Identifies the start of a replay file
+	static final int Magic = 0x53505250;
+	// Version of the replay file format
+	static final short Version = 1;
+	// Size in bytes of the header at the start of a replay file
+	static final int HeaderSize = 24;
+	// Tag of the record ending the stream
+	static final byte EndRecord = 0;
+	// Tag of a tick record
+	static final byte TickRecord = 1;
+	// Tag of a snapshot record
+	static final byte SnapshotRecord = 2;
+	// Tick flag set when the scene transition in progress was swapped in
+	static final byte TransitionFlag = 1;
+	// Maximum number of submitted chunks waiting to be written
+	private static final int QueueSize = 64;
+	
+	// The file written to
+	private final FileChannel channel;
+	// The size in bytes of pooled chunks
+	private final int chunkSize;
+	// The chunks waiting to be written, in order
+	private final BlockingQueue<ByteBuffer> pending =
+			new LinkedBlockingQueue<ByteBuffer>(QueueSize);
+	// Written chunks free for reuse
+	private final ConcurrentLinkedQueue<ByteBuffer> free =
+			new ConcurrentLinkedQueue<ByteBuffer>();
+	// Submitted to stop the writer thread after the chunks before it
+	private final ByteBuffer finish = ByteBuffer.allocate(0);
+	// The thread writing chunks
+	private final Thread thread;
+	// Whether writing to the file failed
+	private volatile boolean failed = false;
+	
+	/*
+	 * Construct a writer and start its thread
+	 * Parameter: FileChannel channel - The open file to write to
+	 * Parameter: int chunkSize - The size in bytes of pooled chunks
+	 */
+	ReplayWriter(FileChannel channel, int chunkSize) {
+		this.channel = channel;
+		this.chunkSize = chunkSize;
+		thread = new Thread(new Runnable() {
+			public void run() {
+				write();
+			}
+		}, "Sillplate Replay Writer");
+		thread.setDaemon(true);
+		thread.start();
+	}
+	
+	/*
+	 * Get an empty chunk to encode into - loop thread only
+	 * Returns: ByteBuffer - The chunk, cleared
+	 */
+	ByteBuffer obtain() {
+		ByteBuffer chunk = free.poll();
+		if (chunk == null) {
+			return ByteBuffer.allocate(chunkSize);
+		}
+		chunk.clear();
+		return chunk;
+	}
+	/*
+	 * Queue an encoded chunk to be written after those already submitted -
+	 * loop thread only
+	 * Parameter: ByteBuffer chunk - The chunk, flipped for reading
+	 */
+	void submit(ByteBuffer chunk) {
+		boolean interrupted = false;
+		while (true) {
+			try {
+				pending.put(chunk);
+				break;
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+	/*
+	 * Write every submitted chunk, stop the writer thread and close the file
+	 * Returns: boolean - Whether every chunk was written
+	 */
+	boolean finish() {
+		submit(finish);
+		boolean interrupted = false;
+		while (thread.isAlive()) {
+			try {
+				thread.join();
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+		try {
+			channel.close();
+		} catch (IOException e) {
+			failed = true;
+		}
+		return !failed;
+	}
+	/*
+	 * Write chunks in order until the finishing chunk - writer thread only
+	 */
+	private void write() {
+		while (true) {
+			ByteBuffer chunk;
+			try {
+				chunk = pending.take();
+			} catch (InterruptedException e) {
+				continue;
+			}
+			if (chunk == finish) {
+				return;
+			}
+			try {
+				while (!failed && chunk.hasRemaining()) {
+					channel.write(chunk);
+				}
+			} catch (IOException e) {
+				failed = true;
+			}
+			if (chunk.capacity() == chunkSize) {
+				free.offer(chunk);
+			}
+		}
+	}
+	
+	/*
+	 * Test whether writing to the file failed
+	 * Returns: boolean - Whether a write failed
+	 */
+	boolean isFailed() {
+		return failed;
+	}
+	
+}
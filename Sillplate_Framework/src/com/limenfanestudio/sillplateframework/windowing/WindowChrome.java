@@ -0,0 +1,361 @@
+/*
+ * File:		WindowChrome.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Defines the panel holding the window's canvas which draws the
+ * 				window's title bar and borders in windowed mode
+ */
+
+package com.limenfanestudio.sillplateframework.windowing;
+
+import java.awt.BorderLayout;
+import java.awt.Canvas;
+import java.awt.Color;
+import java.awt.Cursor;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Frame;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Insets;
+import java.awt.Panel;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.WindowEvent;
+
+// Panel filling the window's frame and holding its canvas, drawing the
+// title bar and borders itself so the frame can stay undecorated for its
+// whole life - switching to fullscreen only hides them, so the frame is
+// never disposed and the canvas keeps its native peer and buffer strategy.
+// The title bar moves the window when dragged and has minimize and close
+// buttons, and the borders resize the window when it is resizable
+class WindowChrome extends Panel {
+	
+	private static final long serialVersionUID = 1L;
+	
+	// The height of the title bar in pixels
+	private static final int TitleHeight = 24;
+	// The width of the borders in pixels
+	private static final int BorderSize = 4;
+	// The width of each title bar button in pixels
+	private static final int ButtonWidth = 40;
+	// The smallest width or height the user can resize the canvas to
+	private static final int MinimumSize = 64;
+	// Edge flag of the left border
+	private static final int Left = 1;
+	// Edge flag of the right border
+	private static final int Right = 2;
+	// Edge flag of the top border
+	private static final int Top = 4;
+	// Edge flag of the bottom border
+	private static final int Bottom = 8;
+	// Flag of the title bar, which moves the window
+	private static final int Move = 16;
+	// No title bar button
+	private static final int NoButton = 0;
+	// The title bar's minimize button
+	private static final int MinimizeButton = 1;
+	// The title bar's close button
+	private static final int CloseButton = 2;
+	// The colour of the title bar and borders
+	private static final Color ChromeColor = new Color(0x2B2B2B);
+	// The colour of the title and button symbols
+	private static final Color TextColor = new Color(0xE0E0E0);
+	// The colour of a title bar button under the mouse
+	private static final Color HoverColor = new Color(0x454545);
+	// The colour of the close button under the mouse
+	private static final Color CloseHoverColor = new Color(0xC42B1C);
+	// The font of the title
+	private static final Font TitleFont = new Font(Font.DIALOG, Font.PLAIN,
+			12);
+	
+	// The frame this panel fills
+	private final Frame frame;
+	// The title drawn in the title bar, set by the loop thread and drawn on
+	// the event dispatch thread
+	private volatile String title = "";
+	// Whether the title bar and borders are shown
+	private volatile boolean windowed = true;
+	// Whether dragging the borders resizes the window
+	private volatile boolean resizable = false;
+	// The title bar button under the mouse
+	private int hoverButton = NoButton;
+	// The title bar button pressed by the mouse
+	private int pressedButton = NoButton;
+	// The edge flags of the border or title bar being dragged or 0
+	private int dragEdges = 0;
+	// The horizontal screen position of the mouse when the drag began
+	private int pressX = 0;
+	// The vertical screen position of the mouse when the drag began
+	private int pressY = 0;
+	// The bounds of the frame when the drag began
+	private Rectangle pressBounds = null;
+	
+	/*
+	 * Construct the chrome of a frame around a canvas
+	 * Parameter: Frame frame - The undecorated frame the chrome fills
+	 * Parameter: Canvas canvas - The canvas displaying graphics in the window
+	 */
+	WindowChrome(Frame frame, Canvas canvas) {
+		super(new BorderLayout());
+		this.frame = frame;
+		setBackground(ChromeColor);
+		add(canvas, BorderLayout.CENTER);
+		MouseAdapter listener = new MouseAdapter() {
+			public void mousePressed(MouseEvent e) {
+				pressedButton = getButton(e.getX(), e.getY());
+				if (pressedButton != NoButton) {
+					return;
+				}
+				dragEdges = getEdges(e.getX(), e.getY());
+				pressX = e.getXOnScreen();
+				pressY = e.getYOnScreen();
+				pressBounds = WindowChrome.this.frame.getBounds();
+			}
+			public void mouseReleased(MouseEvent e) {
+				int button = getButton(e.getX(), e.getY());
+				if (button != NoButton && button == pressedButton) {
+					press(button);
+				}
+				pressedButton = NoButton;
+				dragEdges = 0;
+			}
+			public void mouseDragged(MouseEvent e) {
+				drag(e.getXOnScreen() - pressX, e.getYOnScreen() - pressY);
+			}
+			public void mouseMoved(MouseEvent e) {
+				setCursor(getEdgeCursor(getEdges(e.getX(), e.getY())));
+				setHoverButton(getButton(e.getX(), e.getY()));
+			}
+			public void mouseExited(MouseEvent e) {
+				setHoverButton(NoButton);
+			}
+		};
+		addMouseListener(listener);
+		addMouseMotionListener(listener);
+	}
+	/*
+	 * Get the space around the canvas taken by the title bar and borders
+	 * Returns: Insets - The insets, empty when not windowed
+	 */
+	@Override
+	public Insets getInsets() {
+		if (!windowed) {
+			return new Insets(0, 0, 0, 0);
+		}
+		return new Insets(BorderSize + TitleHeight, BorderSize, BorderSize,
+				BorderSize);
+	}
+	/*
+	 * Draw the title bar, its buttons and the borders
+	 * Parameter: Graphics graphics - The graphics context of the panel
+	 */
+	@Override
+	public void paint(Graphics graphics) {
+		if (!windowed) {
+			return;
+		}
+		Graphics2D g = (Graphics2D)graphics;
+		g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING,
+				RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+		g.setColor(ChromeColor);
+		g.fillRect(0, 0, getWidth(), getHeight());
+		int closeX = getWidth() - BorderSize - ButtonWidth;
+		int minimizeX = closeX - ButtonWidth;
+		if (hoverButton != NoButton) {
+			g.setColor(hoverButton == CloseButton ? CloseHoverColor
+					: HoverColor);
+			g.fillRect(hoverButton == CloseButton ? closeX : minimizeX,
+					BorderSize, ButtonWidth, TitleHeight);
+		}
+		g.setColor(TextColor);
+		int centerY = BorderSize + TitleHeight / 2;
+		g.drawLine(minimizeX + 15, centerY, minimizeX + 25, centerY);
+		g.drawLine(closeX + 15, centerY - 5, closeX + 25, centerY + 5);
+		g.drawLine(closeX + 15, centerY + 5, closeX + 25, centerY - 5);
+		g.setFont(TitleFont);
+		FontMetrics metrics = g.getFontMetrics();
+		g.clipRect(BorderSize, BorderSize, Math.max(0, minimizeX - 2
+				* BorderSize), TitleHeight);
+		g.drawString(title, BorderSize + 8, centerY + (metrics.getAscent()
+				- metrics.getDescent()) / 2);
+	}
+	/*
+	 * Show or hide the title bar and borders, laying the canvas out again
+	 * Parameter: boolean windowed - Whether the title bar and borders are
+	 * shown
+	 */
+	void setWindowed(boolean windowed) {
+		this.windowed = windowed;
+		dragEdges = 0;
+		setHoverButton(NoButton);
+		setCursor(Cursor.getDefaultCursor());
+		invalidate();
+		repaint();
+	}
+	/*
+	 * Set the title drawn in the title bar
+	 * Parameter: String title - The title
+	 */
+	void setTitle(String title) {
+		this.title = title == null ? "" : title;
+		repaint();
+	}
+	/*
+	 * Set whether dragging the borders resizes the window
+	 * Parameter: boolean resizable - Whether the window is resizable
+	 */
+	void setResizable(boolean resizable) {
+		this.resizable = resizable;
+	}
+	/*
+	 * Move or resize the frame by a drag from where it began
+	 * Parameter: int dx - The horizontal distance dragged in pixels
+	 * Parameter: int dy - The vertical distance dragged in pixels
+	 */
+	private void drag(int dx, int dy) {
+		if (dragEdges == 0 || pressBounds == null) {
+			return;
+		}
+		if (dragEdges == Move) {
+			frame.setLocation(pressBounds.x + dx, pressBounds.y + dy);
+			return;
+		}
+		Insets insets = getInsets();
+		int minimumWidth = MinimumSize + insets.left + insets.right;
+		int minimumHeight = MinimumSize + insets.top + insets.bottom;
+		int x = pressBounds.x;
+		int y = pressBounds.y;
+		int width = pressBounds.width;
+		int height = pressBounds.height;
+		if ((dragEdges & Left) != 0) {
+			dx = Math.min(dx, width - minimumWidth);
+			x += dx;
+			width -= dx;
+		} else if ((dragEdges & Right) != 0) {
+			width = Math.max(minimumWidth, width + dx);
+		}
+		if ((dragEdges & Top) != 0) {
+			dy = Math.min(dy, height - minimumHeight);
+			y += dy;
+			height -= dy;
+		} else if ((dragEdges & Bottom) != 0) {
+			height = Math.max(minimumHeight, height + dy);
+		}
+		frame.setBounds(x, y, width, height);
+		frame.validate();
+	}
+	/*
+	 * Act on a click of a title bar button
+	 * Parameter: int button - The button clicked
+	 */
+	private void press(int button) {
+		if (button == MinimizeButton) {
+			frame.setExtendedState(frame.getExtendedState()
+					| Frame.ICONIFIED);
+		} else if (button == CloseButton) {
+			// Reported as if the system's own close button was clicked
+			frame.dispatchEvent(new WindowEvent(frame,
+					WindowEvent.WINDOW_CLOSING));
+		}
+	}
+	/*
+	 * Set the title bar button under the mouse, redrawing it if it changed
+	 * Parameter: int button - The button under the mouse
+	 */
+	private void setHoverButton(int button) {
+		if (hoverButton != button) {
+			hoverButton = button;
+			repaint(0, 0, getWidth(), BorderSize + TitleHeight);
+		}
+	}
+	/*
+	 * Find the title bar button at a position on the panel
+	 * Parameter: int x - The horizontal position in pixels
+	 * Parameter: int y - The vertical position in pixels
+	 * Returns: int - The button or NoButton
+	 */
+	private int getButton(int x, int y) {
+		if (!windowed || y < BorderSize || y >= BorderSize + TitleHeight) {
+			return NoButton;
+		}
+		int closeX = getWidth() - BorderSize - ButtonWidth;
+		if (x >= closeX && x < closeX + ButtonWidth) {
+			return CloseButton;
+		}
+		if (x >= closeX - ButtonWidth && x < closeX) {
+			return MinimizeButton;
+		}
+		return NoButton;
+	}
+	/*
+	 * Find the borders or title bar at a position on the panel
+	 * Parameter: int x - The horizontal position in pixels
+	 * Parameter: int y - The vertical position in pixels
+	 * Returns: int - The edge flags of the borders there, Move for the title
+	 * bar or 0
+	 */
+	private int getEdges(int x, int y) {
+		if (!windowed) {
+			return 0;
+		}
+		int edges = 0;
+		if (resizable) {
+			if (x < BorderSize) {
+				edges |= Left;
+			} else if (x >= getWidth() - BorderSize) {
+				edges |= Right;
+			}
+			if (y < BorderSize) {
+				edges |= Top;
+			} else if (y >= getHeight() - BorderSize) {
+				edges |= Bottom;
+			}
+		}
+		if (edges == 0 && y < BorderSize + TitleHeight
+				&& getButton(x, y) == NoButton) {
+			edges = Move;
+		}
+		return edges;
+	}
+	/*
+	 * Get the mouse cursor for dragging borders
+	 * Parameter: int edges - The edge flags of the borders
+	 * Returns: Cursor - The resize cursor or the default cursor
+	 */
+	private static Cursor getEdgeCursor(int edges) {
+		int type;
+		switch (edges) {
+		case Left | Top:
+			type = Cursor.NW_RESIZE_CURSOR;
+			break;
+		case Right | Top:
+			type = Cursor.NE_RESIZE_CURSOR;
+			break;
+		case Left | Bottom:
+			type = Cursor.SW_RESIZE_CURSOR;
+			break;
+		case Right | Bottom:
+			type = Cursor.SE_RESIZE_CURSOR;
+			break;
+		case Left:
+			type = Cursor.W_RESIZE_CURSOR;
+			break;
+		case Right:
+			type = Cursor.E_RESIZE_CURSOR;
+			break;
+		case Top:
+			type = Cursor.N_RESIZE_CURSOR;
+			break;
+		case Bottom:
+			type = Cursor.S_RESIZE_CURSOR;
+			break;
+		default:
+			type = Cursor.DEFAULT_CURSOR;
+		}
+		return Cursor.getPredefinedCursor(type);
+	}
+	
+}
@@ -10,13 +10,18 @@ package com.limenfanestudio.sillplateframework.windowing;
 
 import java.awt.Canvas;
 import java.awt.Dimension;
+import java.awt.DisplayMode;
 import java.awt.Frame;
 import java.awt.GraphicsDevice;
 import java.awt.GraphicsEnvironment;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleSupplier;
 
 import com.limenfanestudio.sillplateframework.application.Application;
 import com.limenfanestudio.sillplateframework.application
@@ -24,6 +29,8 @@ import com.limenfanestudio.sillplateframework.application
 import com.limenfanestudio.sillplateframework.data.Vector2D;
 import com.limenfanestudio.sillplateframework.logging.LogLevel;
 import com.limenfanestudio.sillplateframework.logging.LogSource;
+import com.limenfanestudio.sillplateframework.metrics.MetricCounter;
+import com.limenfanestudio.sillplateframework.metrics.MetricsManager;
 
 // The main class of the Sillplate Framework's windowing system
 public class WindowManager {
@@ -32,6 +39,9 @@ public class WindowManager {
 	private Frame frame = null;
 	// Canvas for displaying graphics in the window handle
 	private Canvas canvas = null;
+	// Panel holding the canvas and drawing the window's title bar and
+	// borders in windowed mode
+	private WindowChrome chrome = null;
 	// Whether the window has requested to close
 	private boolean closing = false;
 	// The current title of the window
@@ -39,9 +49,38 @@ public class WindowManager {
 	// The dimensions of the window when in windowed mode
 	private Vector2D dimensions = null;
 	// Whether the window is currently in fullscreen mode
-	private boolean fullscreen = false;
+	private volatile boolean fullscreen = false;
 	// The index of the monitor the window appears on when in fullscreen mode
 	private int monitorIndex = 0;
+	// Whether fullscreen mode should take exclusive control of the monitor
+	// where supported
+	private boolean exclusiveFullscreen = false;
+	// The resolution to switch the monitor to in exclusive fullscreen mode or
+	// null to keep the monitor's current resolution
+	private Vector2D fullscreenDimensions = null;
+	// The monitor the window currently covers or null if in windowed mode
+	private GraphicsDevice fullscreenDevice = null;
+	// Whether the window currently has exclusive control of its monitor
+	private boolean exclusive = false;
+	// The monitor's display mode from before it was switched to the
+	// fullscreen resolution or null if it was not switched
+	private DisplayMode desktopMode = null;
+	// Whether the user can resize the window when in windowed mode
+	private volatile boolean resizable = false;
+	// The time in nanoseconds a user's resize must be still for to settle
+	private long resizeSettleTime = 0L;
+	// The time in nanoseconds of the last unsettled resize by the user or 0
+	// if the window's size has settled
+	private final AtomicLong resizeTime = new AtomicLong(0L);
+	// The canvas size last requested by setDimensions, whose resize is not
+	// the user's
+	private volatile Dimension requestedSize = null;
+	// Counter of switches between windowed and fullscreen mode or null if no
+	// metrics are attached
+	private MetricCounter modeChanges = null;
+	// Counter of settled resizes by the user or null if no metrics are
+	// attached
+	private MetricCounter resizes = null;
 	
 	/*
 	 * Open the Sillplate Framework application's window and set its parameters
@@ -53,41 +92,228 @@ public class WindowManager {
 	public boolean initialize(
 			ApplicationConfiguration.WindowConfiguration configuration) {
 		canvas = new Canvas();
+		exclusiveFullscreen = configuration.exclusiveFullscreen;
+		fullscreenDimensions = configuration.fullscreenDimensions;
+		resizable = configuration.resizable;
+		resizeSettleTime = Math.max(0L, configuration.resizeSettleTime)
+				* 1000000L;
 		createFrame();
 		setTitle(configuration.title);
 		setDimensions(configuration.dimensions);
 		setMonitorIndex(configuration.monitorIndex);
 		setFullscreen(configuration.fullscreen);
+		frame.setVisible(true);
 		Application.Log.write(LogSource.Window, LogLevel.Information, "Opened ",
 				"window");
 		return true;
 	}
+	/*
+	 * Report the windowing system's metrics to the metrics system - the size
+	 * of the canvas, the number of switches between windowed and fullscreen
+	 * mode and the number of settled resizes
+	 * Parameter: MetricsManager metrics - The metrics system
+	 */
+	public void attachMetrics(MetricsManager metrics) {
+		modeChanges = metrics.getCounter("window.mode.changes");
+		resizes = metrics.getCounter("window.resizes");
+		metrics.getGauge("window.width", new DoubleSupplier() {
+			public double getAsDouble() {
+				Canvas canvas = WindowManager.this.canvas;
+				return canvas == null ? 0.0d : canvas.getWidth();
+			}
+		});
+		metrics.getGauge("window.height", new DoubleSupplier() {
+			public double getAsDouble() {
+				Canvas canvas = WindowManager.this.canvas;
+				return canvas == null ? 0.0d : canvas.getHeight();
+			}
+		});
+	}
 	/*
 	 * Close the Sillplate Framework application's window and free its memory
 	 */
 	public void destroy() {
+		if (fullscreen) {
+			exitFullscreen();
+		}
 		frame.dispose();
 		frame = null;
+		chrome = null;
 		canvas = null;
 		closing = false;
 		fullscreen = false;
 		monitorIndex = 0;
+		requestedSize = null;
+		resizeTime.set(0L);
+	}
+	/*
+	 * Test whether the user is resizing the window - rendering is paused until
+	 * the size has been still for the settle time, so the canvas's back
+	 * buffers are rebuilt once at the final size rather than on every frame of
+	 * the resize
+	 * Returns: boolean - Whether a resize by the user has not yet settled
+	 */
+	public boolean isResizing() {
+		long time = resizeTime.get();
+		if (time == 0L) {
+			return false;
+		}
+		if (System.nanoTime() - time < resizeSettleTime) {
+			return true;
+		}
+		if (resizeTime.compareAndSet(time, 0L)) {
+			if (resizes != null) {
+				resizes.increment();
+			}
+			Application.Log.write(LogSource.Window, LogLevel.Information,
+					"Resized window to (", canvas.getWidth(), ", ",
+					canvas.getHeight(), ")");
+		}
+		return false;
 	}
 	/*
-	 * Create a new AWT frame, add the canvas to it, and set basic parameters
+	 * Create the AWT frame, add the canvas to it, and set basic parameters -
+	 * the frame is undecorated, with its title bar and borders drawn by the
+	 * chrome, so the frame and canvas are kept for the life of the window and
+	 * mode and monitor changes keep their native peers and buffer strategy
 	 */
 	private void createFrame() {
 		frame = new Frame();
+		frame.setUndecorated(true);
+		chrome = new WindowChrome(frame, canvas);
+		chrome.setResizable(resizable);
 		setTitle(title);
-		frame.setResizable(false);
-		frame.add(canvas);
+		frame.setResizable(resizable);
+		frame.add(chrome);
 		frame.addWindowListener(new WindowAdapter() {
 			public void windowClosing(WindowEvent e) {
 				closing = true;
 			}
 		});
+		canvas.addComponentListener(new ComponentAdapter() {
+			public void componentResized(ComponentEvent e) {
+				Dimension requested = requestedSize;
+				if (!resizable || fullscreen || (requested != null
+						&& canvas.getWidth() == requested.width
+						&& canvas.getHeight() == requested.height)) {
+					return;
+				}
+				resizeTime.set(System.nanoTime());
+			}
+		});
+	}
+	/*
+	 * Cover a monitor with the window, taking exclusive control of it and
+	 * switching its resolution where supported, otherwise sizing the frame to
+	 * the whole monitor - either way the chrome's title bar and borders are
+	 * hidden so the canvas fills the monitor
+	 * Parameter: GraphicsDevice device - The monitor to cover
+	 */
+	private void enterFullscreen(GraphicsDevice device) {
+		fullscreen = true;
+		fullscreenDevice = device;
+		chrome.setWindowed(false);
+		if (exclusiveFullscreen && device.isFullScreenSupported()) {
+			device.setFullScreenWindow(frame);
+			exclusive = true;
+			setDisplayMode(device);
+			frame.validate();
+			return;
+		}
+		frame.setBounds(device.getDefaultConfiguration().getBounds());
+		frame.validate();
+		frame.toFront();
+	}
+	/*
+	 * Release the monitor covered by the window, restoring its resolution
+	 */
+	private void exitFullscreen() {
+		if (exclusive) {
+			if (desktopMode != null) {
+				try {
+					fullscreenDevice.setDisplayMode(desktopMode);
+				} catch (IllegalArgumentException
+						| UnsupportedOperationException e) {
+					Application.Log.write(LogSource.Window, LogLevel.Warning,
+							"Failed to restore monitor resolution: ",
+							e.getMessage());
+				}
+				desktopMode = null;
+			}
+			fullscreenDevice.setFullScreenWindow(null);
+			exclusive = false;
+		}
+		fullscreenDevice = null;
+	}
+	/*
+	 * Switch a monitor the window has exclusive control of to the fullscreen
+	 * resolution, choosing the display mode with the monitor's bit depth and
+	 * the highest refresh rate
+	 * Parameter: GraphicsDevice device - The monitor to switch
+	 */
+	private void setDisplayMode(GraphicsDevice device) {
+		DisplayMode current = device.getDisplayMode();
+		if (fullscreenDimensions == null || current == null) {
+			return;
+		}
+		int width = (int)fullscreenDimensions.x;
+		int height = (int)fullscreenDimensions.y;
+		if (current.getWidth() == width && current.getHeight() == height) {
+			return;
+		}
+		if (!device.isDisplayChangeSupported()) {
+			Application.Log.write(LogSource.Window, LogLevel.Warning,
+					"Monitor ", monitorIndex, " cannot change resolution");
+			return;
+		}
+		DisplayMode best = null;
+		for (DisplayMode mode : device.getDisplayModes()) {
+			if (mode.getWidth() != width || mode.getHeight() != height) {
+				continue;
+			}
+			if (mode.getBitDepth() != current.getBitDepth()
+					&& mode.getBitDepth() != DisplayMode.BIT_DEPTH_MULTI
+					&& current.getBitDepth() != DisplayMode.BIT_DEPTH_MULTI) {
+				continue;
+			}
+			if (best == null || mode.getRefreshRate() > best.getRefreshRate()) {
+				best = mode;
+			}
+		}
+		if (best == null) {
+			Application.Log.write(LogSource.Window, LogLevel.Warning,
+					"Monitor ", monitorIndex, " has no resolution (", width,
+					", ", height, ")");
+			return;
+		}
+		try {
+			device.setDisplayMode(best);
+			desktopMode = current;
+			Application.Log.write(LogSource.Window, LogLevel.Information,
+					"Set monitor ", monitorIndex, " resolution (", width, ", ",
+					height, ") at ", best.getRefreshRate(), " Hz");
+		} catch (IllegalArgumentException | UnsupportedOperationException e) {
+			Application.Log.write(LogSource.Window, LogLevel.Warning,
+					"Failed to set monitor resolution: ", e.getMessage());
+		}
+	}
+	/*
+	 * Get a monitor by its index
+	 * Parameter: int monitorIndex - The monitor index
+	 * Returns: GraphicsDevice - The monitor
+	 */
+	private static GraphicsDevice getDevice(int monitorIndex) {
+		return GraphicsEnvironment.getLocalGraphicsEnvironment()
+				.getScreenDevices()[monitorIndex];
 	}
 	
+	/*
+	 * Get the canvas displaying graphics in the window
+	 * Returns: Canvas - The window's canvas
+	 */
+	public Canvas getCanvas() {
+		return canvas;
+	}
 	/*
 	 * Test whether the window has requested to close
 	 * Returns: boolean - Whether the window has requested to close
@@ -108,6 +334,7 @@ public class WindowManager {
 	 */
 	public void setTitle(String title) {
 		frame.setTitle(title);
+		chrome.setTitle(title);
 		this.title = title;
 		Application.Log.write(LogSource.Window, LogLevel.Information, "Set ",
 				"window title \"", title, "\"");
@@ -133,8 +360,9 @@ public class WindowManager {
 					"is currently in fullscreen mode");
 			return;
 		}
-		canvas.setPreferredSize(new Dimension((int)dimensions.x,
-				(int)dimensions.y));
+		Dimension size = new Dimension((int)dimensions.x, (int)dimensions.y);
+		requestedSize = size;
+		canvas.setPreferredSize(size);
 		frame.pack();
 		frame.setLocationRelativeTo(null);
 	}
@@ -151,34 +379,65 @@ public class WindowManager {
 	 * fullscreen mode
 	 */
 	public void setFullscreen(boolean fullscreen) {
-		Vector2D windowedDimensions = getDimensions();
-		if (this.fullscreen != fullscreen) {
-			frame.dispose();
-			createFrame();
-		} else {
+		if (this.fullscreen == fullscreen) {
 			return;
 		}
+		if (modeChanges != null) {
+			modeChanges.increment();
+		}
 		if (fullscreen) {
-			GraphicsDevice device = GraphicsEnvironment
-					.getLocalGraphicsEnvironment()
-					.getScreenDevices()[monitorIndex];
-			int w = device.getDisplayMode().getWidth();
-			int h = device.getDisplayMode().getHeight();
-			frame.setUndecorated(true);
-			setDimensions(new Vector2D((double)w, (double)h));
-			dimensions = windowedDimensions;
-			frame.setLocation(device.getDefaultConfiguration().getBounds().x,
-					device.getDefaultConfiguration().getBounds().y);
-			this.fullscreen = true;
+			if (canvas.getWidth() > 0 && canvas.getHeight() > 0) {
+				dimensions = getDimensions();
+			}
+			enterFullscreen(getDevice(monitorIndex));
 			Application.Log.write(LogSource.Window, LogLevel.Information,
-					"Set window to fullscreen mode");
+					"Set window to ", exclusive ? "exclusive " : "borderless ",
+					"fullscreen mode");
 		} else {
+			exitFullscreen();
 			this.fullscreen = false;
+			chrome.setWindowed(true);
 			setDimensions(dimensions);
 			Application.Log.write(LogSource.Window, LogLevel.Information,
 					"Set window to windowed mode");
 		}
-		frame.setVisible(true);
+	}
+	/*
+	 * Get the resolution the monitor is switched to in exclusive fullscreen
+	 * mode
+	 * Returns: Vector2D - The fullscreen resolution or null if the monitor's
+	 * current resolution is kept
+	 */
+	public Vector2D getFullscreenDimensions() {
+		return fullscreenDimensions;
+	}
+	/*
+	 * Set the resolution to switch the monitor to in exclusive fullscreen
+	 * mode, applied the next time the window enters fullscreen mode
+	 * Parameter: Vector2D fullscreenDimensions - The fullscreen resolution or
+	 * null to keep the monitor's current resolution
+	 */
+	public void setFullscreenDimensions(Vector2D fullscreenDimensions) {
+		this.fullscreenDimensions = fullscreenDimensions;
+	}
+	/*
+	 * Test whether the user can resize the window when in windowed mode
+	 * Returns: boolean - Whether the window is resizable
+	 */
+	public boolean isResizable() {
+		return resizable;
+	}
+	/*
+	 * Set whether the user can resize the window when in windowed mode
+	 * Parameter: boolean resizable - Whether the window should be resizable
+	 */
+	public void setResizable(boolean resizable) {
+		this.resizable = resizable;
+		frame.setResizable(resizable);
+		chrome.setResizable(resizable);
+		if (!resizable) {
+			resizeTime.set(0L);
+		}
 	}
 	/*
 	 * Get the set of available monitors for the window, their index numbers and
@@ -217,8 +476,8 @@ public class WindowManager {
 		}
 		this.monitorIndex = monitorIndex;
 		if (fullscreen) {
-			setFullscreen(false);
-			setFullscreen(true);
+			exitFullscreen();
+			enterFullscreen(getDevice(monitorIndex));
 		}
 		Application.Log.write(LogSource.Window, LogLevel.Information, "Set ",
 				"fullscreen monitor index ", monitorIndex);
@@ -0,0 +1,88 @@
+/*
+ * File:		LooseQuadtreeTest.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Tests the loose quadtree against brute force and with boxes
+ * 				outside its bounds
+ */
+
+package com.limenfanestudio.sillplateframework.data.spatial;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+// Tests of LooseQuadtree, using the brute force checks of
+// SpatialHashGridTest - some of the random boxes fall outside the tree's
+// bounds and are kept in the root
+class LooseQuadtreeTest {
+	
+	/*
+	 * Test that box, radius and ray queries find exactly the objects brute
+	 * force finds, with objects of mixed sizes and after moving and removing
+	 * some of them
+	 */
+	@Test
+	void matchesBruteForce() {
+		Random random = new Random(17L);
+		LooseQuadtree tree = new LooseQuadtree(-150.0d, -150.0d, 300.0d, 8,
+				16);
+		int count = 3000;
+		int[] ids = new int[count];
+		for (int i = 0; i < count; i++) {
+			double[] box = SpatialHashGridTest.randomBox(random);
+			ids[i] = tree.insert(box[0], box[1], box[2], box[3]);
+		}
+		SpatialHashGridTest.checkQueries(tree, random);
+		for (int i = 0; i < count; i += 3) {
+			double[] box = SpatialHashGridTest.randomBox(random);
+			assertTrue(tree.update(ids[i], box[0], box[1], box[2], box[3]));
+		}
+		for (int i = 1; i < count; i += 5) {
+			assertTrue(tree.remove(ids[i]));
+		}
+		SpatialHashGridTest.checkQueries(tree, random);
+	}
+	/*
+	 * Test that huge and extreme boxes, inside and far outside the tree's
+	 * bounds, are found by queries of every size
+	 */
+	@Test
+	void extremeBoxes() {
+		final LooseQuadtree tree = new LooseQuadtree(0.0d, 0.0d, 1024.0d,
+				LooseQuadtree.MaxDepth, 16);
+		assertTimeoutPreemptively(Duration.ofSeconds(2L), new Executable() {
+			public void execute() {
+				int far = tree.insert(1.0e300d, 1.0e300d, 1.0e300d,
+						1.0e300d);
+				int everywhere = tree.insert(-Double.MAX_VALUE,
+						-Double.MAX_VALUE, Double.MAX_VALUE, Double.MAX_VALUE);
+				int small = tree.insert(10.0d, 10.0d, 10.5d, 10.5d);
+				assertTrue(far >= 0 && everywhere >= 0 && small >= 0);
+				assertEquals(3, tree.queryBox(-Double.MAX_VALUE,
+						-Double.MAX_VALUE, Double.MAX_VALUE, Double.MAX_VALUE,
+						new SpatialHashGridTest.Collector()));
+				assertEquals(2, tree.queryBox(1.0e300d, 1.0e300d, 1.0e300d,
+						1.0e300d, new SpatialHashGridTest.Collector()));
+				assertEquals(2, tree.queryRadius(10.25d, 10.25d, 0.1d,
+						new SpatialHashGridTest.Collector()));
+				assertEquals(2, tree.queryRay(0.0d, 0.0d, 1.0d, 1.0d, 20.0d,
+						new SpatialHashGridTest.Collector()));
+				assertTrue(tree.update(small, 1.0e6d, 1.0e6d, 1.0e6d + 1.0d,
+						1.0e6d + 1.0d));
+				assertEquals(1, tree.queryBox(0.0d, 0.0d, 1024.0d, 1024.0d,
+						new SpatialHashGridTest.Collector()));
+				assertTrue(tree.remove(far) && tree.remove(everywhere)
+						&& tree.remove(small));
+				assertEquals(0, tree.getSize());
+			}
+		});
+	}
+	
+}
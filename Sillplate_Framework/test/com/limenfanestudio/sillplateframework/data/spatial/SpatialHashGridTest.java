@@ -0,0 +1,356 @@
+/*
+ * File:		SpatialHashGridTest.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Tests the spatial hash grid against brute force and with huge
+ * 				and extreme boxes
+ */
+
+package com.limenfanestudio.sillplateframework.data.spatial;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+// Tests of SpatialHashGrid - queries are compared with testing every object,
+// huge or extreme boxes must finish quickly without allocating a cell for
+// each cell they cover, and moving objects must not leave empty cells
+// behind. The brute force checks are shared with LooseQuadtreeTest
+class SpatialHashGridTest {
+	
+	// The longest any single query or insertion may take
+	private static final Duration Timeout = Duration.ofSeconds(2L);
+	
+	// Visitor collecting the ids it visits
+	static class Collector implements SpatialVisitor {
+		
+		// The ids visited
+		final BitSet ids = new BitSet();
+		// The number of visits
+		int count = 0;
+		
+		@Override
+		public boolean visit(int id) {
+			ids.set(id);
+			count++;
+			return true;
+		}
+		
+	}
+	
+	/*
+	 * Test that a query covering billions of cells of a sparse grid finishes
+	 * quickly and finds its object
+	 */
+	@Test
+	void hugeQueryOnSparseGrid() {
+		final SpatialHashGrid grid = new SpatialHashGrid(1.0d, 16);
+		final int id = grid.insert(0.0d, 0.0d, 1.0d, 1.0d);
+		assertTimeoutPreemptively(Timeout, new Executable() {
+			public void execute() {
+				Collector collector = new Collector();
+				assertEquals(1, grid.queryBox(-5.0e4d, -5.0e4d, 5.0e4d,
+						5.0e4d, collector));
+				assertTrue(collector.ids.get(id));
+				assertEquals(1, grid.queryRadius(0.0d, 0.0d, 1.0e6d,
+						new Collector()));
+				assertEquals(1, grid.queryRay(-1.0e6d, 0.5d, 1.0d, 0.0d,
+						2.0e6d, new Collector()));
+			}
+		});
+	}
+	/*
+	 * Test that an object covering billions of cells is kept out of the
+	 * cells and can be found, moved and removed
+	 */
+	@Test
+	void hugeObject() {
+		final SpatialHashGrid grid = new SpatialHashGrid(1.0d, 16);
+		assertTimeoutPreemptively(Timeout, new Executable() {
+			public void execute() {
+				int id = grid.insert(0.0d, 0.0d, 3.0e9d, 1.0d);
+				assertTrue(id >= 0);
+				assertEquals(0, grid.getCellCount());
+				assertEquals(1, grid.queryBox(2.0e9d, 0.5d, 2.0e9d, 0.5d,
+						new Collector()));
+				assertEquals(0, grid.queryBox(0.0d, 5.0d, 1.0d, 6.0d,
+						new Collector()));
+				assertTrue(grid.update(id, 0.0d, 0.0d, 1.0d, 1.0d));
+				assertEquals(1, grid.queryBox(0.5d, 0.5d, 0.5d, 0.5d,
+						new Collector()));
+				assertTrue(grid.update(id, -3.0e9d, 0.0d, 0.0d, 1.0d));
+				assertTrue(grid.remove(id));
+				assertEquals(0, grid.queryBox(-1.0e10d, -1.0e10d, 1.0e10d,
+						1.0e10d, new Collector()));
+			}
+		});
+	}
+	/*
+	 * Test that boxes at and beyond the range of cell coordinates, whose cells
+	 * are clamped to the edge of the grid, are found by box, radius and ray
+	 * queries without looping forever
+	 */
+	@Test
+	void extremeBoxes() {
+		final SpatialHashGrid grid = new SpatialHashGrid(1.0d, 16);
+		assertTimeoutPreemptively(Timeout, new Executable() {
+			public void execute() {
+				int far = grid.insert(1.0e300d, 1.0e300d, 1.0e300d,
+						1.0e300d);
+				int edge = grid.insert(Integer.MAX_VALUE - 0.5d, 0.0d,
+						Integer.MAX_VALUE + 0.5d, 1.0d);
+				int everywhere = grid.insert(-Double.MAX_VALUE,
+						-Double.MAX_VALUE, Double.MAX_VALUE, Double.MAX_VALUE);
+				int origin = grid.insert(0.0d, 0.0d, 1.0d, 1.0d);
+				assertTrue(far >= 0 && edge >= 0 && everywhere >= 0
+						&& origin >= 0);
+				Collector collector = new Collector();
+				assertEquals(4, grid.queryBox(-Double.MAX_VALUE,
+						-Double.MAX_VALUE, Double.MAX_VALUE, Double.MAX_VALUE,
+						collector));
+				collector = new Collector();
+				assertEquals(2, grid.queryBox(1.0e300d, 1.0e300d, 1.0e300d,
+						1.0e300d, collector));
+				assertTrue(collector.ids.get(far)
+						&& collector.ids.get(everywhere));
+				collector = new Collector();
+				assertEquals(2, grid.queryBox(Integer.MAX_VALUE, 0.5d,
+						Integer.MAX_VALUE, 0.5d, collector));
+				assertTrue(collector.ids.get(edge)
+						&& collector.ids.get(everywhere));
+				collector = new Collector();
+				assertEquals(2, grid.queryRay(1.0e300d, 1.0e300d - 5.0e290d,
+						0.0d, 1.0d, 1.0e291d, collector));
+				assertTrue(collector.ids.get(far)
+						&& collector.ids.get(everywhere));
+				assertEquals(1, grid.queryRay(1.0e300d, 0.0d, 1.0d, 1.0d,
+						10.0d, new Collector()));
+				assertEquals(1, grid.queryRadius(-1.0e300d, 0.0d, 1.0d,
+						new Collector()));
+				assertTrue(grid.remove(far) && grid.remove(edge)
+						&& grid.remove(everywhere));
+				assertEquals(1, grid.queryBox(-Double.MAX_VALUE,
+						-Double.MAX_VALUE, Double.MAX_VALUE, Double.MAX_VALUE,
+						new Collector()));
+			}
+		});
+	}
+	/*
+	 * Test that box, radius and ray queries find exactly the objects brute
+	 * force finds, with objects of mixed sizes and after moving and removing
+	 * some of them
+	 */
+	@Test
+	void matchesBruteForce() {
+		Random random = new Random(13L);
+		SpatialHashGrid grid = new SpatialHashGrid(4.0d, 16);
+		int count = 3000;
+		int[] ids = new int[count];
+		for (int i = 0; i < count; i++) {
+			double[] box = randomBox(random);
+			ids[i] = grid.insert(box[0], box[1], box[2], box[3]);
+		}
+		checkQueries(grid, random);
+		for (int i = 0; i < count; i += 3) {
+			double[] box = randomBox(random);
+			assertTrue(grid.update(ids[i], box[0], box[1], box[2], box[3]));
+		}
+		for (int i = 1; i < count; i += 5) {
+			assertTrue(grid.remove(ids[i]));
+		}
+		checkQueries(grid, random);
+	}
+	/*
+	 * Test that objects moving far across the grid leave no empty cells
+	 * behind, so the cells and hash table stay sized to the objects, and
+	 * that queries stay correct as the cells are reclaimed
+	 */
+	@Test
+	void movingObjectsStayBounded() {
+		Random random = new Random(29L);
+		SpatialHashGrid grid = new SpatialHashGrid(1.0d, 16);
+		int count = 100;
+		int[] ids = new int[count];
+		double[] xs = new double[count];
+		double[] ys = new double[count];
+		for (int i = 0; i < count; i++) {
+			xs[i] = random.nextDouble() * 100.0d;
+			ys[i] = random.nextDouble() * 100.0d;
+			ids[i] = grid.insert(xs[i], ys[i], xs[i] + 0.5d, ys[i] + 0.5d);
+		}
+		int tableLength = grid.getTableLength();
+		for (int step = 0; step < 5000; step++) {
+			for (int i = 0; i < count; i++) {
+				xs[i] += 1.5d;
+				ys[i] -= 0.75d;
+				assertTrue(grid.update(ids[i], xs[i], ys[i], xs[i] + 0.5d,
+						ys[i] + 0.5d));
+			}
+			assertTrue(grid.getCellCount() <= 4 * count);
+		}
+		assertTrue(grid.getTableLength() <= Math.max(tableLength,
+				16 * count));
+		assertEquals(count, grid.queryBox(-Double.MAX_VALUE,
+				-Double.MAX_VALUE, Double.MAX_VALUE, Double.MAX_VALUE,
+				new Collector()));
+		for (int i = 0; i < count; i++) {
+			assertTrue(grid.remove(ids[i]));
+		}
+		assertEquals(0, grid.getCellCount());
+		assertEquals(new SpatialHashGrid(1.0d, 16).getTableLength(),
+				grid.getTableLength());
+		for (int i = 0; i < 2000; i++) {
+			double[] box = randomBox(random);
+			grid.insert(box[0], box[1], box[2], box[3]);
+		}
+		checkQueries(grid, random);
+	}
+	/*
+	 * Test that a visitor stopping the query stops it, counting the objects
+	 * visited including large objects
+	 */
+	@Test
+	void stopsEarly() {
+		SpatialHashGrid grid = new SpatialHashGrid(1.0d, 16);
+		grid.insert(0.0d, 0.0d, 100.0d, 100.0d);
+		grid.insert(0.0d, 0.0d, 1.0d, 1.0d);
+		grid.insert(2.0d, 2.0d, 3.0d, 3.0d);
+		SpatialVisitor first = new SpatialVisitor() {
+			public boolean visit(int id) {
+				return false;
+			}
+		};
+		assertEquals(1, grid.queryBox(0.0d, 0.0d, 10.0d, 10.0d, first));
+		assertEquals(1, grid.queryBox(-1.0e6d, -1.0e6d, 1.0e6d, 1.0e6d,
+				first));
+		assertEquals(1, grid.queryRay(0.5d, 0.5d, 1.0d, 1.0d, 5.0d, first));
+		assertEquals(3, grid.queryBox(0.0d, 0.0d, 10.0d, 10.0d,
+				new Collector()));
+	}
+	/*
+	 * Run random box, radius and ray queries of every size against an index
+	 * and brute force
+	 * Parameter: SpatialIndex index - The index to query
+	 * Parameter: Random random - The source of the queries
+	 */
+	static void checkQueries(SpatialIndex index, Random random) {
+		for (int i = 0; i < 300; i++) {
+			double x = random.nextDouble() * 400.0d - 200.0d;
+			double y = random.nextDouble() * 400.0d - 200.0d;
+			double extent = Math.pow(10.0d, random.nextInt(6)) * random
+					.nextDouble();
+			Collector collector = new Collector();
+			int visited = index.queryBox(x, y, x + extent, y + extent,
+					collector);
+			assertEquals(bruteForce(index, x, y, x + extent, y + extent),
+					collector.ids);
+			assertEquals(collector.count, visited);
+			collector = new Collector();
+			visited = index.queryRadius(x, y, extent, collector);
+			BitSet expected = new BitSet();
+			for (int id = 0; id < index.idCount; id++) {
+				if (index.contains(id)) {
+					double dx = Math.max(0.0d, Math.max(index.getMinX(id) - x,
+							x - index.getMaxX(id)));
+					double dy = Math.max(0.0d, Math.max(index.getMinY(id) - y,
+							y - index.getMaxY(id)));
+					if (dx * dx + dy * dy <= extent * extent) {
+						expected.set(id);
+					}
+				}
+			}
+			assertEquals(expected, collector.ids);
+			assertEquals(collector.count, visited);
+			double angle = random.nextDouble() * 2.0d * Math.PI;
+			collector = new Collector();
+			visited = index.queryRay(x, y, Math.cos(angle), Math.sin(angle),
+					extent, collector);
+			expected = new BitSet();
+			for (int id = 0; id < index.idCount; id++) {
+				if (index.contains(id) && crosses(index, id, x, y,
+						Math.cos(angle), Math.sin(angle), extent)) {
+					expected.set(id);
+				}
+			}
+			assertEquals(expected, collector.ids);
+			assertEquals(collector.count, visited);
+		}
+	}
+	/*
+	 * Find the objects of an index overlapping a box by testing every object
+	 * Parameter: SpatialIndex index - The index
+	 * Parameter: double minX - The left edge of the box
+	 * Parameter: double minY - The top edge of the box
+	 * Parameter: double maxX - The right edge of the box
+	 * Parameter: double maxY - The bottom edge of the box
+	 * Returns: BitSet - The ids of the overlapping objects
+	 */
+	private static BitSet bruteForce(SpatialIndex index, double minX,
+			double minY, double maxX, double maxY) {
+		BitSet ids = new BitSet();
+		for (int id = 0; id < index.idCount; id++) {
+			if (index.contains(id) && index.getMinX(id) <= maxX
+					&& index.getMaxX(id) >= minX && index.getMinY(id) <= maxY
+					&& index.getMaxY(id) >= minY) {
+				ids.set(id);
+			}
+		}
+		return ids;
+	}
+	/*
+	 * Test whether a ray crosses an object's box by clipping the ray against
+	 * the box on each axis
+	 * Parameter: SpatialIndex index - The index
+	 * Parameter: int id - The id of the object
+	 * Parameter: double x - The horizontal position of the ray's origin
+	 * Parameter: double y - The vertical position of the ray's origin
+	 * Parameter: double directionX - The horizontal unit direction
+	 * Parameter: double directionY - The vertical unit direction
+	 * Parameter: double length - The length of the ray
+	 * Returns: boolean - Whether the ray crosses the box
+	 */
+	private static boolean crosses(SpatialIndex index, int id, double x,
+			double y, double directionX, double directionY, double length) {
+		double near = 0.0d;
+		double far = length;
+		double[] origins = {x, y};
+		double[] directions = {directionX, directionY};
+		double[] mins = {index.getMinX(id), index.getMinY(id)};
+		double[] maxes = {index.getMaxX(id), index.getMaxY(id)};
+		for (int axis = 0; axis < 2; axis++) {
+			if (directions[axis] == 0.0d) {
+				if (origins[axis] < mins[axis] || origins[axis] > maxes[axis]) {
+					return false;
+				}
+				continue;
+			}
+			double t0 = (mins[axis] - origins[axis]) / directions[axis];
+			double t1 = (maxes[axis] - origins[axis]) / directions[axis];
+			near = Math.max(near, Math.min(t0, t1));
+			far = Math.min(far, Math.max(t0, t1));
+		}
+		return near <= far;
+	}
+	/*
+	 * Create a random box, mostly small with some spanning many cells
+	 * Parameter: Random random - The source of the box
+	 * Returns: double[] - The left, top, right and bottom edges of the box
+	 */
+	static double[] randomBox(Random random) {
+		double x = random.nextDouble() * 400.0d - 200.0d;
+		double y = random.nextDouble() * 400.0d - 200.0d;
+		double width = random.nextDouble() * (random.nextInt(10) == 0
+				? 100.0d : 5.0d);
+		double height = random.nextDouble() * (random.nextInt(10) == 0
+				? 100.0d : 5.0d);
+		return new double[] {x, y, x + width, y + height};
+	}
+	
+}
@@ -0,0 +1,84 @@
+/*
+ * File:		BinaryLogOutputTest.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Tests the binary log output with records filling its files
+ * 				up to their last bytes
+ */
+
+package com.limenfanestudio.sillplateframework.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+// Tests of BinaryLogOutput, decoding the files it writes with
+// BinaryLogDecoder
+class BinaryLogOutputTest {
+	
+	// The size in bytes of each file
+	private static final int SegmentSize = 4096;
+	
+	// The directory the files are written to
+	@TempDir
+	File directory;
+	
+	/*
+	 * Test that logs of every size around the largest that fits in a file
+	 * each roll over to a new file, defining their source and level again,
+	 * and that the logs too large for any file are discarded
+	 * Throws: IOException - If a file could not be written
+	 */
+	@Test
+	void rollsOverAtSegmentBoundary() throws IOException {
+		String fileName = new File(directory, "test.bin").getPath();
+		LogSource source = new LogSource("Test");
+		LogLevel level = new LogLevel("Info");
+		BinaryLogOutput output = new BinaryLogOutput(fileName, SegmentSize);
+		LogEvent event = new LogEvent();
+		// The largest string fitting in a file after the header, the
+		// source and level records, the log record and the end record
+		int largest = (SegmentSize - BinaryLogOutput.HeaderSize
+				- (7 + 2 * source.getName().length())
+				- (11 + 2 * level.getName().length()) - 15 - 5 - 1) / 2;
+		int written = 0;
+		for (int length = largest - 16; length <= largest + 16; length++) {
+			char[] chars = new char[length];
+			Arrays.fill(chars, 'x');
+			event.wrap(0L, source, level, new Object[] {new String(chars)},
+					null);
+			output.write(event, null);
+			if (length <= largest) {
+				written++;
+			}
+		}
+		event.wrap(0L, source, level, new Object[] {"last"}, null);
+		output.write(event, null);
+		written++;
+		output.close();
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream(bytes, true, "UTF-8");
+		int segment = 0;
+		for (; new File(fileName + "." + segment).exists(); segment++) {
+			assertTrue(BinaryLogDecoder.decode(fileName + "." + segment,
+					DateTimeFormatter.ISO_INSTANT, out));
+		}
+		String[] lines = bytes.toString("UTF-8").split("\n");
+		assertEquals(written, lines.length);
+		assertEquals(written, segment);
+		for (String line : lines) {
+			assertTrue(line.contains("[Test] [Info] "));
+		}
+		assertTrue(lines[lines.length - 1].endsWith("last"));
+	}
+	
+}
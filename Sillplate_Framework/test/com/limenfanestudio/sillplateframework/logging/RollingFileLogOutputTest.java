@@ -0,0 +1,68 @@
+/*
+ * File:		RollingFileLogOutputTest.java
+ * Author:		Limenfane Studio (info@limenfanestudio.com)
+ * Created:		2026.10.18
+ * Purpose:		Tests which closed files the rolling file log output deletes
+ * 				beyond its retained count
+ */
+
+package com.limenfanestudio.sillplateframework.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+// Tests of RollingFileLogOutput, compressing and pruning on the writing
+// thread
+class RollingFileLogOutputTest {
+	
+	// The directory the files are written to
+	@TempDir
+	File directory;
+	
+	/*
+	 * Test that pruning deletes the oldest closed files by time and then by
+	 * the index added to taken names, and leaves files of other outputs
+	 * sharing the file name alone
+	 * Throws: IOException - If a file could not be written
+	 */
+	@Test
+	void prunesOldestClosedFiles() throws IOException {
+		String[] existing = {"app.log", "app.log.20260101-000000-000.gz",
+				"app.log.20260101-000000-000-1.gz",
+				"app.log.20260101-000000-001.gz", "app.log.0",
+				"app.log.notes"};
+		for (String name : existing) {
+			try (FileOutputStream out = new FileOutputStream(new File(
+					directory, name))) {
+				out.write('x');
+			}
+		}
+		RollingFileLogOutput output = new RollingFileLogOutput(new File(
+				directory, "app.log").getPath(), 0L, 0L, 3, new Executor() {
+			public void execute(Runnable command) {
+				command.run();
+			}
+		});
+		output.close();
+		String[] names = directory.list();
+		Arrays.sort(names);
+		assertEquals(6, names.length, Arrays.toString(names));
+		assertEquals("app.log", names[0]);
+		assertEquals("app.log.0", names[1]);
+		assertEquals("app.log.20260101-000000-000-1.gz", names[2]);
+		assertEquals("app.log.20260101-000000-001.gz", names[3]);
+		assertTrue(names[4].matches(
+				"app\\.log\\.\\d{8}-\\d{6}-\\d{3}\\.gz"), names[4]);
+		assertEquals("app.log.notes", names[5]);
+	}
+	
+}